@@ -1,11 +1,19 @@
 """
 Redis Client Module for Machine Name to ID Mapping
 
-Portal에서 설비 CUD 시 저장한 machine:name:{name} -> {machineId} 매핑을 조회합니다.
+Portal에서 설비 CUD 시 저장한 설비 이름 -> {machineId} 매핑을 조회합니다.
 LLM Tool에서 설비 이름으로 machineId를 조회할 때 사용합니다.
+
+- 해시 레이아웃: machine:registry:names:{bucket} 해시의 {name} 필드 (bucket = djb2(name UTF-8) % 버킷 수)
+- 문자열 레이아웃 (이전 방식): machine:name:{name}
+
+해시 레이아웃을 먼저 조회하고 없으면 문자열 키로 폴백합니다.
+조회 결과는 로컬에 캐시하고, machine:registry:version 이 바뀌면 비웁니다.
 """
 import logging
-from typing import Optional
+import threading
+import time
+from typing import Dict, Optional
 
 from redis import ConnectionPool, Redis
 from redis.exceptions import RedisError
@@ -15,6 +23,20 @@ from ..config import settings
 logger = logging.getLogger(__name__)
 
 MACHINE_NAME_KEY_PREFIX = "machine:name:"
+REGISTRY_NAMES_KEY_PREFIX = "machine:registry:names:"
+REGISTRY_VERSION_KEY = "machine:registry:version"
+
+
+def registry_name_bucket(machine_name: str, buckets: int) -> int:
+    """
+    설비 이름의 해시 버킷 계산
+
+    portal MachineRegistryBuckets.nameBucket / machine-registry-hash-*.lua 와 같은 djb2(32비트) 해시입니다.
+    """
+    value = 5381
+    for byte in machine_name.encode("utf-8"):
+        value = (value * 33 + byte) & 0xFFFFFFFF
+    return value % buckets
 
 
 class MachineIdCache:
@@ -30,6 +52,12 @@ class MachineIdCache:
             decode_responses=settings.REDIS_DECODE_RESPONSES,
         )
         self._client = Redis.from_pool(self._pool)
+        self._buckets = settings.REDIS_REGISTRY_BUCKETS
+        self._version_check_interval = settings.REDIS_REGISTRY_VERSION_CHECK_INTERVAL
+        self._lock = threading.Lock()
+        self._local: Dict[str, int] = {}
+        self._version: Optional[str] = None
+        self._version_checked_at = 0.0
         logger.info(f"Redis 연결 초기화 완료 ({settings.REDIS_HOST}:{settings.REDIS_PORT})")
 
     def get_machine_id(self, machine_name: str) -> Optional[int]:
@@ -45,17 +73,42 @@ class MachineIdCache:
         if not machine_name:
             return None
 
-        key = f"{MACHINE_NAME_KEY_PREFIX}{machine_name}"
-
         try:
-            value = self._client.get(key)
-            if value is not None:
-                return int(value)
-            return None
+            self._refresh_version()
+            with self._lock:
+                cached = self._local.get(machine_name)
+            if cached is not None:
+                return cached
+
+            bucket_key = f"{REGISTRY_NAMES_KEY_PREFIX}{registry_name_bucket(machine_name, self._buckets)}"
+            value = self._client.hget(bucket_key, machine_name)
+            if value is None:
+                # 해시 레이아웃 이전 전이거나 portal 이 STRINGS 레이아웃으로 기록 중
+                # (문자열 키 변경은 버전을 올리지 않으므로 캐시하지 않음)
+                value = self._client.get(f"{MACHINE_NAME_KEY_PREFIX}{machine_name}")
+                return int(value) if value is not None else None
+
+            machine_id = int(value)
+            with self._lock:
+                self._local[machine_name] = machine_id
+            return machine_id
         except (RedisError, ValueError) as e:
             logger.error(f"Redis 조회 실패 (machine_name: {machine_name}): {e}")
             raise
 
+    def _refresh_version(self) -> None:
+        """버전 키를 주기적으로 확인해 바뀌었으면 로컬 캐시 비우기 (없는 설비는 캐시하지 않음)"""
+        now = time.monotonic()
+        if now - self._version_checked_at < self._version_check_interval:
+            return
+
+        version = self._client.get(REGISTRY_VERSION_KEY)
+        with self._lock:
+            self._version_checked_at = now
+            if version != self._version:
+                self._local.clear()
+                self._version = version
+
     def close(self) -> None:
         """Redis 연결 종료"""
         self._client.close()
@@ -57,6 +57,10 @@ class Settings(BaseSettings):
     REDIS_MAX_CONNECTIONS: int = 10
     REDIS_SOCKET_TIMEOUT: float = 5.0
     REDIS_DECODE_RESPONSES: bool = True
+    # 설비 레지스트리 해시 레이아웃 (portal machine.registry.buckets 와 같아야 함)
+    REDIS_REGISTRY_BUCKETS: int = 1024
+    # 버전 키 재확인 간격 (초) - 이 간격 안에서는 로컬 캐시만 사용
+    REDIS_REGISTRY_VERSION_CHECK_INTERVAL: float = 1.0
 
     # Anomaly Detection Thresholds (다단계 알람)
     WARNING_THRESHOLD: float = 0.3   # 30% - 경고 (WARNING)
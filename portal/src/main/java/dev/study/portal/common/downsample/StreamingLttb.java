@@ -0,0 +1,229 @@
+package dev.study.portal.common.downsample;
+
+import java.util.Arrays;
+
+/**
+ * 단일 패스 LTTB(Largest-Triangle-Three-Buckets) 다운샘플러 (채널 1개)
+ *
+ * <p>조회 구간 [0, rangeMillis] 을 (maxPoints - 2)개의 시간 버킷으로 나누고, 각 버킷에서
+ * "이전에 선택된 점 - 후보 점 - 다음 버킷 평균점"이 이루는 삼각형 넓이가 가장 큰 점 하나를 선택합니다.
+ * 첫 점과 마지막 점은 항상 포함됩니다.</p>
+ *
+ * <p>버킷 경계를 전체 건수가 아닌 시간으로 정하므로 건수를 미리 셀 필요가 없고,
+ * DB 커서에서 읽는 순서대로 add() 를 한 번씩 호출하면 됩니다.
+ * 메모리는 현재/다음 버킷의 점만 보관하므로 O(원본 건수 / maxPoints) 입니다.</p>
+ *
+ * <p>평균 기반 다운샘플링과 달리 실제 측정값 중 하나를 고르므로 순간적인 스파이크가 평탄화되지 않습니다.</p>
+ */
+public class StreamingLttb {
+    public static final int MIN_POINTS = 3;
+
+    private final double bucketWidth;
+    private final int bucketCount;
+
+    // 결과
+    private long[] outT;
+    private double[] outV;
+    private int outSize;
+
+    // 마지막으로 선택된 점 (삼각형의 A)
+    private boolean hasFirst;
+    private long selectedT;
+    private double selectedV;
+
+    // 선택 대기 중인 버킷 (삼각형의 B 후보)
+    private final Bucket current = new Bucket();
+    // 현재 채우는 중인 다음 버킷 (평균점이 삼각형의 C)
+    private final Bucket next = new Bucket();
+
+    private long count;
+
+    /**
+     * @param rangeMillis 조회 구간 길이 (ms), 입력 시각은 0 ~ rangeMillis 범위의 오프셋
+     * @param maxPoints 최대 출력 점 수 (3 이상)
+     */
+    public StreamingLttb(long rangeMillis, int maxPoints) {
+        if (maxPoints < MIN_POINTS) {
+            throw new IllegalArgumentException("maxPoints must be >= " + MIN_POINTS);
+        }
+        this.bucketCount = maxPoints - 2;
+        this.bucketWidth = Math.max(1d, (double) Math.max(rangeMillis, 1L) / bucketCount);
+        this.outT = new long[Math.min(maxPoints, 1024)];
+        this.outV = new double[outT.length];
+    }
+
+    /**
+     * 점 추가 (t 는 오름차순으로 호출되어야 함)
+     */
+    public void add(long t, double v) {
+        count++;
+        if (!hasFirst) {
+            hasFirst = true;
+            select(t, v);
+            return;
+        }
+
+        int index = bucketIndexOf(t);
+        if (next.isEmpty()) {
+            next.start(index);
+        } else if (index != next.index) {
+            // next 버킷이 완성됨 → current 에서 점 선택 후 한 칸 이동
+            if (!current.isEmpty()) {
+                selectFrom(current, next.avgT(), next.avgV());
+            }
+            current.copyFrom(next);
+            next.start(index);
+        }
+        next.add(t, v);
+    }
+
+    /**
+     * 입력 종료 - 남은 버킷을 처리하고 마지막 점을 추가
+     */
+    public void finish() {
+        if (!hasFirst) {
+            return;
+        }
+        Bucket tail = !next.isEmpty() ? next : current;
+        if (tail.isEmpty()) {
+            // 입력이 1건뿐인 경우
+            return;
+        }
+
+        // 마지막 점은 LTTB 규칙상 항상 포함되므로 버킷에서 분리
+        long lastT = tail.t[tail.size - 1];
+        double lastV = tail.v[tail.size - 1];
+        tail.removeLast();
+
+        if (tail == next) {
+            if (!current.isEmpty()) {
+                if (!next.isEmpty()) {
+                    selectFrom(current, next.avgT(), next.avgV());
+                } else {
+                    selectFrom(current, lastT, lastV);
+                }
+            }
+            if (!next.isEmpty()) {
+                selectFrom(next, lastT, lastV);
+            }
+        } else if (!current.isEmpty()) {
+            selectFrom(current, lastT, lastV);
+        }
+
+        select(lastT, lastV);
+        current.clear();
+        next.clear();
+    }
+
+    public long[] timestamps() {
+        return Arrays.copyOf(outT, outSize);
+    }
+
+    public double[] values() {
+        return Arrays.copyOf(outV, outSize);
+    }
+
+    /**
+     * 입력된 원본 점 수
+     */
+    public long getCount() {
+        return count;
+    }
+
+    private int bucketIndexOf(long t) {
+        int index = (int) (t / bucketWidth);
+        return Math.max(0, Math.min(index, bucketCount - 1));
+    }
+
+    private void selectFrom(Bucket bucket, double cT, double cV) {
+        double aT = selectedT;
+        double aV = selectedV;
+        double maxArea = -1d;
+        int best = 0;
+        for (int i = 0; i < bucket.size; i++) {
+            // 삼각형 넓이 × 2 (비교만 하므로 1/2 생략)
+            double area = Math.abs((aT - cT) * (bucket.v[i] - aV) - (aT - bucket.t[i]) * (cV - aV));
+            if (area > maxArea) {
+                maxArea = area;
+                best = i;
+            }
+        }
+        select(bucket.t[best], bucket.v[best]);
+    }
+
+    private void select(long t, double v) {
+        if (outSize == outT.length) {
+            outT = Arrays.copyOf(outT, outSize * 2);
+            outV = Arrays.copyOf(outV, outSize * 2);
+        }
+        outT[outSize] = t;
+        outV[outSize] = v;
+        outSize++;
+        selectedT = t;
+        selectedV = v;
+    }
+
+    private static final class Bucket {
+        private int index = -1;
+        private long[] t = new long[16];
+        private double[] v = new double[16];
+        private int size;
+        private double sumT;
+        private double sumV;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void start(int index) {
+            clear();
+            this.index = index;
+        }
+
+        void add(long time, double value) {
+            if (size == t.length) {
+                t = Arrays.copyOf(t, size * 2);
+                v = Arrays.copyOf(v, size * 2);
+            }
+            t[size] = time;
+            v[size] = value;
+            size++;
+            sumT += time;
+            sumV += value;
+        }
+
+        void removeLast() {
+            size--;
+            sumT -= t[size];
+            sumV -= v[size];
+        }
+
+        double avgT() {
+            return sumT / size;
+        }
+
+        double avgV() {
+            return sumV / size;
+        }
+
+        void copyFrom(Bucket other) {
+            if (t.length < other.size) {
+                t = new long[other.t.length];
+                v = new double[other.v.length];
+            }
+            System.arraycopy(other.t, 0, t, 0, other.size);
+            System.arraycopy(other.v, 0, v, 0, other.size);
+            size = other.size;
+            index = other.index;
+            sumT = other.sumT;
+            sumV = other.sumV;
+        }
+
+        void clear() {
+            size = 0;
+            index = -1;
+            sumT = 0;
+            sumV = 0;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package dev.study.portal.common.exception.export;
+
+import dev.study.portal.common.exception.BusinessException;
+
+public class InvalidSensorExportRequestException extends BusinessException {
+    public InvalidSensorExportRequestException(String message) {
+        super(SensorExportErrorCode.INVALID_EXPORT_REQUEST, message);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.study.portal.common.exception.export;
+
+import dev.study.portal.common.exception.BusinessErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@RequiredArgsConstructor
+@Getter
+public enum SensorExportErrorCode implements BusinessErrorCode {
+
+    EXPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "ERROR_EXPORT_JOB_NOT_FOUND", "내보내기 작업을 찾을 수 없습니다."),
+    EXPORT_NOT_READY(HttpStatus.CONFLICT, "ERROR_EXPORT_NOT_READY", "내보내기 작업이 아직 완료되지 않았습니다."),
+    INVALID_EXPORT_REQUEST(HttpStatus.BAD_REQUEST, "ERROR_INVALID_EXPORT_REQUEST", "잘못된 내보내기 요청입니다."),
+    EXPORT_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "ERROR_EXPORT_QUEUE_FULL", "대기 중인 내보내기 작업이 너무 많습니다.");
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String message;
+
+}
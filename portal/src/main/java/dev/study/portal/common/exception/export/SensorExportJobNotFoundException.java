@@ -0,0 +1,9 @@
+package dev.study.portal.common.exception.export;
+
+import dev.study.portal.common.exception.BusinessException;
+
+public class SensorExportJobNotFoundException extends BusinessException {
+    public SensorExportJobNotFoundException() {
+        super(SensorExportErrorCode.EXPORT_JOB_NOT_FOUND);
+    }
+}
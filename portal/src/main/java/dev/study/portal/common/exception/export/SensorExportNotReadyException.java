@@ -0,0 +1,9 @@
+package dev.study.portal.common.exception.export;
+
+import dev.study.portal.common.exception.BusinessException;
+
+public class SensorExportNotReadyException extends BusinessException {
+    public SensorExportNotReadyException() {
+        super(SensorExportErrorCode.EXPORT_NOT_READY);
+    }
+}
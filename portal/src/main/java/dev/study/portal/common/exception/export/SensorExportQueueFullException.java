@@ -0,0 +1,9 @@
+package dev.study.portal.common.exception.export;
+
+import dev.study.portal.common.exception.BusinessException;
+
+public class SensorExportQueueFullException extends BusinessException {
+    public SensorExportQueueFullException() {
+        super(SensorExportErrorCode.EXPORT_QUEUE_FULL);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.study.portal.common.exception.sensordata;
+
+import dev.study.portal.common.exception.BusinessException;
+
+public class InvalidSensorDataCursorException extends BusinessException {
+    public InvalidSensorDataCursorException() {
+        super(SensorDataErrorCode.INVALID_SENSOR_DATA_CURSOR);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.study.portal.common.exception.sensordata;
+
+import dev.study.portal.common.exception.BusinessException;
+
+public class InvalidSensorDataQueryException extends BusinessException {
+    public InvalidSensorDataQueryException(String message) {
+        super(SensorDataErrorCode.INVALID_SENSOR_DATA_QUERY, message);
+    }
+}
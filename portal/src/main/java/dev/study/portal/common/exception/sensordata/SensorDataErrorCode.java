@@ -9,7 +9,9 @@ import org.springframework.http.HttpStatus;
 @Getter
 public enum SensorDataErrorCode implements BusinessErrorCode {
 
-    SENSOR_DATA_JSON_WRITE_ERROR(HttpStatus.UNPROCESSABLE_ENTITY, "ERROR_JSON_WRITE_ERRE", "Json 문자열로 변환하지 못했습니다.");
+    SENSOR_DATA_JSON_WRITE_ERROR(HttpStatus.UNPROCESSABLE_ENTITY, "ERROR_JSON_WRITE_ERRE", "Json 문자열로 변환하지 못했습니다."),
+    INVALID_SENSOR_DATA_CURSOR(HttpStatus.BAD_REQUEST, "ERROR_INVALID_CURSOR", "잘못된 페이지 커서입니다."),
+    INVALID_SENSOR_DATA_QUERY(HttpStatus.BAD_REQUEST, "ERROR_INVALID_SENSOR_QUERY", "잘못된 센서 데이터 조회 조건입니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -0,0 +1,108 @@
+package dev.study.portal.common.http;
+
+import dev.study.portal.config.SensorHttpCacheProperties;
+import dev.study.portal.service.SensorRetentionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.StringJoiner;
+
+/**
+ * 센서 데이터 기간 조회의 HTTP 캐시 정책
+ *
+ * <p>닫힌 구간(종료 시각 + settle-lag 이 현재보다 과거): 새 데이터가 들어오지 않으므로
+ * {@code Cache-Control: public, no-cache} 와 ETag/Last-Modified 를 붙이고,
+ * 조건부 요청(If-None-Match / If-Modified-Since)은 DB 조회 없이 304 로 응답합니다.</p>
+ *
+ * <p>보존 정책이 과거 원본을 롤업/삭제하면 같은 구간의 결과도 달라지므로
+ * ETag 와 Last-Modified 에 SensorRetentionService 의 데이터 변경 시각을 포함합니다.
+ * 그래서 max-age / immutable 로 재검증을 생략하게 하지 않고 매번 검증자로 확인하게 합니다.</p>
+ *
+ * <p>열린 구간: 검증자 없이 짧은 {@code max-age, must-revalidate} 만 붙입니다.</p>
+ *
+ * <pre>
+ * SensorRangeHttpCache.Validator cache = httpCache.validator(endAt, "list", machineId, startAt, endAt);
+ * if (cache.isNotModified(webRequest)) {
+ *     return cache.notModified();
+ * }
+ * return cache.ok().body(...);
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class SensorRangeHttpCache {
+
+    private final SensorHttpCacheProperties properties;
+    private final SensorRetentionService retentionService;
+
+    /**
+     * @param endAt 조회 종료 시각 (닫힌 구간 여부 판단)
+     * @param keyParts 응답 내용을 결정하는 모든 요청 값 (리소스 이름, 설비 ID, 기간, 옵션 등)
+     */
+    public Validator validator(LocalDateTime endAt, Object... keyParts) {
+        if (!properties.isEnabled()) {
+            return new Validator(null, -1, CacheControl.noCache());
+        }
+
+        LocalDateTime settledAt = endAt.plus(properties.getSettleLag());
+        if (!settledAt.isBefore(LocalDateTime.now())) {
+            return new Validator(null, -1, CacheControl.maxAge(properties.getOpenMaxAge()).mustRevalidate());
+        }
+
+        long generation = retentionService.getDataGeneration();
+        StringJoiner key = new StringJoiner("|");
+        for (Object part : keyParts) {
+            key.add(String.valueOf(part));
+        }
+        key.add(Long.toString(generation));
+        String etag = DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+
+        long settledMillis = settledAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long lastModified = Math.max(settledMillis, generation);
+
+        return new Validator(etag, lastModified, CacheControl.noCache().cachePublic());
+    }
+
+    public static final class Validator {
+        private final String etag;
+        private final long lastModified;
+        private final CacheControl cacheControl;
+
+        private Validator(String etag, long lastModified, CacheControl cacheControl) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.cacheControl = cacheControl;
+        }
+
+        /**
+         * 조건부 요청이 현재 검증자와 일치하는지 확인 (열린 구간은 항상 false)
+         */
+        public boolean isNotModified(WebRequest request) {
+            return etag != null && request.checkNotModified(etag, lastModified);
+        }
+
+        public <T> ResponseEntity<T> notModified() {
+            return headers(ResponseEntity.status(HttpStatus.NOT_MODIFIED)).build();
+        }
+
+        public ResponseEntity.BodyBuilder ok() {
+            return headers(ResponseEntity.ok());
+        }
+
+        private ResponseEntity.BodyBuilder headers(ResponseEntity.BodyBuilder builder) {
+            builder.cacheControl(cacheControl);
+            if (etag != null) {
+                builder.eTag(etag).lastModified(lastModified);
+            }
+            return builder;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package dev.study.portal.common.stream;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 기록한 바이트 수를 세는 OutputStream (진행률/처리량 보고용)
+ */
+public class CountingOutputStream extends FilterOutputStream {
+    private volatile long count;
+
+    public CountingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        count += len;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,92 @@
+package dev.study.portal.common.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * 그룹 키 순으로 정렬된 행을 {"key1": [...], "key2": [...]} 형태의 JSON 객체로 스트리밍하는 writer
+ *
+ * <p>키가 바뀌는 시점에 이전 배열을 닫고 새 배열을 시작하므로, 입력은 반드시 키 순으로 정렬되어 있어야 합니다.
+ * 출력 스트림은 닫지 않습니다. (서블릿 컨테이너가 관리)</p>
+ *
+ * <p>배열/객체는 {@link #finish()} 를 호출했을 때만 닫습니다. 조회 도중 실패해 finish 없이 close 되면 JSON 을 닫지 않은 채로 두어,
+ * 예외가 전파되어 응답이 중단되었을 때 클라이언트가 잘린 응답을 정상 응답으로 오인하지 않게 합니다.</p>
+ */
+public class GroupedJsonArrayWriter implements Closeable {
+    private static final int DEFAULT_FLUSH_EVERY = 500;
+
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+    private final int flushEvery;
+    private Object currentKey;
+    private long count;
+
+    public GroupedJsonArrayWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        this(objectMapper, outputStream, DEFAULT_FLUSH_EVERY);
+    }
+
+    public GroupedJsonArrayWriter(ObjectMapper objectMapper, OutputStream outputStream, int flushEvery) {
+        try {
+            this.generator = objectMapper.getFactory().createGenerator(outputStream);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            this.generator.writeStartObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * 한 행 기록 (클라이언트 연결 종료 등 I/O 오류는 UncheckedIOException 으로 전달)
+     */
+    public void write(Object key, Object value) {
+        try {
+            if (!Objects.equals(key, currentKey)) {
+                if (currentKey != null) {
+                    generator.writeEndArray();
+                }
+                generator.writeArrayFieldStart(String.valueOf(key));
+                currentKey = key;
+            }
+            objectWriter.writeValue(generator, value);
+            if (++count % flushEvery == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 모든 행을 기록한 뒤 호출 (열린 배열과 객체를 닫고 flush)
+     */
+    public void finish() throws IOException {
+        if (currentKey != null) {
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    /**
+     * 생성기 자원 해제 (finish 를 호출하지 않았으면 JSON 을 닫지 않음)
+     */
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,66 @@
+package dev.study.portal.common.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * NDJSON(application/x-ndjson) 스트리밍 writer
+ *
+ * <p>한 줄에 JSON 객체 하나씩 기록하며, 매 행마다 flush 하지 않고 flushEvery 행마다 한 번씩 flush 합니다.
+ * 출력 스트림은 닫지 않습니다. (서블릿 컨테이너가 관리)</p>
+ */
+public class NdjsonWriter implements Closeable {
+    private static final int DEFAULT_FLUSH_EVERY = 500;
+
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+    private final int flushEvery;
+    private long count;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream) {
+        this(objectMapper, outputStream, DEFAULT_FLUSH_EVERY);
+    }
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream, int flushEvery) {
+        try {
+            this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * 한 행 기록 (클라이언트 연결 종료 등 I/O 오류는 UncheckedIOException 으로 전달)
+     */
+    public void write(Object value) {
+        try {
+            objectWriter.writeValue(generator, value);
+            generator.writeRaw('\n');
+            if (++count % flushEvery == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,37 @@
+package dev.study.portal.config;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+
+/**
+ * 이상 알림 배치 리스너 컨테이너 (poll 한 번의 레코드를 List 로 전달)
+ *
+ * <p>spring.kafka.listener.* 설정(에러 핸들러, 메시지 컨버터, ack 모드 등)은 Boot 의 configurer 로 그대로 적용하고,
+ * 배치 모드와 max.poll.records 만 덮어씁니다.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "kafka.anomaly-alerts", name = "batch-enabled", havingValue = "true")
+public class AnomalyAlertBatchListenerConfig {
+
+    @Value("${kafka.anomaly-alerts.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> anomalyAlertBatchContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory
+    ) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().getKafkaConsumerProperties()
+                .setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        return factory;
+    }
+}
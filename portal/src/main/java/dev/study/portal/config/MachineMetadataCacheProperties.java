@@ -0,0 +1,30 @@
+package dev.study.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 설비 메타데이터(ID → 이름/유형) 인프로세스 캐시 설정 (machine.metadata-cache.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "machine.metadata-cache")
+public class MachineMetadataCacheProperties {
+
+    /** 최대 항목 수 (초과 시 LRU 제거, 시작 시 적재도 이 수까지만) */
+    private int maxSize = 10_000;
+
+    /** 항목 유지 시간 (다른 인스턴스에서 수정/삭제된 설비가 늦어도 이 시간 안에 반영됨) */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /** 존재하지 않는 설비 ID 를 DB 재조회 없이 기억하는 시간 */
+    private Duration negativeTtl = Duration.ofMinutes(1);
+
+    /** 부정 캐시 최대 항목 수 */
+    private int maxNegativeSize = 1_000;
+}
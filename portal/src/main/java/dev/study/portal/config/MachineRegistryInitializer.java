@@ -0,0 +1,35 @@
+package dev.study.portal.config;
+
+import dev.study.portal.repository.machine.MachineRepository;
+import dev.study.portal.service.machine.MachineMetadata;
+import dev.study.portal.service.machine.MachineRegistryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 설비 이름 레지스트리(Redis)를 DB 기준으로 재구성
+ *
+ * <p>포털이 내려가 있던 동안 유실된 생성/수정/삭제 이벤트를 보정합니다. 실패해도 기동은 계속합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MachineRegistryInitializer {
+
+    private final MachineRepository machineRepository;
+    private final MachineRegistryService machineRegistryService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildRegistry() {
+        try {
+            machineRegistryService.rebuild(
+                    machineRepository.findAll().stream().map(MachineMetadata::from).toList(),
+                    ids -> machineRepository.findAllById(ids).stream().map(MachineMetadata::from).toList());
+        } catch (Exception e) {
+            log.error("[Redis Registry] 재구성 실패 - Error: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package dev.study.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설비 이름 ↔ ID Redis 레지스트리 설정 (machine.registry.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "machine.registry")
+public class MachineRegistryProperties {
+
+    /** 기록할 레이아웃 (이전 중에는 DUAL 로 두 형식을 함께 기록) */
+    private Layout layout = Layout.DUAL;
+
+    /**
+     * 해시 레이아웃 버킷 수 (배포 후 변경 시 재구성 필요)
+     *
+     * <p>버킷당 필드 수가 hash-max-listpack-entries(기본 128) 이하일 때 listpack 으로 인코딩되므로
+     * 기본값 1024 는 설비 약 10만 대까지 listpack 을 유지합니다.</p>
+     */
+    private int buckets = 1024;
+
+    /** 리액티브 레지스트리의 동시 실행 작업 수 상한 (이벤트 처리, 일괄 갱신 각각 / DUAL 이면 작업당 Redis 명령 2개) */
+    private int concurrency = 64;
+
+    /** 리액티브 레지스트리의 이벤트 명령 대기열 크기 (가득 차면 명령을 버리고 machine.registry.commands.rejected 증가, 다음 재구성 때 보정) */
+    private int queueCapacity = 10_000;
+
+    public enum Layout {
+        /** machine:name:{name}, machine:id:{id} 문자열 키 (기존) */
+        STRINGS,
+        /** machine:registry:names:{bucket}, machine:registry:ids:{bucket} 해시 + 버전 카운터 */
+        HASH,
+        /** 두 레이아웃 모두 기록 (ai-server 이전 기간) */
+        DUAL;
+
+        public boolean writesStrings() {
+            return this != HASH;
+        }
+
+        public boolean writesHash() {
+            return this != STRINGS;
+        }
+    }
+}
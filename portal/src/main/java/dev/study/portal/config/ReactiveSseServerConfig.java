@@ -0,0 +1,44 @@
+package dev.study.portal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.study.portal.controller.sse.ReactiveSseHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 알림 스트림 전용 Reactor Netty 서버
+ *
+ * <p>애플리케이션은 서블릿(Tomcat)으로 기동되므로 WebFlux 엔드포인트를 별도 포트의 Netty 서버로 띄웁니다.
+ * 연결당 스레드/비동기 컨텍스트 없이 이벤트 루프에서 처리되어 대량의 유휴 구독자를 적은 메모리로 유지합니다.</p>
+ *
+ * <p>추가 포트를 여는 기능이므로 sse.reactive.enabled=true 로 명시한 경우에만 기동합니다.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "sse.reactive", name = "enabled", havingValue = "true")
+public class ReactiveSseServerConfig {
+
+    @Bean(destroyMethod = "disposeNow")
+    public DisposableServer reactiveSseServer(SseProperties properties, ReactiveSseHandler handler, ObjectMapper objectMapper) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper)))
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(handler.routes(), strategies);
+
+        DisposableServer server = HttpServer.create()
+                .port(properties.getReactive().getPort())
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("📡 Reactive SSE 서버 시작 - port={}", server.port());
+        return server;
+    }
+}
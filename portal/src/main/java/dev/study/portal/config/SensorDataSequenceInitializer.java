@@ -0,0 +1,41 @@
+package dev.study.portal.config;
+
+import dev.study.portal.entity.machine.MachineSensorData;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * machine_sensor_data 시퀀스 동기화
+ *
+ * <p>기존 데이터는 IDENTITY 컬럼으로 발급된 ID를 가지고 있으므로,
+ * 새로 생성된 시퀀스가 1부터 시작하면 기존 ID와 충돌합니다.
+ * 애플리케이션 시작 시(Kafka 컨슈머가 기동되기 전) 시퀀스를 현재 최대 ID 이후로 이동시킵니다.</p>
+ *
+ * <p>시퀀스는 앞으로만 이동하므로 여러 번 실행되어도 안전합니다.
+ * 동기화에 실패하면 기존 ID 와 충돌하는 값을 발급할 수 있으므로 예외를 그대로 던져 기동을 중단합니다.</p>
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SensorDataSequenceInitializer {
+
+    private static final String SYNC_SEQUENCE_SQL = """
+            SELECT setval('%1$s', GREATEST(
+                (SELECT last_value FROM %1$s),
+                (SELECT COALESCE(MAX(id), 0) FROM machine_sensor_data) + %2$d
+            ))
+            """.formatted(MachineSensorData.ID_SEQUENCE_NAME, MachineSensorData.ID_ALLOCATION_SIZE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void synchronizeSequence() {
+        Long value = jdbcTemplate.queryForObject(SYNC_SEQUENCE_SQL, Long.class);
+        log.info("[Sequence Init] {} 동기화 완료 - 현재 값: {}", MachineSensorData.ID_SEQUENCE_NAME, value);
+    }
+}
@@ -0,0 +1,36 @@
+package dev.study.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 센서 데이터 대량 내보내기 설정 (sensor.export.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sensor.export")
+public class SensorExportProperties {
+
+    /** 내보내기 파일 저장 경로 */
+    private String directory = "./exports";
+
+    /** COPY 한 번에 처리할 시간 구간 (진행률 보고 단위) */
+    private Duration chunkWindow = Duration.ofDays(1);
+
+    /** 동시에 실행할 내보내기 작업 수 */
+    private int concurrency = 2;
+
+    /** 대기열에 쌓을 수 있는 최대 작업 수 */
+    private int maxQueuedJobs = 20;
+
+    /** 한 작업에 지정할 수 있는 최대 설비 수 */
+    private int maxMachines = 200;
+
+    /** 완료/실패한 작업과 파일을 보관하는 기간 */
+    private Duration retention = Duration.ofHours(24);
+}
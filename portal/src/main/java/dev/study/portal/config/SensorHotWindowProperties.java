@@ -0,0 +1,40 @@
+package dev.study.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 최근 센서 데이터 인메모리 윈도우 설정 (sensor.hot-window.*)
+ *
+ * <p>최대 메모리 사용량 ≈ max-machines × capacity-per-machine × 48 bytes.
+ * (기본값 기준 500 × 7200 × 48 ≈ 165MB)</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sensor.hot-window")
+public class SensorHotWindowProperties {
+
+    private boolean enabled = true;
+
+    /** 메모리에 유지할 최근 구간 길이 */
+    private Duration window = Duration.ofMinutes(60);
+
+    /** 설비별 최대 보관 행 수 (초과 시 가장 오래된 행부터 덮어씀) */
+    private int capacityPerMachine = 7200;
+
+    /** 메모리에 유지할 최대 설비 수 (초과 시 가장 오래 사용되지 않은 설비 제거) */
+    private int maxMachines = 500;
+
+    /**
+     * 마지막 추가 후 이 시간 동안 새 행이 없으면 해당 설비는 메모리로 응답하지 않음 (DB 조회로 대체)
+     *
+     * <p>리밸런스로 파티션이 다른 인스턴스로 넘어간 뒤 남은 버퍼가 최근 구간을 보장하는 것처럼 보이지 않게 합니다.
+     * 배치 플러시 주기(10초)보다 길어야 합니다.</p>
+     */
+    private Duration staleAfter = Duration.ofSeconds(30);
+}
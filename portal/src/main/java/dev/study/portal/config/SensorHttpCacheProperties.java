@@ -0,0 +1,29 @@
+package dev.study.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 센서 데이터 조회 HTTP 캐시 설정 (sensor.http-cache.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sensor.http-cache")
+public class SensorHttpCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 종료 시각이 이 시간보다 더 지난 구간만 "닫힌 구간"으로 취급
+     * (Kafka 컨슈머 배치 버퍼링(10초) 등으로 늦게 저장되는 데이터 고려)
+     */
+    private Duration settleLag = Duration.ofMinutes(5);
+
+    /** 아직 열린 구간 응답의 max-age (must-revalidate) */
+    private Duration openMaxAge = Duration.ofSeconds(5);
+}
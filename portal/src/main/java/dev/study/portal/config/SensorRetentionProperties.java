@@ -0,0 +1,71 @@
+package dev.study.portal.config;
+
+import dev.study.portal.entity.machine.enums.Type;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 센서 데이터 보존/다운샘플링 정책 설정 (sensor.retention.*)
+ *
+ * <p>정책 선택 우선순위: machine-id 일치 → machine-type 일치 → default-policy.
+ * 선택된 정책에서 비어있는 항목은 default-policy 값을 따릅니다.</p>
+ *
+ * <p>보존 기간이 unlimited 인 단계는 영구 보관되며, 다음 단계로 롤업되지도 않습니다.
+ * default-policy 에서는 비워 두어도(null) 영구 보관이지만, 설비/유형 정책에서 비워 두면 default-policy 값을 따르므로
+ * 특정 설비만 영구 보관하려면 unlimited 를 명시해야 합니다.</p>
+ *
+ * <p>원본을 롤업/삭제하는 작업이므로 기본은 꺼져 있습니다. (운영 환경에서 enabled: true 로 명시적으로 활성화)</p>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sensor.retention")
+public class SensorRetentionProperties {
+
+    /** 영구 보관 (설정값 unlimited) */
+    public static final Duration UNLIMITED = ChronoUnit.FOREVER.getDuration();
+
+    private boolean enabled = false;
+
+    /** 한 번에 삭제/롤업할 최대 행 수 */
+    private int chunkSize = 5000;
+
+    /** 청크 사이 대기 시간 (DB 부하 분산) */
+    private Duration chunkPause = Duration.ofMillis(200);
+
+    /** 한 번의 실행에서 처리할 최대 청크 수 (실행 시간 상한) */
+    private int maxChunksPerRun = 500;
+
+    /** 다른 인스턴스가 기록한 데이터 변경 시각(HTTP 캐시 검증자)을 다시 읽는 주기 */
+    private Duration generationRefresh = Duration.ofSeconds(10);
+
+    private Policy defaultPolicy = new Policy();
+
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        /** 특정 설비 ID에 적용 */
+        private Long machineId;
+
+        /** 특정 설비 유형에 적용 */
+        private Type machineType;
+
+        /** 원본 데이터 보존 기간 (초과분은 1분 롤업으로 이동) */
+        private Duration raw;
+
+        /** 1분 롤업 보존 기간 (초과분은 1시간 롤업으로 이동) */
+        private Duration minuteRollup;
+
+        /** 1시간 롤업 보존 기간 (초과분은 삭제) */
+        private Duration hourlyRollup;
+    }
+}
@@ -0,0 +1,29 @@
+package dev.study.portal.config;
+
+import dev.study.portal.service.sse.SseClusterBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 인스턴스 간 SSE 알림 중계 채널 구독
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sse.cluster", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SseClusterConfig {
+
+    @Bean
+    public RedisMessageListenerContainer sseClusterListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            SseClusterBroadcaster broadcaster,
+            SseProperties properties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(broadcaster, new ChannelTopic(properties.getCluster().getChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,111 @@
+package dev.study.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * SSE 알림 전송 설정 (sse.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sse")
+public class SseProperties {
+
+    /** SSE 연결 타임아웃 */
+    private Duration timeout = Duration.ofMinutes(60);
+
+    /** 클라이언트별 전송 대기열 크기 (초과 시 가장 오래된 이벤트부터 버림) */
+    private int queueCapacity = 256;
+
+    /** 전송 전용 스레드 수 */
+    private int senderThreads = 8;
+
+    /** 대기열이 가득 찬 상태가 이 시간 이상 지속되면 느린 클라이언트로 보고 연결 종료 */
+    private Duration slowConsumerTimeout = Duration.ofSeconds(30);
+
+    /** 재연결(Last-Event-ID) 재전송용으로 보관할 최근 이벤트 수 */
+    private int replayBufferSize = 1000;
+
+    /** WebFlux(Reactor Netty) 알림 스트림 설정 */
+    private Reactive reactive = new Reactive();
+
+    /** 인스턴스 간 알림 팬아웃 (Redis pub/sub) 설정 */
+    private Cluster cluster = new Cluster();
+
+    /** 설비별 알림 묶음(coalescing) 설정 */
+    private Coalescing coalescing = new Coalescing();
+
+    /** 실시간 센서 스트림 설정 */
+    private Telemetry telemetry = new Telemetry();
+
+    @Getter
+    @Setter
+    public static class Reactive {
+
+        /** 별도 Netty 서버 기동 여부 (기본 꺼짐, 사용 시 명시적으로 활성화) */
+        private boolean enabled = false;
+
+        /** Netty 서버 포트 (서블릿 서버와 별도) */
+        private int port = 8081;
+
+        /** 구독자별 백프레셔 버퍼 크기 (초과 시 가장 오래된 이벤트부터 버림) */
+        private int bufferSize = 256;
+
+        /** 프록시/로드밸런서 유휴 종료 방지용 주석 이벤트 주기 */
+        private Duration heartbeat = Duration.ofSeconds(15);
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+
+        /** 비활성화 시 Kafka 로 알림을 받은 인스턴스의 구독자에게만 전달 */
+        private boolean enabled = true;
+
+        /** 알림을 중계할 Redis 채널 */
+        private String channel = "sse:anomaly-alerts";
+
+        /** 모든 인스턴스가 공유하는 SSE 이벤트 id 카운터 키 */
+        private String eventIdKey = "sse:anomaly-alerts:event-id";
+
+        /** 실시간 센서 샘플을 중계할 설비별 Redis 채널 접두사 (뒤에 설비 ID) */
+        private String telemetryChannelPrefix = "sse:telemetry:";
+
+        /** 중복 제거를 위해 기억할 최근 이벤트 id 수 */
+        private int dedupCapacity = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Coalescing {
+
+        /** 비활성화 시 모든 알림을 즉시 전달 */
+        private boolean enabled = true;
+
+        /** 설비별 묶음 구간 (구간 첫 알림은 즉시, 나머지는 구간 종료 시 한 건으로 전달) */
+        private Duration window = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Telemetry {
+
+        /** 구독자가 rate 를 지정하지 않았을 때의 전송 주기 */
+        private Duration defaultRate = Duration.ofSeconds(1);
+
+        /** 허용 전송 주기 범위 */
+        private Duration minRate = Duration.ofMillis(100);
+        private Duration maxRate = Duration.ofMinutes(1);
+
+        /** 이 프레임 수마다 전체 값(키 프레임) 전송 */
+        private int keyFrameInterval = 30;
+
+        /** 클러스터에 구독자가 없는 설비의 중계를 멈추고 다시 확인하기까지의 시간 */
+        private Duration relayIdleRecheck = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,28 @@
+package dev.study.portal.config;
+
+import org.springframework.boot.context.properties.ConfigurationPropertiesBinding;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 설정값 "unlimited" 를 무기한 기간으로 변환 (그 외 값은 스프링 기본 형식: 7d, 90d, PT1H ...)
+ *
+ * <p>보존 정책에서 "영구 보관"을 명시할 때 사용합니다. (예: sensor.retention.policies[0].raw: unlimited)</p>
+ */
+@Component
+@ConfigurationPropertiesBinding
+public class UnlimitedDurationConverter implements Converter<String, Duration> {
+
+    public static final String UNLIMITED = "unlimited";
+
+    @Override
+    public Duration convert(String source) {
+        if (UNLIMITED.equalsIgnoreCase(source.trim())) {
+            return SensorRetentionProperties.UNLIMITED;
+        }
+        return DurationStyle.detectAndParse(source);
+    }
+}
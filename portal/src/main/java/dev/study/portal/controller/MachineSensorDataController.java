@@ -1,7 +1,16 @@
 package dev.study.portal.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.study.portal.common.http.SensorRangeHttpCache;
+import dev.study.portal.common.stream.GroupedJsonArrayWriter;
+import dev.study.portal.common.stream.NdjsonWriter;
 import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
+import dev.study.portal.dto.sensor.SensorAggregateResponseDto;
+import dev.study.portal.dto.sensor.SensorColumnarResponseDto;
+import dev.study.portal.dto.sensor.SensorDataPageResponseDto;
+import dev.study.portal.dto.sensor.SensorDownsampleResponseDto;
 import dev.study.portal.service.MachineSensorDataService;
+import dev.study.portal.service.SensorDataAggregationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,8 +21,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,16 +39,29 @@ import java.util.List;
 @Slf4j
 public class MachineSensorDataController {
     private final MachineSensorDataService machineSensorDataService;
+    private final SensorDataAggregationService sensorDataAggregationService;
+    private final ObjectMapper objectMapper;
+    private final SensorRangeHttpCache httpCache;
 
-    @Operation(summary = "기계별 센서 데이터 조회", description = "특정 기계의 지정된 기간 내 센서 데이터를 조회합니다")
+    @Operation(summary = "기계별 센서 데이터 조회",
+               description = "특정 기계의 지정된 기간 내 센서 데이터를 조회합니다. " +
+                             "Accept: application/cbor 로 요청하면 채널별 배열 + delta 인코딩 시각(µs)의 컬럼 형식(CBOR)으로 응답합니다 " +
+                             "(CBOR 은 이 조회에만 지원, 이유는 SensorColumnarResponseDto 참고). " +
+                             "maxPoints 를 지정하면 원본 행 대신 채널별 LTTB 다운샘플링 결과(SensorDownsampleResponseDto, JSON)를 반환합니다")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = MachineSensorDataResponseDto.class))),
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = MachineSensorDataResponseDto.class)),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    schema = @Schema(implementation = SensorColumnarResponseDto.class))
+                    }),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (과거 구간 조건부 요청)"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
             @ApiResponse(responseCode = "404", description = "기계를 찾을 수 없음")
     })
     @GetMapping("/{machineId}")
-    public ResponseEntity<List<MachineSensorDataResponseDto>> getMachineSensorData(
+    public ResponseEntity<?> getMachineSensorData(
             @Parameter(description = "기계 ID", example = "1", required = true)
             @PathVariable Long machineId,
 
@@ -48,9 +75,302 @@ public class MachineSensorDataController {
                        example = "2025-12-31T23:59:59", required = true)
             @RequestParam
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-            LocalDateTime endDateTime
+            LocalDateTime endDateTime,
+
+            @Parameter(description = "채널별 최대 점 수 (3 ~ 10000), 지정하면 LTTB 다운샘플링 결과를 반환", example = "2000")
+            @RequestParam(required = false)
+            Integer maxPoints,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false)
+            String accept,
+
+            @Parameter(hidden = true) WebRequest webRequest
     ) {
+        if (maxPoints != null) {
+            return downsample(machineId, startDateTime, endDateTime, maxPoints, webRequest);
+        }
+
+        boolean cbor = acceptsCbor(accept);
+        SensorRangeHttpCache.Validator cache = httpCache.validator(
+                endDateTime, cbor ? "list-cbor" : "list", machineId, startDateTime, endDateTime);
+        if (cache.isNotModified(webRequest)) {
+            return cache.notModified();
+        }
+
+        if (cbor) {
+            SensorColumnarResponseDto columnar = machineSensorDataService.getSensorDataColumnar(machineId, startDateTime, endDateTime);
+            return cache.ok()
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .body(columnar);
+        }
+
         List<MachineSensorDataResponseDto> sensorData = machineSensorDataService.getSensorDataCreatedAtBetween(machineId, startDateTime, endDateTime);
-        return ResponseEntity.ok(sensorData);
+        return cache.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(sensorData);
+    }
+
+    /**
+     * Accept 헤더에 application/cbor 가 명시된 경우에만 CBOR 로 응답 (와일드카드는 JSON 유지)
+     */
+    private boolean acceptsCbor(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(type -> !type.isWildcardSubtype() && MediaType.APPLICATION_CBOR.isCompatibleWith(type));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    @Operation(summary = "기계별 센서 데이터 스트리밍 조회",
+               description = "특정 기계의 지정된 기간 내 센서 데이터를 NDJSON(한 줄에 하나의 JSON)으로 스트리밍합니다. " +
+                             "DB 커서에서 읽는 즉시 전송하므로 기간이 길어도 서버 메모리 사용량이 일정합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스트리밍 시작",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = MachineSensorDataResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (과거 구간 조건부 요청)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터")
+    })
+    @GetMapping(value = "/{machineId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMachineSensorData(
+            @Parameter(description = "기계 ID", example = "1", required = true)
+            @PathVariable Long machineId,
+
+            @Parameter(description = "검색 시작 시간 (ISO-8601 형식: yyyy-MM-dd'T'HH:mm:ss)",
+                       example = "2025-01-01T00:00:00", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime startDateTime,
+
+            @Parameter(description = "검색 종료 시간 (ISO-8601 형식: yyyy-MM-dd'T'HH:mm:ss)",
+                       example = "2025-12-31T23:59:59", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime endDateTime,
+
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        SensorRangeHttpCache.Validator cache = httpCache.validator(endDateTime, "stream", machineId, startDateTime, endDateTime);
+        if (cache.isNotModified(webRequest)) {
+            return cache.notModified();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream)) {
+                machineSensorDataService.streamSensorDataCreatedAtBetween(
+                        machineId, startDateTime, endDateTime, writer::write);
+            }
+        };
+
+        return cache.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "여러 기계 센서 데이터 배치 조회",
+               description = "여러 기계의 지정된 기간 내 센서 데이터를 한 번의 쿼리로 조회하여 " +
+                             "{\"기계ID\": [...], ...} 형태의 JSON 객체로 스트리밍합니다. 데이터가 없는 기계는 응답에서 생략됩니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (과거 구간 조건부 요청)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터 (기계 수 초과 등)")
+    })
+    @GetMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getBatchMachineSensorData(
+            @Parameter(description = "기계 ID 목록 (최대 100개)", example = "1,2,3", required = true)
+            @RequestParam
+            List<Long> machineIds,
+
+            @Parameter(description = "검색 시작 시간 (ISO-8601 형식: yyyy-MM-dd'T'HH:mm:ss)",
+                       example = "2025-01-01T00:00:00", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime startDateTime,
+
+            @Parameter(description = "검색 종료 시간 (ISO-8601 형식: yyyy-MM-dd'T'HH:mm:ss)",
+                       example = "2025-12-31T23:59:59", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime endDateTime,
+
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        List<Long> ids = machineSensorDataService.validateBatchQuery(machineIds, startDateTime, endDateTime);
+
+        SensorRangeHttpCache.Validator cache = httpCache.validator(endDateTime, "batch", ids, startDateTime, endDateTime);
+        if (cache.isNotModified(webRequest)) {
+            return cache.notModified();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            // 조회 실패 시 JSON 을 닫지 않고 예외를 전파해 응답을 중단 (잘린 응답이 정상 응답처럼 보이지 않도록)
+            try (GroupedJsonArrayWriter writer = new GroupedJsonArrayWriter(objectMapper, outputStream)) {
+                machineSensorDataService.streamSensorDataBatch(
+                        ids, startDateTime, endDateTime, dto -> writer.write(dto.getMachineId(), dto));
+                writer.finish();
+            }
+        };
+
+        return cache.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @Operation(summary = "기계별 센서 데이터 페이지 조회 (키셋)",
+               description = "특정 기계의 지정된 기간 내 센서 데이터를 (생성 시각, ID) 순으로 limit 건씩 조회합니다. " +
+                             "다음 페이지는 응답의 nextCursor 를 cursor 파라미터로 전달하여 조회하며, 페이지 깊이와 무관하게 조회 비용이 일정합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SensorDataPageResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (과거 구간 조건부 요청)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터 또는 커서")
+    })
+    @GetMapping("/{machineId}/page")
+    public ResponseEntity<SensorDataPageResponseDto> getMachineSensorDataPage(
+            @Parameter(description = "기계 ID", example = "1", required = true)
+            @PathVariable Long machineId,
+
+            @Parameter(description = "검색 시작 시간 (ISO-8601 형식: yyyy-MM-dd'T'HH:mm:ss)",
+                       example = "2025-01-01T00:00:00", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime startDateTime,
+
+            @Parameter(description = "검색 종료 시간 (ISO-8601 형식: yyyy-MM-dd'T'HH:mm:ss)",
+                       example = "2025-12-31T23:59:59", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime endDateTime,
+
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false)
+            String cursor,
+
+            @Parameter(description = "페이지 크기 (기본 500, 최대 5000)", example = "500")
+            @RequestParam(required = false)
+            Integer limit,
+
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        SensorRangeHttpCache.Validator cache = httpCache.validator(
+                endDateTime, "page", machineId, startDateTime, endDateTime, cursor, limit);
+        if (cache.isNotModified(webRequest)) {
+            return cache.notModified();
+        }
+
+        SensorDataPageResponseDto page = machineSensorDataService.getSensorDataPage(
+                machineId, startDateTime, endDateTime, cursor, limit);
+        return cache.ok().body(page);
+    }
+
+    @Operation(summary = "기계별 센서 데이터 시간 버킷 집계",
+               description = "지정된 기간을 bucketSeconds 단위로 나누어 채널별 min/max/avg/p95/count 를 DB 에서 계산하고 컬럼 형식으로 반환합니다. " +
+                             "보존 정책으로 롤업된 과거 데이터도 함께 집계됩니다 (p95 는 원본 데이터만 사용)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SensorAggregateResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (과거 구간 조건부 요청)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터 (채널/함수 이름, 버킷 수 초과 등)")
+    })
+    @GetMapping("/{machineId}/aggregate")
+    public ResponseEntity<SensorAggregateResponseDto> aggregateMachineSensorData(
+            @Parameter(description = "기계 ID", example = "1", required = true)
+            @PathVariable Long machineId,
+
+            @Parameter(description = "검색 시작 시간 (ISO-8601 형식: yyyy-MM-dd'T'HH:mm:ss)",
+                       example = "2025-01-01T00:00:00", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime startDateTime,
+
+            @Parameter(description = "검색 종료 시간 (ISO-8601 형식: yyyy-MM-dd'T'HH:mm:ss)",
+                       example = "2025-12-31T23:59:59", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime endDateTime,
+
+            @Parameter(description = "버킷 크기 (초)", example = "60", required = true)
+            @RequestParam
+            Long bucketSeconds,
+
+            @Parameter(description = "집계할 채널 (airTemperature, processTemperature, rotationalSpeed, torque, toolWear), 생략 시 전체",
+                       example = "airTemperature,torque")
+            @RequestParam(required = false)
+            List<String> channels,
+
+            @Parameter(description = "집계 함수 (min, max, avg, p95, count), 생략 시 avg", example = "min,max,avg")
+            @RequestParam(required = false)
+            List<String> functions,
+
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        SensorRangeHttpCache.Validator cache = httpCache.validator(
+                endDateTime, "aggregate", machineId, startDateTime, endDateTime, bucketSeconds, channels, functions);
+        if (cache.isNotModified(webRequest)) {
+            return cache.notModified();
+        }
+
+        SensorAggregateResponseDto result = sensorDataAggregationService.aggregate(
+                machineId, startDateTime, endDateTime, bucketSeconds, channels, functions);
+        return cache.ok().body(result);
+    }
+
+    @Operation(summary = "기계별 센서 데이터 차트용 다운샘플링 (LTTB)",
+               description = "지정된 기간의 센서 데이터를 채널별로 Largest-Triangle-Three-Buckets 알고리즘으로 maxPoints 개 이하로 줄여 반환합니다. " +
+                             "평균과 달리 실제 측정점을 선택하므로 스파이크가 유지됩니다. " +
+                             "GET /{machineId}?maxPoints= 와 같은 결과이며, maxPoints 기본값(2000)을 쓰는 기존 클라이언트를 위해 유지합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = SensorDownsampleResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (과거 구간 조건부 요청)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터")
+    })
+    @GetMapping("/{machineId}/downsample")
+    public ResponseEntity<SensorDownsampleResponseDto> downsampleMachineSensorData(
+            @Parameter(description = "기계 ID", example = "1", required = true)
+            @PathVariable Long machineId,
+
+            @Parameter(description = "검색 시작 시간 (ISO-8601 형식: yyyy-MM-dd'T'HH:mm:ss)",
+                       example = "2025-01-01T00:00:00", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime startDateTime,
+
+            @Parameter(description = "검색 종료 시간 (ISO-8601 형식: yyyy-MM-dd'T'HH:mm:ss)",
+                       example = "2025-12-31T23:59:59", required = true)
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime endDateTime,
+
+            @Parameter(description = "채널별 최대 점 수 (3 ~ 10000)", example = "2000")
+            @RequestParam(defaultValue = "2000")
+            Integer maxPoints,
+
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        return downsample(machineId, startDateTime, endDateTime, maxPoints, webRequest);
+    }
+
+    /**
+     * 기간 조회(maxPoints 지정)와 /downsample 이 공유하는 LTTB 응답 (같은 ETag 를 씀)
+     */
+    private ResponseEntity<SensorDownsampleResponseDto> downsample(Long machineId, LocalDateTime startDateTime,
+                                                                   LocalDateTime endDateTime, int maxPoints,
+                                                                   WebRequest webRequest) {
+        SensorRangeHttpCache.Validator cache = httpCache.validator(
+                endDateTime, "downsample", machineId, startDateTime, endDateTime, maxPoints);
+        if (cache.isNotModified(webRequest)) {
+            return cache.notModified();
+        }
+
+        SensorDownsampleResponseDto result = machineSensorDataService.downsampleSensorData(
+                machineId, startDateTime, endDateTime, maxPoints);
+        return cache.ok().body(result);
     }
 }
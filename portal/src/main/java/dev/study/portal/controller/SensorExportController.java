@@ -0,0 +1,83 @@
+package dev.study.portal.controller;
+
+import dev.study.portal.dto.export.SensorExportJobDto;
+import dev.study.portal.dto.export.SensorExportRequestDto;
+import dev.study.portal.service.export.SensorExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@Tag(name = "Sensor Export", description = "센서 데이터 대량 내보내기 API")
+@RestController
+@RequestMapping("/api/sensor-exports")
+@RequiredArgsConstructor
+public class SensorExportController {
+    private final SensorExportService exportService;
+
+    @Operation(summary = "내보내기 작업 등록",
+               description = "설비 목록과 기간을 지정해 CSV 내보내기 작업을 등록합니다. 작업은 비동기로 실행되며, 반환된 jobId 로 상태를 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "등록 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "429", description = "대기 중인 작업이 너무 많음")
+    })
+    @PostMapping
+    public ResponseEntity<SensorExportJobDto> submit(@RequestBody SensorExportRequestDto request) {
+        SensorExportJobDto job = exportService.submit(request);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @Operation(summary = "내보내기 작업 목록 조회", description = "보관 중인 내보내기 작업을 최신순으로 조회합니다")
+    @GetMapping
+    public ResponseEntity<List<SensorExportJobDto>> getJobs() {
+        return ResponseEntity.ok(exportService.getJobs());
+    }
+
+    @Operation(summary = "내보내기 작업 상태 조회", description = "진행률, 처리 행 수, 처리량(행/초, MB/초)을 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<SensorExportJobDto> getJob(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok(exportService.getJob(jobId));
+    }
+
+    @Operation(summary = "내보내기 파일 다운로드", description = "완료된 작업의 결과 파일을 다운로드합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "다운로드 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "작업이 아직 완료되지 않음")
+    })
+    @GetMapping("/{jobId}/file")
+    public ResponseEntity<Resource> download(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String jobId
+    ) {
+        Path file = exportService.getCompletedFile(jobId);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(file.getFileName().toString())
+                .build();
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(MediaType.parseMediaType(exportService.getFormat(jobId).getContentType()))
+                .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,35 @@
+package dev.study.portal.controller;
+
+import dev.study.portal.dto.sensor.RetentionRunReportDto;
+import dev.study.portal.service.SensorRetentionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Sensor Retention", description = "센서 데이터 보존 정책 모니터링 API")
+@RestController
+@RequestMapping("/api/sensor-retention")
+@RequiredArgsConstructor
+public class SensorRetentionController {
+    private final SensorRetentionService retentionService;
+
+    @Operation(summary = "마지막 보존 정책 실행 결과 조회", description = "가장 최근 보존 정책 실행의 처리 건수, 소요 시간, 회수 공간을 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "204", description = "아직 실행 이력이 없음")
+    })
+    @GetMapping("/report")
+    public ResponseEntity<RetentionRunReportDto> getLastReport() {
+        RetentionRunReportDto report = retentionService.getLastReport();
+        if (report == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(report);
+    }
+}
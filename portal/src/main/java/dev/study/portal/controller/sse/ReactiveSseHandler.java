@@ -0,0 +1,116 @@
+package dev.study.portal.controller.sse;
+
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sensor.SensorTelemetryFrameDto;
+import dev.study.portal.dto.sensor.TelemetryDecimation;
+import dev.study.portal.dto.sse.AnomalySeverity;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import dev.study.portal.entity.machine.enums.Type;
+import dev.study.portal.service.sse.ReactiveAlertStreamService;
+import dev.study.portal.service.sse.SseSubscriptionFilter;
+import dev.study.portal.service.telemetry.SensorTelemetryStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reactor Netty 스트림 엔드포인트 (서블릿 서버와 별도 포트)
+ *
+ * <p>GET /api/reactive/sse/subscribe?machineIds=1,2&types=HIGH&minSeverity=ALERT<br>
+ * 필터 파라미터는 /api/sse/subscribe 와 같습니다. 재연결 재전송(Last-Event-ID)은 지원하지 않습니다.</p>
+ *
+ * <p>GET /api/reactive/telemetry/{machineId}?rateMs=1000&mode=LATEST|MIN_MAX<br>
+ * 설비 실시간 센서 스트림 (key / delta 이벤트). /api/machine-sensor-data 폴링 대체용입니다.
+ * 등록되지 않은 설비는 404 입니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveSseHandler {
+    private static final ParameterizedTypeReference<ServerSentEvent<AnomalySseDto>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final ParameterizedTypeReference<ServerSentEvent<SensorTelemetryFrameDto>> TELEMETRY_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final ReactiveAlertStreamService reactiveAlertStreamService;
+    private final SensorTelemetryStreamService telemetryStreamService;
+    private final SseProperties properties;
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/api/reactive/sse/subscribe", this::subscribe)
+                .GET("/api/reactive/telemetry/{machineId}", this::telemetry)
+                .build();
+    }
+
+    private Mono<ServerResponse> subscribe(ServerRequest request) {
+        SseSubscriptionFilter filter;
+        try {
+            filter = SseSubscriptionFilter.of(
+                    listParam(request, "machineIds", Long::valueOf),
+                    listParam(request, "types", Type::valueOf),
+                    request.queryParam("minSeverity").map(AnomalySeverity::valueOf).orElse(null));
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest().bodyValue("잘못된 필터 파라미터: " + e.getMessage());
+        }
+
+        return ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .body(reactiveAlertStreamService.stream(filter), EVENT_TYPE);
+    }
+
+    private Mono<ServerResponse> telemetry(ServerRequest request) {
+        SseProperties.Telemetry telemetry = properties.getTelemetry();
+        Long machineId;
+        Duration rate;
+        TelemetryDecimation mode;
+        try {
+            machineId = Long.valueOf(request.pathVariable("machineId"));
+            rate = request.queryParam("rateMs").map(Long::parseLong).map(Duration::ofMillis)
+                    .orElse(telemetry.getDefaultRate());
+            mode = request.queryParam("mode").map(value -> TelemetryDecimation.valueOf(value.toUpperCase()))
+                    .orElse(TelemetryDecimation.LATEST);
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest().bodyValue("잘못된 파라미터: " + e.getMessage());
+        }
+        if (rate.compareTo(telemetry.getMinRate()) < 0 || rate.compareTo(telemetry.getMaxRate()) > 0) {
+            return ServerResponse.badRequest().bodyValue("rateMs 는 %d ~ %d 사이여야 합니다."
+                    .formatted(telemetry.getMinRate().toMillis(), telemetry.getMaxRate().toMillis()));
+        }
+
+        return telemetryStreamService.isKnownMachine(machineId)
+                .flatMap(known -> known
+                        ? ServerResponse.ok()
+                                .contentType(MediaType.TEXT_EVENT_STREAM)
+                                .body(telemetryStreamService.stream(machineId, rate, mode), TELEMETRY_TYPE)
+                        : ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue("존재하지 않는 설비: " + machineId));
+    }
+
+    // machineIds=1,2 와 machineIds=1&machineIds=2 모두 허용
+    private <T> List<T> listParam(ServerRequest request, String name, Function<String, T> parser) {
+        List<String> values = request.queryParams().get(name);
+        if (values == null) {
+            return null;
+        }
+        return values.stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(parser)
+                .toList();
+    }
+}
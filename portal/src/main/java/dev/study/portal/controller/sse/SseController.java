@@ -1,15 +1,21 @@
 package dev.study.portal.controller.sse;
 
+import dev.study.portal.dto.sse.AnomalySeverity;
+import dev.study.portal.entity.machine.enums.Type;
 import dev.study.portal.service.sse.SseEmitterService;
+import dev.study.portal.service.sse.SseSubscriptionFilter;
+import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -21,13 +27,42 @@ public class SseController {
          /**
        * SSE 연결 엔드포인트
        * 클라이언트는 이 엔드포인트로 연결하여 실시간 알림 수신
+       * 필터를 지정하면 조건에 맞는 알림만 서버에서 골라 전송 (지정하지 않은 조건은 전체 허용)
+       * 재연결 시 Last-Event-ID 헤더(또는 lastEventId 파라미터) 이후 놓친 알림을 먼저 재전송
        */
       @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
       public SseEmitter subscribe(
-              @RequestParam(required = false) String clientId
+              @RequestParam(required = false) String clientId,
+
+              @Parameter(description = "받을 설비 ID 목록", example = "1,2")
+              @RequestParam(required = false) List<Long> machineIds,
+
+              @Parameter(description = "받을 설비 유형 목록 (LOW, MEDIUM, HIGH)", example = "HIGH")
+              @RequestParam(required = false) List<Type> types,
+
+              @Parameter(description = "최소 심각도 (WARNING, ALERT, CRITICAL)", example = "ALERT")
+              @RequestParam(required = false) AnomalySeverity minSeverity,
+
+              @Parameter(description = "마지막으로 받은 이벤트 id (EventSource 가 재연결 시 자동 전송)")
+              @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+
+              @Parameter(description = "마지막으로 받은 이벤트 id (헤더를 지정할 수 없는 클라이언트용)")
+              @RequestParam(value = "lastEventId", required = false) String lastEventIdParam
       ) {
           // clientId가 없으면 UUID 생성
           String id = (clientId != null) ? clientId : UUID.randomUUID().toString();
-          return sseEmitterService.subscribe(id);
+          Long lastEventId = parseEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+          return sseEmitterService.subscribe(id, SseSubscriptionFilter.of(machineIds, types, minSeverity), lastEventId);
+      }
+
+      private Long parseEventId(String value) {
+          if (value == null || value.isBlank()) {
+              return null;
+          }
+          try {
+              return Long.parseLong(value.trim());
+          } catch (NumberFormatException e) {
+              return null;
+          }
       }
 }
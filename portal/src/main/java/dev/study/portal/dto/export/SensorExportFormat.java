@@ -0,0 +1,17 @@
+package dev.study.portal.dto.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 내보내기 파일 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SensorExportFormat {
+    CSV(".csv", "text/csv"),
+    CSV_GZIP(".csv.gz", "application/gzip");
+
+    private final String extension;
+    private final String contentType;
+}
@@ -0,0 +1,58 @@
+package dev.study.portal.dto.export;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "센서 데이터 내보내기 작업 상태 DTO")
+@Getter
+@Builder
+public class SensorExportJobDto {
+
+    @Schema(description = "작업 ID", example = "3f0c7a0e-2d7c-4a57-9b3e-2f1a7f1d2c11")
+    private String jobId;
+
+    @Schema(description = "작업 상태", example = "RUNNING")
+    private SensorExportStatus status;
+
+    private List<Long> machineIds;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+    private SensorExportFormat format;
+
+    @Schema(description = "요청 시각", example = "2025-11-18T10:00:00")
+    private LocalDateTime submittedAt;
+
+    @Schema(description = "실행 시작 시각", example = "2025-11-18T10:00:01")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "완료 시각", example = "2025-11-18T10:02:30")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "완료된 구간 수", example = "45")
+    private Integer completedChunks;
+
+    @Schema(description = "전체 구간 수", example = "90")
+    private Integer totalChunks;
+
+    @Schema(description = "진행률 (%)", example = "50.0")
+    private Double progressPercent;
+
+    @Schema(description = "내보낸 행 수", example = "3888000")
+    private Long rowCount;
+
+    @Schema(description = "기록한 파일 크기 (bytes)", example = "248832000")
+    private Long bytesWritten;
+
+    @Schema(description = "처리량 (행/초)", example = "52000.0")
+    private Double rowsPerSecond;
+
+    @Schema(description = "처리량 (MB/초)", example = "3.3")
+    private Double megabytesPerSecond;
+
+    @Schema(description = "실패 사유", example = "null")
+    private String errorMessage;
+}
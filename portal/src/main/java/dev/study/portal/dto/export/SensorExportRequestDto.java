@@ -0,0 +1,30 @@
+package dev.study.portal.dto.export;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "센서 데이터 내보내기 요청 DTO")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SensorExportRequestDto {
+
+    @Schema(description = "설비 ID 목록", example = "[1, 2, 3]", required = true)
+    private List<Long> machineIds;
+
+    @Schema(description = "시작 시간", example = "2025-01-01T00:00:00", required = true)
+    private LocalDateTime startDateTime;
+
+    @Schema(description = "종료 시간", example = "2025-03-31T23:59:59", required = true)
+    private LocalDateTime endDateTime;
+
+    @Schema(description = "파일 형식 (기본 CSV)", example = "CSV_GZIP")
+    private SensorExportFormat format;
+}
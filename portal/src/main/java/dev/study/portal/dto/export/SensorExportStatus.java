@@ -0,0 +1,8 @@
+package dev.study.portal.dto.export;
+
+public enum SensorExportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
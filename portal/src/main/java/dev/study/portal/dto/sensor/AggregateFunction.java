@@ -0,0 +1,30 @@
+package dev.study.portal.dto.sensor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 센서 데이터 집계 함수
+ *
+ * <p>p95 는 원본 데이터에서만 계산됩니다. (롤업 데이터에는 분포 정보가 없음)</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AggregateFunction {
+    MIN("min"),
+    MAX("max"),
+    AVG("avg"),
+    P95("p95"),
+    COUNT("count");
+
+    private final String alias;
+
+    public static Optional<AggregateFunction> fromAlias(String alias) {
+        return Arrays.stream(values())
+                .filter(f -> f.alias.equalsIgnoreCase(alias))
+                .findFirst();
+    }
+}
@@ -0,0 +1,46 @@
+package dev.study.portal.dto.sensor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "센서 데이터 보존 정책 실행 결과 DTO")
+@Getter
+@Builder
+public class RetentionRunReportDto {
+
+    @Schema(description = "실행 시작 시각", example = "2025-11-18T03:00:00")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "실행 소요 시간 (ms)", example = "1520")
+    private Long durationMs;
+
+    @Schema(description = "처리 대상 설비 수", example = "12")
+    private Integer machineCount;
+
+    @Schema(description = "1분 롤업으로 이동된 원본 행 수", example = "604800")
+    private Long rawRowsRolledUp;
+
+    @Schema(description = "1시간 롤업으로 이동된 1분 롤업 행 수", example = "10080")
+    private Long minuteRowsRolledUp;
+
+    @Schema(description = "만료되어 삭제된 1시간 롤업 행 수", example = "0")
+    private Long hourlyRowsDeleted;
+
+    @Schema(description = "실행된 청크 수", example = "130")
+    private Integer chunkCount;
+
+    @Schema(description = "청크 상한 도달로 다음 실행에 남은 작업이 있는지 여부", example = "false")
+    private Boolean truncated;
+
+    @Schema(description = "행 수 × 평균 행 크기로 추정한 회수 공간 (bytes, VACUUM 후 재사용 가능)", example = "72576000")
+    private Long estimatedReclaimedBytes;
+
+    @Schema(description = "실행 전 원본+롤업 테이블 크기 (bytes)", example = "1073741824")
+    private Long tableBytesBefore;
+
+    @Schema(description = "실행 후 원본+롤업 테이블 크기 (bytes)", example = "1073741824")
+    private Long tableBytesAfter;
+}
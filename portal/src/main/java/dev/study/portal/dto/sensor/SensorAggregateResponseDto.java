@@ -0,0 +1,39 @@
+package dev.study.portal.dto.sensor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 버킷 집계 결과 (컬럼 형식)
+ *
+ * <p>버킷 i 의 시작 시각은 origin + bucketIndex[i] × bucketSeconds 입니다.
+ * 데이터가 없는 버킷은 생략되며, 모든 배열은 bucketIndex 와 같은 길이입니다.</p>
+ */
+@Schema(description = "센서 데이터 시간 버킷 집계 응답 DTO (컬럼 형식)")
+@Getter
+@Builder
+public class SensorAggregateResponseDto {
+
+    @Schema(description = "설비 ID", example = "1")
+    private Long machineId;
+
+    @Schema(description = "버킷 기준 시각 (요청 시작 시간)", example = "2025-01-01T00:00:00")
+    private LocalDateTime origin;
+
+    @Schema(description = "버킷 크기 (초)", example = "60")
+    private Long bucketSeconds;
+
+    @Schema(description = "버킷 번호 (origin 기준)", example = "[0, 1, 2, 5]")
+    private List<Long> bucketIndex;
+
+    @Schema(description = "버킷별 샘플 수 (count 요청 시)", example = "[60, 60, 58, 60]")
+    private List<Long> count;
+
+    @Schema(description = "채널 → 집계 함수 → 버킷별 값", example = "{\"torque\": {\"avg\": [40.1, 41.3], \"max\": [55.0, 60.2]}}")
+    private Map<String, Map<String, List<Double>>> series;
+}
@@ -0,0 +1,165 @@
+package dev.study.portal.dto.sensor;
+
+import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * 센서 데이터 컬럼 형식 응답 (CBOR 전송용)
+ *
+ * <p>행마다 필드 이름과 ISO 시각 문자열을 반복하는 JSON 배열 대신, 채널별 배열 하나씩으로 전송합니다.
+ * 시각과 ID 는 직전 행과의 차이(delta)로 보내므로 CBOR 정수 인코딩에서 대부분 1~5 bytes 로 줄어듭니다.</p>
+ *
+ * <ul>
+ *   <li>i 번째 행의 시각 = origin + (timeDeltaMicros[0] + ... + timeDeltaMicros[i]) µs (DB 타임스탬프 정밀도와 동일)</li>
+ *   <li>i 번째 행의 ID = idDelta[0] + ... + idDelta[i]</li>
+ *   <li>값이 없는 채널: 실수 채널은 NaN, 정수 채널은 0 을 넣고 {channel}Nulls 비트맵의 i 번째 비트를 1 로 표시
+ *       (바이트 i / 8 의 하위 비트부터, {@link #isNull(byte[], int)})</li>
+ * </ul>
+ *
+ * <p>Accept: application/cbor 는 기간 조회(GET /{machineId})에만 적용합니다.
+ * 컬럼 배열은 전체 행을 모은 뒤에 완성되므로 행을 읽는 즉시 내보내는 stream / batch 와 맞지 않고,
+ * aggregate / downsample 은 이미 채널별 배열 형식에 점 수가 제한되어 있으며, page 는 limit(최대 5000) 으로 작아 이득이 적습니다.</p>
+ */
+@Schema(description = "센서 데이터 컬럼 형식 응답 DTO (application/cbor)")
+@Getter
+@Builder
+public class SensorColumnarResponseDto {
+
+    @Schema(description = "설비 ID", example = "1")
+    private Long machineId;
+
+    @Schema(description = "기준 시각 (요청 시작 시간)", example = "2025-01-01T00:00:00")
+    private LocalDateTime origin;
+
+    @Schema(description = "행 수", example = "3")
+    private Integer count;
+
+    @Schema(description = "직전 행과의 시각 차이 (µs, 첫 값은 origin 기준)", example = "[120000, 1000000, 1000000]")
+    private long[] timeDeltaMicros;
+
+    @Schema(description = "직전 행과의 ID 차이 (첫 값은 ID 그대로)", example = "[1201, 1, 1]")
+    private long[] idDelta;
+
+    private double[] airTemperature;
+    private double[] processTemperature;
+    private int[] rotationalSpeed;
+
+    @Schema(description = "rotationalSpeed 값 없음 비트맵 (행 i = 바이트 i/8 의 비트 i%8)")
+    private byte[] rotationalSpeedNulls;
+
+    private double[] torque;
+    private int[] toolWear;
+
+    @Schema(description = "toolWear 값 없음 비트맵 (행 i = 바이트 i/8 의 비트 i%8)")
+    private byte[] toolWearNulls;
+
+    /**
+     * 정수 채널의 index 번째 값이 없는지 (null 비트맵 조회)
+     */
+    public static boolean isNull(byte[] nulls, int index) {
+        return (nulls[index >>> 3] & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * 시각 순으로 들어오는 행을 컬럼 배열로 모으는 누적기
+     */
+    public static Accumulator accumulator(Long machineId, LocalDateTime origin) {
+        return new Accumulator(machineId, origin);
+    }
+
+    public static final class Accumulator {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final Long machineId;
+        private final LocalDateTime origin;
+        private int size;
+        private long prevMicros;
+        private long prevId;
+        private long[] timeDeltaMicros = new long[INITIAL_CAPACITY];
+        private long[] idDelta = new long[INITIAL_CAPACITY];
+        private double[] airTemperature = new double[INITIAL_CAPACITY];
+        private double[] processTemperature = new double[INITIAL_CAPACITY];
+        private int[] rotationalSpeed = new int[INITIAL_CAPACITY];
+        private byte[] rotationalSpeedNulls = new byte[INITIAL_CAPACITY / 8];
+        private double[] torque = new double[INITIAL_CAPACITY];
+        private int[] toolWear = new int[INITIAL_CAPACITY];
+        private byte[] toolWearNulls = new byte[INITIAL_CAPACITY / 8];
+
+        private Accumulator(Long machineId, LocalDateTime origin) {
+            this.machineId = machineId;
+            this.origin = origin;
+        }
+
+        public void add(MachineSensorDataResponseDto row) {
+            if (size == timeDeltaMicros.length) {
+                grow();
+            }
+            long micros = ChronoUnit.MICROS.between(origin, row.getCreatedAt());
+            long id = row.getId() != null ? row.getId() : 0L;
+
+            timeDeltaMicros[size] = micros - prevMicros;
+            idDelta[size] = id - prevId;
+            airTemperature[size] = toDouble(row.getAirTemperature());
+            processTemperature[size] = toDouble(row.getProcessTemperature());
+            rotationalSpeed[size] = toInt(row.getRotationalSpeed(), rotationalSpeedNulls, size);
+            torque[size] = toDouble(row.getTorque());
+            toolWear[size] = toInt(row.getToolWear(), toolWearNulls, size);
+
+            prevMicros = micros;
+            prevId = id;
+            size++;
+        }
+
+        public SensorColumnarResponseDto build() {
+            return SensorColumnarResponseDto.builder()
+                    .machineId(machineId)
+                    .origin(origin)
+                    .count(size)
+                    .timeDeltaMicros(Arrays.copyOf(timeDeltaMicros, size))
+                    .idDelta(Arrays.copyOf(idDelta, size))
+                    .airTemperature(Arrays.copyOf(airTemperature, size))
+                    .processTemperature(Arrays.copyOf(processTemperature, size))
+                    .rotationalSpeed(Arrays.copyOf(rotationalSpeed, size))
+                    .rotationalSpeedNulls(Arrays.copyOf(rotationalSpeedNulls, bitmapBytes(size)))
+                    .torque(Arrays.copyOf(torque, size))
+                    .toolWear(Arrays.copyOf(toolWear, size))
+                    .toolWearNulls(Arrays.copyOf(toolWearNulls, bitmapBytes(size)))
+                    .build();
+        }
+
+        private void grow() {
+            int capacity = timeDeltaMicros.length * 2;
+            timeDeltaMicros = Arrays.copyOf(timeDeltaMicros, capacity);
+            idDelta = Arrays.copyOf(idDelta, capacity);
+            airTemperature = Arrays.copyOf(airTemperature, capacity);
+            processTemperature = Arrays.copyOf(processTemperature, capacity);
+            rotationalSpeed = Arrays.copyOf(rotationalSpeed, capacity);
+            rotationalSpeedNulls = Arrays.copyOf(rotationalSpeedNulls, capacity / 8);
+            torque = Arrays.copyOf(torque, capacity);
+            toolWear = Arrays.copyOf(toolWear, capacity);
+            toolWearNulls = Arrays.copyOf(toolWearNulls, capacity / 8);
+        }
+
+        private static int bitmapBytes(int rows) {
+            return (rows + 7) >>> 3;
+        }
+
+        private static int toInt(Integer value, byte[] nulls, int index) {
+            if (value == null) {
+                nulls[index >>> 3] |= (byte) (1 << (index & 7));
+                return 0;
+            }
+            return value;
+        }
+
+        private static double toDouble(Double value) {
+            return value != null ? value : Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package dev.study.portal.dto.sensor;
+
+import dev.study.portal.common.exception.sensordata.InvalidSensorDataCursorException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 센서 데이터 키셋 페이지네이션 커서 (create_at, id)
+ *
+ * <p>클라이언트에는 Base64URL 로 인코딩된 불투명 토큰으로 전달됩니다.
+ * 토큰에 설비 ID를 포함하여 다른 설비의 조회에 재사용되는 것을 막습니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public class SensorDataCursor {
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    private final Long machineId;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = String.join(DELIMITER, VERSION, String.valueOf(machineId), createdAt.toString(), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 복원
+     * @throws InvalidSensorDataCursorException 형식이 잘못되었거나 다른 설비의 커서인 경우
+     */
+    public static SensorDataCursor decode(String token, Long expectedMachineId) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new InvalidSensorDataCursorException();
+            }
+
+            Long machineId = Long.valueOf(parts[1]);
+            if (!machineId.equals(expectedMachineId)) {
+                throw new InvalidSensorDataCursorException();
+            }
+            return new SensorDataCursor(machineId, LocalDateTime.parse(parts[2]), Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidSensorDataCursorException();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dev.study.portal.dto.sensor;
+
+import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Schema(description = "센서 데이터 키셋 페이지 응답 DTO")
+@Getter
+@Builder
+public class SensorDataPageResponseDto {
+
+    @Schema(description = "페이지 데이터 (create_at, id 오름차순)")
+    private List<MachineSensorDataResponseDto> content;
+
+    @Schema(description = "페이지 크기", example = "500")
+    private Integer size;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "djF8MXwyMDI1LTAxLTAxVDAwOjAwOjA1fDEwMjQ")
+    private String nextCursor;
+}
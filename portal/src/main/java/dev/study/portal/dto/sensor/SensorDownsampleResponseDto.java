@@ -0,0 +1,46 @@
+package dev.study.portal.dto.sensor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * LTTB 다운샘플링 결과 (채널별 컬럼 형식)
+ *
+ * <p>채널마다 선택된 점이 다르므로 시각 배열도 채널별로 제공됩니다.
+ * 각 점의 시각은 origin + offsetMillis[i] 입니다.</p>
+ */
+@Schema(description = "센서 데이터 LTTB 다운샘플링 응답 DTO")
+@Getter
+@Builder
+public class SensorDownsampleResponseDto {
+
+    @Schema(description = "설비 ID", example = "1")
+    private Long machineId;
+
+    @Schema(description = "기준 시각 (요청 시작 시간)", example = "2025-01-01T00:00:00")
+    private LocalDateTime origin;
+
+    @Schema(description = "채널별 최대 점 수", example = "2000")
+    private Integer maxPoints;
+
+    @Schema(description = "다운샘플링 전 원본 행 수", example = "86400")
+    private Long sourceCount;
+
+    @Schema(description = "채널 → 다운샘플링된 시계열")
+    private Map<String, Series> series;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Series {
+        @Schema(description = "origin 기준 경과 시간 (ms)", example = "[0, 43000, 86000]")
+        private long[] offsetMillis;
+
+        @Schema(description = "측정값", example = "[298.1, 298.4, 301.2]")
+        private double[] values;
+    }
+}
@@ -0,0 +1,39 @@
+package dev.study.portal.dto.sensor;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 실시간 센서 스트림 프레임
+ *
+ * <p>keyFrame 이면 values 에 모든 채널이 들어 있고, 아니면 직전 프레임과 달라진 채널만 들어 있습니다.
+ * 클라이언트는 마지막 키 프레임에 이후 프레임의 values 를 덮어써서 현재 값을 유지합니다.</p>
+ *
+ * <p>채널 값: LATEST 는 숫자, MIN_MAX 는 [최솟값, 최댓값] 배열</p>
+ */
+@Schema(description = "실시간 센서 스트림 프레임 DTO")
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SensorTelemetryFrameDto {
+
+    @Schema(description = "설비 ID", example = "1")
+    private Long machineId;
+
+    @Schema(description = "키 프레임 여부 (false 면 변경된 채널만 포함)", example = "true")
+    private Boolean keyFrame;
+
+    @Schema(description = "틱의 마지막 수집 시각", example = "2025-11-18T10:30:00")
+    private LocalDateTime at;
+
+    @Schema(description = "틱에 포함된 원본 샘플 수", example = "5")
+    private Integer samples;
+
+    @Schema(description = "채널별 값 (airTemperature, processTemperature, rotationalSpeed, torque, toolWear)")
+    private Map<String, Object> values;
+}
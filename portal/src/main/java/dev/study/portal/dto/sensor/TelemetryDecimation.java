@@ -0,0 +1,11 @@
+package dev.study.portal.dto.sensor;
+
+/**
+ * 실시간 센서 스트림의 틱(전송 주기)별 축약 방식
+ */
+public enum TelemetryDecimation {
+    /** 틱 안의 마지막 값 */
+    LATEST,
+    /** 틱 안의 채널별 [최솟값, 최댓값] (스파이크 보존) */
+    MIN_MAX
+}
@@ -0,0 +1,24 @@
+package dev.study.portal.dto.sse;
+
+/**
+ * 이상 탐지 심각도 (낮음 → 높음 순서)
+ */
+public enum AnomalySeverity {
+    WARNING,
+    ALERT,
+    CRITICAL;
+
+    /**
+     * AI 서버가 보낸 심각도 문자열 변환 (알 수 없는 값은 가장 낮은 WARNING 으로 취급)
+     */
+    public static AnomalySeverity from(String value) {
+        if (value == null) {
+            return WARNING;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return WARNING;
+        }
+    }
+}
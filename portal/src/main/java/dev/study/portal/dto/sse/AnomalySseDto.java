@@ -1,6 +1,7 @@
 package dev.study.portal.dto.sse;
 
 import dev.study.portal.dto.anomalyHistory.AnomalyAlertMessage;
+import dev.study.portal.entity.machine.enums.Type;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -11,20 +12,30 @@ import java.time.LocalDateTime;
 public class AnomalySseDto {
     private Long machineId;
     private String machineName;      // 설비 이름
+    private Type machineType;         // 설비 유형 (LOW, MEDIUM, HIGH)
     private LocalDateTime detectedAt; // 발생 시간
     private String severity;          // 심각도 (WARNING, ALERT, CRITICAL)
-    private Double anomalyProbability;
+    private Double anomalyProbability; // 묶인 알림 중 최대 확률
+    private Integer count;             // 묶인 알림 수 (단건이면 1)
+    private LocalDateTime firstDetectedAt; // 묶인 알림 중 최초 발생 시간
+    private LocalDateTime lastDetectedAt;  // 묶인 알림 중 마지막 발생 시간
 
     public static AnomalySseDto from(
             AnomalyAlertMessage message,
-            String machineName
+            String machineName,
+            Type machineType
     ) {
+        LocalDateTime detectedAt = LocalDateTime.parse(message.getDetectedAt());
         return AnomalySseDto.builder()
                 .machineId(message.getMachineId())
                 .machineName(machineName)
-                .detectedAt(LocalDateTime.parse(message.getDetectedAt()))
+                .machineType(machineType)
+                .detectedAt(detectedAt)
                 .severity(message.getPrediction().getSeverity())
                 .anomalyProbability(message.getPrediction().getAnomalyProbability())
+                .count(1)
+                .firstDetectedAt(detectedAt)
+                .lastDetectedAt(detectedAt)
                 .build();
     }
 }
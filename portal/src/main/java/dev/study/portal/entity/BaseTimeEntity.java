@@ -0,0 +1,47 @@
+package dev.study.portal.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.MappedSuperclass;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.annotation.CreatedBy;
+import org.springframework.data.annotation.LastModifiedBy;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사(Audit) 컬럼만 정의하는 상위 엔티티
+ *
+ * <p>ID 생성 전략을 엔티티별로 다르게 가져가야 하는 경우(예: 센서 데이터의 시퀀스 기반 ID)
+ * BaseEntity 대신 이 클래스를 상속하고 @Id를 직접 선언합니다.</p>
+ */
+@MappedSuperclass
+@EntityListeners(AuditingEntityListener.class)
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Getter
+public class BaseTimeEntity {
+	@Column(name = "create_by", updatable = false)
+	@CreatedBy
+	protected String createBy;
+
+	@CreationTimestamp
+	@Column(name = "create_at", nullable = false, updatable = false)
+	protected LocalDateTime createdAt;
+
+	@Column(name = "update_by")
+	@LastModifiedBy
+	protected String updateBy;
+
+	@UpdateTimestamp
+	@Column(name = "update_at")
+	protected LocalDateTime updateAt;
+}
@@ -0,0 +1,119 @@
+package dev.study.portal.entity.export;
+
+import dev.study.portal.dto.export.SensorExportFormat;
+import dev.study.portal.dto.export.SensorExportJobDto;
+import dev.study.portal.dto.export.SensorExportStatus;
+import dev.study.portal.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 센서 데이터 내보내기 작업 상태
+ *
+ * <p>작업을 실행하는 인스턴스가 상태 변경/구간 완료 시마다 기록하므로 어느 인스턴스에서나 상태를 조회하고 파일을 내려받을 수 있습니다.
+ * (파일은 sensor.export.directory 에 저장되므로 여러 인스턴스가 공유하는 경로여야 함)<br>
+ * 갱신이 retention 이상 멈춘 미완료 작업은 실행하던 인스턴스가 종료된 것으로 보고 정리됩니다.</p>
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@Table(
+        name = "sensor_export_job",
+        indexes = @Index(name = "idx_sensor_export_job_submitted_at", columnList = "submitted_at")
+)
+@Comment("센서 데이터 내보내기 작업 상태 테이블")
+public class SensorExportJobState extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Column(name = "machine_ids", nullable = false)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private List<Long> machineIds;
+
+    @Column(name = "start_at", nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(name = "end_at", nullable = false)
+    private LocalDateTime endAt;
+
+    @Column(name = "format", nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private SensorExportFormat format;
+
+    @Column(name = "file_name", nullable = false)
+    @Comment("sensor.export.directory 기준 파일 이름")
+    private String fileName;
+
+    @Column(name = "status", nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private SensorExportStatus status;
+
+    @Column(name = "total_chunks", nullable = false)
+    private Integer totalChunks;
+
+    @Column(name = "completed_chunks", nullable = false)
+    private Integer completedChunks;
+
+    @Column(name = "row_count", nullable = false)
+    private Long rowCount;
+
+    @Column(name = "bytes_written", nullable = false)
+    private Long bytesWritten;
+
+    @Column(name = "submitted_at", nullable = false)
+    private LocalDateTime submittedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    public static SensorExportJobDto from(SensorExportJobState state) {
+        Double rowsPerSecond = null;
+        Double megabytesPerSecond = null;
+        if (state.getStartedAt() != null) {
+            LocalDateTime until = state.getFinishedAt() != null ? state.getFinishedAt() : LocalDateTime.now();
+            double seconds = Math.max(Duration.between(state.getStartedAt(), until).toMillis(), 1) / 1000.0;
+            rowsPerSecond = state.getRowCount() / seconds;
+            megabytesPerSecond = state.getBytesWritten() / seconds / (1024 * 1024);
+        }
+
+        return SensorExportJobDto.builder()
+                .jobId(state.getJobId())
+                .status(state.getStatus())
+                .machineIds(state.getMachineIds())
+                .startDateTime(state.getStartAt())
+                .endDateTime(state.getEndAt())
+                .format(state.getFormat())
+                .submittedAt(state.getSubmittedAt())
+                .startedAt(state.getStartedAt())
+                .finishedAt(state.getFinishedAt())
+                .completedChunks(state.getCompletedChunks())
+                .totalChunks(state.getTotalChunks())
+                .progressPercent(state.getTotalChunks() == 0 ? 100.0 : state.getCompletedChunks() * 100.0 / state.getTotalChunks())
+                .rowCount(state.getRowCount())
+                .bytesWritten(state.getBytesWritten())
+                .rowsPerSecond(rowsPerSecond)
+                .megabytesPerSecond(megabytesPerSecond)
+                .errorMessage(state.getErrorMessage())
+                .build();
+    }
+}
@@ -1,11 +1,15 @@
 package dev.study.portal.entity.machine;
 
-import dev.study.portal.entity.BaseEntity;
+import dev.study.portal.entity.BaseTimeEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
-import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
@@ -14,11 +18,36 @@ import org.hibernate.annotations.Comment;
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "machine_sensor_data")
+@Table(
+        name = "machine_sensor_data",
+        indexes = @Index(
+                // 키셋 페이지네이션 (machine_id = ? AND (create_at, id) > (?, ?) ORDER BY create_at, id) 용 복합 인덱스
+                name = "idx_machine_sensor_data_machine_created_id",
+                columnList = "machine_id, create_at, id"
+        )
+)
 @Comment("설비의 실시간 센서 데이터를 수집하여 영속화 하는 테이블")
 @SuperBuilder
 @Getter
-public class MachineSensorData extends BaseEntity {
+public class MachineSensorData extends BaseTimeEntity {
+
+    /**
+     * 시퀀스 할당 크기 (Hibernate pooled optimizer)
+     *
+     * <p>IDENTITY 전략은 INSERT 마다 생성된 키를 받아와야 해서 JDBC 배치가 비활성화됩니다.
+     * 시퀀스를 50 단위로 미리 할당받아 hibernate.jdbc.batch_size 와 KafkaConsumerService 의 배치 크기(50)에 맞춥니다.</p>
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final String ID_SEQUENCE_NAME = "machine_sensor_data_seq";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "machine_sensor_data_id_generator")
+    @SequenceGenerator(
+            name = "machine_sensor_data_id_generator",
+            sequenceName = ID_SEQUENCE_NAME,
+            allocationSize = ID_ALLOCATION_SIZE
+    )
+    private Long id;
 
     @Column(name = "machine_id")
     private Long machineId;
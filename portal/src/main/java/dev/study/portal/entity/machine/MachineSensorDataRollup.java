@@ -0,0 +1,114 @@
+package dev.study.portal.entity.machine;
+
+import dev.study.portal.entity.BaseEntity;
+import dev.study.portal.entity.machine.enums.RollupGranularity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 정책에 의해 다운샘플링된 센서 데이터
+ *
+ * <p>원본(raw) 데이터가 보존 기간을 넘기면 1분 단위로, 1분 롤업이 보존 기간을 넘기면 1시간 단위로 합쳐집니다.
+ * 평균은 병합이 가능하도록 채널별 합계(sum)와 값이 있는(NULL 이 아닌) 샘플 수(count)로 저장합니다.
+ * (sample_count 는 채널과 무관한 원본 행 수이므로 NULL 이 섞인 채널의 평균에는 쓰지 않음)</p>
+ *
+ * <p>count 컬럼이 추가되기 전에 만들어진 행은 count 가 NULL 이며, 조회/병합 시 sum 이 있으면 sample_count 로 간주합니다.</p>
+ *
+ * <p>행은 SensorRetentionRepository 의 네이티브 SQL 로만 생성/병합되며, 이 엔티티는 스키마 정의용입니다.</p>
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@SuperBuilder
+@Getter
+@Table(
+        name = "machine_sensor_data_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_machine_sensor_data_rollup_bucket",
+                columnNames = {"machine_id", "granularity", "bucket_start"}
+        )
+)
+@Comment("보존 정책에 따라 다운샘플링된 센서 데이터 롤업 테이블")
+public class MachineSensorDataRollup extends BaseEntity {
+
+    @Column(name = "machine_id", nullable = false)
+    private Long machineId;
+
+    @Column(name = "granularity", nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    @Comment("버킷 시작 시각 (date_trunc 결과)")
+    private LocalDateTime bucketStart;
+
+    @Column(name = "sample_count", nullable = false)
+    @Comment("버킷에 포함된 원본 데이터 건수")
+    private Long sampleCount;
+
+    @Column(name = "air_temperature_min")
+    private Double airTemperatureMin;
+
+    @Column(name = "air_temperature_max")
+    private Double airTemperatureMax;
+
+    @Column(name = "air_temperature_sum")
+    private Double airTemperatureSum;
+
+    @Column(name = "air_temperature_count")
+    private Long airTemperatureCount;
+
+    @Column(name = "process_temperature_min")
+    private Double processTemperatureMin;
+
+    @Column(name = "process_temperature_max")
+    private Double processTemperatureMax;
+
+    @Column(name = "process_temperature_sum")
+    private Double processTemperatureSum;
+
+    @Column(name = "process_temperature_count")
+    private Long processTemperatureCount;
+
+    @Column(name = "rotational_speed_min")
+    private Double rotationalSpeedMin;
+
+    @Column(name = "rotational_speed_max")
+    private Double rotationalSpeedMax;
+
+    @Column(name = "rotational_speed_sum")
+    private Double rotationalSpeedSum;
+
+    @Column(name = "rotational_speed_count")
+    private Long rotationalSpeedCount;
+
+    @Column(name = "torque_min")
+    private Double torqueMin;
+
+    @Column(name = "torque_max")
+    private Double torqueMax;
+
+    @Column(name = "torque_sum")
+    private Double torqueSum;
+
+    @Column(name = "torque_count")
+    private Long torqueCount;
+
+    @Column(name = "tool_wear_min")
+    private Double toolWearMin;
+
+    @Column(name = "tool_wear_max")
+    private Double toolWearMax;
+
+    @Column(name = "tool_wear_sum")
+    private Double toolWearSum;
+
+    @Column(name = "tool_wear_count")
+    private Long toolWearCount;
+}
@@ -0,0 +1,38 @@
+package dev.study.portal.entity.machine;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 센서 데이터 보존 정책 실행 상태 (단일 행, id = 1)
+ *
+ * <p>보존 정책이 데이터를 마지막으로 변경(롤업/삭제)한 시각을 저장해 재시작이나 다른 인스턴스에서도
+ * 같은 HTTP 캐시 검증자(SensorRangeHttpCache)를 만들 수 있게 합니다.</p>
+ *
+ * <p>행은 SensorRetentionRepository 의 네이티브 SQL 로만 생성/갱신되며, 이 엔티티는 스키마 정의용입니다.</p>
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Table(name = "machine_sensor_data_retention_state")
+@Comment("센서 데이터 보존 정책 실행 상태 테이블")
+public class SensorRetentionState {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "data_changed_at", nullable = false)
+    @Comment("보존 정책이 데이터를 마지막으로 변경한 시각")
+    private LocalDateTime dataChangedAt;
+}
@@ -0,0 +1,17 @@
+package dev.study.portal.entity.machine.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 센서 데이터 롤업 단위 (PostgreSQL date_trunc 필드명)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupGranularity {
+    MINUTE("minute", 60),
+    HOUR("hour", 3600);
+
+    private final String truncField;
+    private final long seconds;
+}
@@ -0,0 +1,31 @@
+package dev.study.portal.entity.machine.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * machine_sensor_data 의 측정 채널 목록
+ *
+ * <p>fieldName 은 API/DTO 에서 사용하는 이름, column 은 실제 DB 컬럼명입니다.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SensorChannel {
+    AIR_TEMPERATURE("airTemperature", "air_temperature"),
+    PROCESS_TEMPERATURE("processTemperature", "process_temperature"),
+    ROTATIONAL_SPEED("rotationalSpeed", "rotational_speed"),
+    TORQUE("torque", "torque"),
+    TOOL_WEAR("toolWear", "tool_wear");
+
+    private final String fieldName;
+    private final String column;
+
+    public static Optional<SensorChannel> fromFieldName(String fieldName) {
+        return Arrays.stream(values())
+                .filter(c -> c.fieldName.equalsIgnoreCase(fieldName))
+                .findFirst();
+    }
+}
@@ -3,61 +3,57 @@ package dev.study.portal.event.handler;
 import dev.study.portal.event.machine.MachineCreatedEvent;
 import dev.study.portal.event.machine.MachineDeletedEvent;
 import dev.study.portal.event.machine.MachineModifyEvent;
+import dev.study.portal.service.machine.ReactiveMachineRegistryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 설비 생성/수정/삭제 시 Redis 이름 레지스트리 갱신
+ *
+ * <p>machine:name:{name} → id, 역방향 machine:id:{id} → name (수정 시 이전 이름 삭제용)<br>
+ * 해시 레이아웃 사용 시 같은 내용을 machine:registry:names/ids:{bucket} 해시 필드로 기록 (machine.registry.layout)<br>
+ * 각 변경은 Lua 스크립트 1회로 원자적으로 실행되어 동시에 실행되는 명령끼리 섞이지 않습니다.</p>
+ *
+ * <p>핸들러는 명령을 리액티브 레지스트리 큐에 넣고 바로 반환하므로 @Async 풀 스레드가 Redis 응답을 기다리지 않습니다.
+ * 같은 설비의 명령은 등록 순서대로 실행됩니다.</p>
+ *
+ * <p>엔티티 리스너(@PostPersist/@PostUpdate/@PostRemove)는 커밋 전에 이벤트를 발행하므로 커밋 후에 반영합니다.
+ * (롤백된 변경이 레지스트리에 남지 않도록)</p>
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class MachineEventHandler {
-    private final RedisTemplate<String, String> redisTemplate;
-    private final String MACHINE_NAME_PREFIX = "machine:name:";
-    private final String MACHINE_ID_PREFIX = "machine:id:";
+    private final ReactiveMachineRegistryService machineRegistryService;
 
-    @Async
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleCreated(MachineCreatedEvent event) {
         log.info("[Event Handler] Machine 생성 이벤트 수신 - ID: {}", event.getMachineId());
-        redisTemplate.opsForValue().set(MACHINE_NAME_PREFIX + event.getMachineName(), String.valueOf(event.getMachineId()));
-
-        //수정했을 시 ID를 기준으로 원래 이름을 가져와 삭제해야하니 역방향 매핑 추가 machine:id:{id} -> previousName
-        redisTemplate.opsForValue().set(MACHINE_ID_PREFIX + event.getMachineId(), event.getMachineName());
+        machineRegistryService.submit(event.getMachineId(),
+                machineRegistryService.upsert(event.getMachineId(), event.getMachineName()));
     }
 
-    @Async
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleModified(MachineModifyEvent event) {
         log.info("[Event Handler] Machine 수정 이벤트 수신 - ID: {}, 이름: {}", event.getMachineId(), event.getMachineName());
-        //이전 이름을 가져와서 삭제
-        String previousNameKey = MACHINE_ID_PREFIX + event.getMachineId();
-        String previousName = redisTemplate.opsForValue().get(previousNameKey);
-
-        if (previousName != null && previousName.equals(event.getMachineName())) {
-            log.debug("[Redis] Machine 이름 변경 없음 - ID: {}, Name: {}",
-                    event.getMachineId(), event.getMachineName());
-            return; // 이름이 같으면 아무것도 안 함
-        }
-        if (previousName != null) {
-            redisTemplate.opsForValue().getAndDelete(MACHINE_NAME_PREFIX + previousName);
-        }
-        //새로운 이름으로 추가
-        redisTemplate.opsForValue().set(MACHINE_NAME_PREFIX + event.getMachineName(), String.valueOf(event.getMachineId()));
-        //역방향도 새로운 이름으로 값 변경
-        redisTemplate.opsForValue().set(MACHINE_ID_PREFIX + event.getMachineId(), event.getMachineName());
+        machineRegistryService.submit(event.getMachineId(),
+                machineRegistryService.upsert(event.getMachineId(), event.getMachineName())
+                .doOnNext(changed -> {
+                    if (!changed) {
+                        log.debug("[Redis] Machine 이름 변경 없음 - ID: {}, Name: {}",
+                                event.getMachineId(), event.getMachineName());
+                    }
+                }));
     }
 
-    @Async
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleDeleted(MachineDeletedEvent event) {
         log.info("[Event Handler] Machine 삭제 이벤트 수신 - 이름: {}", event.getMachineName());
-        String machineId = redisTemplate.opsForValue().get(MACHINE_NAME_PREFIX + event.getMachineName());
-        redisTemplate.delete(MACHINE_NAME_PREFIX + event.getMachineName());
-        //역방향 인덱스도 함께 삭제
-        redisTemplate.delete(MACHINE_ID_PREFIX + machineId);
+        machineRegistryService.submit(event.getMachineId(),
+                machineRegistryService.delete(event.getMachineId(), event.getMachineName()));
     }
 
 }
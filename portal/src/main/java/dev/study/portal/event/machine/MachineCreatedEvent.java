@@ -1,15 +1,18 @@
 package dev.study.portal.event.machine;
 
+import dev.study.portal.entity.machine.enums.Type;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 @Getter
 public class MachineCreatedEvent extends ApplicationEvent {
     private final Long machineId;
     private final String machineName;
+    private final Type machineType;
 
-    public MachineCreatedEvent(Object source, Long machineId, String machineName) {
+    public MachineCreatedEvent(Object source, Long machineId, String machineName, Type machineType) {
         super(source);
         this.machineId = machineId;
         this.machineName = machineName;
+        this.machineType = machineType;
     }
 }
@@ -4,10 +4,12 @@ import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 @Getter
 public class MachineDeletedEvent extends ApplicationEvent {
+    private final Long machineId;
     private final String machineName;
 
-    public MachineDeletedEvent(Object source, String machineName) {
+    public MachineDeletedEvent(Object source, Long machineId, String machineName) {
         super(source);
+        this.machineId = machineId;
         this.machineName = machineName;
     }
 }
@@ -0,0 +1,76 @@
+package dev.study.portal.listener.anomoly;
+
+import dev.study.portal.dto.anomalyHistory.AnomalyAlertMessage;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import dev.study.portal.service.machine.MachineMetadata;
+import dev.study.portal.service.machine.MachineMetadataCache;
+import dev.study.portal.service.sse.AnomalyAlertCoalescer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 이상 알림 배치 리스너 (kafka.anomaly-alerts.batch-enabled=true 일 때)
+ *
+ * <p>poll 한 번에 받은 알림 전체를 처리합니다.</p>
+ * <ul>
+ *   <li>1. 서로 다른 설비 ID 를 모아 캐시에서 조회 (캐시에 없는 설비만 쿼리 1회)</li>
+ *   <li>2. AnomalySseDto 를 한꺼번에 생성</li>
+ *   <li>3. 묶음(coalescing) 판정 후 전달할 알림을 브로드캐스터에 한 번에 전달</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka.anomaly-alerts", name = "batch-enabled", havingValue = "true")
+public class AnomalyAlertBatchListener {
+
+    private final AnomalyAlertCoalescer anomalyAlertCoalescer;
+    private final MachineMetadataCache machineMetadataCache;
+
+    @KafkaListener(
+            topics = "${kafka.topic.anomaly-alerts}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "anomalyAlertBatchContainerFactory"
+    )
+    public void handleAnomalyAlerts(@Payload List<AnomalyAlertMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Long, MachineMetadata> machines = machineMetadataCache.findAll(messages.stream()
+                .map(AnomalyAlertMessage::getMachineId)
+                .filter(Objects::nonNull)
+                .toList());
+
+        List<AnomalySseDto> alerts = new ArrayList<>(messages.size());
+        int unknown = 0;
+        for (AnomalyAlertMessage message : messages) {
+            MachineMetadata machine = machines.get(message.getMachineId());
+            if (machine == null) {
+                unknown++;
+            }
+            try {
+                alerts.add(AnomalySseDto.from(message,
+                        machine == null ? null : machine.name(),
+                        machine == null ? null : machine.type()));
+            } catch (RuntimeException e) {
+                log.error("[Kafka] 잘못된 알림 메시지 건너뜀 - machineId={}: {}", message.getMachineId(), e.getMessage());
+            }
+        }
+        if (unknown > 0) {
+            log.warn("[SSE] 존재하지 않는 설비의 알림 {}건 - 설비 정보 없이 전달", unknown);
+        }
+
+        anomalyAlertCoalescer.acceptAll(alerts);
+        log.info("[SSE] Anomaly alert batch broadcasted - Count: {}, Machines: {}", alerts.size(), machines.size());
+    }
+}
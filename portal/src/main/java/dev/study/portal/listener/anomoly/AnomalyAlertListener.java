@@ -1,41 +1,53 @@
 package dev.study.portal.listener.anomoly;
 
-import dev.study.portal.common.exception.machine.MachineNotFoundException;
 import dev.study.portal.dto.anomalyHistory.AnomalyAlertMessage;
 import dev.study.portal.dto.sse.AnomalySseDto;
-import dev.study.portal.entity.machine.Machine;
-import dev.study.portal.repository.machine.MachineRepository;
-import dev.study.portal.service.sse.SseEmitterService;
+import dev.study.portal.service.machine.MachineMetadata;
+import dev.study.portal.service.machine.MachineMetadataCache;
+import dev.study.portal.service.sse.AnomalyAlertCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
+/**
+ * 이상 알림 단건 리스너 (kafka.anomaly-alerts.batch-enabled=false 일 때)
+ *
+ * @see AnomalyAlertBatchListener
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka.anomaly-alerts", name = "batch-enabled", havingValue = "false", matchIfMissing = true)
 public class AnomalyAlertListener {
 
-    private final SseEmitterService sseEmitterService;
-    private final MachineRepository machineRepository;
+    private final AnomalyAlertCoalescer anomalyAlertCoalescer;
+    private final MachineMetadataCache machineMetadataCache;
 
     @KafkaListener(
             topics = "${kafka.topic.anomaly-alerts}",
             groupId = "${spring.kafka.consumer.group-id}"
     )
-    private void handleAnomalyAlert(@Payload AnomalyAlertMessage message) {
+    void handleAnomalyAlert(@Payload AnomalyAlertMessage message) {
         log.info("[Kafka] Anomaly alert received - machineId={}", message.getMachineId());
 
-        // Machine 조회 (SSE 메시지에 machineName 포함을 위해)
-        Machine machine = machineRepository.findById(message.getMachineId())
-                .orElseThrow(MachineNotFoundException::new);
+        // 설비 이름/유형 조회 (DB 대신 인프로세스 캐시, 없는 설비는 부정 캐시)
+        Optional<MachineMetadata> machine = machineMetadataCache.find(message.getMachineId());
+        if (machine.isEmpty()) {
+            log.warn("[SSE] 존재하지 않는 설비의 알림 - 설비 정보 없이 전달 (machineId={})", message.getMachineId());
+        }
+        String machineName = machine.map(MachineMetadata::name).orElse(null);
 
         // SSE 브로드캐스트만 수행 (AnomalyHistory 저장은 AI Server에서 처리)
-        AnomalySseDto sseMessage = AnomalySseDto.from(message, machine.getName());
-        sseEmitterService.broadcast(sseMessage);
+        // 설비별로 묶은 뒤 로컬 구독자에게 전달하고 Redis 채널로 다른 인스턴스에 중계
+        AnomalySseDto sseMessage = AnomalySseDto.from(message, machineName, machine.map(MachineMetadata::type).orElse(null));
+        anomalyAlertCoalescer.accept(sseMessage);
 
         log.info("[SSE] Anomaly alert broadcasted - machineId={}, machineName={}",
-                message.getMachineId(), machine.getName());
+                message.getMachineId(), machineName);
     }
 }
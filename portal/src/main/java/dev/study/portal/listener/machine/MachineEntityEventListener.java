@@ -30,7 +30,8 @@ public class MachineEntityEventListener {
             applicationEventPublisher.publishEvent(new MachineCreatedEvent(
                     this,
                     machine.getId(),
-                    machine.getName()
+                    machine.getName(),
+                    machine.getType()
             ));
         }
     }
@@ -43,7 +44,8 @@ public class MachineEntityEventListener {
             applicationEventPublisher.publishEvent(new MachineModifyEvent(
                     this,
                     machine.getId(),
-                    machine.getName()
+                    machine.getName(),
+                    machine.getType()
             ));
         }
     }
@@ -58,6 +60,7 @@ public class MachineEntityEventListener {
         if(applicationEventPublisher != null) {
             applicationEventPublisher.publishEvent(new MachineDeletedEvent(
                     this,
+                    machine.getId(),
                     machine.getName()
             ));
         }
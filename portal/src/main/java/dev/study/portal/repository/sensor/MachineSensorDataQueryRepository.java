@@ -0,0 +1,124 @@
+package dev.study.portal.repository.sensor;
+
+import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 센서 데이터 조회 전용 JDBC 리포지토리 (프로젝션 조회)
+ *
+ * <p>JPA 엔티티를 만들지 않고 필요한 컬럼만 읽어 ResultSet 을 응답 DTO 로 바로 변환합니다.
+ * 감사 필드(create_by, update_*) 로딩, 영속성 컨텍스트 등록/스냅샷, 엔티티→DTO 복사가 모두 생략됩니다.</p>
+ *
+ * <p>스트리밍 메서드는 fetch size 단위로 나눠 읽으므로 호출하는 쪽에서 읽기 전용 트랜잭션을 열어야 합니다.
+ * (PostgreSQL 드라이버는 autocommit=false 인 경우에만 커서를 사용)</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MachineSensorDataQueryRepository {
+
+    public static final int FETCH_SIZE = 500;
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, machine_id, air_temperature, process_temperature, rotational_speed, torque, tool_wear, create_at " +
+            "FROM machine_sensor_data ";
+
+    private static final String SELECT_BY_MACHINE_ID_SQL = SELECT_COLUMNS +
+            "WHERE machine_id = ? AND create_at BETWEEN ? AND ? " +
+            "ORDER BY create_at, id";
+
+    /**
+     * 키셋(seek) 페이지 조회 - (create_at, id) 가 커서보다 큰 행을 limit 건 조회
+     *
+     * <p>행 값 비교((a, b) > (x, y))는 idx_machine_sensor_data_machine_created_id 인덱스의
+     * 범위 스캔 시작점으로 그대로 사용되므로 페이지 깊이와 무관하게 비용이 일정합니다.</p>
+     */
+    private static final String SELECT_PAGE_AFTER_SQL = SELECT_COLUMNS +
+            "WHERE machine_id = ? AND create_at BETWEEN ? AND ? " +
+            "AND (create_at, id) > (?, ?) " +
+            "ORDER BY create_at, id " +
+            "LIMIT ?";
+
+    /**
+     * 여러 설비를 한 번의 스캔(machine_id = ANY(?))으로 조회 - 설비별로 묶이도록 (machine_id, create_at, id) 순 정렬
+     */
+    private static final String SELECT_BY_MACHINE_IDS_SQL = SELECT_COLUMNS +
+            "WHERE machine_id = ANY(?) AND create_at BETWEEN ? AND ? " +
+            "ORDER BY machine_id, create_at, id";
+
+    public static final RowMapper<MachineSensorDataResponseDto> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("create_at");
+        return MachineSensorDataResponseDto.builder()
+                .id(rs.getLong("id"))
+                .machineId(rs.getLong("machine_id"))
+                .airTemperature(rs.getObject("air_temperature", Double.class))
+                .processTemperature(rs.getObject("process_temperature", Double.class))
+                .rotationalSpeed(rs.getObject("rotational_speed", Integer.class))
+                .torque(rs.getObject("torque", Double.class))
+                .toolWear(rs.getObject("tool_wear", Integer.class))
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 특정 설비의 기간 내 센서 데이터 조회 (시각 순)
+     */
+    public List<MachineSensorDataResponseDto> findByMachineIdAndCreatedAtBetween(Long machineId,
+                                                                                LocalDateTime startAt,
+                                                                                LocalDateTime endAt) {
+        return jdbcTemplate.query(SELECT_BY_MACHINE_ID_SQL, ROW_MAPPER,
+                machineId, Timestamp.valueOf(startAt), Timestamp.valueOf(endAt));
+    }
+
+    /**
+     * 특정 설비의 기간 내 센서 데이터를 서버 측 커서로 한 행씩 전달 (시각 순)
+     */
+    public void streamByMachineId(Long machineId, LocalDateTime startAt, LocalDateTime endAt,
+                                  Consumer<MachineSensorDataResponseDto> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_BY_MACHINE_ID_SQL);
+            ps.setLong(1, machineId);
+            ps.setTimestamp(2, Timestamp.valueOf(startAt));
+            ps.setTimestamp(3, Timestamp.valueOf(endAt));
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(ROW_MAPPER.mapRow(rs, 0)));
+    }
+
+    /**
+     * (afterCreatedAt, afterId) 이후의 행을 limit 건 조회
+     */
+    public List<MachineSensorDataResponseDto> findPageAfter(Long machineId, LocalDateTime startAt, LocalDateTime endAt,
+                                                            LocalDateTime afterCreatedAt, long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_PAGE_AFTER_SQL, ROW_MAPPER,
+                machineId, Timestamp.valueOf(startAt), Timestamp.valueOf(endAt),
+                Timestamp.valueOf(afterCreatedAt), afterId, limit);
+    }
+
+    /**
+     * 여러 설비의 기간 내 센서 데이터를 설비 ID 순으로 한 행씩 전달
+     */
+    public void streamByMachineIds(Collection<Long> machineIds, LocalDateTime startAt, LocalDateTime endAt,
+                                   Consumer<MachineSensorDataResponseDto> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_BY_MACHINE_IDS_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", machineIds.toArray()));
+            ps.setTimestamp(2, Timestamp.valueOf(startAt));
+            ps.setTimestamp(3, Timestamp.valueOf(endAt));
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(ROW_MAPPER.mapRow(rs, 0)));
+    }
+}
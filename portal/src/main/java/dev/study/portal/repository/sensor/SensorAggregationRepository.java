@@ -0,0 +1,153 @@
+package dev.study.portal.repository.sensor;
+
+import dev.study.portal.dto.sensor.AggregateFunction;
+import dev.study.portal.dto.sensor.SensorAggregateResponseDto;
+import dev.study.portal.entity.machine.enums.SensorChannel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 센서 데이터 시간 버킷 집계 (PostgreSQL 에서 계산)
+ *
+ * <p>원본(machine_sensor_data)과 보존 정책으로 만들어진 롤업(machine_sensor_data_rollup)을
+ * UNION ALL 로 합친 뒤 버킷별로 집계합니다. 보존 정책은 원본을 롤업으로 "이동"시키므로 두 집합은 겹치지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>min/max: 원본 값과 롤업의 min/max 를 함께 비교</li>
+ *   <li>avg: 합계 / 채널 값이 있는 샘플 수 (롤업은 채널별 sum, count 로 가중 평균. NULL 값은 분모에서 제외)</li>
+ *   <li>p95: 원본 값만 사용 (롤업 행은 NULL 이므로 percentile_cont 에서 제외됨)</li>
+ *   <li>롤업 행은 bucket_start 가 속한 버킷에 포함되므로, 버킷이 롤업 단위보다 작으면 근사값이 됩니다.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SensorAggregationRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SensorAggregateResponseDto aggregate(Long machineId, LocalDateTime startAt, LocalDateTime endAt,
+                                                long bucketSeconds, Set<SensorChannel> channels,
+                                                Set<AggregateFunction> functions) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("machineId", machineId)
+                .addValue("startAt", Timestamp.valueOf(startAt))
+                .addValue("endAt", Timestamp.valueOf(endAt))
+                .addValue("bucketSeconds", bucketSeconds);
+
+        String sql = buildSql(channels, functions);
+
+        return jdbcTemplate.query(sql, params, rs -> {
+            List<Long> bucketIndex = new ArrayList<>();
+            List<Long> count = functions.contains(AggregateFunction.COUNT) ? new ArrayList<>() : null;
+            Map<String, Map<String, List<Double>>> series = new LinkedHashMap<>();
+            for (SensorChannel channel : channels) {
+                Map<String, List<Double>> byFunction = new LinkedHashMap<>();
+                for (AggregateFunction function : functions) {
+                    if (function != AggregateFunction.COUNT) {
+                        byFunction.put(function.getAlias(), new ArrayList<>());
+                    }
+                }
+                series.put(channel.getFieldName(), byFunction);
+            }
+
+            while (rs.next()) {
+                bucketIndex.add(rs.getLong("bucket_index"));
+                if (count != null) {
+                    count.add(rs.getLong("sample_count"));
+                }
+                for (SensorChannel channel : channels) {
+                    Map<String, List<Double>> byFunction = series.get(channel.getFieldName());
+                    for (Map.Entry<String, List<Double>> entry : byFunction.entrySet()) {
+                        entry.getValue().add(getDouble(rs, channel.getColumn() + "__" + entry.getKey()));
+                    }
+                }
+            }
+
+            return SensorAggregateResponseDto.builder()
+                    .machineId(machineId)
+                    .origin(startAt)
+                    .bucketSeconds(bucketSeconds)
+                    .bucketIndex(bucketIndex)
+                    .count(count)
+                    .series(series)
+                    .build();
+        });
+    }
+
+    private String buildSql(Set<SensorChannel> channels, Set<AggregateFunction> functions) {
+        String rawColumns = channels.stream()
+                .map(c -> {
+                    String col = c.getColumn() + "::double precision";
+                    return col + " AS " + c.getColumn() + "_min, "
+                            + col + " AS " + c.getColumn() + "_max, "
+                            + col + " AS " + c.getColumn() + "_sum, "
+                            + "CASE WHEN " + c.getColumn() + " IS NULL THEN 0 ELSE 1 END::bigint AS " + c.getColumn() + "_n, "
+                            + col + " AS " + c.getColumn() + "_raw";
+                })
+                .collect(Collectors.joining(", "));
+
+        String rollupColumns = channels.stream()
+                .map(c -> c.getColumn() + "_min, "
+                        + c.getColumn() + "_max, "
+                        + c.getColumn() + "_sum, "
+                        + SensorRetentionRepository.nonNullCount("", c) + " AS " + c.getColumn() + "_n, "
+                        + "NULL::double precision AS " + c.getColumn() + "_raw")
+                .collect(Collectors.joining(", "));
+
+        List<String> aggregates = new ArrayList<>();
+        for (SensorChannel channel : channels) {
+            String col = channel.getColumn();
+            for (AggregateFunction function : functions) {
+                String alias = col + "__" + function.getAlias();
+                switch (function) {
+                    case MIN -> aggregates.add("min(" + col + "_min) AS " + alias);
+                    case MAX -> aggregates.add("max(" + col + "_max) AS " + alias);
+                    case AVG -> aggregates.add("sum(" + col + "_sum) / NULLIF(sum(" + col + "_n), 0) AS " + alias);
+                    case P95 -> aggregates.add("percentile_cont(0.95) WITHIN GROUP (ORDER BY " + col + "_raw) AS " + alias);
+                    case COUNT -> {
+                        // 채널과 무관한 버킷 샘플 수 (sample_count)
+                    }
+                }
+            }
+        }
+
+        String selectAggregates = aggregates.isEmpty() ? "" : ", " + String.join(", ", aggregates);
+        String sourceColumns = rawColumns.isEmpty() ? "" : ", " + rawColumns;
+        String sourceRollupColumns = rollupColumns.isEmpty() ? "" : ", " + rollupColumns;
+
+        return """
+                WITH src AS (
+                    SELECT create_at AS ts, 1::bigint AS n%1$s
+                    FROM machine_sensor_data
+                    WHERE machine_id = :machineId AND create_at BETWEEN :startAt AND :endAt
+                    UNION ALL
+                    SELECT bucket_start AS ts, sample_count AS n%2$s
+                    FROM machine_sensor_data_rollup
+                    WHERE machine_id = :machineId AND bucket_start BETWEEN :startAt AND :endAt
+                )
+                SELECT floor(extract(epoch FROM (ts - CAST(:startAt AS timestamp))) / :bucketSeconds)::bigint AS bucket_index,
+                       sum(n) AS sample_count%3$s
+                FROM src
+                GROUP BY bucket_index
+                ORDER BY bucket_index
+                """.formatted(sourceColumns, sourceRollupColumns, selectAggregates);
+    }
+
+    private Double getDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,17 @@
+package dev.study.portal.repository.sensor;
+
+import dev.study.portal.dto.export.SensorExportStatus;
+import dev.study.portal.entity.export.SensorExportJobState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SensorExportJobRepository extends JpaRepository<SensorExportJobState, String> {
+    List<SensorExportJobState> findAllByOrderBySubmittedAtDesc();
+
+    List<SensorExportJobState> findByStatusInAndFinishedAtBefore(Collection<SensorExportStatus> statuses, LocalDateTime cutoff);
+
+    List<SensorExportJobState> findByStatusInAndUpdateAtBefore(Collection<SensorExportStatus> statuses, LocalDateTime cutoff);
+}
@@ -0,0 +1,59 @@
+package dev.study.portal.repository.sensor;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL COPY ... TO STDOUT 기반 센서 데이터 내보내기
+ *
+ * <p>드라이버가 서버에서 받은 CSV 바이트를 그대로 OutputStream 에 흘려보내므로
+ * JDBC ResultSet/객체 변환 없이, 메모리에 데이터셋을 모으지 않고 파일로 기록됩니다.</p>
+ *
+ * <p>COPY 문은 바인드 파라미터를 지원하지 않으므로 값은 SQL 에 직접 넣습니다.
+ * 설비 ID 는 Long, 시각은 LocalDateTime 의 ISO 문자열만 사용하므로 외부 문자열이 SQL 로 들어가지 않습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SensorExportRepository {
+
+    public static final String CSV_HEADER =
+            "id,machine_id,air_temperature,process_temperature,rotational_speed,torque,tool_wear,create_at\n";
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final DataSource dataSource;
+
+    /**
+     * 설비 목록의 [from, to) 구간 (lastChunk 면 [from, to]) 원본 데이터를 CSV 로 기록
+     *
+     * @return 기록한 행 수
+     */
+    public long copyCsv(List<Long> machineIds, LocalDateTime from, LocalDateTime to, boolean lastChunk,
+                        OutputStream out) throws SQLException, IOException {
+        String ids = machineIds.stream().map(String::valueOf).collect(Collectors.joining(",", "{", "}"));
+        String sql = "COPY (" +
+                "SELECT id, machine_id, air_temperature, process_temperature, rotational_speed, torque, tool_wear, create_at " +
+                "FROM machine_sensor_data " +
+                "WHERE machine_id = ANY('" + ids + "'::bigint[]) " +
+                "AND create_at >= '" + TIMESTAMP.format(from) + "'::timestamp " +
+                "AND create_at " + (lastChunk ? "<=" : "<") + " '" + TIMESTAMP.format(to) + "'::timestamp " +
+                "ORDER BY machine_id, create_at, id" +
+                ") TO STDOUT WITH (FORMAT csv)";
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, out);
+        }
+    }
+}
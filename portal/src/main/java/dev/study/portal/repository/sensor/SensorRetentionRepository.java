@@ -0,0 +1,315 @@
+package dev.study.portal.repository.sensor;
+
+import dev.study.portal.entity.machine.SensorRetentionState;
+import dev.study.portal.entity.machine.enums.RollupGranularity;
+import dev.study.portal.entity.machine.enums.SensorChannel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 센서 데이터 보존 정책 실행용 네이티브 SQL
+ *
+ * <p>모든 작업은 "최대 N행" 단위의 단일 문장으로 실행됩니다.
+ * 롤업은 DELETE ... RETURNING 결과를 같은 문장 안에서 INSERT ... ON CONFLICT 로 병합하므로
+ * 중간에 실패해도 원본이 지워지고 롤업이 누락되거나, 같은 원본이 두 번 합산되는 일이 없습니다.</p>
+ *
+ * <p>각 문장은 트랜잭션 없이(autocommit) 실행되어 잠금은 해당 청크에만 짧게 걸립니다.</p>
+ *
+ * <p>여러 포털 인스턴스가 동시에 실행하지 않도록 PostgreSQL 세션 advisory lock 으로 실행 전체를 감쌉니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SensorRetentionRepository {
+
+    private static final String RAW_TABLE = "machine_sensor_data";
+    private static final String ROLLUP_TABLE = "machine_sensor_data_rollup";
+    private static final String STATE_TABLE = "machine_sensor_data_retention_state";
+
+    private static final String ROLLUP_COLUMNS = Arrays.stream(SensorChannel.values())
+            .map(c -> c.getColumn() + "_min, " + c.getColumn() + "_max, " + c.getColumn() + "_sum, " + c.getColumn() + "_count")
+            .collect(Collectors.joining(", "));
+
+    private static final String ON_CONFLICT_MERGE = Arrays.stream(SensorChannel.values())
+            .map(c -> {
+                String col = c.getColumn();
+                return col + "_min = LEAST(r." + col + "_min, EXCLUDED." + col + "_min), "
+                        + col + "_max = GREATEST(r." + col + "_max, EXCLUDED." + col + "_max), "
+                        + col + "_sum = COALESCE(r." + col + "_sum, 0) + COALESCE(EXCLUDED." + col + "_sum, 0), "
+                        + col + "_count = " + nonNullCount("r.", c) + " + COALESCE(EXCLUDED." + col + "_count, 0)";
+            })
+            .collect(Collectors.joining(",\n        "));
+
+    /** 원본 → 1분 롤업 */
+    private static final String ROLLUP_RAW_SQL = """
+            WITH chunk AS (
+                DELETE FROM %1$s
+                WHERE id IN (
+                    SELECT id FROM %1$s
+                    WHERE machine_id = ? AND create_at < ?
+                    ORDER BY create_at
+                    LIMIT ?
+                )
+                RETURNING *
+            ), rolled AS (
+                INSERT INTO %2$s AS r (machine_id, granularity, bucket_start, sample_count, %3$s, create_at)
+                SELECT machine_id, '%4$s', date_trunc('%5$s', create_at), count(*), %6$s, now()
+                FROM chunk
+                GROUP BY machine_id, date_trunc('%5$s', create_at)
+                ON CONFLICT (machine_id, granularity, bucket_start) DO UPDATE SET
+                    sample_count = r.sample_count + EXCLUDED.sample_count,
+                    %7$s,
+                    update_at = now()
+                RETURNING 1
+            )
+            SELECT count(*) FROM chunk
+            """.formatted(
+            RAW_TABLE,
+            ROLLUP_TABLE,
+            ROLLUP_COLUMNS,
+            RollupGranularity.MINUTE.name(),
+            RollupGranularity.MINUTE.getTruncField(),
+            Arrays.stream(SensorChannel.values())
+                    .map(c -> "min(" + c.getColumn() + "), max(" + c.getColumn() + "), sum(" + c.getColumn() + "), count(" + c.getColumn() + ")")
+                    .collect(Collectors.joining(", ")),
+            ON_CONFLICT_MERGE
+    );
+
+    /** 1분 롤업 → 1시간 롤업 */
+    private static final String ROLLUP_MINUTE_SQL = """
+            WITH chunk AS (
+                DELETE FROM %1$s
+                WHERE id IN (
+                    SELECT id FROM %1$s
+                    WHERE machine_id = ? AND granularity = '%2$s' AND bucket_start < ?
+                    ORDER BY bucket_start
+                    LIMIT ?
+                )
+                RETURNING *
+            ), rolled AS (
+                INSERT INTO %1$s AS r (machine_id, granularity, bucket_start, sample_count, %3$s, create_at)
+                SELECT machine_id, '%4$s', date_trunc('%5$s', bucket_start), sum(sample_count), %6$s, now()
+                FROM chunk
+                GROUP BY machine_id, date_trunc('%5$s', bucket_start)
+                ON CONFLICT (machine_id, granularity, bucket_start) DO UPDATE SET
+                    sample_count = r.sample_count + EXCLUDED.sample_count,
+                    %7$s,
+                    update_at = now()
+                RETURNING 1
+            )
+            SELECT count(*) FROM chunk
+            """.formatted(
+            ROLLUP_TABLE,
+            RollupGranularity.MINUTE.name(),
+            ROLLUP_COLUMNS,
+            RollupGranularity.HOUR.name(),
+            RollupGranularity.HOUR.getTruncField(),
+            Arrays.stream(SensorChannel.values())
+                    .map(c -> "min(" + c.getColumn() + "_min), max(" + c.getColumn() + "_max), sum(" + c.getColumn() + "_sum), "
+                            + "sum(" + nonNullCount("", c) + ")")
+                    .collect(Collectors.joining(", ")),
+            ON_CONFLICT_MERGE
+    );
+
+    /** 1시간 롤업 만료 삭제 */
+    private static final String DELETE_HOURLY_SQL = """
+            DELETE FROM %1$s
+            WHERE id IN (
+                SELECT id FROM %1$s
+                WHERE machine_id = ? AND granularity = '%2$s' AND bucket_start < ?
+                ORDER BY bucket_start
+                LIMIT ?
+            )
+            """.formatted(ROLLUP_TABLE, RollupGranularity.HOUR.name());
+
+    /** 데이터가 남아 있는 설비 ID (삭제된 설비 포함) - machine_id 선두 인덱스를 건너뛰며 읽는 loose index scan */
+    private static final String DISTINCT_MACHINE_IDS_SQL = """
+            WITH RECURSIVE raw_ids AS (
+                (SELECT machine_id FROM %1$s WHERE machine_id IS NOT NULL ORDER BY machine_id LIMIT 1)
+                UNION ALL
+                SELECT (SELECT machine_id FROM %1$s WHERE machine_id > r.machine_id ORDER BY machine_id LIMIT 1)
+                FROM raw_ids r
+                WHERE r.machine_id IS NOT NULL
+            ), rollup_ids AS (
+                (SELECT machine_id FROM %2$s ORDER BY machine_id LIMIT 1)
+                UNION ALL
+                SELECT (SELECT machine_id FROM %2$s WHERE machine_id > r.machine_id ORDER BY machine_id LIMIT 1)
+                FROM rollup_ids r
+                WHERE r.machine_id IS NOT NULL
+            )
+            SELECT machine_id FROM raw_ids WHERE machine_id IS NOT NULL
+            UNION
+            SELECT machine_id FROM rollup_ids WHERE machine_id IS NOT NULL
+            ORDER BY machine_id
+            """.formatted(RAW_TABLE, ROLLUP_TABLE);
+
+    /** 청크 상한 도달 후 남은 작업 확인 */
+    private static final String RAW_PENDING_SQL =
+            "SELECT EXISTS (SELECT 1 FROM %s WHERE machine_id = ? AND create_at < ?)".formatted(RAW_TABLE);
+    private static final String ROLLUP_PENDING_SQL =
+            "SELECT EXISTS (SELECT 1 FROM %s WHERE machine_id = ? AND granularity = ? AND bucket_start < ?)".formatted(ROLLUP_TABLE);
+
+    /** 인스턴스 간 실행 잠금 (세션 단위, 잠금을 잡은 커넥션에서 해제해야 함) */
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(hashtext('machine_sensor_data_retention'))";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(hashtext('machine_sensor_data_retention'))";
+
+    /** 데이터 변경 시각 기록 (여러 인스턴스가 기록해도 뒤로 가지 않음) */
+    private static final String MARK_DATA_CHANGED_SQL = """
+            INSERT INTO %1$s AS s (id, data_changed_at) VALUES (%2$d, LOCALTIMESTAMP)
+            ON CONFLICT (id) DO UPDATE SET data_changed_at = GREATEST(s.data_changed_at, EXCLUDED.data_changed_at)
+            RETURNING data_changed_at
+            """.formatted(STATE_TABLE, SensorRetentionState.SINGLETON_ID);
+    private static final String DATA_CHANGED_AT_SQL =
+            "SELECT data_changed_at FROM %s WHERE id = %d".formatted(STATE_TABLE, SensorRetentionState.SINGLETON_ID);
+
+    /** 테이블 통계 기반 평균 행 크기 (바이트) */
+    private static final String AVG_ROW_BYTES_SQL = """
+            SELECT CASE WHEN c.reltuples > 0 THEN pg_total_relation_size(c.oid) / c.reltuples ELSE 0 END
+            FROM pg_class c
+            WHERE c.relname = ?
+            """;
+
+    private static final String TABLE_BYTES_SQL = "SELECT pg_total_relation_size(?::regclass)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 롤업 행에서 채널 값이 있는 원본 샘플 수
+     *
+     * <p>{channel}_count 컬럼 추가 전에 만들어진 행은 NULL 이므로, 합계가 있으면 sample_count 로 간주합니다.</p>
+     *
+     * @param qualifier 컬럼 앞에 붙일 테이블 별칭 (예: "r.", 없으면 "")
+     */
+    static String nonNullCount(String qualifier, SensorChannel channel) {
+        String col = qualifier + channel.getColumn();
+        return "COALESCE(" + col + "_count, CASE WHEN " + col + "_sum IS NOT NULL THEN " + qualifier + "sample_count ELSE 0 END)";
+    }
+
+    /**
+     * cutoff 이전 원본 데이터를 최대 limit 행 1분 롤업으로 이동
+     * @return 이동(삭제)된 원본 행 수
+     */
+    public int rollupRawChunk(Long machineId, LocalDateTime cutoff, int limit) {
+        return queryCount(ROLLUP_RAW_SQL, machineId, cutoff, limit);
+    }
+
+    /**
+     * cutoff 이전 1분 롤업을 최대 limit 행 1시간 롤업으로 이동
+     * @return 이동(삭제)된 1분 롤업 행 수
+     */
+    public int rollupMinuteChunk(Long machineId, LocalDateTime cutoff, int limit) {
+        return queryCount(ROLLUP_MINUTE_SQL, machineId, cutoff, limit);
+    }
+
+    /**
+     * cutoff 이전 1시간 롤업을 최대 limit 행 삭제
+     * @return 삭제된 행 수
+     */
+    public int deleteHourlyChunk(Long machineId, LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_HOURLY_SQL, machineId, Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * 원본 또는 롤업 데이터가 남아 있는 설비 ID (설비가 삭제되었어도 포함)
+     */
+    public List<Long> findMachineIdsWithData() {
+        return jdbcTemplate.queryForList(DISTINCT_MACHINE_IDS_SQL, Long.class);
+    }
+
+    public boolean hasRawBefore(Long machineId, LocalDateTime cutoff) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(RAW_PENDING_SQL, Boolean.class, machineId, Timestamp.valueOf(cutoff)));
+    }
+
+    public boolean hasRollupBefore(Long machineId, RollupGranularity granularity, LocalDateTime cutoff) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(ROLLUP_PENDING_SQL, Boolean.class,
+                machineId, granularity.name(), Timestamp.valueOf(cutoff)));
+    }
+
+    /**
+     * advisory lock 을 잡은 경우에만 work 실행
+     *
+     * <p>잠금용 커넥션 1개를 실행 동안 점유하고, work 안의 문장은 다른 커넥션에서 autocommit 으로 실행됩니다.</p>
+     *
+     * @return 다른 인스턴스가 실행 중이면 empty
+     */
+    public <T> Optional<T> runExclusively(Supplier<T> work) {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<T>>) connection -> {
+            if (!advisoryLock(connection, TRY_LOCK_SQL)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.ofNullable(work.get());
+            } finally {
+                advisoryLock(connection, UNLOCK_SQL);
+            }
+        });
+    }
+
+    /**
+     * 보존 정책이 데이터를 변경했음을 기록
+     * @return 기록된 변경 시각
+     */
+    public LocalDateTime markDataChanged() {
+        Timestamp changedAt = jdbcTemplate.queryForObject(MARK_DATA_CHANGED_SQL, Timestamp.class);
+        return changedAt != null ? changedAt.toLocalDateTime() : null;
+    }
+
+    /**
+     * 보존 정책이 데이터를 마지막으로 변경한 시각 (한 번도 변경하지 않았으면 empty)
+     */
+    public Optional<LocalDateTime> findDataChangedAt() {
+        return jdbcTemplate.query(DATA_CHANGED_AT_SQL, (ResultSetExtractor<Optional<LocalDateTime>>) rs -> rs.next()
+                ? Optional.of(rs.getTimestamp(1).toLocalDateTime())
+                : Optional.empty());
+    }
+
+    private boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    public double averageRawRowBytes() {
+        return averageRowBytes(RAW_TABLE);
+    }
+
+    public double averageRollupRowBytes() {
+        return averageRowBytes(ROLLUP_TABLE);
+    }
+
+    /**
+     * 원본 + 롤업 테이블의 디스크 사용량 (인덱스/TOAST 포함)
+     *
+     * <p>삭제된 공간은 VACUUM 이후에 재사용되므로 실행 직후 값은 줄어들지 않을 수 있습니다.</p>
+     */
+    public long totalTableBytes() {
+        Long raw = jdbcTemplate.queryForObject(TABLE_BYTES_SQL, Long.class, RAW_TABLE);
+        Long rollup = jdbcTemplate.queryForObject(TABLE_BYTES_SQL, Long.class, ROLLUP_TABLE);
+        return (raw != null ? raw : 0L) + (rollup != null ? rollup : 0L);
+    }
+
+    private double averageRowBytes(String table) {
+        Double value = jdbcTemplate.queryForObject(AVG_ROW_BYTES_SQL, Double.class, table);
+        return value != null ? value : 0d;
+    }
+
+    private int queryCount(String sql, Long machineId, LocalDateTime cutoff, int limit) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, machineId, Timestamp.valueOf(cutoff), limit);
+        return count != null ? count.intValue() : 0;
+    }
+}
@@ -0,0 +1,21 @@
+package dev.study.portal.scheduler;
+
+import dev.study.portal.service.sse.AnomalyAlertCoalescer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 끝난 알림 묶음 구간 정리 (1초 주기 - 묶음 전달 지연은 최대 구간 + 1초)
+ */
+@Component
+@RequiredArgsConstructor
+public class AlertCoalescingScheduler {
+
+    private final AnomalyAlertCoalescer coalescer;
+
+    @Scheduled(fixedDelay = 1_000)
+    public void sweepWindows() {
+        coalescer.sweep();
+    }
+}
@@ -0,0 +1,21 @@
+package dev.study.portal.scheduler;
+
+import dev.study.portal.service.export.SensorExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 기간이 지난 내보내기 작업/파일 정리 (10분 주기)
+ */
+@Component
+@RequiredArgsConstructor
+public class SensorExportCleanupScheduler {
+
+    private final SensorExportService exportService;
+
+    @Scheduled(fixedDelay = 600_000)
+    public void purgeExpiredExports() {
+        exportService.purgeExpiredJobs();
+    }
+}
@@ -0,0 +1,33 @@
+package dev.study.portal.scheduler;
+
+import dev.study.portal.config.SensorRetentionProperties;
+import dev.study.portal.service.SensorRetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 센서 데이터 보존 정책 주기 실행
+ *
+ * <p>실행 주기는 sensor.retention.cron 으로 설정합니다. (기본: 매시 정각)</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SensorRetentionScheduler {
+
+    private final SensorRetentionProperties properties;
+    private final SensorRetentionService retentionService;
+
+    @Scheduled(cron = "${sensor.retention.cron:0 0 * * * *}")
+    public void enforceRetention() {
+        if (!properties.isEnabled()) {
+            log.debug("[Retention] 보존 정책이 비활성화되어 있습니다.");
+            return;
+        }
+
+        log.info("🧹 [Retention] 보존 정책 실행 시작");
+        retentionService.runOnce();
+    }
+}
@@ -1,13 +1,20 @@
 package dev.study.portal.service;
 
+import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
 import dev.study.portal.dto.sensor.SensorDataDto;
+import dev.study.portal.entity.machine.MachineSensorData;
+import dev.study.portal.service.hotwindow.SensorHotWindowStore;
+import dev.study.portal.service.telemetry.SensorTelemetryStreamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -19,6 +26,9 @@ import java.util.List;
  *   <li>1. Kafka 토픽(sensor-raw-data)에서 센서 데이터 수신</li>
  *   <li>2. DB 부하 최적화를 위한 배치 버퍼링 (10초 또는 50개 단위)</li>
  *   <li>3. MachineSensorDataService를 통한 영속화 위임</li>
+ *   <li>4. 저장 완료된 데이터를 인메모리 윈도우(SensorHotWindowStore)에 반영</li>
+ *   <li>5. 수신 즉시 실시간 센서 스트림(SensorTelemetryStreamService)으로 전달 (버퍼링/저장과 무관, 다른 인스턴스에는 Redis 로 중계)</li>
+ *   <li>6. 파티션 회수(리밸런스) 시 인메모리 윈도우 무효화</li>
  * </ul>
  *
  * <p>버퍼링 전략:</p>
@@ -33,9 +43,11 @@ import java.util.List;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class KafkaConsumerService {
+public class KafkaConsumerService implements ConsumerSeekAware {
 
     private final MachineSensorDataService sensorDataService;
+    private final SensorHotWindowStore hotWindowStore;
+    private final SensorTelemetryStreamService telemetryStreamService;
 
     // 배치 버퍼 (Thread-safe)
     private final List<SensorDataDto> batchBuffer =
@@ -58,6 +70,9 @@ public class KafkaConsumerService {
         log.debug("📥 [Kafka Consumer] 메시지 수신 - Machine: {}, DCP: {}",
                 sensorData.getMachineId(), sensorData.getDcpConfigId());
 
+        // 실시간 스트림 구독자에게는 저장을 기다리지 않고 바로 전달
+        telemetryStreamService.publish(sensorData);
+
         // 버퍼에 추가
         batchBuffer.add(sensorData);
 
@@ -104,7 +119,10 @@ public class KafkaConsumerService {
             log.info("🚀 [Kafka Consumer] 배치 저장 시작 - Count: {}", dataToSave.size());
 
             // MachineSensorDataService에 영속화 위임
-            sensorDataService.saveSensorDataBatch(dataToSave);
+            List<MachineSensorData> saved = sensorDataService.saveSensorDataBatch(dataToSave);
+
+            // 커밋된 행만 인메모리 윈도우에 반영 (DB 조회 결과와 동일한 ID/시각)
+            hotWindowStore.appendAll(saved.stream().map(MachineSensorDataResponseDto::from).toList());
 
             log.info("✅ [Kafka Consumer] 배치 저장 완료 - Count: {}", dataToSave.size());
 
@@ -115,6 +133,19 @@ public class KafkaConsumerService {
         }
     }
 
+    /**
+     * 파티션 회수 시 인메모리 윈도우 무효화
+     *
+     * <p>회수된 파티션의 설비는 다른 인스턴스가 이어서 받으므로, 남은 버퍼로 최근 구간을 응답하면 이후 행이 빠집니다.</p>
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        if (!partitions.isEmpty()) {
+            log.info("🔄 [Kafka Consumer] 파티션 회수 - {}", partitions);
+            hotWindowStore.invalidateAll();
+        }
+    }
+
     /**
      * 버퍼 상태 조회 (모니터링용)
      *
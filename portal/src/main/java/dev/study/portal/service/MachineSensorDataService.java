@@ -1,16 +1,33 @@
 package dev.study.portal.service;
 
+import dev.study.portal.common.downsample.StreamingLttb;
+import dev.study.portal.common.exception.sensordata.InvalidSensorDataQueryException;
 import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
+import dev.study.portal.dto.sensor.SensorColumnarResponseDto;
+import dev.study.portal.dto.sensor.SensorDataCursor;
 import dev.study.portal.dto.sensor.SensorDataDto;
+import dev.study.portal.dto.sensor.SensorDataPageResponseDto;
+import dev.study.portal.dto.sensor.SensorDownsampleResponseDto;
 import dev.study.portal.entity.machine.MachineSensorData;
+import dev.study.portal.entity.machine.enums.SensorChannel;
+import dev.study.portal.repository.sensor.MachineSensorDataQueryRepository;
 import dev.study.portal.repository.sensor.MachineSensorDataRepository;
+import dev.study.portal.service.hotwindow.SensorHotWindowStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -18,7 +35,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MachineSensorDataService {
 
+    public static final int DEFAULT_PAGE_LIMIT = 500;
+    public static final int MAX_PAGE_LIMIT = 5000;
+    public static final int MAX_DOWNSAMPLE_POINTS = 10_000;
+    public static final int MAX_BATCH_MACHINES = 100;
+
     private final MachineSensorDataRepository sensorDataRepository;
+    private final MachineSensorDataQueryRepository sensorDataQueryRepository;
+    private final SensorHotWindowStore hotWindowStore;
 
     /**
      * 센서 데이터 단건 저장
@@ -44,12 +68,13 @@ public class MachineSensorDataService {
     /**
      * 센서 데이터 배치 저장 (성능 최적화)
      * @param dtoList 센서 데이터 DTO 리스트
+     * @return 저장된 엔티티 (ID/생성 시각 확정)
      */
     @Transactional
-    public void saveSensorDataBatch(List<SensorDataDto> dtoList) {
+    public List<MachineSensorData> saveSensorDataBatch(List<SensorDataDto> dtoList) {
         if (dtoList == null || dtoList.isEmpty()) {
             log.warn("⚠️ [Sensor Data Service] 배치 저장 요청이 비어있습니다.");
-            return;
+            return List.of();
         }
 
         log.info("💾 [Sensor Data Service] 배치 저장 시작 - Count: {}", dtoList.size());
@@ -65,19 +90,206 @@ public class MachineSensorDataService {
                         .build())
                 .collect(Collectors.toList());
 
-        sensorDataRepository.saveAll(entities);
+        List<MachineSensorData> saved = sensorDataRepository.saveAll(entities);
 
-        log.info("✅ [Sensor Data Service] 배치 저장 완료 - Count: {}", entities.size());
+        log.info("✅ [Sensor Data Service] 배치 저장 완료 - Count: {}", saved.size());
+        return saved;
     }
 
     /**
      * 특정 설비의 최근 센서 데이터 조회
+     *
+     * <p>조회 구간이 인메모리 윈도우 안에 있으면 DB 를 거치지 않고 메모리에서 응답합니다.</p>
      */
     @Transactional(readOnly = true)
     public List<MachineSensorDataResponseDto> getSensorDataCreatedAtBetween(Long machineId, LocalDateTime startAt, LocalDateTime endAt) {
-        return sensorDataRepository.findByMachineIdAndCreatedAtBetween(machineId, startAt, endAt)
-                .stream()
-                .map(MachineSensorDataResponseDto::from)
-                .collect(Collectors.toList());
+        Optional<List<MachineSensorDataResponseDto>> hot = hotWindowStore.find(machineId, startAt, endAt);
+        if (hot.isPresent()) {
+            log.debug("⚡ [Sensor Data Service] 인메모리 윈도우 응답 - Machine: {}, Count: {}", machineId, hot.get().size());
+            return hot.get();
+        }
+        return sensorDataQueryRepository.findByMachineIdAndCreatedAtBetween(machineId, startAt, endAt);
+    }
+
+    /**
+     * 특정 설비의 기간 내 센서 데이터를 컬럼 형식으로 조회 (CBOR 응답용)
+     *
+     * <p>행 객체 목록을 만들지 않고 커서(또는 인메모리 윈도우)에서 읽는 즉시 채널별 배열에 누적합니다.</p>
+     */
+    @Transactional(readOnly = true)
+    public SensorColumnarResponseDto getSensorDataColumnar(Long machineId, LocalDateTime startAt, LocalDateTime endAt) {
+        SensorColumnarResponseDto.Accumulator accumulator = SensorColumnarResponseDto.accumulator(machineId, startAt);
+        streamSensorDataCreatedAtBetween(machineId, startAt, endAt, accumulator::add);
+        return accumulator.build();
+    }
+
+    /**
+     * 특정 설비의 기간 내 센서 데이터를 서버 측 커서로 한 행씩 전달
+     *
+     * <p>전체 결과를 List 로 모으지 않고 JDBC 커서에서 읽은 행을 DTO 로 바로 전달하므로
+     * (엔티티/영속성 컨텍스트 미사용) 조회 기간과 무관하게 힙 사용량이 일정합니다.</p>
+     *
+     * @param consumer 행 단위로 호출되는 콜백 (예: 응답 스트림에 기록)
+     * @return 전달한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long streamSensorDataCreatedAtBetween(Long machineId, LocalDateTime startAt, LocalDateTime endAt,
+                                                 Consumer<MachineSensorDataResponseDto> consumer) {
+        Optional<List<MachineSensorDataResponseDto>> hot = hotWindowStore.find(machineId, startAt, endAt);
+        if (hot.isPresent()) {
+            hot.get().forEach(consumer);
+            return hot.get().size();
+        }
+
+        long[] count = {0};
+        sensorDataQueryRepository.streamByMachineId(machineId, startAt, endAt, dto -> {
+            consumer.accept(dto);
+            count[0]++;
+        });
+        log.debug("📤 [Sensor Data Service] 스트리밍 조회 완료 - Machine: {}, Count: {}", machineId, count[0]);
+        return count[0];
+    }
+
+    /**
+     * 여러 설비 배치 조회 파라미터 검증 (중복 제거 후 오름차순 정렬된 설비 ID 반환)
+     *
+     * <p>스트리밍 응답은 헤더 전송 이후에 오류를 돌려줄 수 없으므로, 응답 본문을 쓰기 전에 호출합니다.</p>
+     */
+    public List<Long> validateBatchQuery(Collection<Long> machineIds, LocalDateTime startAt, LocalDateTime endAt) {
+        if (machineIds == null || machineIds.isEmpty()) {
+            throw new InvalidSensorDataQueryException("machineIds 는 1개 이상 지정해야 합니다.");
+        }
+        if (endAt.isBefore(startAt)) {
+            throw new InvalidSensorDataQueryException("종료 시간은 시작 시간보다 이후여야 합니다.");
+        }
+        List<Long> ids = machineIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+        if (ids.size() > MAX_BATCH_MACHINES) {
+            throw new InvalidSensorDataQueryException(
+                    "한 번에 조회할 수 있는 설비는 최대 " + MAX_BATCH_MACHINES + "개입니다.");
+        }
+        return ids;
+    }
+
+    /**
+     * 여러 설비의 기간 내 센서 데이터를 단일 쿼리(machine_id = ANY)로 조회해 설비 ID 순으로 한 행씩 전달
+     *
+     * <p>설비마다 요청/트랜잭션/커넥션을 따로 쓰던 것을 한 번의 스캔으로 묶습니다.
+     * 행은 (machine_id, create_at, id) 순으로 전달되므로 호출 측에서 설비별로 그룹핑할 수 있습니다.</p>
+     *
+     * @param machineIds validateBatchQuery 로 검증된 설비 ID 목록
+     * @return 전달한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long streamSensorDataBatch(List<Long> machineIds, LocalDateTime startAt, LocalDateTime endAt,
+                                      Consumer<MachineSensorDataResponseDto> consumer) {
+        long[] count = {0};
+        sensorDataQueryRepository.streamByMachineIds(machineIds, startAt, endAt, dto -> {
+            consumer.accept(dto);
+            count[0]++;
+        });
+        log.debug("📤 [Sensor Data Service] 배치 스트리밍 조회 완료 - Machines: {}, Count: {}", machineIds.size(), count[0]);
+        return count[0];
+    }
+
+    /**
+     * 특정 설비의 기간 내 센서 데이터를 키셋(create_at, id) 방식으로 페이지 조회
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param limit 페이지 크기 (1 ~ MAX_PAGE_LIMIT, null 이면 DEFAULT_PAGE_LIMIT)
+     */
+    @Transactional(readOnly = true)
+    public SensorDataPageResponseDto getSensorDataPage(Long machineId, LocalDateTime startAt, LocalDateTime endAt,
+                                                       String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+
+        // 첫 페이지는 (startAt, 0) 이후부터 조회 → BETWEEN 조건과 동일
+        SensorDataCursor after = cursor != null && !cursor.isBlank()
+                ? SensorDataCursor.decode(cursor, machineId)
+                : new SensorDataCursor(machineId, startAt, 0L);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<MachineSensorDataResponseDto> rows = sensorDataQueryRepository.findPageAfter(
+                machineId, startAt, endAt, after.getCreatedAt(), after.getId(), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<MachineSensorDataResponseDto> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MachineSensorDataResponseDto last = content.get(content.size() - 1);
+            nextCursor = new SensorDataCursor(machineId, last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return SensorDataPageResponseDto.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 특정 설비의 기간 내 센서 데이터를 채널별 LTTB 로 다운샘플링
+     *
+     * <p>서버 측 커서에서 읽는 행을 채널별 StreamingLttb 에 한 번씩만 전달하므로(단일 패스)
+     * 원본 건수와 무관하게 응답 크기는 채널당 maxPoints 이하로 제한됩니다.</p>
+     *
+     * @param maxPoints 채널별 최대 점 수 (3 ~ MAX_DOWNSAMPLE_POINTS)
+     */
+    @Transactional(readOnly = true)
+    public SensorDownsampleResponseDto downsampleSensorData(Long machineId, LocalDateTime startAt, LocalDateTime endAt,
+                                                           int maxPoints) {
+        if (endAt.isBefore(startAt)) {
+            throw new InvalidSensorDataQueryException("종료 시간은 시작 시간보다 이후여야 합니다.");
+        }
+        if (maxPoints < StreamingLttb.MIN_POINTS || maxPoints > MAX_DOWNSAMPLE_POINTS) {
+            throw new InvalidSensorDataQueryException(
+                    "maxPoints 는 " + StreamingLttb.MIN_POINTS + " ~ " + MAX_DOWNSAMPLE_POINTS + " 범위여야 합니다.");
+        }
+
+        long rangeMillis = Duration.between(startAt, endAt).toMillis();
+        Map<SensorChannel, StreamingLttb> samplers = new EnumMap<>(SensorChannel.class);
+        for (SensorChannel channel : SensorChannel.values()) {
+            samplers.put(channel, new StreamingLttb(rangeMillis, maxPoints));
+        }
+
+        long sourceCount = streamSensorDataCreatedAtBetween(machineId, startAt, endAt, dto -> {
+            long offset = Duration.between(startAt, dto.getCreatedAt()).toMillis();
+            for (Map.Entry<SensorChannel, StreamingLttb> entry : samplers.entrySet()) {
+                Number value = channelValue(dto, entry.getKey());
+                if (value != null) {
+                    entry.getValue().add(offset, value.doubleValue());
+                }
+            }
+        });
+
+        Map<String, SensorDownsampleResponseDto.Series> series = new LinkedHashMap<>();
+        samplers.forEach((channel, sampler) -> {
+            sampler.finish();
+            series.put(channel.getFieldName(),
+                    new SensorDownsampleResponseDto.Series(sampler.timestamps(), sampler.values()));
+        });
+
+        return SensorDownsampleResponseDto.builder()
+                .machineId(machineId)
+                .origin(startAt)
+                .maxPoints(maxPoints)
+                .sourceCount(sourceCount)
+                .series(series)
+                .build();
+    }
+
+    private Number channelValue(MachineSensorDataResponseDto dto, SensorChannel channel) {
+        return switch (channel) {
+            case AIR_TEMPERATURE -> dto.getAirTemperature();
+            case PROCESS_TEMPERATURE -> dto.getProcessTemperature();
+            case ROTATIONAL_SPEED -> dto.getRotationalSpeed();
+            case TORQUE -> dto.getTorque();
+            case TOOL_WEAR -> dto.getToolWear();
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package dev.study.portal.service;
+
+import dev.study.portal.common.exception.sensordata.InvalidSensorDataQueryException;
+import dev.study.portal.dto.sensor.AggregateFunction;
+import dev.study.portal.dto.sensor.SensorAggregateResponseDto;
+import dev.study.portal.entity.machine.enums.SensorChannel;
+import dev.study.portal.repository.sensor.SensorAggregationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 센서 채널 시간 버킷 집계 서비스
+ *
+ * <p>프론트엔드가 원본 행을 모두 받아 평균/최대값을 계산하던 작업을 DB 에서 수행하고,
+ * 결과는 컬럼 형식(SensorAggregateResponseDto)으로 반환합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SensorDataAggregationService {
+
+    // 한 번의 요청에서 허용하는 최대 버킷 수
+    public static final long MAX_BUCKETS = 20_000;
+
+    private final SensorAggregationRepository aggregationRepository;
+
+    /**
+     * 기간 내 센서 데이터를 bucketSeconds 단위로 집계
+     *
+     * @param channels 집계할 채널 (airTemperature, processTemperature, rotationalSpeed, torque, toolWear), 비어있으면 전체
+     * @param functions 집계 함수 (min, max, avg, p95, count), 비어있으면 avg
+     */
+    @Transactional(readOnly = true)
+    public SensorAggregateResponseDto aggregate(Long machineId, LocalDateTime startAt, LocalDateTime endAt,
+                                                long bucketSeconds, List<String> channels, List<String> functions) {
+        if (endAt.isBefore(startAt)) {
+            throw new InvalidSensorDataQueryException("종료 시간은 시작 시간보다 이후여야 합니다.");
+        }
+        if (bucketSeconds < 1) {
+            throw new InvalidSensorDataQueryException("버킷 크기는 1초 이상이어야 합니다.");
+        }
+        long bucketCount = Duration.between(startAt, endAt).getSeconds() / bucketSeconds + 1;
+        if (bucketCount > MAX_BUCKETS) {
+            throw new InvalidSensorDataQueryException(
+                    "버킷 수가 너무 많습니다. (요청: " + bucketCount + ", 최대: " + MAX_BUCKETS + ")");
+        }
+
+        Set<SensorChannel> channelSet = parseChannels(channels);
+        Set<AggregateFunction> functionSet = parseFunctions(functions);
+
+        log.debug("📊 [Sensor Aggregation] 집계 조회 - Machine: {}, Bucket: {}s, Channels: {}, Functions: {}",
+                machineId, bucketSeconds, channelSet, functionSet);
+
+        return aggregationRepository.aggregate(machineId, startAt, endAt, bucketSeconds, channelSet, functionSet);
+    }
+
+    private Set<SensorChannel> parseChannels(List<String> channels) {
+        if (channels == null || channels.isEmpty()) {
+            return EnumSet.allOf(SensorChannel.class);
+        }
+        Set<SensorChannel> result = EnumSet.noneOf(SensorChannel.class);
+        for (String name : channels) {
+            result.add(SensorChannel.fromFieldName(name.trim())
+                    .orElseThrow(() -> new InvalidSensorDataQueryException(
+                            "알 수 없는 채널입니다: " + name + " (사용 가능: " + Arrays.toString(
+                                    Arrays.stream(SensorChannel.values()).map(SensorChannel::getFieldName).toArray()) + ")")));
+        }
+        return result;
+    }
+
+    private Set<AggregateFunction> parseFunctions(List<String> functions) {
+        if (functions == null || functions.isEmpty()) {
+            return EnumSet.of(AggregateFunction.AVG);
+        }
+        Set<AggregateFunction> result = EnumSet.noneOf(AggregateFunction.class);
+        for (String name : functions) {
+            result.add(AggregateFunction.fromAlias(name.trim())
+                    .orElseThrow(() -> new InvalidSensorDataQueryException(
+                            "알 수 없는 집계 함수입니다: " + name + " (사용 가능: min, max, avg, p95, count)")));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,322 @@
+package dev.study.portal.service;
+
+import dev.study.portal.config.SensorRetentionProperties;
+import dev.study.portal.config.SensorRetentionProperties.Policy;
+import dev.study.portal.dto.sensor.RetentionRunReportDto;
+import dev.study.portal.entity.machine.Machine;
+import dev.study.portal.entity.machine.enums.RollupGranularity;
+import dev.study.portal.entity.machine.enums.Type;
+import dev.study.portal.repository.machine.MachineRepository;
+import dev.study.portal.repository.sensor.SensorRetentionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 센서 데이터 보존/다운샘플링 정책 엔진
+ *
+ * <p>설비별로 정책을 결정한 뒤 세 단계를 순서대로 실행합니다.</p>
+ * <ol>
+ *   <li>원본 보존 기간 초과 → 1분 롤업으로 병합 후 원본 삭제</li>
+ *   <li>1분 롤업 보존 기간 초과 → 1시간 롤업으로 병합 후 삭제</li>
+ *   <li>1시간 롤업 보존 기간 초과 → 삭제</li>
+ * </ol>
+ *
+ * <p>모든 단계는 chunk-size 행 단위로 실행되고 청크 사이에 chunk-pause 만큼 쉬어
+ * 수집 중인 INSERT 와 조회 쿼리에 주는 영향을 제한합니다.
+ * 한 번의 실행은 max-chunks-per-run 청크에서 멈추고 나머지는 다음 실행에서 이어집니다.</p>
+ *
+ * <p>대상 설비는 설비 테이블이 아니라 센서/롤업 테이블에 남아 있는 machine_id 기준이므로 삭제된 설비의 데이터도 정리됩니다.
+ * (설비 정보가 없으면 machine-id 정책 또는 default-policy 적용)<br>
+ * 실행은 DB advisory lock 으로 감싸 여러 인스턴스 중 하나만 수행합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SensorRetentionService {
+
+    private final SensorRetentionProperties properties;
+    private final SensorRetentionRepository retentionRepository;
+    private final MachineRepository machineRepository;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 마지막 실행 결과 (모니터링용)
+    private volatile RetentionRunReportDto lastReport;
+
+    // 데이터가 마지막으로 변경된(롤업/삭제) 시각 (epoch ms) - HTTP 캐시 검증자(ETag/Last-Modified)에 사용
+    // DB(machine_sensor_data_retention_state)에 기록된 값을 generation-refresh 주기로 다시 읽어 모든 인스턴스가 같은 값을 사용
+    private final AtomicLong dataGeneration = new AtomicLong();
+    private volatile long generationCheckedAt;
+    private volatile boolean generationLoaded;
+
+    /**
+     * 보존 정책 1회 실행
+     * @return 실행 결과, 이 인스턴스나 다른 인스턴스에서 이미 실행 중이면 null
+     */
+    public RetentionRunReportDto runOnce() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("⚠️ [Retention] 이전 실행이 아직 진행 중입니다. 이번 실행은 건너뜁니다.");
+            return null;
+        }
+
+        try {
+            RetentionRunReportDto report = retentionRepository.runExclusively(this::execute).orElse(null);
+            if (report == null) {
+                log.info("[Retention] 다른 인스턴스에서 실행 중입니다. 이번 실행은 건너뜁니다.");
+                return null;
+            }
+            lastReport = report;
+            log.info("✅ [Retention] 실행 완료 - 소요: {}ms, 설비: {}, 원본 롤업: {}, 1분 롤업 병합: {}, 1시간 롤업 삭제: {}, " +
+                            "청크: {}, 추정 회수 공간: {} bytes, 테이블 크기: {} → {} bytes{}",
+                    report.getDurationMs(), report.getMachineCount(), report.getRawRowsRolledUp(),
+                    report.getMinuteRowsRolledUp(), report.getHourlyRowsDeleted(), report.getChunkCount(),
+                    report.getEstimatedReclaimedBytes(), report.getTableBytesBefore(), report.getTableBytesAfter(),
+                    report.getTruncated() ? " (청크 상한 도달 - 다음 실행에서 계속)" : "");
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 마지막 실행 결과 조회 (모니터링용)
+     */
+    public RetentionRunReportDto getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 보존 정책으로 센서 데이터가 마지막으로 변경된 시각 (epoch ms, 한 번도 변경하지 않았으면 0)
+     *
+     * <p>과거 구간 조회 결과는 이 값이 바뀔 때만 달라질 수 있으므로 캐시 검증자로 사용합니다.
+     * 다른 인스턴스의 실행 결과는 최대 generation-refresh 만큼 늦게 반영됩니다.</p>
+     */
+    public long getDataGeneration() {
+        if (!generationLoaded || System.nanoTime() - generationCheckedAt >= properties.getGenerationRefresh().toNanos()) {
+            refreshDataGeneration();
+        }
+        return dataGeneration.get();
+    }
+
+    private synchronized void refreshDataGeneration() {
+        if (generationLoaded && System.nanoTime() - generationCheckedAt < properties.getGenerationRefresh().toNanos()) {
+            return;
+        }
+        try {
+            retentionRepository.findDataChangedAt().ifPresent(this::advanceDataGeneration);
+            generationLoaded = true;
+        } catch (DataAccessException e) {
+            // 조회 실패 시 마지막 값 유지 (다음 주기에 다시 시도)
+            log.warn("⚠️ [Retention] 데이터 변경 시각 조회 실패 - Error: {}", e.getMessage());
+        }
+        generationCheckedAt = System.nanoTime();
+    }
+
+    private void advanceDataGeneration(LocalDateTime changedAt) {
+        long millis = changedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        dataGeneration.accumulateAndGet(millis, Math::max);
+    }
+
+    /**
+     * 설비 목록의 원본 데이터가 모두 남아 있는 가장 이른 시각
+     *
+     * <p>이보다 이전 구간은 보존 정책에 의해 롤업되었을 수 있습니다. (원본 보존 기간이 없는 설비뿐이거나 정책이 꺼져 있으면 empty)</p>
+     */
+    public Optional<LocalDateTime> findRawRetainedSince(Collection<Long> machineIds) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        Map<Long, Type> machineTypes = machineTypes(machineIds);
+        LocalDateTime now = LocalDateTime.now();
+        return machineIds.stream()
+                .map(machineId -> resolvePolicy(machineId, machineTypes.get(machineId)).raw())
+                .filter(Objects::nonNull)
+                .map(now::minus)
+                .max(Comparator.naturalOrder());
+    }
+
+    /**
+     * 설비에 적용될 정책 결정 (machine-id → machine-type → default-policy)
+     *
+     * <p>결과의 null 은 영구 보관 (unlimited 또는 default-policy 미설정)</p>
+     */
+    ResolvedPolicy resolvePolicy(Long machineId, Type machineType) {
+        Policy defaults = properties.getDefaultPolicy();
+        Policy matched = properties.getPolicies().stream()
+                .filter(p -> Objects.equals(p.getMachineId(), machineId))
+                .findFirst()
+                .or(() -> properties.getPolicies().stream()
+                        .filter(p -> p.getMachineId() == null && p.getMachineType() != null
+                                && p.getMachineType() == machineType)
+                        .findFirst())
+                .orElse(defaults);
+
+        return new ResolvedPolicy(
+                limit(matched.getRaw(), defaults.getRaw()),
+                limit(matched.getMinuteRollup(), defaults.getMinuteRollup()),
+                limit(matched.getHourlyRollup(), defaults.getHourlyRollup())
+        );
+    }
+
+    private static Duration limit(Duration value, Duration fallback) {
+        Duration resolved = value != null ? value : fallback;
+        return SensorRetentionProperties.UNLIMITED.equals(resolved) ? null : resolved;
+    }
+
+    private RetentionRunReportDto execute() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        long tableBytesBefore = retentionRepository.totalTableBytes();
+        double rawRowBytes = retentionRepository.averageRawRowBytes();
+        double rollupRowBytes = retentionRepository.averageRollupRowBytes();
+
+        // 데이터가 남아 있는 설비 기준 (삭제된 설비는 유형 없이 정책 결정)
+        List<Long> machineIds = retentionRepository.findMachineIdsWithData();
+        Map<Long, Type> machineTypes = machineTypes(machineIds);
+        ChunkBudget budget = new ChunkBudget(properties.getMaxChunksPerRun());
+        long rawRows = 0;
+        long minuteRows = 0;
+        long hourlyRows = 0;
+
+        for (Long machineId : machineIds) {
+            ResolvedPolicy policy = resolvePolicy(machineId, machineTypes.get(machineId));
+
+            try {
+                if (policy.raw() != null) {
+                    LocalDateTime cutoff = startedAt.minus(policy.raw());
+                    rawRows += drain(budget,
+                            () -> retentionRepository.rollupRawChunk(machineId, cutoff, properties.getChunkSize()),
+                            () -> retentionRepository.hasRawBefore(machineId, cutoff));
+                }
+                if (policy.raw() != null && policy.minuteRollup() != null) {
+                    LocalDateTime cutoff = startedAt.minus(policy.minuteRollup());
+                    minuteRows += drain(budget,
+                            () -> retentionRepository.rollupMinuteChunk(machineId, cutoff, properties.getChunkSize()),
+                            () -> retentionRepository.hasRollupBefore(machineId, RollupGranularity.MINUTE, cutoff));
+                }
+                if (policy.raw() != null && policy.minuteRollup() != null && policy.hourlyRollup() != null) {
+                    LocalDateTime cutoff = startedAt.minus(policy.hourlyRollup());
+                    hourlyRows += drain(budget,
+                            () -> retentionRepository.deleteHourlyChunk(machineId, cutoff, properties.getChunkSize()),
+                            () -> retentionRepository.hasRollupBefore(machineId, RollupGranularity.HOUR, cutoff));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("⚠️ [Retention] 실행 중 인터럽트 - Machine: {}", machineId);
+                budget.markPending();
+                break;
+            } catch (Exception e) {
+                log.error("❌ [Retention] 설비 처리 실패 - Machine: {}, Error: {}", machineId, e.getMessage(), e);
+            }
+
+            // 남은 작업이 확인되면 다음 실행으로 넘김 (상한에 정확히 맞춰 끝났으면 남은 설비도 확인을 계속)
+            if (budget.pending()) {
+                break;
+            }
+        }
+
+        // 잠금을 잡은 상태에서 변경 시각 기록 (다른 인스턴스는 getDataGeneration 에서 읽음)
+        if (rawRows + minuteRows + hourlyRows > 0) {
+            LocalDateTime changedAt = retentionRepository.markDataChanged();
+            if (changedAt != null) {
+                advanceDataGeneration(changedAt);
+            }
+        }
+
+        long reclaimed = Math.round(rawRows * rawRowBytes + (minuteRows + hourlyRows) * rollupRowBytes);
+
+        return RetentionRunReportDto.builder()
+                .startedAt(startedAt)
+                .durationMs(Duration.ofNanos(System.nanoTime() - startNanos).toMillis())
+                .machineCount(machineIds.size())
+                .rawRowsRolledUp(rawRows)
+                .minuteRowsRolledUp(minuteRows)
+                .hourlyRowsDeleted(hourlyRows)
+                .chunkCount(budget.used())
+                .truncated(budget.pending())
+                .estimatedReclaimedBytes(reclaimed)
+                .tableBytesBefore(tableBytesBefore)
+                .tableBytesAfter(retentionRepository.totalTableBytes())
+                .build();
+    }
+
+    private Map<Long, Type> machineTypes(Collection<Long> machineIds) {
+        return machineRepository.findAllById(machineIds).stream()
+                .filter(machine -> machine.getType() != null)
+                .collect(Collectors.toMap(Machine::getId, Machine::getType));
+    }
+
+    /**
+     * 청크가 가득 차지 않을 때까지(= 남은 대상이 없을 때까지) 반복 실행
+     *
+     * <p>청크 상한에 걸리면 remaining 으로 실제 남은 행이 있는지 확인해 truncated 여부를 정합니다.</p>
+     */
+    private long drain(ChunkBudget budget, IntSupplier chunk, BooleanSupplier remaining) throws InterruptedException {
+        long total = 0;
+        while (true) {
+            if (!budget.tryAcquire()) {
+                if (remaining.getAsBoolean()) {
+                    budget.markPending();
+                }
+                break;
+            }
+            int processed = chunk.getAsInt();
+            total += processed;
+            if (processed < properties.getChunkSize()) {
+                break;
+            }
+            Thread.sleep(properties.getChunkPause().toMillis());
+        }
+        return total;
+    }
+
+    record ResolvedPolicy(Duration raw, Duration minuteRollup, Duration hourlyRollup) {
+    }
+
+    private static final class ChunkBudget {
+        private final int max;
+        private int used;
+        private boolean pending;
+
+        private ChunkBudget(int max) {
+            this.max = max;
+        }
+
+        boolean tryAcquire() {
+            if (used >= max) {
+                return false;
+            }
+            used++;
+            return true;
+        }
+
+        void markPending() {
+            pending = true;
+        }
+
+        boolean pending() {
+            return pending;
+        }
+
+        int used() {
+            return used;
+        }
+    }
+}
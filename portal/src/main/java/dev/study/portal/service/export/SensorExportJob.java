@@ -0,0 +1,116 @@
+package dev.study.portal.service.export;
+
+import dev.study.portal.dto.export.SensorExportFormat;
+import dev.study.portal.dto.export.SensorExportJobDto;
+import dev.study.portal.dto.export.SensorExportStatus;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 내보내기 작업 상태 (실행 스레드가 갱신하고 조회 스레드가 읽음)
+ */
+@Getter
+class SensorExportJob {
+    private final String jobId;
+    private final List<Long> machineIds;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private final SensorExportFormat format;
+    private final Path file;
+    private final int totalChunks;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private final AtomicInteger completedChunks = new AtomicInteger();
+    private final AtomicLong rowCount = new AtomicLong();
+
+    private volatile SensorExportStatus status = SensorExportStatus.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+    private volatile String errorMessage;
+
+    // 실행 중에는 출력 스트림의 현재 바이트 수, 종료 후에는 최종 파일 크기
+    private volatile LongSupplier bytesWritten = () -> 0L;
+
+    SensorExportJob(String jobId, List<Long> machineIds, LocalDateTime startAt, LocalDateTime endAt,
+                    SensorExportFormat format, Path file, int totalChunks) {
+        this.jobId = jobId;
+        this.machineIds = machineIds;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.format = format;
+        this.file = file;
+        this.totalChunks = totalChunks;
+    }
+
+    void markRunning(LongSupplier bytesWritten) {
+        this.bytesWritten = bytesWritten;
+        this.startedAt = LocalDateTime.now();
+        this.startedNanos = System.nanoTime();
+        this.status = SensorExportStatus.RUNNING;
+    }
+
+    void chunkCompleted(long rows) {
+        rowCount.addAndGet(rows);
+        completedChunks.incrementAndGet();
+    }
+
+    void markCompleted(long fileSize) {
+        finish(fileSize);
+        this.status = SensorExportStatus.COMPLETED;
+    }
+
+    void markFailed(String message, long fileSize) {
+        finish(fileSize);
+        this.errorMessage = message;
+        this.status = SensorExportStatus.FAILED;
+    }
+
+    private void finish(long fileSize) {
+        this.bytesWritten = () -> fileSize;
+        this.finishedAt = LocalDateTime.now();
+        this.finishedNanos = System.nanoTime();
+    }
+
+    SensorExportJobDto toDto() {
+        long rows = rowCount.get();
+        long bytes = bytesWritten.getAsLong();
+        Double rowsPerSecond = null;
+        Double megabytesPerSecond = null;
+        if (startedAt != null) {
+            long elapsedNanos = (finishedAt != null ? finishedNanos : System.nanoTime()) - startedNanos;
+            double seconds = Math.max(elapsedNanos, 1) / (double) Duration.ofSeconds(1).toNanos();
+            rowsPerSecond = rows / seconds;
+            megabytesPerSecond = bytes / seconds / (1024 * 1024);
+        }
+
+        int completed = completedChunks.get();
+        return SensorExportJobDto.builder()
+                .jobId(jobId)
+                .status(status)
+                .machineIds(machineIds)
+                .startDateTime(startAt)
+                .endDateTime(endAt)
+                .format(format)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .completedChunks(completed)
+                .totalChunks(totalChunks)
+                .progressPercent(totalChunks == 0 ? 100.0 : completed * 100.0 / totalChunks)
+                .rowCount(rows)
+                .bytesWritten(bytes)
+                .rowsPerSecond(rowsPerSecond)
+                .megabytesPerSecond(megabytesPerSecond)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
@@ -0,0 +1,321 @@
+package dev.study.portal.service.export;
+
+import dev.study.portal.common.exception.export.InvalidSensorExportRequestException;
+import dev.study.portal.common.exception.export.SensorExportJobNotFoundException;
+import dev.study.portal.common.exception.export.SensorExportNotReadyException;
+import dev.study.portal.common.exception.export.SensorExportQueueFullException;
+import dev.study.portal.common.stream.CountingOutputStream;
+import dev.study.portal.config.SensorExportProperties;
+import dev.study.portal.dto.export.SensorExportFormat;
+import dev.study.portal.dto.export.SensorExportJobDto;
+import dev.study.portal.dto.export.SensorExportRequestDto;
+import dev.study.portal.dto.export.SensorExportStatus;
+import dev.study.portal.entity.export.SensorExportJobState;
+import dev.study.portal.repository.sensor.SensorExportJobRepository;
+import dev.study.portal.repository.sensor.SensorExportRepository;
+import dev.study.portal.service.SensorRetentionService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 센서 데이터 대량 내보내기 작업 관리
+ *
+ * <p>흐름: submit → 전용 스레드 풀에서 실행 → 상태 조회(폴링) → 완료 후 파일 다운로드</p>
+ *
+ * <p>기간을 chunk-window 단위 구간으로 나눠 구간마다 COPY ... TO STDOUT 한 번씩 실행하고,
+ * 결과를 파일 스트림에 바로 이어 씁니다. 구간 단위로 진행률/처리량이 갱신됩니다.</p>
+ *
+ * <p>작업 상태는 sensor_export_job 테이블에 상태 변경/구간 완료마다 기록되므로 어느 인스턴스에서나 조회/다운로드할 수 있습니다.
+ * (실행 중인 인스턴스는 메모리의 진행 상태로 바이트 단위 진행률을 응답하고, 파일 경로는 인스턴스 간 공유되어야 함)<br>
+ * retention 이 지난 작업과 갱신이 retention 이상 멈춘(실행 인스턴스 종료) 작업은 파일과 함께 삭제됩니다.</p>
+ *
+ * <p>원본 데이터만 내보내므로 원본 보존 기간(sensor.retention)이 지나 롤업된 구간은 요청 단계에서 거부합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SensorExportService {
+
+    private static final int ERROR_MESSAGE_LENGTH = 1000;
+
+    private final SensorExportProperties properties;
+    private final SensorExportRepository exportRepository;
+    private final SensorExportJobRepository jobRepository;
+    private final SensorRetentionService retentionService;
+
+    // 이 인스턴스에서 대기/실행 중인 작업 (완료되면 제거, 이후 조회는 DB)
+    private final Map<String, SensorExportJob> jobs = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+    private Path directory;
+
+    @PostConstruct
+    void init() throws IOException {
+        directory = Paths.get(properties.getDirectory()).toAbsolutePath().normalize();
+        Files.createDirectories(directory);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                properties.getConcurrency(), properties.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.getMaxQueuedJobs()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sensor-export-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        log.info("📦 [Sensor Export] 내보내기 디렉터리: {}, 동시 실행: {}", directory, properties.getConcurrency());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 내보내기 작업 등록 (즉시 반환, 실행은 비동기)
+     */
+    public SensorExportJobDto submit(SensorExportRequestDto request) {
+        List<Long> machineIds = validate(request);
+        SensorExportFormat format = request.getFormat() != null ? request.getFormat() : SensorExportFormat.CSV;
+
+        String jobId = UUID.randomUUID().toString();
+        Path file = directory.resolve("sensor-export-" + jobId + format.getExtension());
+        int totalChunks = chunkCount(request.getStartDateTime(), request.getEndDateTime());
+        SensorExportJob job = new SensorExportJob(jobId, machineIds, request.getStartDateTime(),
+                request.getEndDateTime(), format, file, totalChunks);
+
+        jobRepository.save(toState(job));
+        jobs.put(jobId, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(jobId);
+            jobRepository.deleteById(jobId);
+            throw new SensorExportQueueFullException();
+        }
+
+        log.info("📦 [Sensor Export] 작업 등록 - Job: {}, Machines: {}, Range: {} ~ {}, Chunks: {}",
+                jobId, machineIds.size(), request.getStartDateTime(), request.getEndDateTime(), totalChunks);
+        return job.toDto();
+    }
+
+    public SensorExportJobDto getJob(String jobId) {
+        SensorExportJob local = jobs.get(jobId);
+        return local != null ? local.toDto() : SensorExportJobState.from(findJob(jobId));
+    }
+
+    public List<SensorExportJobDto> getJobs() {
+        return jobRepository.findAllByOrderBySubmittedAtDesc().stream()
+                .map(state -> {
+                    SensorExportJob local = jobs.get(state.getJobId());
+                    return local != null ? local.toDto() : SensorExportJobState.from(state);
+                })
+                .toList();
+    }
+
+    /**
+     * 완료된 작업의 파일 경로
+     */
+    public Path getCompletedFile(String jobId) {
+        SensorExportJobState job = findJob(jobId);
+        if (job.getStatus() != SensorExportStatus.COMPLETED) {
+            throw new SensorExportNotReadyException();
+        }
+        Path file = directory.resolve(job.getFileName());
+        if (!Files.exists(file)) {
+            log.warn("⚠️ [Sensor Export] 완료된 작업의 파일이 없습니다. 인스턴스 간 공유 경로인지 확인하세요 - Job: {}, File: {}",
+                    jobId, file);
+            throw new SensorExportJobNotFoundException();
+        }
+        return file;
+    }
+
+    public SensorExportFormat getFormat(String jobId) {
+        return findJob(jobId).getFormat();
+    }
+
+    /**
+     * 보관 기간이 지난 완료/실패 작업, 갱신이 멈춘 미완료 작업과 파일 삭제
+     */
+    public int purgeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        List<SensorExportJobState> expired = new ArrayList<>(jobRepository.findByStatusInAndFinishedAtBefore(
+                List.of(SensorExportStatus.COMPLETED, SensorExportStatus.FAILED), cutoff));
+        expired.addAll(jobRepository.findByStatusInAndUpdateAtBefore(
+                List.of(SensorExportStatus.QUEUED, SensorExportStatus.RUNNING), cutoff));
+        int purged = 0;
+        for (SensorExportJobState job : expired) {
+            if (jobs.containsKey(job.getJobId())) {
+                continue;
+            }
+            jobRepository.deleteById(job.getJobId());
+            deleteQuietly(directory.resolve(job.getFileName()));
+            purged++;
+        }
+        if (purged > 0) {
+            log.info("🧹 [Sensor Export] 만료된 작업 삭제 - Count: {}", purged);
+        }
+        return purged;
+    }
+
+    private void run(SensorExportJob job) {
+        try (OutputStream file = Files.newOutputStream(job.getFile());
+             CountingOutputStream counting = new CountingOutputStream(new BufferedOutputStream(file, 1 << 16));
+             OutputStream out = job.getFormat() == SensorExportFormat.CSV_GZIP
+                     ? new GZIPOutputStream(counting, 1 << 16)
+                     : counting) {
+
+            job.markRunning(counting::getCount);
+            persist(job);
+            out.write(SensorExportRepository.CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+
+            LocalDateTime from = job.getStartAt();
+            while (!from.isAfter(job.getEndAt())) {
+                LocalDateTime to = min(from.plus(properties.getChunkWindow()), job.getEndAt());
+                boolean lastChunk = to.equals(job.getEndAt());
+                long rows = exportRepository.copyCsv(job.getMachineIds(), from, to, lastChunk, out);
+                job.chunkCompleted(rows);
+                persist(job);
+                log.debug("📦 [Sensor Export] 구간 완료 - Job: {}, {} ~ {}, Rows: {}", job.getJobId(), from, to, rows);
+                if (lastChunk) {
+                    break;
+                }
+                from = to;
+            }
+        } catch (Exception e) {
+            log.error("❌ [Sensor Export] 작업 실패 - Job: {}, Error: {}", job.getJobId(), e.getMessage(), e);
+            job.markFailed(e.getMessage(), 0L);
+            deleteQuietly(job.getFile());
+            persist(job);
+            jobs.remove(job.getJobId());
+            return;
+        }
+
+        job.markCompleted(fileSize(job.getFile()));
+        persist(job);
+        jobs.remove(job.getJobId());
+        SensorExportJobDto result = job.toDto();
+        log.info("✅ [Sensor Export] 작업 완료 - Job: {}, Rows: {}, Size: {} bytes, {} rows/s, {} MB/s",
+                job.getJobId(), result.getRowCount(), result.getBytesWritten(),
+                String.format("%.0f", result.getRowsPerSecond()), String.format("%.2f", result.getMegabytesPerSecond()));
+    }
+
+    private List<Long> validate(SensorExportRequestDto request) {
+        if (request.getStartDateTime() == null || request.getEndDateTime() == null) {
+            throw new InvalidSensorExportRequestException("시작/종료 시간은 필수입니다.");
+        }
+        if (request.getEndDateTime().isBefore(request.getStartDateTime())) {
+            throw new InvalidSensorExportRequestException("종료 시간은 시작 시간보다 이후여야 합니다.");
+        }
+        if (request.getMachineIds() == null || request.getMachineIds().isEmpty()) {
+            throw new InvalidSensorExportRequestException("machineIds 는 1개 이상 지정해야 합니다.");
+        }
+        List<Long> machineIds = request.getMachineIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+        if (machineIds.size() > properties.getMaxMachines()) {
+            throw new InvalidSensorExportRequestException(
+                    "한 번에 내보낼 수 있는 설비는 최대 " + properties.getMaxMachines() + "개입니다.");
+        }
+        retentionService.findRawRetainedSince(machineIds)
+                .filter(retainedSince -> request.getStartDateTime().isBefore(retainedSince))
+                .ifPresent(retainedSince -> {
+                    throw new InvalidSensorExportRequestException(
+                            "시작 시간이 원본 데이터 보존 시작 시각(" + retainedSince + ") 이전입니다. " +
+                            "이전 구간은 롤업되었으므로 집계/다운샘플 조회 API 를 사용하세요.");
+                });
+        return machineIds;
+    }
+
+    private int chunkCount(LocalDateTime startAt, LocalDateTime endAt) {
+        long rangeNanos = Duration.between(startAt, endAt).toNanos();
+        long windowNanos = properties.getChunkWindow().toNanos();
+        return (int) Math.max(1, (rangeNanos + windowNanos - 1) / windowNanos);
+    }
+
+    private SensorExportJobState findJob(String jobId) {
+        return jobRepository.findById(jobId).orElseThrow(SensorExportJobNotFoundException::new);
+    }
+
+    // 실행 중 기록 실패는 작업을 멈추지 않음 (다음 구간 완료 시 다시 기록)
+    private void persist(SensorExportJob job) {
+        try {
+            jobRepository.save(toState(job));
+        } catch (Exception e) {
+            log.error("❌ [Sensor Export] 작업 상태 기록 실패 - Job: {}, Status: {}, Error: {}",
+                    job.getJobId(), job.getStatus(), e.getMessage(), e);
+        }
+    }
+
+    private static SensorExportJobState toState(SensorExportJob job) {
+        SensorExportJobDto dto = job.toDto();
+        String errorMessage = dto.getErrorMessage();
+        return SensorExportJobState.builder()
+                .jobId(dto.getJobId())
+                .machineIds(dto.getMachineIds())
+                .startAt(dto.getStartDateTime())
+                .endAt(dto.getEndDateTime())
+                .format(dto.getFormat())
+                .fileName(job.getFile().getFileName().toString())
+                .status(dto.getStatus())
+                .totalChunks(dto.getTotalChunks())
+                .completedChunks(dto.getCompletedChunks())
+                .rowCount(dto.getRowCount())
+                .bytesWritten(dto.getBytesWritten())
+                .submittedAt(dto.getSubmittedAt())
+                .startedAt(dto.getStartedAt())
+                .finishedAt(dto.getFinishedAt())
+                .errorMessage(errorMessage != null && errorMessage.length() > ERROR_MESSAGE_LENGTH
+                        ? errorMessage.substring(0, ERROR_MESSAGE_LENGTH) : errorMessage)
+                .build();
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("⚠️ [Sensor Export] 파일 삭제 실패 - File: {}, Error: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package dev.study.portal.service.hotwindow;
+
+import dev.study.portal.config.SensorHotWindowProperties;
+import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 설비별 최근 센서 데이터 인메모리 윈도우
+ *
+ * <p>Kafka 컨슈머가 DB 저장을 마친 행(ID/생성 시각 확정)을 그대로 추가하므로,
+ * 메모리 결과와 DB 결과가 같은 행 집합을 가리킵니다.</p>
+ *
+ * <p>메모리 상한:</p>
+ * <ul>
+ *   <li>설비별 링 버퍼 크기: capacity-per-machine</li>
+ *   <li>설비 수: max-machines (초과 시 LRU 제거)</li>
+ *   <li>구간 길이: window (추가 시점에 만료 행 정리)</li>
+ * </ul>
+ *
+ * <p>포털 인스턴스가 여러 대라 컨슈머 파티션이 나뉘면 각 인스턴스는 일부 설비만 보게 됩니다.
+ * 한 번도 받지 않은 설비는 버퍼가 없어 DB 조회로 대체되고, 리밸런스로 파티션을 잃은 경우에는</p>
+ * <ul>
+ *   <li>파티션 회수 시 {@link #invalidateAll()} 로 모든 버퍼를 비우고 (KafkaConsumerService)</li>
+ *   <li>stale-after 동안 새 행이 없는 버퍼는 구간을 보장하지 않는 것으로 보고 DB 로 조회합니다. (회수 직전 플러시된 행 대비)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SensorHotWindowStore {
+
+    private final SensorHotWindowProperties properties;
+
+    private final Map<Long, SensorRingBuffer> buffers = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, SensorRingBuffer> eldest) {
+            boolean evict = size() > properties.getMaxMachines();
+            if (evict) {
+                log.debug("🧹 [Hot Window] 설비 버퍼 제거 (LRU) - Machine: {}", eldest.getKey());
+            }
+            return evict;
+        }
+    };
+
+    /**
+     * 저장 완료된 센서 데이터 추가 (설비별 시각 오름차순)
+     */
+    public void appendAll(Collection<MachineSensorDataResponseDto> rows) {
+        if (!properties.isEnabled() || rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getWindow());
+        for (MachineSensorDataResponseDto row : rows) {
+            if (row.getMachineId() == null || row.getCreatedAt() == null) {
+                continue;
+            }
+            SensorRingBuffer buffer = bufferFor(row.getMachineId());
+            buffer.append(row);
+        }
+        synchronized (buffers) {
+            buffers.values().forEach(buffer -> buffer.evictBefore(cutoff));
+        }
+    }
+
+    /**
+     * [startAt, endAt] 구간 전체가 메모리에 있으면 결과를 반환하고, 아니면 empty (DB 조회 필요)
+     */
+    public Optional<List<MachineSensorDataResponseDto>> find(Long machineId, LocalDateTime startAt, LocalDateTime endAt) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        SensorRingBuffer buffer;
+        synchronized (buffers) {
+            buffer = buffers.get(machineId);
+        }
+        if (buffer == null || !buffer.covers(startAt)) {
+            return Optional.empty();
+        }
+        if (System.nanoTime() - buffer.lastAppendNanos() > properties.getStaleAfter().toNanos()) {
+            log.debug("[Hot Window] 최근 추가가 없어 DB 로 조회 - Machine: {}", machineId);
+            return Optional.empty();
+        }
+        return Optional.of(buffer.query(startAt, endAt));
+    }
+
+    /**
+     * 모든 설비 버퍼 제거 (컨슈머 파티션 회수 시 - 어느 설비가 어느 파티션인지 알 수 없으므로 전체)
+     */
+    public void invalidateAll() {
+        synchronized (buffers) {
+            if (!buffers.isEmpty()) {
+                log.info("🧹 [Hot Window] 파티션 회수로 설비 버퍼 {}개 제거", buffers.size());
+            }
+            buffers.clear();
+        }
+    }
+
+    public int machineCount() {
+        synchronized (buffers) {
+            return buffers.size();
+        }
+    }
+
+    private SensorRingBuffer bufferFor(Long machineId) {
+        synchronized (buffers) {
+            return buffers.computeIfAbsent(machineId,
+                    id -> new SensorRingBuffer(id, properties.getCapacityPerMachine()));
+        }
+    }
+}
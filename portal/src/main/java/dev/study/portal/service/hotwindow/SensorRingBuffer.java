@@ -0,0 +1,203 @@
+package dev.study.portal.service.hotwindow;
+
+import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 설비 한 대의 최근 센서 데이터를 기본형 배열로 보관하는 고정 크기 링 버퍼
+ *
+ * <p>행마다 객체를 만들지 않고 채널별 배열에 나눠 저장합니다. 시각은 epoch 마이크로초(DB 정밀도)로 보관하며,
+ * 입력은 시각 오름차순이어야 합니다. 값이 없는 채널은 NaN / Integer.MIN_VALUE 로 표시합니다.</p>
+ *
+ * <p>coveredSince 이후 시각의 행은 모두 버퍼에 있음을 보장합니다.
+ * (덮어쓰기/만료로 행이 빠지면 coveredSince 가 그만큼 앞으로 이동)<br>
+ * 단, 이 보장은 행이 계속 들어오는 동안만 유효하므로 호출 측은 {@link #lastAppendNanos()} 로 신선도를 함께 확인해야 합니다.</p>
+ *
+ * <p>스레드 안전: 모든 공개 메서드는 인스턴스 단위로 동기화됩니다.</p>
+ */
+public class SensorRingBuffer {
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private final long machineId;
+    private final int capacity;
+    private final long[] timestamps;
+    private final long[] ids;
+    private final double[] airTemperature;
+    private final double[] processTemperature;
+    private final int[] rotationalSpeed;
+    private final double[] torque;
+    private final int[] toolWear;
+
+    /** 가장 오래된 행의 위치 */
+    private int head;
+    private int size;
+    private long coveredSince = Long.MAX_VALUE;
+    /** 마지막 append 시점 (System.nanoTime) */
+    private long lastAppendNanos = System.nanoTime();
+
+    public SensorRingBuffer(long machineId, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.machineId = machineId;
+        this.capacity = capacity;
+        this.timestamps = new long[capacity];
+        this.ids = new long[capacity];
+        this.airTemperature = new double[capacity];
+        this.processTemperature = new double[capacity];
+        this.rotationalSpeed = new int[capacity];
+        this.torque = new double[capacity];
+        this.toolWear = new int[capacity];
+    }
+
+    /**
+     * 한 행 추가
+     *
+     * <p>직전 행보다 이른 시각이 들어오면 순서 보장이 깨지므로 버퍼를 비우고,
+     * 지금까지 받은 가장 늦은 시각 이후부터 다시 채웁니다.</p>
+     */
+    public synchronized void append(MachineSensorDataResponseDto row) {
+        lastAppendNanos = System.nanoTime();
+        long ts = toMicros(row.getCreatedAt());
+        if (size > 0 && ts < timestamps[index(size - 1)]) {
+            coveredSince = timestamps[index(size - 1)] + 1;
+            head = 0;
+            size = 0;
+            return;
+        }
+        if (coveredSince == Long.MAX_VALUE) {
+            coveredSince = ts;
+        }
+
+        int slot;
+        if (size == capacity) {
+            coveredSince = timestamps[head] + 1;
+            slot = head;
+            head = (head + 1) % capacity;
+        } else {
+            slot = index(size);
+            size++;
+        }
+
+        timestamps[slot] = ts;
+        ids[slot] = row.getId() != null ? row.getId() : 0L;
+        airTemperature[slot] = toDouble(row.getAirTemperature());
+        processTemperature[slot] = toDouble(row.getProcessTemperature());
+        rotationalSpeed[slot] = toInt(row.getRotationalSpeed());
+        torque[slot] = toDouble(row.getTorque());
+        toolWear[slot] = toInt(row.getToolWear());
+    }
+
+    /**
+     * 기준 시각 이전의 행 제거 (윈도우 만료)
+     */
+    public synchronized void evictBefore(LocalDateTime cutoff) {
+        long cutoffMicros = toMicros(cutoff);
+        while (size > 0 && timestamps[head] < cutoffMicros) {
+            head = (head + 1) % capacity;
+            size--;
+        }
+        if (coveredSince != Long.MAX_VALUE && coveredSince < cutoffMicros) {
+            coveredSince = cutoffMicros;
+        }
+    }
+
+    /**
+     * startAt 이후의 행이 모두 메모리에 있는지 여부
+     */
+    public synchronized boolean covers(LocalDateTime startAt) {
+        return coveredSince != Long.MAX_VALUE && toMicros(startAt) >= coveredSince;
+    }
+
+    /**
+     * [startAt, endAt] 구간의 행을 시각 순으로 반환
+     */
+    public synchronized List<MachineSensorDataResponseDto> query(LocalDateTime startAt, LocalDateTime endAt) {
+        long from = toMicros(startAt);
+        long to = toMicros(endAt);
+        int first = lowerBound(from);
+        List<MachineSensorDataResponseDto> result = new ArrayList<>();
+        for (int i = first; i < size; i++) {
+            int slot = index(i);
+            if (timestamps[slot] > to) {
+                break;
+            }
+            result.add(toDto(slot));
+        }
+        return result;
+    }
+
+    public synchronized long lastAppendNanos() {
+        return lastAppendNanos;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /** timestamps[index(i)] >= micros 를 만족하는 첫 논리 위치 (이진 탐색) */
+    private int lowerBound(long micros) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (timestamps[index(mid)] < micros) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int index(int logical) {
+        int i = head + logical;
+        return i >= capacity ? i - capacity : i;
+    }
+
+    private MachineSensorDataResponseDto toDto(int slot) {
+        return MachineSensorDataResponseDto.builder()
+                .id(ids[slot])
+                .machineId(machineId)
+                .airTemperature(fromDouble(airTemperature[slot]))
+                .processTemperature(fromDouble(processTemperature[slot]))
+                .rotationalSpeed(fromInt(rotationalSpeed[slot]))
+                .torque(fromDouble(torque[slot]))
+                .toolWear(fromInt(toolWear[slot]))
+                .createdAt(fromMicros(timestamps[slot]))
+                .build();
+    }
+
+    static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static double toDouble(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    private static Double fromDouble(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private static int toInt(Integer value) {
+        return value != null ? value : NULL_INT;
+    }
+
+    private static Integer fromInt(int value) {
+        return value == NULL_INT ? null : value;
+    }
+}
@@ -0,0 +1,14 @@
+package dev.study.portal.service.machine;
+
+import dev.study.portal.entity.machine.Machine;
+import dev.study.portal.entity.machine.enums.Type;
+
+/**
+ * 알림 전송에 필요한 설비 메타데이터
+ */
+public record MachineMetadata(Long id, String name, Type type) {
+
+    public static MachineMetadata from(Machine machine) {
+        return new MachineMetadata(machine.getId(), machine.getName(), machine.getType());
+    }
+}
@@ -0,0 +1,251 @@
+package dev.study.portal.service.machine;
+
+import dev.study.portal.config.MachineMetadataCacheProperties;
+import dev.study.portal.entity.machine.Machine;
+import dev.study.portal.event.machine.MachineCreatedEvent;
+import dev.study.portal.event.machine.MachineDeletedEvent;
+import dev.study.portal.event.machine.MachineModifyEvent;
+import dev.study.portal.repository.machine.MachineRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 설비 ID → 이름/유형 인프로세스 캐시 (알림마다 DB 에서 설비 엔티티를 읽지 않도록)
+ *
+ * <ul>
+ *   <li>시작 시 max-size 까지 적재하고, 설비 생성/수정/삭제 이벤트(트랜잭션 커밋 후)로 갱신</li>
+ *   <li>이벤트는 이 인스턴스에서 일어난 변경만 받으므로 항목은 ttl 이 지나면 DB 에서 다시 읽음 (다른 인스턴스의 수정/삭제 반영)</li>
+ *   <li>크기 상한 초과 시 가장 오래 조회되지 않은 항목부터 제거 (LRU)</li>
+ *   <li>캐시에 없으면 DB 조회 후 적재, DB 에도 없으면 negative-ttl 동안 부정 캐시 (반복 조회 방지)</li>
+ *   <li>DB 조회 중 들어온 이벤트가 우선 (조회 도중 삭제된 설비를 다시 적재하지 않음)</li>
+ * </ul>
+ *
+ * <p>지표: cache.gets(cache=machineMetadata, result=hit|miss), cache.size, cache.evictions,
+ * machine.metadata.cache.negative.hits</p>
+ */
+@Slf4j
+@Service
+public class MachineMetadataCache {
+    private static final String CACHE_NAME = "machineMetadata";
+
+    private final MachineMetadataCacheProperties properties;
+    private final MachineRepository machineRepository;
+
+    private final Map<Long, Entry> entries;
+    private final Map<Long, Long> negativeEntries;   // 설비 ID → 만료 시각 (nanoTime)
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter negativeHits;
+    private final Counter evictions;
+
+    /**
+     * @param expiresAt 만료 시각 (nanoTime)
+     */
+    private record Entry(MachineMetadata metadata, long expiresAt) {
+    }
+
+    public MachineMetadataCache(
+            MachineMetadataCacheProperties properties,
+            MachineRepository machineRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.machineRepository = machineRepository;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                boolean evict = size() > properties.getMaxSize();
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        this.negativeEntries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > properties.getMaxNegativeSize();
+            }
+        };
+
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss").register(meterRegistry);
+        this.negativeHits = meterRegistry.counter("machine.metadata.cache.negative.hits");
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME).register(meterRegistry);
+        Gauge.builder("cache.size", this, MachineMetadataCache::size).tag("cache", CACHE_NAME).register(meterRegistry);
+    }
+
+    /**
+     * 시작 시 설비 메타데이터 적재 (max-size 까지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Machine> machines = machineRepository.findAll(PageRequest.of(0, properties.getMaxSize())).getContent();
+        synchronized (this) {
+            long expiresAt = expiresAt();
+            machines.forEach(machine -> entries.put(machine.getId(), new Entry(MachineMetadata.from(machine), expiresAt)));
+        }
+        log.info("🗂️ [Machine Cache] 설비 메타데이터 적재 완료 - Count: {}", machines.size());
+    }
+
+    /**
+     * 설비 메타데이터 조회 (존재하지 않는 설비면 empty)
+     */
+    public Optional<MachineMetadata> find(Long machineId) {
+        synchronized (this) {
+            MachineMetadata cached = cached(machineId, System.nanoTime());
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            Long expiresAt = negativeEntries.get(machineId);
+            if (expiresAt != null) {
+                if (System.nanoTime() - expiresAt < 0) {
+                    negativeHits.increment();
+                    return Optional.empty();
+                }
+                negativeEntries.remove(machineId);
+            }
+        }
+
+        misses.increment();
+        Optional<MachineMetadata> loaded = machineRepository.findById(machineId).map(MachineMetadata::from);
+        synchronized (this) {
+            return Optional.ofNullable(store(machineId, loaded.orElse(null), System.nanoTime()));
+        }
+    }
+
+    /**
+     * 여러 설비 메타데이터 조회 (캐시에 없는 설비만 한 번의 쿼리로 조회, 존재하지 않는 설비는 결과에서 제외)
+     */
+    public Map<Long, MachineMetadata> findAll(Collection<Long> machineIds) {
+        Map<Long, MachineMetadata> found = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (Long machineId : new HashSet<>(machineIds)) {
+                MachineMetadata cached = cached(machineId, now);
+                if (cached != null) {
+                    hits.increment();
+                    found.put(machineId, cached);
+                    continue;
+                }
+                Long expiresAt = negativeEntries.get(machineId);
+                if (expiresAt != null && now - expiresAt < 0) {
+                    negativeHits.increment();
+                    continue;
+                }
+                negativeEntries.remove(machineId);
+                missing.add(machineId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        misses.increment(missing.size());
+        Map<Long, MachineMetadata> loaded = new HashMap<>();
+        machineRepository.findAllById(missing).forEach(machine -> loaded.put(machine.getId(), MachineMetadata.from(machine)));
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (Long machineId : missing) {
+                MachineMetadata stored = store(machineId, loaded.get(machineId), now);
+                if (stored != null) {
+                    found.put(machineId, stored);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 엔티티 리스너는 flush 시점(커밋 전)에 이벤트를 발행하므로 커밋된 변경만 반영 (롤백되면 무시)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCreated(MachineCreatedEvent event) {
+        put(new MachineMetadata(event.getMachineId(), event.getMachineName(), event.getMachineType()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleModified(MachineModifyEvent event) {
+        put(new MachineMetadata(event.getMachineId(), event.getMachineName(), event.getMachineType()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void handleDeleted(MachineDeletedEvent event) {
+        entries.remove(event.getMachineId());
+        negativeEntries.put(event.getMachineId(), System.nanoTime() + properties.getNegativeTtl().toNanos());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void put(MachineMetadata metadata) {
+        negativeEntries.remove(metadata.id());
+        entries.put(metadata.id(), new Entry(metadata, expiresAt()));
+    }
+
+    /**
+     * 만료되지 않은 캐시 항목 (만료됐으면 제거 후 null, 잠금 안에서 호출)
+     */
+    private MachineMetadata cached(Long machineId, long now) {
+        Entry entry = entries.get(machineId);
+        if (entry == null) {
+            return null;
+        }
+        if (now - entry.expiresAt() >= 0) {
+            entries.remove(machineId);
+            return null;
+        }
+        return entry.metadata();
+    }
+
+    /**
+     * DB 조회 결과 반영 (잠금 안에서 호출)
+     *
+     * <p>조회하는 동안 이벤트가 먼저 반영됐으면 이벤트 쪽이 최신이므로 조회 결과를 버립니다.
+     * (수정/생성 이벤트 → 캐시 값 유지, 삭제 이벤트 → 부정 캐시 유지)</p>
+     *
+     * @param loaded DB 조회 결과, 없으면 null
+     * @return 반영 후 설비 메타데이터, 존재하지 않는 설비면 null
+     */
+    private MachineMetadata store(Long machineId, MachineMetadata loaded, long now) {
+        MachineMetadata current = cached(machineId, now);
+        if (current != null) {
+            return current;
+        }
+        Long negativeExpiresAt = negativeEntries.get(machineId);
+        if (negativeExpiresAt != null && now - negativeExpiresAt < 0) {
+            return null;
+        }
+        if (loaded == null) {
+            negativeEntries.put(machineId, now + properties.getNegativeTtl().toNanos());
+            return null;
+        }
+        entries.put(machineId, new Entry(loaded, now + properties.getTtl().toNanos()));
+        return loaded;
+    }
+
+    private long expiresAt() {
+        return System.nanoTime() + properties.getTtl().toNanos();
+    }
+}
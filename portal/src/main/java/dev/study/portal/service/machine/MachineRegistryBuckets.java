@@ -0,0 +1,38 @@
+package dev.study.portal.service.machine;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 해시 레이아웃 키/버킷 계산
+ *
+ * <p>이름 버킷은 UTF-8 바이트의 djb2 해시(32비트)를 버킷 수로 나눈 나머지이고, ID 버킷은 ID 를 버킷 수로 나눈 나머지입니다.
+ * 같은 계산이 resources/redis/machine-registry-hash-*.lua 와 ai-server 의 redis_client.py 에 있으므로 함께 바꿔야 합니다.</p>
+ */
+public final class MachineRegistryBuckets {
+    public static final String NAMES_PREFIX = "machine:registry:names:";
+    public static final String IDS_PREFIX = "machine:registry:ids:";
+    public static final String VERSION_KEY = "machine:registry:version";
+
+    private MachineRegistryBuckets() {
+    }
+
+    public static int nameBucket(String name, int buckets) {
+        long hash = 5381;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash * 33 + (b & 0xff)) & 0xffffffffL;
+        }
+        return (int) (hash % buckets);
+    }
+
+    public static int idBucket(long machineId, int buckets) {
+        return (int) Math.floorMod(machineId, (long) buckets);
+    }
+
+    public static String namesKey(String name, int buckets) {
+        return NAMES_PREFIX + nameBucket(name, buckets);
+    }
+
+    public static String idsKey(long machineId, int buckets) {
+        return IDS_PREFIX + idBucket(machineId, buckets);
+    }
+}
@@ -0,0 +1,355 @@
+package dev.study.portal.service.machine;
+
+import dev.study.portal.config.MachineRegistryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 설비 이름 ↔ ID Redis 레지스트리 (ai-server 가 machine:name:{name} 으로 설비 ID 를 조회)
+ *
+ * <ul>
+ *   <li>단건 변경: resources/redis/*.lua 스크립트로 서버에서 원자적으로 실행 (왕복 1회, 다른 핸들러와 섞이지 않음).
+ *       실행은 {@link ReactiveMachineRegistryService} 가 담당하고 이 클래스는 스크립트를 정의합니다.</li>
+ *   <li>전체 재구성: 설비를 청크 단위로 파이프라이닝해 기록하고, DB 에 없는 키는 SCAN 으로 찾아 정리.
+ *       정리 후보는 DB 에서 다시 확인한 뒤 읽은 값 그대로일 때만 지우므로 재구성 중 이벤트로 기록된 키는 남습니다.</li>
+ * </ul>
+ *
+ * <p>machine.registry.layout 에 따라 문자열 키(STRINGS), 버킷 해시(HASH) 또는 둘 다(DUAL) 기록합니다.
+ * 해시 레이아웃은 설비마다 최상위 키 2개를 두는 대신 버킷 해시의 필드로 저장해 listpack 인코딩을 유지하고,
+ * 변경 시마다 machine:registry:version 을 올려 ai-server 가 로컬 캐시를 무효화할 수 있게 합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MachineRegistryService {
+    public static final String MACHINE_NAME_PREFIX = "machine:name:";
+    public static final String MACHINE_ID_PREFIX = "machine:id:";
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int BUCKETS_PER_READ = 128;
+
+    static final RedisScript<Long> UPSERT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/machine-registry-upsert.lua"), Long.class);
+    static final RedisScript<Long> DELETE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/machine-registry-delete.lua"), Long.class);
+    static final RedisScript<Long> HASH_UPSERT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/machine-registry-hash-upsert.lua"), Long.class);
+    static final RedisScript<Long> HASH_DELETE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/machine-registry-hash-delete.lua"), Long.class);
+    static final RedisScript<Long> DELETE_IF_UNCHANGED_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/machine-registry-delete-if-unchanged.lua"), Long.class);
+    static final RedisScript<Long> HASH_DELETE_IF_UNCHANGED_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/machine-registry-hash-delete-if-unchanged.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MachineRegistryProperties properties;
+
+    /**
+     * 재구성 결과
+     *
+     * @param staleKeysRemoved 정리한 문자열 키와 해시 필드 수
+     * @param roundTrips 쓰기/조회 왕복 수 (파이프라인 1회 = 1, SCAN 페이지는 제외)
+     */
+    public record RebuildReport(int machines, int staleKeysRemoved, int roundTrips, long elapsedMillis) {
+    }
+
+    /**
+     * DB 기준으로 레지스트리 전체 재구성 (정리 후보를 전달받은 목록으로만 판단)
+     */
+    public RebuildReport rebuild(Collection<MachineMetadata> machines) {
+        return rebuild(machines, ids -> machines.stream().filter(machine -> ids.contains(machine.id())).toList());
+    }
+
+    /**
+     * DB 기준으로 레지스트리 전체 재구성
+     *
+     * @param machines 재구성 시작 시점의 설비 목록
+     * @param reload   정리 후보 키가 가리키는 설비 ID 를 DB 에서 다시 조회 (목록을 읽은 뒤 이벤트로 생성/이름 변경된 설비의 키를 지우지 않도록)
+     */
+    public RebuildReport rebuild(Collection<MachineMetadata> machines,
+                                 Function<Collection<Long>, List<MachineMetadata>> reload) {
+        long start = System.currentTimeMillis();
+        int[] stale = {0};
+        int roundTrips = 0;
+        if (properties.getLayout().writesStrings()) {
+            roundTrips += rebuildStrings(machines, reload, stale);
+        }
+        if (properties.getLayout().writesHash()) {
+            roundTrips += rebuildHash(machines, reload, stale);
+        }
+
+        RebuildReport report = new RebuildReport(machines.size(), stale[0], roundTrips, System.currentTimeMillis() - start);
+        log.info("🗂️ [Redis Registry] 재구성 완료 - Layout: {}, Machines: {}, Stale: {}, RoundTrips: {}, {}ms",
+                properties.getLayout(), report.machines(), report.staleKeysRemoved(), report.roundTrips(), report.elapsedMillis());
+        return report;
+    }
+
+    private int rebuildStrings(Collection<MachineMetadata> machines,
+                               Function<Collection<Long>, List<MachineMetadata>> reload, int[] stale) {
+        int roundTrips = 0;
+
+        // 1. 현재 설비 기록 (청크당 파이프라인 1회)
+        Map<String, String> expectedIdByName = new HashMap<>(machines.size() * 2);
+        Map<String, String> expectedNameById = new HashMap<>(machines.size() * 2);
+        for (MachineMetadata machine : machines) {
+            expectedIdByName.put(machine.name(), String.valueOf(machine.id()));
+            expectedNameById.put(String.valueOf(machine.id()), machine.name());
+        }
+        List<MachineMetadata> all = new ArrayList<>(machines);
+        for (int from = 0; from < all.size(); from += CHUNK_SIZE) {
+            List<MachineMetadata> chunk = all.subList(from, Math.min(from + CHUNK_SIZE, all.size()));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (MachineMetadata machine : chunk) {
+                    byte[] id = bytes(String.valueOf(machine.id()));
+                    byte[] name = bytes(machine.name());
+                    connection.stringCommands().set(bytes(MACHINE_NAME_PREFIX + machine.name()), id);
+                    connection.stringCommands().set(bytes(MACHINE_ID_PREFIX + machine.id()), name);
+                }
+                return null;
+            });
+            roundTrips++;
+        }
+
+        // 2. DB 에 없거나 다른 값을 가리키는 키 정리 (포털이 내려가 있던 동안의 삭제/이름 변경)
+        roundTrips += removeStale(MACHINE_ID_PREFIX, expectedNameById, reload, stale);
+        roundTrips += removeStale(MACHINE_NAME_PREFIX, expectedIdByName, reload, stale);
+        return roundTrips;
+    }
+
+    // 모든 버킷에 DB 기준 필드를 HSET 으로 덮어쓰고(기존 필드는 유지) 오래된 필드만 확인 후 HDEL
+    // 버킷을 비우고 다시 채우지 않으므로 재구성 중 이벤트 핸들러가 기록한 필드가 사라지지 않음
+    private int rebuildHash(Collection<MachineMetadata> machines,
+                            Function<Collection<Long>, List<MachineMetadata>> reload, int[] stale) {
+        int buckets = properties.getBuckets();
+        Map<String, Map<byte[], byte[]>> contents = new LinkedHashMap<>(buckets * 4);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            contents.put(MachineRegistryBuckets.IDS_PREFIX + bucket, new HashMap<>());
+            contents.put(MachineRegistryBuckets.NAMES_PREFIX + bucket, new HashMap<>());
+        }
+        Map<String, String> expectedNameById = new HashMap<>(machines.size() * 2);
+        Map<String, String> expectedIdByName = new HashMap<>(machines.size() * 2);
+        for (MachineMetadata machine : machines) {
+            byte[] id = bytes(String.valueOf(machine.id()));
+            byte[] name = bytes(machine.name());
+            contents.get(MachineRegistryBuckets.idsKey(machine.id(), buckets)).put(id, name);
+            contents.get(MachineRegistryBuckets.namesKey(machine.name(), buckets)).put(name, id);
+            expectedNameById.put(String.valueOf(machine.id()), machine.name());
+            expectedIdByName.put(machine.name(), String.valueOf(machine.id()));
+        }
+
+        // 1. 현재 설비 기록 (필드 약 CHUNK_SIZE 개당 파이프라인 1회)
+        int roundTrips = 0;
+        List<Map.Entry<String, Map<byte[], byte[]>>> chunk = new ArrayList<>();
+        int fields = 0;
+        for (Map.Entry<String, Map<byte[], byte[]>> entry : contents.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            chunk.add(entry);
+            fields += entry.getValue().size();
+            if (fields >= CHUNK_SIZE) {
+                writeBuckets(chunk);
+                roundTrips++;
+                chunk.clear();
+                fields = 0;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeBuckets(chunk);
+            roundTrips++;
+        }
+
+        // 2. DB 에 없거나 다른 값을 가리키는 필드 정리
+        List<String> bucketKeys = new ArrayList<>(contents.keySet());
+        for (int from = 0; from < bucketKeys.size(); from += BUCKETS_PER_READ) {
+            List<String> page = bucketKeys.subList(from, Math.min(from + BUCKETS_PER_READ, bucketKeys.size()));
+            roundTrips += removeStaleFields(page, expectedNameById, expectedIdByName, reload, stale);
+        }
+
+        redisTemplate.opsForValue().increment(MachineRegistryBuckets.VERSION_KEY);
+        return roundTrips + 1;
+    }
+
+    private void writeBuckets(List<Map.Entry<String, Map<byte[], byte[]>>> chunk) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<String, Map<byte[], byte[]>> bucket : chunk) {
+                connection.hashCommands().hMSet(bytes(bucket.getKey()), bucket.getValue());
+            }
+            return null;
+        });
+    }
+
+    // 버킷 묶음마다 HGETALL 파이프라인 1회 + 정리 대상이 있는 버킷마다 비교 후 삭제 스크립트 1회
+    @SuppressWarnings("unchecked")
+    private int removeStaleFields(List<String> bucketKeys, Map<String, String> expectedNameById,
+                                  Map<String, String> expectedIdByName,
+                                  Function<Collection<Long>, List<MachineMetadata>> reload, int[] removed) {
+        List<Object> entries = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : bucketKeys) {
+                connection.hashCommands().hGetAll(bytes(key));
+            }
+            return null;
+        });
+
+        // 1. 시작 시점 목록과 다른 필드를 후보로 모음
+        Map<String, Map<String, String>> candidates = new LinkedHashMap<>();
+        Set<Long> candidateIds = new HashSet<>();
+        for (int i = 0; i < bucketKeys.size(); i++) {
+            String key = bucketKeys.get(i);
+            boolean idBucket = key.startsWith(MachineRegistryBuckets.IDS_PREFIX);
+            Map<String, String> bucket = (Map<String, String>) entries.get(i);
+            if (bucket == null) {
+                continue;
+            }
+            bucket.forEach((field, value) -> {
+                String expectedValue = idBucket ? expectedNameById.get(field) : expectedIdByName.get(field);
+                if (Objects.equals(expectedValue, value)) {
+                    return;
+                }
+                candidates.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(field, value);
+                Long machineId = parseId(idBucket ? field : value);
+                if (machineId != null) {
+                    candidateIds.add(machineId);
+                }
+            });
+        }
+        if (candidates.isEmpty()) {
+            return 1;
+        }
+
+        // 2. DB 에서 다시 확인해 여전히 맞지 않는 필드만 읽은 값 그대로일 때 삭제
+        Map<Long, String> current = currentNames(reload, candidateIds);
+        int roundTrips = 1;
+        for (Map.Entry<String, Map<String, String>> bucket : candidates.entrySet()) {
+            boolean idBucket = bucket.getKey().startsWith(MachineRegistryBuckets.IDS_PREFIX);
+            List<String> args = new ArrayList<>();
+            bucket.getValue().forEach((field, value) -> {
+                boolean valid = idBucket
+                        ? Objects.equals(current.get(parseId(field)), value)
+                        : Objects.equals(current.get(parseId(value)), field);
+                if (!valid) {
+                    args.add(field);
+                    args.add(value);
+                }
+            });
+            if (args.isEmpty()) {
+                continue;
+            }
+            Long deleted = redisTemplate.execute(HASH_DELETE_IF_UNCHANGED_SCRIPT, List.of(bucket.getKey()), args.toArray());
+            removed[0] += deleted == null ? 0 : deleted.intValue();
+            roundTrips++;
+        }
+        return roundTrips;
+    }
+
+    // prefix 키를 SCAN 해 청크마다 MGET 1회 + 정리 대상이 있으면 비교 후 삭제 스크립트 1회
+    private int removeStale(String prefix, Map<String, String> expected,
+                            Function<Collection<Long>, List<MachineMetadata>> reload, int[] removed) {
+        int roundTrips = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(CHUNK_SIZE).build();
+        List<String> page = new ArrayList<>(CHUNK_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                page.add(cursor.next());
+                if (page.size() == CHUNK_SIZE) {
+                    roundTrips += removeStalePage(prefix, page, expected, reload, removed);
+                    page.clear();
+                }
+            }
+        }
+        if (!page.isEmpty()) {
+            roundTrips += removeStalePage(prefix, page, expected, reload, removed);
+        }
+        return roundTrips;
+    }
+
+    private int removeStalePage(String prefix, List<String> keys, Map<String, String> expected,
+                                Function<Collection<Long>, List<MachineMetadata>> reload, int[] removed) {
+        boolean idKeys = MACHINE_ID_PREFIX.equals(prefix);
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+        // 1. 시작 시점 목록과 다른 키를 후보로 모음 (SCAN 이후 사라진 키는 제외)
+        Map<String, String> candidates = new LinkedHashMap<>();
+        Set<Long> candidateIds = new HashSet<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            String suffix = keys.get(i).substring(prefix.length());
+            if (value == null || Objects.equals(expected.get(suffix), value)) {
+                continue;
+            }
+            candidates.put(keys.get(i), value);
+            Long machineId = parseId(idKeys ? suffix : value);
+            if (machineId != null) {
+                candidateIds.add(machineId);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return 1;
+        }
+
+        // 2. DB 에서 다시 확인해 여전히 맞지 않는 키만 남김
+        Map<Long, String> current = currentNames(reload, candidateIds);
+        List<String> staleKeys = new ArrayList<>();
+        List<String> staleValues = new ArrayList<>();
+        candidates.forEach((key, value) -> {
+            String suffix = key.substring(prefix.length());
+            boolean valid = idKeys
+                    ? Objects.equals(current.get(parseId(suffix)), value)
+                    : Objects.equals(current.get(parseId(value)), suffix);
+            if (!valid) {
+                staleKeys.add(key);
+                staleValues.add(value);
+            }
+        });
+        if (staleKeys.isEmpty()) {
+            return 1;
+        }
+
+        // 3. 읽은 값 그대로인 키만 삭제 (그 사이 이벤트 핸들러가 새로 기록한 키는 유지)
+        Long deleted = redisTemplate.execute(DELETE_IF_UNCHANGED_SCRIPT, staleKeys, staleValues.toArray());
+        removed[0] += deleted == null ? 0 : deleted.intValue();
+        return 2;
+    }
+
+    private static Map<Long, String> currentNames(Function<Collection<Long>, List<MachineMetadata>> reload,
+                                                  Set<Long> machineIds) {
+        Map<Long, String> names = new HashMap<>(machineIds.size() * 2);
+        if (!machineIds.isEmpty()) {
+            for (MachineMetadata machine : reload.apply(machineIds)) {
+                names.put(machine.id(), machine.name());
+            }
+        }
+        return names;
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,232 @@
+package dev.study.portal.service.machine;
+
+import dev.study.portal.config.MachineRegistryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.study.portal.service.machine.MachineRegistryService.DELETE_SCRIPT;
+import static dev.study.portal.service.machine.MachineRegistryService.HASH_DELETE_SCRIPT;
+import static dev.study.portal.service.machine.MachineRegistryService.HASH_UPSERT_SCRIPT;
+import static dev.study.portal.service.machine.MachineRegistryService.MACHINE_ID_PREFIX;
+import static dev.study.portal.service.machine.MachineRegistryService.MACHINE_NAME_PREFIX;
+import static dev.study.portal.service.machine.MachineRegistryService.UPSERT_SCRIPT;
+
+/**
+ * 논블로킹 설비 이름 ↔ ID Redis 레지스트리 (ReactiveStringRedisTemplate)
+ *
+ * <p>MachineRegistryService 와 같은 Lua 스크립트/레이아웃(machine.registry.layout)을 사용하지만 결과를 Mono/Flux 로 돌려주므로
+ * 호출 스레드가 응답을 기다리지 않습니다. Lettuce 는 연결 하나에 명령을 다중화하므로 진행 중인 명령이 스레드를 점유하지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>{@link #upsert}, {@link #delete}, {@link #findMachineId}, {@link #findMachineNames}: 호출 측이 조합해서 구독</li>
+ *   <li>{@link #submit}: 이벤트 핸들러처럼 결과를 기다리지 않는 호출용. 크기가 제한된 큐에 넣고, 설비 ID 해시로 나눈
+ *       레인(machine.registry.concurrency 개)마다 하나씩 순서대로 실행하므로 같은 설비의 명령은 등록 순서가 유지됩니다.</li>
+ *   <li>{@link #upsertAll}: 일괄 갱신. flatMap 동시 실행 수 제한</li>
+ * </ul>
+ *
+ * <p>지표: machine.registry.commands.in-flight(실행 중인 Redis 명령 수), machine.registry.commands.queued(대기 중인 이벤트 명령 수),
+ * machine.registry.commands.rejected(대기열이 가득 차 버린 명령 수), machine.registry.commands.failed</p>
+ */
+@Slf4j
+@Service
+public class ReactiveMachineRegistryService {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final MachineRegistryProperties properties;
+
+    // 여러 스레드에서 넣으므로 submit 에서 직렬화
+    private final BlockingQueue<Command> queue;
+    private final Sinks.Many<Command> commands;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Counter failed;
+    private final Counter rejected;
+    private Disposable worker;
+
+    private record Command(int lane, Mono<?> work) {
+    }
+
+    public ReactiveMachineRegistryService(ReactiveStringRedisTemplate redisTemplate,
+                                          MachineRegistryProperties properties,
+                                          MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.commands = Sinks.many().unicast().onBackpressureBuffer(queue);
+        this.failed = meterRegistry.counter("machine.registry.commands.failed");
+        this.rejected = meterRegistry.counter("machine.registry.commands.rejected");
+        Gauge.builder("machine.registry.commands.in-flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("machine.registry.commands.queued", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        // 레인 수가 flatMap 동시 실행 수와 같으므로 그룹이 끝나지 않아도 모든 레인이 구독됨
+        worker = commands.asFlux()
+                .groupBy(Command::lane)
+                .flatMap(lane -> lane.concatMap(command -> command.work().onErrorResume(e -> {
+                    failed.increment();
+                    log.error("[Redis Registry] 비동기 명령 실패 - Error: {}", e.getMessage(), e);
+                    return Mono.empty();
+                })), properties.getConcurrency())
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (worker != null) {
+            worker.dispose();
+        }
+    }
+
+    /**
+     * 결과를 기다리지 않고 실행할 명령 등록
+     *
+     * <p>같은 설비의 명령은 등록 순서대로 하나씩 실행하고, 동시 실행 수는 machine.registry.concurrency 로 제한합니다.
+     * 대기열(machine.registry.queue-capacity)이 가득 차면 명령을 버립니다.</p>
+     *
+     * @return 등록되었으면 true
+     */
+    public synchronized boolean submit(Long machineId, Mono<?> command) {
+        int lane = Math.floorMod(Long.hashCode(machineId), properties.getConcurrency());
+        Sinks.EmitResult result = commands.tryEmitNext(new Command(lane, command));
+        if (result.isFailure()) {
+            rejected.increment();
+            log.warn("⚠️ [Redis Registry] 명령 폐기 - MachineId: {}, Queued: {}/{}, result={}",
+                    machineId, queue.size(), properties.getQueueCapacity(), result);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 설비 등록 또는 이름 변경
+     *
+     * @return 이름이 바뀌었거나 새로 등록되었으면 true
+     */
+    public Mono<Boolean> upsert(Long machineId, String machineName) {
+        MachineRegistryProperties.Layout layout = properties.getLayout();
+        int buckets = properties.getBuckets();
+        Mono<Boolean> strings = !layout.writesStrings() ? Mono.just(false)
+                : script(UPSERT_SCRIPT,
+                        List.of(MACHINE_ID_PREFIX + machineId, MACHINE_NAME_PREFIX + machineName),
+                        List.of(String.valueOf(machineId), machineName, MACHINE_NAME_PREFIX))
+                .map(changed -> changed == 1L);
+        Mono<Boolean> hash = !layout.writesHash() ? Mono.just(false)
+                : script(HASH_UPSERT_SCRIPT,
+                        List.of(MachineRegistryBuckets.idsKey(machineId, buckets),
+                                MachineRegistryBuckets.namesKey(machineName, buckets),
+                                MachineRegistryBuckets.VERSION_KEY),
+                        List.of(String.valueOf(machineId), machineName,
+                                MachineRegistryBuckets.NAMES_PREFIX, String.valueOf(buckets)))
+                .map(changed -> changed == 1L);
+        return Mono.zip(strings, hash, Boolean::logicalOr);
+    }
+
+    /**
+     * 설비 삭제 (이 설비를 가리키는 이름과 역방향 항목 제거)
+     */
+    public Mono<Long> delete(Long machineId, String machineName) {
+        MachineRegistryProperties.Layout layout = properties.getLayout();
+        int buckets = properties.getBuckets();
+        Mono<Long> strings = !layout.writesStrings() ? Mono.just(0L)
+                : script(DELETE_SCRIPT,
+                        List.of(MACHINE_ID_PREFIX + machineId, MACHINE_NAME_PREFIX + machineName),
+                        List.of(String.valueOf(machineId), MACHINE_NAME_PREFIX));
+        Mono<Long> hash = !layout.writesHash() ? Mono.just(0L)
+                : script(HASH_DELETE_SCRIPT,
+                        List.of(MachineRegistryBuckets.idsKey(machineId, buckets),
+                                MachineRegistryBuckets.namesKey(machineName, buckets),
+                                MachineRegistryBuckets.VERSION_KEY),
+                        List.of(String.valueOf(machineId), machineName,
+                                MachineRegistryBuckets.NAMES_PREFIX, String.valueOf(buckets)));
+        return Mono.zip(strings, hash, Long::sum);
+    }
+
+    /**
+     * 여러 설비 일괄 등록 (동시 실행 수 제한, 스레드는 점유하지 않음)
+     *
+     * @return 이름이 바뀌었거나 새로 등록된 설비 수
+     */
+    public Mono<Long> upsertAll(Collection<MachineMetadata> machines) {
+        return Flux.fromIterable(machines)
+                .flatMap(machine -> upsert(machine.id(), machine.name()), properties.getConcurrency())
+                .filter(Boolean::booleanValue)
+                .count();
+    }
+
+    /**
+     * 이름으로 설비 ID 조회 (해시 레이아웃 우선, 없으면 문자열 키)
+     */
+    public Mono<Long> findMachineId(String machineName) {
+        MachineRegistryProperties.Layout layout = properties.getLayout();
+        Mono<String> hash = !layout.writesHash() ? Mono.empty()
+                : tracked(redisTemplate.<String, String>opsForHash()
+                .get(MachineRegistryBuckets.namesKey(machineName, properties.getBuckets()), machineName));
+        Mono<String> strings = !layout.writesStrings() ? Mono.empty()
+                : tracked(redisTemplate.opsForValue().get(MACHINE_NAME_PREFIX + machineName));
+        return hash.switchIfEmpty(strings).map(Long::valueOf);
+    }
+
+    /**
+     * ID 로 설비 이름 조회 (해시 레이아웃 우선, 없으면 문자열 키)
+     */
+    public Mono<String> findMachineName(Long machineId) {
+        MachineRegistryProperties.Layout layout = properties.getLayout();
+        Mono<String> hash = !layout.writesHash() ? Mono.empty()
+                : tracked(redisTemplate.<String, String>opsForHash()
+                .get(MachineRegistryBuckets.idsKey(machineId, properties.getBuckets()), String.valueOf(machineId)));
+        Mono<String> strings = !layout.writesStrings() ? Mono.empty()
+                : tracked(redisTemplate.opsForValue().get(MACHINE_ID_PREFIX + machineId));
+        return hash.switchIfEmpty(strings);
+    }
+
+    /**
+     * 여러 설비 이름 일괄 조회 (알림 보강용, 레지스트리에 없는 ID 는 결과에서 빠짐)
+     */
+    public Mono<Map<Long, String>> findMachineNames(Collection<Long> machineIds) {
+        return Flux.fromIterable(machineIds)
+                .distinct()
+                .flatMap(machineId -> findMachineName(machineId).map(name -> Map.entry(machineId, name)),
+                        properties.getConcurrency())
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    private Mono<Long> script(RedisScript<Long> script, List<String> keys, List<String> args) {
+        return tracked(redisTemplate.execute(script, keys, args).next().defaultIfEmpty(0L));
+    }
+
+    // 실행 중인 명령 수 집계 (구독 시점부터 완료/취소까지)
+    private <T> Mono<T> tracked(Mono<T> command) {
+        return Mono.defer(() -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return command.doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+}
@@ -0,0 +1,214 @@
+package dev.study.portal.service.sse;
+
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sse.AnomalySeverity;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 설비별 이상 알림 묶음(coalescing)
+ *
+ * <p>설비가 열화되면 AI 서버가 거의 모든 측정값마다 알림을 보내므로, 설비별로 구간(sse.coalescing.window)을 두고 전달량을 제한합니다.</p>
+ * <ul>
+ *   <li>구간 첫 알림: 즉시 전달하고 구간 시작</li>
+ *   <li>구간 내 나머지 알림: 보류 (건수, 최대 확률, 최초/마지막 발생 시간을 누적)</li>
+ *   <li>구간 종료: 보류된 알림이 있으면 한 건으로 묶어 전달하고 다음 구간 시작, 없으면 구간 종료</li>
+ *   <li>심각도 상승: 구간과 관계없이 보류분과 묶어 즉시 전달하고 새 구간 시작</li>
+ * </ul>
+ *
+ * <p>지표: sse.alerts.received, sse.alerts.suppressed, sse.alerts.emitted(reason=first|window|escalation),
+ * sse.alerts.coalescing.machines(열린 구간 수)</p>
+ */
+@Slf4j
+@Service
+public class AnomalyAlertCoalescer {
+
+    private final SseProperties.Coalescing properties;
+    private final SseClusterBroadcaster broadcaster;
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+    private final Counter received;
+    private final Counter suppressed;
+    private final Counter emittedFirst;
+    private final Counter emittedWindow;
+    private final Counter emittedEscalation;
+
+    public AnomalyAlertCoalescer(SseProperties sseProperties, SseClusterBroadcaster broadcaster, MeterRegistry meterRegistry) {
+        this.properties = sseProperties.getCoalescing();
+        this.broadcaster = broadcaster;
+        this.received = meterRegistry.counter("sse.alerts.received");
+        this.suppressed = meterRegistry.counter("sse.alerts.suppressed");
+        this.emittedFirst = meterRegistry.counter("sse.alerts.emitted", "reason", "first");
+        this.emittedWindow = meterRegistry.counter("sse.alerts.emitted", "reason", "window");
+        this.emittedEscalation = meterRegistry.counter("sse.alerts.emitted", "reason", "escalation");
+        Gauge.builder("sse.alerts.coalescing.machines", windows, Map::size).register(meterRegistry);
+    }
+
+    // 설비별 구간 상태 (해당 객체로 동기화)
+    private static final class Window {
+        long openedAt;
+        AnomalySeverity severity;   // 구간에서 마지막으로 전달한 심각도 (상승 판단 기준)
+        boolean closed;
+
+        // 보류 중인 알림
+        int pending;
+        AnomalySeverity pendingSeverity;
+        double maxProbability;
+        LocalDateTime firstDetectedAt;
+        LocalDateTime lastDetectedAt;
+        AnomalySseDto latest;
+
+        Window(long openedAt, AnomalySeverity severity) {
+            this.openedAt = openedAt;
+            this.severity = severity;
+        }
+
+        void hold(AnomalySseDto alert, AnomalySeverity alertSeverity) {
+            if (pending == 0) {
+                pendingSeverity = alertSeverity;
+                maxProbability = probability(alert);
+                firstDetectedAt = first(alert);
+            } else {
+                pendingSeverity = pendingSeverity.compareTo(alertSeverity) >= 0 ? pendingSeverity : alertSeverity;
+                maxProbability = Math.max(maxProbability, probability(alert));
+            }
+            pending += count(alert);
+            lastDetectedAt = last(alert);
+            latest = alert;
+        }
+
+        AnomalySseDto drain() {
+            AnomalySseDto aggregated = AnomalySseDto.builder()
+                    .machineId(latest.getMachineId())
+                    .machineName(latest.getMachineName())
+                    .machineType(latest.getMachineType())
+                    .detectedAt(lastDetectedAt)
+                    .severity(pendingSeverity.name())
+                    .anomalyProbability(maxProbability)
+                    .count(pending)
+                    .firstDetectedAt(firstDetectedAt)
+                    .lastDetectedAt(lastDetectedAt)
+                    .build();
+            pending = 0;
+            latest = null;
+            return aggregated;
+        }
+    }
+
+    public void accept(AnomalySseDto alert) {
+        accept(alert, System.currentTimeMillis());
+    }
+
+    void accept(AnomalySseDto alert, long now) {
+        coalesce(alert, now, broadcaster::publish);
+    }
+
+    /**
+     * 배치 리스너용 - 묶음 판정 후 전달할 알림을 모아 브로드캐스터에 한 번에 넘김
+     */
+    public void acceptAll(List<AnomalySseDto> alerts) {
+        acceptAll(alerts, System.currentTimeMillis());
+    }
+
+    void acceptAll(List<AnomalySseDto> alerts, long now) {
+        List<AnomalySseDto> outgoing = new ArrayList<>();
+        alerts.forEach(alert -> coalesce(alert, now, outgoing::add));
+        if (!outgoing.isEmpty()) {
+            broadcaster.publishAll(outgoing);
+        }
+    }
+
+    private void coalesce(AnomalySseDto alert, long now, Consumer<AnomalySseDto> emit) {
+        received.increment();
+        if (!properties.isEnabled() || alert.getMachineId() == null) {
+            emit.accept(alert);
+            return;
+        }
+
+        AnomalySeverity severity = AnomalySeverity.from(alert.getSeverity());
+        while (true) {
+            boolean[] created = {false};
+            Window window = windows.computeIfAbsent(alert.getMachineId(), id -> {
+                created[0] = true;
+                return new Window(now, severity);
+            });
+
+            synchronized (window) {
+                if (window.closed) {
+                    continue; // 스윕이 방금 닫은 구간 - 새 구간으로 다시 시도
+                }
+                if (created[0]) {
+                    emittedFirst.increment();
+                    emit.accept(alert);
+                } else if (severity.compareTo(window.severity) > 0) {
+                    window.hold(alert, severity);
+                    window.openedAt = now;
+                    window.severity = severity;
+                    emittedEscalation.increment();
+                    emit.accept(window.drain());
+                } else {
+                    window.hold(alert, severity);
+                    suppressed.increment();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 끝난 구간 정리 (보류분은 한 건으로 전달)
+     */
+    public void sweep() {
+        sweep(System.currentTimeMillis());
+    }
+
+    void sweep(long now) {
+        long windowMillis = properties.getWindow().toMillis();
+        for (Map.Entry<Long, Window> entry : windows.entrySet()) {
+            Window window = entry.getValue();
+            synchronized (window) {
+                if (now - window.openedAt < windowMillis) {
+                    continue;
+                }
+                if (window.pending > 0) {
+                    window.openedAt = now;
+                    window.severity = window.pendingSeverity;
+                    emittedWindow.increment();
+                    AnomalySseDto aggregated = window.drain();
+                    log.debug("설비 {} 알림 {}건 묶음 전달", aggregated.getMachineId(), aggregated.getCount());
+                    broadcaster.publish(aggregated);
+                } else {
+                    window.closed = true;
+                    windows.remove(entry.getKey(), window);
+                }
+            }
+        }
+    }
+
+    private static int count(AnomalySseDto alert) {
+        return alert.getCount() == null ? 1 : alert.getCount();
+    }
+
+    private static double probability(AnomalySseDto alert) {
+        return alert.getAnomalyProbability() == null ? 0.0 : alert.getAnomalyProbability();
+    }
+
+    private static LocalDateTime first(AnomalySseDto alert) {
+        return alert.getFirstDetectedAt() != null ? alert.getFirstDetectedAt() : alert.getDetectedAt();
+    }
+
+    private static LocalDateTime last(AnomalySseDto alert) {
+        return alert.getLastDetectedAt() != null ? alert.getLastDetectedAt() : alert.getDetectedAt();
+    }
+}
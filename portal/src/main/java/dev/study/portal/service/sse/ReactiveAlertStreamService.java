@@ -0,0 +1,112 @@
+package dev.study.portal.service.sse;
+
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sse.AnomalySeverity;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reactor 기반 이상 알림 스트림
+ *
+ * <p>구독자는 스레드나 서블릿 비동기 컨텍스트를 점유하지 않고 Netty 이벤트 루프에서 처리됩니다.
+ * 발행 시 SseEmitterService 와 같은 SseSubscriptionIndex 로 필터가 맞는 구독자만 찾아 각자의 싱크에 넣으므로
+ * 이벤트당 비용은 전체 구독자 수가 아니라 매칭 구독자 수에 비례합니다.
+ * 구독자마다 제한된 백프레셔 버퍼를 두어 느린 구독자는 가장 오래된 이벤트부터 버립니다. (다른 구독자와 발행자는 영향을 받지 않음)</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveAlertStreamService {
+    private static final String ANOMALY_ALERT = "anomaly-alert";
+
+    private final SseProperties properties;
+
+    private final SseSubscriptionIndex<Subscriber> index = new SseSubscriptionIndex<>(Subscriber::filter);
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventIds = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    /**
+     * 스트림 구독자 (필터 + 전용 싱크, 싱크 호출은 publish 의 synchronized 로 직렬화)
+     */
+    private record Subscriber(SseSubscriptionFilter filter, Sinks.Many<ServerSentEvent<AnomalySseDto>> sink) {
+    }
+
+    /**
+     * 알림 발행 (Kafka 리스너 여러 스레드에서 호출될 수 있어 싱크 호출을 직렬화)
+     */
+    public synchronized void publish(AnomalySseDto anomalySseDto) {
+        publish(anomalySseDto, eventIds.incrementAndGet());
+    }
+
+    /**
+     * 이미 부여된 이벤트 id 로 발행 (SseClusterBroadcaster 가 모든 인스턴스에 같은 id 를 쓰도록 전달)
+     */
+    public synchronized void publish(AnomalySseDto anomalySseDto, long eventId) {
+        eventIds.accumulateAndGet(eventId, Math::max);
+        ServerSentEvent<AnomalySseDto> event = ServerSentEvent.builder(anomalySseDto)
+                .id(Long.toString(eventId))
+                .event(ANOMALY_ALERT)
+                .build();
+
+        AnomalySeverity severity = AnomalySeverity.from(anomalySseDto.getSeverity());
+        for (Subscriber subscriber : index.match(anomalySseDto.getMachineId(), anomalySseDto.getMachineType(), severity)) {
+            Sinks.EmitResult result = subscriber.sink().tryEmitNext(event);
+            if (result.isFailure() && result != Sinks.EmitResult.FAIL_CANCELLED && result != Sinks.EmitResult.FAIL_TERMINATED) {
+                log.warn("⚠️ Reactive SSE 발행 실패 - machineId={}, result={}", anomalySseDto.getMachineId(), result);
+            }
+        }
+    }
+
+    public synchronized void publishAll(List<AnomalySseDto> anomalySseDtos) {
+        anomalySseDtos.forEach(this::publish);
+    }
+
+    public synchronized void publishAll(List<AnomalySseDto> anomalySseDtos, List<Long> assignedIds) {
+        for (int i = 0; i < anomalySseDtos.size(); i++) {
+            publish(anomalySseDtos.get(i), assignedIds.get(i));
+        }
+    }
+
+    /**
+     * 구독 스트림 (필터 적용 + 구독자별 버퍼 + 하트비트)
+     */
+    public Flux<ServerSentEvent<AnomalySseDto>> stream(SseSubscriptionFilter filter) {
+        SseProperties.Reactive reactive = properties.getReactive();
+
+        return Flux.defer(() -> {
+            // 구독 시점에 색인 등록, 연결 종료/취소 시 해제
+            Subscriber subscriber = new Subscriber(filter, Sinks.many().unicast().onBackpressureBuffer());
+            index.add(subscriber);
+            subscriberCount.incrementAndGet();
+
+            Flux<ServerSentEvent<AnomalySseDto>> alerts = subscriber.sink().asFlux()
+                    .onBackpressureBuffer(reactive.getBufferSize(),
+                            dropped -> log.debug("Reactive SSE 느린 구독자 - 이벤트 {} 버림", dropped.id()),
+                            BufferOverflowStrategy.DROP_OLDEST);
+
+            Flux<ServerSentEvent<AnomalySseDto>> heartbeats = Flux.interval(reactive.getHeartbeat())
+                    .map(tick -> ServerSentEvent.<AnomalySseDto>builder().comment("heartbeat").build())
+                    .onBackpressureDrop();
+
+            return Flux.merge(alerts, heartbeats)
+                    .doFinally(signal -> {
+                        index.remove(subscriber);
+                        subscriberCount.decrementAndGet();
+                    });
+        });
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+}
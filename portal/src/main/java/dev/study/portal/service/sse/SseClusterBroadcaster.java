@@ -0,0 +1,169 @@
+package dev.study.portal.service.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인스턴스 간 이상 알림 팬아웃
+ *
+ * <p>Kafka 알림은 컨슈머 그룹 안에서 한 인스턴스만 받으므로, 받은 인스턴스가 자기 구독자에게 전달한 뒤
+ * Redis 채널로 다시 발행하고 모든 인스턴스가 채널 메시지를 자기 구독자에게 전달합니다.</p>
+ *
+ * <p>자기가 발행한 메시지도 채널로 돌아오고 Kafka 재전달로 같은 알림이 두 번 들어올 수도 있으므로
+ * 이벤트 id 기준으로 한 번만 전달합니다. Redis 장애 시에도 로컬 구독자 전달은 유지됩니다.</p>
+ *
+ * <p>클라이언트에 보내는 SSE 이벤트 id 는 알림을 받은 인스턴스가 Redis 공용 카운터에서 한 번 부여해 메시지에 담아 보내므로,
+ * 모든 인스턴스가 같은 알림에 같은 id 를 씁니다. 따라서 sticky session 없이 다른 인스턴스로 재연결해도
+ * Last-Event-ID 기준 재전송이 이어집니다.</p>
+ *
+ * <p>여러 인스턴스가 동시에 발행하면 id 순서와 도착 순서가 어긋날 수 있습니다. (id 100 을 받은 클라이언트에게 99 가 늦게 도착)
+ * 재전송은 id 비교만이 아니라 Last-Event-ID 이벤트 이후에 도착한 이벤트도 포함하므로 늦게 도착한 알림을 놓치지 않는 대신
+ * 일부 알림이 한 번 더 전달될 수 있습니다. 단, Last-Event-ID 이벤트가 이미 재전송 버퍼에서 밀려났거나
+ * 재연결한 인스턴스에 아직 도착하지 않았다면 그보다 작은 id 로 늦게 도착한 알림은 재전송되지 않습니다.</p>
+ */
+@Slf4j
+@Service
+public class SseClusterBroadcaster implements MessageListener {
+
+    private final SseProperties.Cluster properties;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseEmitterService sseEmitterService;
+    private final ReactiveAlertStreamService reactiveAlertStreamService;
+    private final SseEventDeduplicator deduplicator;
+
+    public SseClusterBroadcaster(
+            SseProperties sseProperties,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            SseEmitterService sseEmitterService,
+            ReactiveAlertStreamService reactiveAlertStreamService
+    ) {
+        this.properties = sseProperties.getCluster();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.sseEmitterService = sseEmitterService;
+        this.reactiveAlertStreamService = reactiveAlertStreamService;
+        this.deduplicator = new SseEventDeduplicator(properties.getDedupCapacity());
+    }
+
+    /**
+     * Kafka 로 받은 알림 발행 (로컬 전달 후 다른 인스턴스로 중계)
+     */
+    public void publish(AnomalySseDto anomalySseDto) {
+        publishAll(List.of(anomalySseDto));
+    }
+
+    /**
+     * 여러 알림을 한 번에 발행 (로컬 전달 1회, Redis 는 id 예약 1회 + 파이프라인 1회 왕복)
+     */
+    public void publishAll(List<AnomalySseDto> anomalySseDtos) {
+        List<AnomalySseDto> fresh = new ArrayList<>(anomalySseDtos.size());
+        for (AnomalySseDto anomalySseDto : anomalySseDtos) {
+            String eventId = SseClusterEnvelope.of(anomalySseDto).eventId();
+            if (!deduplicator.firstSeen(eventId)) {
+                log.debug("중복 알림 무시 - eventId={}", eventId);
+                continue;
+            }
+            fresh.add(anomalySseDto);
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+        if (!properties.isEnabled()) {
+            deliverLocally(fresh, null);
+            return;
+        }
+
+        List<Long> sequences = reserveSequences(fresh.size());
+        deliverLocally(fresh, sequences);
+        try {
+            List<String> payloads = new ArrayList<>(fresh.size());
+            for (int i = 0; i < fresh.size(); i++) {
+                payloads.add(SseClusterEnvelope.of(fresh.get(i), sequences == null ? null : sequences.get(i)).encode(objectMapper));
+            }
+            if (payloads.size() == 1) {
+                redisTemplate.convertAndSend(properties.getChannel(), payloads.get(0));
+                return;
+            }
+            byte[] channel = properties.getChannel().getBytes(StandardCharsets.UTF_8);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                payloads.forEach(payload -> connection.publish(channel, payload.getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("⚠️ SSE 알림 Redis 중계 실패 (로컬 구독자에게만 전달됨) - Count: {}: {}",
+                    fresh.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 클러스터 공용 카운터에서 SSE 이벤트 id count 개 예약
+     *
+     * <p>카운터가 없으면(최초 기동 / Redis 초기화) 현재 시각(μs)에서 시작해 이전 id 보다 커지도록 합니다.
+     * 실패하면 null 을 반환하고 각 인스턴스가 자체 id 를 부여합니다. (이 경우 재연결은 같은 인스턴스에서만 이어짐)</p>
+     *
+     * @return 오름차순 id 목록, 예약 실패 시 null
+     */
+    private List<Long> reserveSequences(int count) {
+        try {
+            byte[] key = properties.getEventIdKey().getBytes(StandardCharsets.UTF_8);
+            byte[] seed = Long.toString(System.currentTimeMillis() * 1000).getBytes(StandardCharsets.UTF_8);
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().setNX(key, seed);
+                connection.stringCommands().incrBy(key, count);
+                return null;
+            });
+            long last = (Long) results.get(1);
+            List<Long> sequences = new ArrayList<>(count);
+            for (long id = last - count + 1; id <= last; id++) {
+                sequences.add(id);
+            }
+            return sequences;
+        } catch (Exception e) {
+            log.warn("⚠️ SSE 이벤트 id 예약 실패 (인스턴스별 id 사용) - Count: {}: {}", count, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Redis 채널 메시지 수신 (다른 인스턴스 또는 자기 자신이 발행한 알림)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        SseClusterEnvelope envelope;
+        try {
+            envelope = SseClusterEnvelope.decode(objectMapper, new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.error("SSE 중계 메시지 해석 실패: {}", e.getMessage());
+            return;
+        }
+        if (deduplicator.firstSeen(envelope.eventId())) {
+            deliverLocally(List.of(envelope.toDto()), envelope.sequence() == null ? null : List.of(envelope.sequence()));
+        }
+    }
+
+    /**
+     * @param sequences 알림별 SSE 이벤트 id, null 이면 각 서비스가 자체 id 부여
+     */
+    private void deliverLocally(List<AnomalySseDto> anomalySseDtos, List<Long> sequences) {
+        if (sequences == null) {
+            sseEmitterService.broadcastAll(anomalySseDtos);
+            reactiveAlertStreamService.publishAll(anomalySseDtos);
+            return;
+        }
+        sseEmitterService.broadcastAll(anomalySseDtos, sequences);
+        reactiveAlertStreamService.publishAll(anomalySseDtos, sequences);
+    }
+}
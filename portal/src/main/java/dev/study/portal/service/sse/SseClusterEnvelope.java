@@ -0,0 +1,88 @@
+package dev.study.portal.service.sse;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import dev.study.portal.entity.machine.enums.Type;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Redis 채널로 중계하는 알림 (한 글자 키의 JSON)
+ *
+ * <p>예: {@code {"i":"7:1735689600000000:CRITICAL:1","q":1735689600000042,"m":7,"n":"Machine 7","t":"HIGH","d":1735689600000000,"s":"CRITICAL","p":0.97,"c":1,...}}<br>
+ * 시각은 UTC 기준 epoch 마이크로초로 보냅니다.</p>
+ *
+ * @param eventId 중복 제거용 id (설비 ID + 발생 시각 + 심각도 + 묶인 수 - 같은 알림이 Kafka 에서 재전달돼도 같은 값)
+ * @param sequence 클라이언트에 보내는 SSE 이벤트 id (알림을 받은 인스턴스가 한 번 부여, 모든 인스턴스가 같은 값 사용)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record SseClusterEnvelope(
+        @JsonProperty("i") String eventId,
+        @JsonProperty("q") Long sequence,
+        @JsonProperty("m") Long machineId,
+        @JsonProperty("n") String machineName,
+        @JsonProperty("t") Type machineType,
+        @JsonProperty("d") Long detectedAtMicros,
+        @JsonProperty("s") String severity,
+        @JsonProperty("p") Double anomalyProbability,
+        @JsonProperty("c") Integer count,
+        @JsonProperty("f") Long firstDetectedAtMicros,
+        @JsonProperty("l") Long lastDetectedAtMicros
+) {
+
+    static SseClusterEnvelope of(AnomalySseDto dto) {
+        return of(dto, null);
+    }
+
+    static SseClusterEnvelope of(AnomalySseDto dto, Long sequence) {
+        Long micros = toMicros(dto.getDetectedAt());
+        return new SseClusterEnvelope(
+                dto.getMachineId() + ":" + micros + ":" + dto.getSeverity() + ":" + dto.getCount(),
+                sequence,
+                dto.getMachineId(),
+                dto.getMachineName(),
+                dto.getMachineType(),
+                micros,
+                dto.getSeverity(),
+                dto.getAnomalyProbability(),
+                dto.getCount(),
+                toMicros(dto.getFirstDetectedAt()),
+                toMicros(dto.getLastDetectedAt()));
+    }
+
+    AnomalySseDto toDto() {
+        return AnomalySseDto.builder()
+                .machineId(machineId)
+                .machineName(machineName)
+                .machineType(machineType)
+                .detectedAt(fromMicros(detectedAtMicros))
+                .severity(severity)
+                .anomalyProbability(anomalyProbability)
+                .count(count)
+                .firstDetectedAt(fromMicros(firstDetectedAtMicros))
+                .lastDetectedAt(fromMicros(lastDetectedAtMicros))
+                .build();
+    }
+
+    String encode(ObjectMapper objectMapper) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(this);
+    }
+
+    static SseClusterEnvelope decode(ObjectMapper objectMapper, String payload) throws JsonProcessingException {
+        return objectMapper.readValue(payload, SseClusterEnvelope.class);
+    }
+
+    private static Long toMicros(LocalDateTime time) {
+        return time == null ? null : ChronoUnit.MICROS.between(Instant.EPOCH, time.toInstant(ZoneOffset.UTC));
+    }
+
+    private static LocalDateTime fromMicros(Long micros) {
+        return micros == null ? null : LocalDateTime.ofInstant(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), ZoneOffset.UTC);
+    }
+}
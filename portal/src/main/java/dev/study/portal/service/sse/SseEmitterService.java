@@ -1,42 +1,310 @@
 package dev.study.portal.service.sse;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sse.AnomalySeverity;
 import dev.study.portal.dto.sse.AnomalySseDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * SSE 알림 팬아웃 엔진
+ *
+ * <p>broadcast 는 클라이언트별 대기열에 이벤트를 넣기만 하고 즉시 반환하므로,
+ * 호출 스레드(Kafka 리스너)는 클라이언트 소켓 쓰기에 묶이지 않습니다.
+ * 실제 전송은 전용 스레드 풀이 클라이언트 단위로 대기열을 비우며 수행합니다. (클라이언트당 동시에 하나의 전송만)</p>
+ *
+ * <p>구독 필터(설비 ID / 설비 유형 / 최소 심각도)는 SseSubscriptionIndex 로 색인되어,
+ * broadcast 비용은 전체 구독자 수가 아니라 조건이 맞는 구독자 수에 비례합니다.</p>
+ *
+ * <p>재연결 지원: 모든 이벤트에 단조 증가 id 를 붙이고 최근 이벤트를 링 버퍼에 보관합니다.
+ * 브라우저 EventSource 가 재연결하며 보내는 Last-Event-ID 이후의 이벤트 중 필터에 맞는 것만 재전송합니다.
+ * 발행(id 부여 + 버퍼 기록 + 대기열 투입)과 구독 등록(등록 + 재전송 투입)은 같은 잠금으로 직렬화되므로
+ * 재연결 시 누락/중복이 없습니다. 버퍼에서 이미 밀려난 이벤트가 있으면 replay-truncated 이벤트로 알립니다.
+ * 여러 인스턴스로 운영할 때는 SseClusterBroadcaster 가 부여한 클러스터 공용 id 를 쓰므로 다른 인스턴스로 재연결해도 이어집니다.</p>
+ *
+ * <p>이벤트는 발행 시 한 번만 직렬화해 SSE 바이트 프레임(id/event/data 줄 포함)으로 만들고,
+ * 모든 구독자에게 같은 프레임을 그대로 기록합니다. (구독자 수만큼 Jackson 직렬화하지 않음)</p>
+ *
+ * <p>느린 클라이언트 정책:</p>
+ * <ul>
+ *   <li>대기열이 가득 차면 가장 오래된 이벤트를 버리고 새 이벤트를 넣음</li>
+ *   <li>가득 찬 상태가 slow-consumer-timeout 이상 지속되면 구독 해제 후 연결 종료</li>
+ * </ul>
+ */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class SseEmitterService {
-    private final Map<String, SseEmitter> emitters = new HashMap<>();
-    private static final Long TIMEOUT = 60L * 1000 * 60; // 60 minutes
     private static final String ANOMALY_ALERT = "anomaly-alert";
+    private static final String REPLAY_TRUNCATED = "replay-truncated";
+    private static final String TRUNCATED_MESSAGE = "일부 알림을 재전송하지 못했습니다. 알림 이력을 다시 조회하세요.";
+    private static final long NO_EVENT_ID = 0L;
+
+    private final SseProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, SseSubscriber> subscribers = new ConcurrentHashMap<>();
+    private final SseSubscriptionIndex<SseSubscriber> index = new SseSubscriptionIndex<>(subscriber -> subscriber.filter);
+
+    // 재시작 후에도 이전 id 보다 커지도록 기동 시각(μs 단위)에서 시작 (클러스터 id 를 받으면 그 이상으로 맞춤)
+    private final AtomicLong eventIds = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private SseReplayBuffer replayBuffer;
+
+    private ExecutorService sender;
+
+    @PostConstruct
+    void init() {
+        replayBuffer = new SseReplayBuffer(properties.getReplayBufferSize());
+        AtomicInteger threadIndex = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(properties.getSenderThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+    }
 
     public SseEmitter subscribe(String clientId){
-        SseEmitter emitter = new SseEmitter(TIMEOUT);
-        emitters.put(clientId, emitter);
+        return subscribe(clientId, SseSubscriptionFilter.all(), null);
+    }
 
-        emitter.onCompletion(() -> emitters.remove(clientId));
-        emitter.onTimeout(() -> emitters.remove(clientId));
-        emitter.onError((e) -> emitters.remove(clientId));
+    /**
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 id (Last-Event-ID), 최초 연결이면 null
+     */
+    public SseEmitter subscribe(String clientId, SseSubscriptionFilter filter, Long lastEventId){
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        register(clientId, emitter, filter, lastEventId);
         return emitter;
     }
 
+    void register(String clientId, SseEmitter emitter) {
+        register(clientId, emitter, SseSubscriptionFilter.all(), null);
+    }
+
+    void register(String clientId, SseEmitter emitter, SseSubscriptionFilter filter) {
+        register(clientId, emitter, filter, null);
+    }
+
+    /**
+     * 구독자 등록 (같은 clientId 의 기존 연결은 종료) 후 lastEventId 이후 놓친 이벤트 재전송
+     */
+    void register(String clientId, SseEmitter emitter, SseSubscriptionFilter filter, Long lastEventId) {
+        SseSubscriber subscriber = new SseSubscriber(clientId, emitter, filter, properties.getQueueCapacity());
+        publishLock.lock();
+        try {
+            SseSubscriber previous = subscribers.put(clientId, subscriber);
+            if (previous != null) {
+                index.remove(previous);
+                closeAsync(previous);
+            }
+            index.add(subscriber);
+
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+        } finally {
+            publishLock.unlock();
+        }
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError((e) -> unsubscribe(subscriber));
+    }
+
     public void broadcast(AnomalySseDto anomalySseDto){
-        emitters.forEach((key, emitter) -> {
-            try{
-                emitter.send(SseEmitter.event()
-                        .name(ANOMALY_ALERT)
-                        .data(anomalySseDto));
-            } catch (IOException e){
-                log.error("SSE 전송 실패 {}: {}", key, e.getMessage());
-                emitters.remove(key);
+        broadcastAll(List.of(anomalySseDto));
+    }
+
+    /**
+     * 여러 알림을 한 번에 발행 (잠금 1회, 구독자별 전송 예약 1회)
+     */
+    public void broadcastAll(List<AnomalySseDto> anomalySseDtos) {
+        broadcastAll(anomalySseDtos, null);
+    }
+
+    /**
+     * 이미 부여된 이벤트 id 로 발행 (SseClusterBroadcaster 가 모든 인스턴스에 같은 id 를 쓰도록 전달)
+     *
+     * @param assignedIds 알림별 SSE 이벤트 id, null 이면 이 인스턴스의 카운터로 부여
+     */
+    public void broadcastAll(List<AnomalySseDto> anomalySseDtos, List<Long> assignedIds) {
+        long now = System.nanoTime();
+        long slowTimeoutNanos = properties.getSlowConsumerTimeout().toNanos();
+
+        List<AnomalySseDto> alerts = new ArrayList<>(anomalySseDtos.size());
+        List<Long> ids = new ArrayList<>(anomalySseDtos.size());
+        List<byte[]> payloads = new ArrayList<>(anomalySseDtos.size());
+        for (int i = 0; i < anomalySseDtos.size(); i++) {
+            AnomalySseDto anomalySseDto = anomalySseDtos.get(i);
+            try {
+                payloads.add(objectMapper.writeValueAsBytes(anomalySseDto));
+                alerts.add(anomalySseDto);
+                ids.add(assignedIds == null ? null : assignedIds.get(i));
+            } catch (JsonProcessingException e) {
+                log.error("SSE 이벤트 직렬화 실패 - machineId={}: {}", anomalySseDto.getMachineId(), e.getMessage());
             }
-        });
+        }
+        if (alerts.isEmpty()) {
+            return;
+        }
+
+        Set<SseSubscriber> touched = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<SseSubscriber> closed = Collections.newSetFromMap(new IdentityHashMap<>());
+        publishLock.lock();
+        try {
+            for (int i = 0; i < alerts.size(); i++) {
+                AnomalySseDto anomalySseDto = alerts.get(i);
+                AnomalySeverity severity = AnomalySeverity.from(anomalySseDto.getSeverity());
+                long id = nextEventId(ids.get(i));
+                SseOutboundEvent event = new SseOutboundEvent(id, anomalySseDto,
+                        SseFrameEncoder.encode(id, ANOMALY_ALERT, payloads.get(i)));
+                replayBuffer.append(event);
+
+                for (SseSubscriber subscriber : index.match(anomalySseDto.getMachineId(), anomalySseDto.getMachineType(), severity)) {
+                    if (closed.contains(subscriber)) {
+                        continue;
+                    }
+                    if (!subscriber.enqueue(event, now) && now - subscriber.fullSince.get() >= slowTimeoutNanos) {
+                        log.warn("🐢 [SSE] 느린 클라이언트 연결 종료 {} (버린 이벤트: {})",
+                                subscriber.clientId, subscriber.dropped.get());
+                        closed.add(subscriber);
+                        touched.remove(subscriber);
+                        if (unsubscribe(subscriber)) {
+                            closeAsync(subscriber);
+                        }
+                        continue;
+                    }
+                    touched.add(subscriber);
+                }
+            }
+            touched.forEach(this::scheduleDrain);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * 부여된 id 가 있으면 그대로 쓰고 자체 카운터를 그 이상으로 맞춤 (publishLock 안에서 호출)
+     */
+    private long nextEventId(Long assigned) {
+        if (assigned == null) {
+            return eventIds.incrementAndGet();
+        }
+        eventIds.accumulateAndGet(assigned, Math::max);
+        return assigned;
+    }
+
+    /**
+     * 버퍼에 남아있는 lastEventId 이후 이벤트 중 필터에 맞는 것을 대기열에 투입 (publishLock 안에서 호출)
+     */
+    private void replay(SseSubscriber subscriber, long lastEventId) {
+        int limit = properties.getQueueCapacity() - 1;
+        SseReplayBuffer.Replay replay = replayBuffer.since(lastEventId,
+                event -> event.payload() != null && subscriber.filter.matches(event.payload()), limit);
+
+        long now = System.nanoTime();
+        if (replay.truncated()) {
+            subscriber.enqueue(truncatedMarker(), now);
+        }
+        replay.events().forEach(event -> subscriber.enqueue(event, now));
+        if (!subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+        log.info("🔁 [SSE] 재연결 재전송 {} - Last-Event-ID: {}, Count: {}{}", subscriber.clientId, lastEventId,
+                replay.events().size(), replay.truncated() ? " (일부 유실)" : "");
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
     }
 
+    /**
+     * 구독 해제 (이미 다른 연결로 대체된 경우 무시)
+     * @return 이번 호출로 해제되었으면 true
+     */
+    private boolean unsubscribe(SseSubscriber subscriber) {
+        if (subscribers.remove(subscriber.clientId, subscriber)) {
+            index.remove(subscriber);
+            return true;
+        }
+        return false;
+    }
+
+    private void scheduleDrain(SseSubscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(SseSubscriber subscriber) {
+        do {
+            SseOutboundEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                // 하나라도 꺼냈으면 느린 클라이언트가 아니라 따라오는 중 (전부 비울 때까지 기다리지 않음)
+                subscriber.clearFull();
+                try {
+                    subscriber.emitter.send(event.frame());
+                } catch (Exception e) {
+                    log.error("SSE 전송 실패 {}: {}", subscriber.clientId, e.getMessage());
+                    unsubscribe(subscriber);
+                    subscriber.queue.clear();
+                    subscriber.draining.set(false);
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // 비운 직후 들어온 이벤트가 있으면 이어서 처리 (신호 유실 방지)
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    /**
+     * 재전송 누락 안내 이벤트 (id 없이 전송하므로 클라이언트의 Last-Event-ID 는 유지됨)
+     */
+    private SseOutboundEvent truncatedMarker() {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(TRUNCATED_MESSAGE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return new SseOutboundEvent(NO_EVENT_ID, null, SseFrameEncoder.encode(null, REPLAY_TRUNCATED, json));
+    }
+
+    /**
+     * 연결 종료는 전송 중인 쓰기와 같은 잠금을 쓰므로 호출 스레드를 막지 않도록 전송 풀에서 실행
+     */
+    private void closeAsync(SseSubscriber subscriber) {
+        subscriber.queue.clear();
+        sender.execute(() -> {
+            try {
+                subscriber.emitter.complete();
+            } catch (Exception e) {
+                log.debug("SSE 연결 종료 실패 {}: {}", subscriber.clientId, e.getMessage());
+            }
+        });
+    }
 }
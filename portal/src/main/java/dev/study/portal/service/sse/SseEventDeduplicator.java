@@ -0,0 +1,27 @@
+package dev.study.portal.service.sse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 이벤트 id 를 기억해 같은 알림을 한 번만 통과시키는 필터 (용량 초과 시 가장 오래된 id 부터 잊음)
+ */
+class SseEventDeduplicator {
+    private final Map<String, Boolean> seen;
+
+    SseEventDeduplicator(int capacity) {
+        this.seen = new LinkedHashMap<>(capacity * 4 / 3 + 1) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @return 처음 보는 id 면 true (기억해 둠), 이미 본 id 면 false
+     */
+    synchronized boolean firstSeen(String eventId) {
+        return seen.putIfAbsent(eventId, Boolean.TRUE) == null;
+    }
+}
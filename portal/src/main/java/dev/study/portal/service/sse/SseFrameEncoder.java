@@ -0,0 +1,51 @@
+package dev.study.portal.service.sse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * SSE 이벤트를 전송 가능한 바이트 프레임으로 한 번만 인코딩
+ *
+ * <p>형식: {@code id:<id>\nevent:<name>\ndata:<json>\n\n} (id 가 없으면 id 줄 생략)<br>
+ * data 는 Jackson 의 한 줄 JSON 이므로 줄바꿈이 포함되지 않아 data 줄 하나로 충분합니다.</p>
+ *
+ * <p>반환하는 Set 은 불변이므로 모든 구독자가 같은 인스턴스를 그대로 전송합니다.
+ * (ByteArrayHttpMessageConverter 가 바이트를 그대로 기록)</p>
+ */
+final class SseFrameEncoder {
+
+    private static final byte[] ID = "id:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT = "event:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA = "data:".getBytes(StandardCharsets.UTF_8);
+    private static final int LF = '\n';
+
+    private SseFrameEncoder() {
+    }
+
+    /**
+     * @param id   이벤트 id (null 이면 생략 - 클라이언트의 Last-Event-ID 가 바뀌지 않음)
+     * @param name 이벤트 이름
+     * @param json 한 줄 JSON
+     */
+    static Set<ResponseBodyEmitter.DataWithMediaType> encode(Long id, String name, byte[] json) {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length + nameBytes.length + 48);
+        if (id != null) {
+            out.writeBytes(ID);
+            out.writeBytes(Long.toString(id).getBytes(StandardCharsets.US_ASCII));
+            out.write(LF);
+        }
+        out.writeBytes(EVENT);
+        out.writeBytes(nameBytes);
+        out.write(LF);
+        out.writeBytes(DATA);
+        out.writeBytes(json);
+        out.write(LF);
+        out.write(LF);
+        return Set.of(new ResponseBodyEmitter.DataWithMediaType(out.toByteArray(), MediaType.TEXT_EVENT_STREAM));
+    }
+}
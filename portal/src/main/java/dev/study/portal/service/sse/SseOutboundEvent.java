@@ -0,0 +1,16 @@
+package dev.study.portal.service.sse;
+
+import dev.study.portal.dto.sse.AnomalySseDto;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.Set;
+
+/**
+ * 구독자 대기열에 들어가는 SSE 이벤트
+ *
+ * @param id      인스턴스 내 단조 증가 id (0 이면 id 없음)
+ * @param payload 필터 판정용 원본 (제어 이벤트는 null)
+ * @param frame   한 번 인코딩된 전송 프레임 (모든 구독자가 공유)
+ */
+record SseOutboundEvent(long id, AnomalySseDto payload, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+}
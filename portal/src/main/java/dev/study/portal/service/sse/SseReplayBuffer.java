@@ -0,0 +1,71 @@
+package dev.study.portal.service.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 최근 SSE 이벤트 링 버퍼 (재연결 시 Last-Event-ID 이후 이벤트 재전송용)
+ *
+ * <p>호출 측(SseEmitterService)의 발행 잠금 안에서만 사용하므로 자체 동기화는 하지 않습니다.</p>
+ */
+class SseReplayBuffer {
+    private final SseOutboundEvent[] events;
+    private int head;
+    private int size;
+    private long evictedUpTo = Long.MIN_VALUE;
+
+    SseReplayBuffer(int capacity) {
+        this.events = new SseOutboundEvent[Math.max(1, capacity)];
+    }
+
+    void append(SseOutboundEvent event) {
+        int slot = (head + size) % events.length;
+        if (size == events.length) {
+            // 여러 인스턴스가 발행한 클러스터 id 는 도착 순서와 어긋날 수 있으므로 최댓값 유지
+            evictedUpTo = Math.max(evictedUpTo, events[head].id());
+            head = (head + 1) % events.length;
+        } else {
+            size++;
+        }
+        events[slot] = event;
+    }
+
+    /**
+     * lastEventId 이후의 이벤트 중 조건에 맞는 것을 도착 순으로 최대 limit 개 반환
+     *
+     * <p>클러스터 id 는 도착 순서와 어긋날 수 있으므로(100 다음에 99 도착) id 만 비교하면 늦게 도착한 99 를 놓칩니다.
+     * lastEventId 이벤트가 버퍼에 남아 있으면 그 뒤에 도착한 이벤트는 id 와 관계없이 포함하고,
+     * 그 앞에 도착했더라도 id 가 더 큰 이벤트(다른 인스턴스에서는 더 늦게 도착했을 수 있음)도 포함합니다.
+     * 놓치는 대신 한 번 더 보내는 쪽을 택한 것입니다.</p>
+     */
+    Replay since(long lastEventId, Predicate<SseOutboundEvent> filter, int limit) {
+        int anchor = -1;
+        for (int i = 0; i < size; i++) {
+            if (events[(head + i) % events.length].id() == lastEventId) {
+                anchor = i;
+                break;
+            }
+        }
+
+        List<SseOutboundEvent> matched = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            SseOutboundEvent event = events[(head + i) % events.length];
+            boolean after = event.id() > lastEventId || (anchor >= 0 && i > anchor);
+            if (after && filter.test(event)) {
+                matched.add(event);
+            }
+        }
+        boolean truncated = lastEventId < evictedUpTo || matched.size() > limit;
+        if (matched.size() > limit) {
+            matched = new ArrayList<>(matched.subList(matched.size() - limit, matched.size()));
+        }
+        return new Replay(matched, truncated);
+    }
+
+    /**
+     * @param truncated 버퍼에서 이미 밀려났거나 한도를 넘어 일부 이벤트를 재전송하지 못했는지 여부
+     */
+    record Replay(List<SseOutboundEvent> events, boolean truncated) {
+    }
+}
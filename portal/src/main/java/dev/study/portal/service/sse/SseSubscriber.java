@@ -0,0 +1,54 @@
+package dev.study.portal.service.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 구독자 (연결 + 구독 필터 + 전송 대기열)
+ */
+class SseSubscriber {
+    final String clientId;
+    final SseEmitter emitter;
+    final SseSubscriptionFilter filter;
+    final ArrayBlockingQueue<SseOutboundEvent> queue;
+    final AtomicBoolean draining = new AtomicBoolean(false);
+    final AtomicLong fullSince = new AtomicLong(0L);
+    final AtomicLong dropped = new AtomicLong(0L);
+
+    SseSubscriber(String clientId, SseEmitter emitter, SseSubscriptionFilter filter, int capacity) {
+        this.clientId = clientId;
+        this.emitter = emitter;
+        this.filter = filter;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 포화 시작 시각은 대기열이 한 번도 빠지지 않고 가득 찬 상태로 머문 시간을 재기 위한 것이므로,
+     * 여유가 생겨 그대로 넣었을 때도 초기화합니다.
+     *
+     * @return 대기열에 여유가 있어 그대로 넣었으면 true, 가득 차서 가장 오래된 이벤트를 버렸으면 false
+     */
+    boolean enqueue(SseOutboundEvent event, long now) {
+        if (queue.offer(event)) {
+            clearFull();
+            return true;
+        }
+        fullSince.compareAndSet(0L, now);
+        queue.poll();
+        dropped.incrementAndGet();
+        queue.offer(event);
+        return false;
+    }
+
+    /**
+     * 전송이 진행되어 대기열이 용량 아래로 내려갔으면 포화 시작 시각 초기화 (대부분 0 이므로 읽기만)
+     */
+    void clearFull() {
+        if (fullSince.get() != 0L) {
+            fullSince.set(0L);
+        }
+    }
+}
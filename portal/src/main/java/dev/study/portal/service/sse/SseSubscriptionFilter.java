@@ -0,0 +1,59 @@
+package dev.study.portal.service.sse;
+
+import dev.study.portal.dto.sse.AnomalySeverity;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import dev.study.portal.entity.machine.enums.Type;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * SSE 구독 필터
+ *
+ * <p>조건이 비어 있으면 해당 항목은 전체 허용입니다. 지정된 조건은 모두 만족해야(AND) 전달됩니다.</p>
+ *
+ * @param machineIds  받을 설비 ID (비어 있으면 전체)
+ * @param types       받을 설비 유형 (비어 있으면 전체)
+ * @param minSeverity 최소 심각도 (이 값 이상만 전달)
+ */
+public record SseSubscriptionFilter(Set<Long> machineIds, Set<Type> types, AnomalySeverity minSeverity) {
+
+    public SseSubscriptionFilter {
+        machineIds = machineIds == null ? Set.of() : Set.copyOf(machineIds);
+        types = types == null ? Set.of() : Set.copyOf(types);
+        minSeverity = minSeverity == null ? AnomalySeverity.WARNING : minSeverity;
+    }
+
+    /**
+     * 필터 조건 일치 여부 (인덱스를 거치지 않는 재전송 경로에서 사용)
+     *
+     * <p>설비 ID/유형을 알 수 없는(null) 이벤트는 해당 조건이 지정된 구독에 전달되지 않습니다.
+     * (Set.copyOf 로 만든 불변 Set 은 contains(null) 에서 NPE 를 던지므로 먼저 확인)</p>
+     */
+    public boolean matches(AnomalySseDto event) {
+        return matchesMachine(event.getMachineId())
+                && matchesType(event.getMachineType())
+                && AnomalySeverity.from(event.getSeverity()).compareTo(minSeverity) >= 0;
+    }
+
+    boolean matchesMachine(Long machineId) {
+        return machineIds.isEmpty() || (machineId != null && machineIds.contains(machineId));
+    }
+
+    boolean matchesType(Type type) {
+        return types.isEmpty() || (type != null && types.contains(type));
+    }
+
+    public static SseSubscriptionFilter all() {
+        return new SseSubscriptionFilter(null, null, null);
+    }
+
+    public static SseSubscriptionFilter of(Collection<Long> machineIds, Collection<Type> types, AnomalySeverity minSeverity) {
+        return new SseSubscriptionFilter(
+                machineIds == null ? null : machineIds.stream().filter(Objects::nonNull).collect(Collectors.toSet()),
+                types == null ? null : types.stream().filter(Objects::nonNull).collect(Collectors.toSet()),
+                minSeverity);
+    }
+}
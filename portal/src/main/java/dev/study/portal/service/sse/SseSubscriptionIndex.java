@@ -0,0 +1,131 @@
+package dev.study.portal.service.sse;
+
+import dev.study.portal.dto.sse.AnomalySeverity;
+import dev.study.portal.entity.machine.enums.Type;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 구독 필터 인덱스 - 이벤트 하나에 대해 조건이 맞는 구독자만 O(매칭 구독자 수)로 찾음
+ *
+ * <p>심각도별 버킷이 있고, 최소 심각도 S 인 구독자는 S 이상의 모든 버킷에 등록됩니다.
+ * 버킷 안에서는 구독자를 한 곳에만 등록합니다.</p>
+ * <ul>
+ *   <li>설비 ID 조건이 있으면 byMachine (설비 유형 조건은 매칭 시 추가 확인)</li>
+ *   <li>설비 유형 조건만 있으면 byType</li>
+ *   <li>조건이 없으면 wildcard</li>
+ * </ul>
+ * <p>따라서 이벤트 하나는 버킷 1개에서 byMachine[id] + byType[type] + wildcard 만 확인하며, 중복 전달이 없습니다.</p>
+ *
+ * @param <S> 구독자 타입 (서블릿 SseSubscriber, 리액티브 스트림 구독자)
+ */
+class SseSubscriptionIndex<S> {
+
+    private final Map<AnomalySeverity, Bucket<S>> buckets = new EnumMap<>(AnomalySeverity.class);
+    private final Function<S, SseSubscriptionFilter> filterOf;
+
+    SseSubscriptionIndex(Function<S, SseSubscriptionFilter> filterOf) {
+        this.filterOf = filterOf;
+        for (AnomalySeverity severity : AnomalySeverity.values()) {
+            buckets.put(severity, new Bucket<>(filterOf));
+        }
+    }
+
+    void add(S subscriber) {
+        forEachBucket(subscriber, bucket -> bucket.add(subscriber));
+    }
+
+    void remove(S subscriber) {
+        forEachBucket(subscriber, bucket -> bucket.remove(subscriber));
+    }
+
+    List<S> match(Long machineId, Type type, AnomalySeverity severity) {
+        return buckets.get(severity).match(machineId, type);
+    }
+
+    private void forEachBucket(S subscriber, Consumer<Bucket<S>> action) {
+        AnomalySeverity min = filterOf.apply(subscriber).minSeverity();
+        for (AnomalySeverity severity : AnomalySeverity.values()) {
+            if (severity.compareTo(min) >= 0) {
+                action.accept(buckets.get(severity));
+            }
+        }
+    }
+
+    private static final class Bucket<S> {
+        private final Map<Long, Set<S>> byMachine = new ConcurrentHashMap<>();
+        private final Map<Type, Set<S>> byType = new ConcurrentHashMap<>();
+        private final Set<S> wildcard = ConcurrentHashMap.newKeySet();
+        private final Function<S, SseSubscriptionFilter> filterOf;
+
+        private Bucket(Function<S, SseSubscriptionFilter> filterOf) {
+            this.filterOf = filterOf;
+        }
+
+        void add(S subscriber) {
+            SseSubscriptionFilter filter = filterOf.apply(subscriber);
+            if (!filter.machineIds().isEmpty()) {
+                filter.machineIds().forEach(id -> addTo(byMachine, id, subscriber));
+            } else if (!filter.types().isEmpty()) {
+                filter.types().forEach(type -> addTo(byType, type, subscriber));
+            } else {
+                wildcard.add(subscriber);
+            }
+        }
+
+        void remove(S subscriber) {
+            SseSubscriptionFilter filter = filterOf.apply(subscriber);
+            if (!filter.machineIds().isEmpty()) {
+                filter.machineIds().forEach(id -> removeFrom(byMachine, id, subscriber));
+            } else if (!filter.types().isEmpty()) {
+                filter.types().forEach(type -> removeFrom(byType, type, subscriber));
+            } else {
+                wildcard.remove(subscriber);
+            }
+        }
+
+        List<S> match(Long machineId, Type type) {
+            List<S> result = new ArrayList<>(wildcard);
+            if (machineId != null) {
+                Set<S> machineSubscribers = byMachine.get(machineId);
+                if (machineSubscribers != null) {
+                    for (S subscriber : machineSubscribers) {
+                        if (filterOf.apply(subscriber).matchesType(type)) {
+                            result.add(subscriber);
+                        }
+                    }
+                }
+            }
+            if (type != null) {
+                Set<S> typeSubscribers = byType.get(type);
+                if (typeSubscribers != null) {
+                    result.addAll(typeSubscribers);
+                }
+            }
+            return result;
+        }
+
+        // 키 단위 compute 로 추가/삭제를 원자적으로 처리 (빈 Set 정리와 동시 추가가 엇갈려 구독자가 유실되지 않도록)
+        private static <K, T> void addTo(Map<K, Set<T>> map, K key, T subscriber) {
+            map.compute(key, (k, set) -> {
+                Set<T> target = set != null ? set : ConcurrentHashMap.newKeySet();
+                target.add(subscriber);
+                return target;
+            });
+        }
+
+        private static <K, T> void removeFrom(Map<K, Set<T>> map, K key, T subscriber) {
+            map.computeIfPresent(key, (k, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package dev.study.portal.service.telemetry;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sensor.SensorDataDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인스턴스 간 실시간 센서 샘플 중계 (설비별 Redis 채널)
+ *
+ * <p>sensor-raw-data 는 컨슈머 그룹 안에서 파티션을 가진 인스턴스만 받으므로, 받은 인스턴스가 설비 채널로 다시 발행하고
+ * 해당 설비 구독자가 있는 인스턴스만 그 채널을 구독합니다. (구독자가 없는 설비 샘플은 어느 인스턴스로도 전달되지 않음)</p>
+ *
+ * <p>발행은 Kafka 리스너를 막지 않도록 응답을 기다리지 않고, 자기가 발행한 메시지는 이미 로컬로 전달했으므로 무시합니다.
+ * Redis 장애 시에도 로컬 구독자 전달은 유지됩니다.</p>
+ *
+ * <p>PUBLISH 응답의 수신자 수가 0 이면 클러스터 어디에도 그 설비 구독자가 없는 것이므로 relay-idle-recheck 동안 발행을 멈춥니다.
+ * (구독자가 없는 설비 샘플마다 Redis 왕복이 생기지 않도록, 새 구독자는 최대 그 시간만큼 늦게 다른 인스턴스 샘플을 받기 시작)<br>
+ * 스트림 엔드포인트는 Reactor Netty 서버에만 있으므로 sse.cluster.enabled 와 sse.reactive.enabled 가 모두 true 일 때만 중계합니다.</p>
+ */
+@Slf4j
+@Service
+public class SensorTelemetryRelay {
+
+    private final SseProperties.Cluster properties;
+    private final boolean enabled;
+    private final long idleRecheckNanos;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 설비 ID → 발행을 다시 시도할 시각 (nanoTime, 마지막 발행의 수신자가 없었던 설비만)
+    private final Map<Long, Long> idleUntil = new ConcurrentHashMap<>();
+
+    private ReactiveRedisMessageListenerContainer container;
+
+    /**
+     * @param origin 발행한 인스턴스 id (자기 메시지 제외용)
+     */
+    private record RelayMessage(@JsonProperty("o") String origin, @JsonProperty("d") SensorDataDto data) {
+    }
+
+    public SensorTelemetryRelay(
+            SseProperties sseProperties,
+            ReactiveStringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper
+    ) {
+        this.properties = sseProperties.getCluster();
+        this.enabled = properties.isEnabled() && sseProperties.getReactive().isEnabled();
+        this.idleRecheckNanos = sseProperties.getTelemetry().getRelayIdleRecheck().toNanos();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Kafka 로 받은 샘플을 설비 채널로 발행
+     */
+    public void publish(SensorDataDto sensorData) {
+        if (!enabled) {
+            return;
+        }
+        Long machineId = sensorData.getMachineId();
+        Long until = idleUntil.get(machineId);
+        if (until != null && System.nanoTime() - until < 0) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(new RelayMessage(instanceId, sensorData));
+        } catch (JsonProcessingException e) {
+            log.error("실시간 센서 샘플 직렬화 실패 - machineId={}: {}", sensorData.getMachineId(), e.getMessage());
+            return;
+        }
+        redisTemplate.convertAndSend(channel(machineId), payload)
+                .subscribe(receivers -> {
+                    if (receivers == 0) {
+                        idleUntil.put(machineId, System.nanoTime() + idleRecheckNanos);
+                    } else {
+                        idleUntil.remove(machineId);
+                    }
+                }, e -> log.debug("실시간 센서 샘플 Redis 중계 실패 - machineId={}: {}", machineId, e.getMessage()));
+    }
+
+    /**
+     * 다른 인스턴스가 받은 설비 샘플 (구독하는 동안만 채널 구독, Redis 오류 시 조용히 종료)
+     */
+    public Flux<SensorDataDto> receive(Long machineId) {
+        if (!enabled) {
+            return Flux.empty();
+        }
+        return Flux.defer(() -> container().receive(ChannelTopic.of(channel(machineId))))
+                .<SensorDataDto>handle((message, sink) -> {
+                    try {
+                        RelayMessage relayed = objectMapper.readValue(message.getMessage(), RelayMessage.class);
+                        if (!instanceId.equals(relayed.origin())) {
+                            sink.next(relayed.data());
+                        }
+                    } catch (JsonProcessingException e) {
+                        log.error("실시간 센서 중계 메시지 해석 실패: {}", e.getMessage());
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.warn("⚠️ 실시간 센서 중계 구독 실패 (로컬 샘플만 전달됨) - machineId={}: {}", machineId, e.getMessage());
+                    return Flux.empty();
+                });
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        if (container != null) {
+            container.destroy();
+        }
+    }
+
+    // 모든 설비 채널이 한 연결을 공유하도록 처음 구독할 때 한 번만 생성
+    private synchronized ReactiveRedisMessageListenerContainer container() {
+        if (container == null) {
+            container = new ReactiveRedisMessageListenerContainer(redisTemplate.getConnectionFactory());
+        }
+        return container;
+    }
+
+    private String channel(Long machineId) {
+        return properties.getTelemetryChannelPrefix() + machineId;
+    }
+}
@@ -0,0 +1,145 @@
+package dev.study.portal.service.telemetry;
+
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sensor.SensorDataDto;
+import dev.study.portal.dto.sensor.SensorTelemetryFrameDto;
+import dev.study.portal.dto.sensor.TelemetryDecimation;
+import dev.study.portal.service.machine.MachineMetadataCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 설비별 실시간 센서 스트림
+ *
+ * <p>Kafka(sensor-raw-data)로 받은 샘플을 DB 저장 전에 바로 설비별 multicast 싱크로 흘립니다.
+ * 구독자마다 요청한 주기(rate)로 틱을 나눠 LATEST / MIN_MAX 로 축약하고, 직전 프레임과 달라진 채널만 보냅니다.</p>
+ *
+ * <p>Kafka 파티션을 가진 인스턴스만 샘플을 받으므로 SensorTelemetryRelay 로 다른 인스턴스에 중계하고,
+ * 각 인스턴스는 로컬 구독자가 있는 설비의 중계 채널만 구독합니다.</p>
+ *
+ * <p>싱크(와 중계 채널 구독)는 설비의 첫 구독자가 연결될 때 만들고 마지막 구독자가 끊기면 제거합니다.
+ * 존재하지 않는 설비는 isKnownMachine 으로 구독 전에 거릅니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SensorTelemetryStreamService {
+    private static final String KEY_FRAME = "key";
+    private static final String DELTA_FRAME = "delta";
+
+    private final SseProperties properties;
+    private final MachineMetadataCache machineMetadataCache;
+    private final SensorTelemetryRelay relay;
+
+    // 설비 ID → 스트림 (생성/제거와 구독자 수 변경은 streams 잠금 안에서)
+    private final Map<Long, MachineStream> streams = new ConcurrentHashMap<>();
+
+    private static final class MachineStream {
+        private final Sinks.Many<SensorDataDto> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+        private Disposable relaySubscription;
+
+        // Kafka 리스너와 중계 채널 스레드에서 동시에 호출될 수 있어 직렬화
+        private void emit(SensorDataDto sensorData) {
+            synchronized (sink) {
+                Sinks.EmitResult result = sink.tryEmitNext(sensorData);
+                if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                    log.debug("실시간 센서 스트림 발행 실패 - machineId={}, result={}", sensorData.getMachineId(), result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Kafka 로 받은 샘플 발행 (로컬 구독자에게 전달 후 다른 인스턴스로 중계)
+     */
+    public void publish(SensorDataDto sensorData) {
+        if (sensorData.getMachineId() == null) {
+            return;
+        }
+        MachineStream stream = streams.get(sensorData.getMachineId());
+        if (stream != null) {
+            stream.emit(sensorData);
+        }
+        relay.publish(sensorData);
+    }
+
+    /**
+     * 등록된 설비인지 확인 (캐시에 없으면 DB 를 조회하므로 이벤트 루프 밖에서 실행)
+     */
+    public Mono<Boolean> isKnownMachine(Long machineId) {
+        return Mono.fromCallable(() -> machineMetadataCache.find(machineId).isPresent())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 설비 실시간 스트림 (rate 주기마다 최대 한 프레임, 샘플이 없는 틱은 건너뜀)
+     */
+    public Flux<ServerSentEvent<SensorTelemetryFrameDto>> stream(Long machineId, Duration rate, TelemetryDecimation mode) {
+        SseProperties.Telemetry telemetry = properties.getTelemetry();
+
+        Flux<ServerSentEvent<SensorTelemetryFrameDto>> frames = Flux.defer(() -> {
+            MachineStream stream = acquire(machineId);
+            TelemetryDeltaEncoder encoder = new TelemetryDeltaEncoder(machineId, mode, telemetry.getKeyFrameInterval());
+            return stream.sink.asFlux()
+                    .window(rate)
+                    .concatMap(window -> window.reduce(new TelemetryTick(), TelemetryTick::add))
+                    .filter(tick -> !tick.isEmpty())
+                    // 느린 구독자는 최신 틱만 받음 (인코딩은 실제로 전달되는 틱에만 수행)
+                    .onBackpressureLatest()
+                    .map(encoder::encode)
+                    .map(frame -> ServerSentEvent.builder(frame)
+                            .event(frame.getKeyFrame() ? KEY_FRAME : DELTA_FRAME)
+                            .build())
+                    .doFinally(signal -> release(machineId, stream));
+        });
+
+        Flux<ServerSentEvent<SensorTelemetryFrameDto>> heartbeats = Flux.interval(properties.getReactive().getHeartbeat())
+                .map(tick -> ServerSentEvent.<SensorTelemetryFrameDto>builder().comment("heartbeat").build())
+                .onBackpressureDrop();
+
+        return Flux.merge(frames, heartbeats);
+    }
+
+    public int getSubscriberCount(Long machineId) {
+        MachineStream stream = streams.get(machineId);
+        return stream == null ? 0 : stream.sink.currentSubscriberCount();
+    }
+
+    /**
+     * 싱크가 유지되고 있는 설비 수 (구독자가 있는 설비 수와 같음)
+     */
+    public int getActiveMachineCount() {
+        return streams.size();
+    }
+
+    private MachineStream acquire(Long machineId) {
+        synchronized (streams) {
+            MachineStream stream = streams.computeIfAbsent(machineId, id -> new MachineStream());
+            if (stream.subscribers++ == 0) {
+                stream.relaySubscription = relay.receive(machineId).subscribe(stream::emit);
+            }
+            return stream;
+        }
+    }
+
+    private void release(Long machineId, MachineStream stream) {
+        synchronized (streams) {
+            if (--stream.subscribers == 0) {
+                streams.remove(machineId, stream);
+                stream.relaySubscription.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package dev.study.portal.service.telemetry;
+
+import dev.study.portal.dto.sensor.SensorTelemetryFrameDto;
+import dev.study.portal.dto.sensor.TelemetryDecimation;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 구독자별 델타 인코더 (직전에 보낸 값과 달라진 채널만 전송)
+ *
+ * <p>첫 프레임과 keyFrameInterval 번째 프레임마다 전체 값을 보내 누락/중간 합류 시에도 상태를 맞출 수 있게 합니다.
+ * 전송되는 프레임에만 호출되어야 합니다. (백프레셔로 버려진 틱을 인코딩하면 클라이언트 상태가 어긋남)</p>
+ */
+final class TelemetryDeltaEncoder {
+    private final Long machineId;
+    private final TelemetryDecimation mode;
+    private final int keyFrameInterval;
+    private final Map<String, Object> sent = new HashMap<>();
+    private int sinceKeyFrame;
+
+    TelemetryDeltaEncoder(Long machineId, TelemetryDecimation mode, int keyFrameInterval) {
+        this.machineId = machineId;
+        this.mode = mode;
+        this.keyFrameInterval = keyFrameInterval;
+    }
+
+    SensorTelemetryFrameDto encode(TelemetryTick tick) {
+        Map<String, Object> values = tick.values(mode);
+        boolean keyFrame = sent.isEmpty() || sinceKeyFrame >= keyFrameInterval - 1;
+
+        Map<String, Object> payload;
+        if (keyFrame) {
+            payload = values;
+            sinceKeyFrame = 0;
+        } else {
+            payload = new LinkedHashMap<>();
+            values.forEach((channel, value) -> {
+                if (!Objects.deepEquals(sent.get(channel), value)) {
+                    payload.put(channel, value);
+                }
+            });
+            sinceKeyFrame++;
+        }
+        sent.putAll(values);
+
+        return SensorTelemetryFrameDto.builder()
+                .machineId(machineId)
+                .keyFrame(keyFrame)
+                .at(tick.at())
+                .samples(tick.samples())
+                .values(payload)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package dev.study.portal.service.telemetry;
+
+import dev.study.portal.dto.sensor.SensorDataDto;
+import dev.study.portal.dto.sensor.TelemetryDecimation;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 틱(전송 주기) 동안 들어온 샘플의 채널별 마지막 값 / 최솟값 / 최댓값
+ */
+final class TelemetryTick {
+    static final String[] CHANNELS = {"airTemperature", "processTemperature", "rotationalSpeed", "torque", "toolWear"};
+
+    private final double[] latest = new double[CHANNELS.length];
+    private final double[] min = new double[CHANNELS.length];
+    private final double[] max = new double[CHANNELS.length];
+    private final boolean[] present = new boolean[CHANNELS.length];
+    private int samples;
+    private LocalDateTime at;
+
+    TelemetryTick() {
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+    }
+
+    TelemetryTick add(SensorDataDto data) {
+        record(0, data.getAirTemperature());
+        record(1, data.getProcessTemperature());
+        record(2, data.getRotationalSpeed());
+        record(3, data.getTorque());
+        record(4, data.getToolWear());
+        samples++;
+        at = data.getCollectedAt() != null ? data.getCollectedAt() : LocalDateTime.now();
+        return this;
+    }
+
+    private void record(int channel, Number value) {
+        if (value == null) {
+            return;
+        }
+        double v = value.doubleValue();
+        latest[channel] = v;
+        min[channel] = Math.min(min[channel], v);
+        max[channel] = Math.max(max[channel], v);
+        present[channel] = true;
+    }
+
+    boolean isEmpty() {
+        return samples == 0;
+    }
+
+    int samples() {
+        return samples;
+    }
+
+    LocalDateTime at() {
+        return at;
+    }
+
+    /**
+     * 축약 방식에 맞는 채널별 값 (값이 한 번도 없던 채널은 제외)
+     */
+    Map<String, Object> values(TelemetryDecimation mode) {
+        Map<String, Object> values = new LinkedHashMap<>(CHANNELS.length * 2);
+        for (int i = 0; i < CHANNELS.length; i++) {
+            if (!present[i]) {
+                continue;
+            }
+            values.put(CHANNELS[i], mode == TelemetryDecimation.MIN_MAX ? new double[]{min[i], max[i]} : latest[i]);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,14 @@
+-- 설비 이름 레지스트리 재구성 - 오래된 문자열 키 정리 (원자적 실행)
+-- KEYS[i] = 정리 대상 키 (machine:name:{name} 또는 machine:id:{id})
+-- ARGV[i] = 정리 대상으로 판단할 때 읽은 값
+-- 반환: 삭제한 키 수
+--
+-- 판단 이후 이벤트 핸들러가 같은 키에 새 값을 기록했으면 값이 달라지므로 남겨 둡니다.
+
+local removed = 0
+for i = 1, #KEYS do
+    if redis.call('GET', KEYS[i]) == ARGV[i] then
+        removed = removed + redis.call('DEL', KEYS[i])
+    end
+end
+return removed
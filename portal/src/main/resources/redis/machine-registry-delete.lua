@@ -0,0 +1,23 @@
+-- 설비 이름 레지스트리 삭제 (원자적 실행)
+-- KEYS[1] = machine:id:{id}
+-- KEYS[2] = machine:name:{삭제 이벤트 시점의 이름}
+-- ARGV[1] = 설비 ID
+-- ARGV[2] = 이름 키 접두사 (machine:name:)
+-- 반환: 삭제한 키 수
+--
+-- 역방향 매핑의 현재 이름과 이벤트의 이름이 다를 수 있으므로(이벤트 순서 역전) 둘 다 확인하되,
+-- 이 설비 ID 를 가리키는 이름 키만 지웁니다.
+
+local removed = 0
+local current = redis.call('GET', KEYS[1])
+if current then
+    local currentKey = ARGV[2] .. current
+    if redis.call('GET', currentKey) == ARGV[1] then
+        removed = removed + redis.call('DEL', currentKey)
+    end
+end
+if redis.call('GET', KEYS[2]) == ARGV[1] then
+    removed = removed + redis.call('DEL', KEYS[2])
+end
+removed = removed + redis.call('DEL', KEYS[1])
+return removed
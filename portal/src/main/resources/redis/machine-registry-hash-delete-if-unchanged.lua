@@ -0,0 +1,14 @@
+-- 설비 이름 레지스트리 재구성 - 해시 버킷의 오래된 필드 정리 (원자적 실행)
+-- KEYS[1] = machine:registry:ids:{버킷} 또는 machine:registry:names:{버킷}
+-- ARGV = 필드1, 읽은 값1, 필드2, 읽은 값2, ...
+-- 반환: 삭제한 필드 수
+--
+-- 판단 이후 이벤트 핸들러가 같은 필드에 새 값을 기록했으면 값이 달라지므로 남겨 둡니다.
+
+local removed = 0
+for i = 1, #ARGV, 2 do
+    if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+        removed = removed + redis.call('HDEL', KEYS[1], ARGV[i])
+    end
+end
+return removed
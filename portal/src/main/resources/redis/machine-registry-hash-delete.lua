@@ -0,0 +1,35 @@
+-- 설비 이름 레지스트리 삭제 - 해시 레이아웃 (원자적 실행)
+-- KEYS[1] = machine:registry:ids:{ID 버킷}
+-- KEYS[2] = machine:registry:names:{삭제 이벤트 시점 이름의 버킷}
+-- KEYS[3] = machine:registry:version
+-- ARGV[1] = 설비 ID
+-- ARGV[2] = 삭제 이벤트 시점의 이름
+-- ARGV[3] = 이름 버킷 키 접두사 (machine:registry:names:)
+-- ARGV[4] = 버킷 수
+-- 반환: 삭제한 필드 수 (0 보다 크면 버전 증가)
+
+local function bucket(name, buckets)
+    local hash = 5381
+    for i = 1, #name do
+        hash = (hash * 33 + string.byte(name, i)) % 4294967296
+    end
+    return hash % buckets
+end
+
+local removed = 0
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+if current then
+    local currentKey = ARGV[3] .. bucket(current, tonumber(ARGV[4]))
+    if redis.call('HGET', currentKey, current) == ARGV[1] then
+        removed = removed + redis.call('HDEL', currentKey, current)
+    end
+end
+if redis.call('HGET', KEYS[2], ARGV[2]) == ARGV[1] then
+    removed = removed + redis.call('HDEL', KEYS[2], ARGV[2])
+end
+removed = removed + redis.call('HDEL', KEYS[1], ARGV[1])
+
+if removed > 0 then
+    redis.call('INCR', KEYS[3])
+end
+return removed
@@ -0,0 +1,39 @@
+-- 설비 이름 레지스트리 등록/이름 변경 - 해시 레이아웃 (원자적 실행)
+-- KEYS[1] = machine:registry:ids:{ID 버킷}
+-- KEYS[2] = machine:registry:names:{새 이름 버킷}
+-- KEYS[3] = machine:registry:version
+-- ARGV[1] = 설비 ID
+-- ARGV[2] = 새 이름
+-- ARGV[3] = 이름 버킷 키 접두사 (machine:registry:names:)
+-- ARGV[4] = 버킷 수
+-- 반환: 1 = 등록/변경 (버전 증가), 0 = 이름 변경 없음
+--
+-- 이전 이름 버킷은 스크립트 안에서 계산하므로 단일 노드(standalone) Redis 전용입니다.
+-- 버킷 계산(djb2)은 MachineRegistryBuckets.java / ai-server redis_client.py 와 같아야 합니다.
+
+local function bucket(name, buckets)
+    local hash = 5381
+    for i = 1, #name do
+        hash = (hash * 33 + string.byte(name, i)) % 4294967296
+    end
+    return hash % buckets
+end
+
+local previous = redis.call('HGET', KEYS[1], ARGV[1])
+if previous == ARGV[2] then
+    redis.call('HSET', KEYS[2], ARGV[2], ARGV[1])
+    return 0
+end
+
+if previous then
+    local previousKey = ARGV[3] .. bucket(previous, tonumber(ARGV[4]))
+    -- 같은 이름을 다른 설비가 이미 가져갔으면 지우지 않음
+    if redis.call('HGET', previousKey, previous) == ARGV[1] then
+        redis.call('HDEL', previousKey, previous)
+    end
+end
+
+redis.call('HSET', KEYS[2], ARGV[2], ARGV[1])
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('INCR', KEYS[3])
+return 1
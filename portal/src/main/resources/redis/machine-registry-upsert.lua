@@ -0,0 +1,26 @@
+-- 설비 이름 레지스트리 등록/이름 변경 (원자적 실행)
+-- KEYS[1] = machine:id:{id}
+-- KEYS[2] = machine:name:{새 이름}
+-- ARGV[1] = 설비 ID
+-- ARGV[2] = 새 이름
+-- ARGV[3] = 이름 키 접두사 (machine:name:)
+-- 반환: 1 = 등록/변경, 0 = 이름 변경 없음
+--
+-- 이전 이름 키는 역방향 매핑에서 읽어 스크립트 안에서 만들므로 단일 노드(standalone) Redis 전용입니다.
+
+local previous = redis.call('GET', KEYS[1])
+if previous and previous ~= ARGV[2] then
+    local previousKey = ARGV[3] .. previous
+    -- 같은 이름을 다른 설비가 이미 가져갔으면 지우지 않음
+    if redis.call('GET', previousKey) == ARGV[1] then
+        redis.call('DEL', previousKey)
+    end
+end
+
+redis.call('SET', KEYS[2], ARGV[1])
+redis.call('SET', KEYS[1], ARGV[2])
+
+if previous == ARGV[2] then
+    return 0
+end
+return 1
@@ -0,0 +1,115 @@
+package dev.study.portal.common.downsample;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StreamingLttbTest {
+
+    private static final int ONE_DAY_POINTS = 86_400;   // 1초 간격 하루치
+    private static final long INTERVAL_MS = 1_000L;
+    private static final int MAX_POINTS = 2_000;
+    private static final double SPIKE = 100.0;
+
+    // 완만한 기본 신호 + 단발성 스파이크 2개
+    private double signal(int i) {
+        double base = Math.sin(i / 500.0) * 5;
+        return (i == 12_345 || i == 70_000) ? base + SPIKE : base;
+    }
+
+    // 비교 대상: 같은 시간 버킷 구성의 단순 평균 다운샘플링
+    private double[] averageDownsample(long rangeMillis, int buckets) {
+        double width = (double) rangeMillis / buckets;
+        double[] sum = new double[buckets];
+        int[] count = new int[buckets];
+        for (int i = 0; i < ONE_DAY_POINTS; i++) {
+            int b = Math.min((int) (i * INTERVAL_MS / width), buckets - 1);
+            sum[b] += signal(i);
+            count[b]++;
+        }
+        double[] result = new double[buckets];
+        for (int b = 0; b < buckets; b++) {
+            result[b] = count[b] == 0 ? 0 : sum[b] / count[b];
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("LTTB는 평균 다운샘플링과 달리 단발성 스파이크를 보존한다")
+    void preservesPeaks_comparedToAveraging() {
+        // Given
+        long rangeMillis = (ONE_DAY_POINTS - 1) * INTERVAL_MS;
+        StreamingLttb lttb = new StreamingLttb(rangeMillis, MAX_POINTS);
+
+        // When
+        for (int i = 0; i < ONE_DAY_POINTS; i++) {
+            lttb.add(i * INTERVAL_MS, signal(i));
+        }
+        lttb.finish();
+        double[] averaged = averageDownsample(rangeMillis, MAX_POINTS);
+
+        // Then
+        double lttbPeak = Arrays.stream(lttb.values()).max().orElseThrow();
+        double averagePeak = Arrays.stream(averaged).max().orElseThrow();
+
+        assertThat(lttb.values()).hasSizeLessThanOrEqualTo(MAX_POINTS);
+        assertThat(lttbPeak).isGreaterThan(SPIKE);          // 스파이크 원본 값 유지
+        assertThat(averagePeak).isLessThan(SPIKE / 10);     // 평균은 약 43개 점에 희석됨
+        assertThat(lttb.values()).filteredOn(v -> v > SPIKE / 2).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("첫 점과 마지막 점을 항상 포함하고 시각은 오름차순이다")
+    void keepsEndpoints_andOrder() {
+        // Given
+        StreamingLttb lttb = new StreamingLttb(10_000, 10);
+
+        // When
+        for (int i = 0; i <= 1_000; i++) {
+            lttb.add(i * 10L, Math.cos(i / 20.0));
+        }
+        lttb.finish();
+
+        // Then
+        long[] timestamps = lttb.timestamps();
+        assertThat(timestamps).hasSize(10);
+        assertThat(timestamps[0]).isEqualTo(0L);
+        assertThat(timestamps[timestamps.length - 1]).isEqualTo(10_000L);
+        assertThat(timestamps).isSorted();
+        assertThat(lttb.getCount()).isEqualTo(1_001);
+    }
+
+    @Test
+    @DisplayName("입력이 maxPoints 보다 적으면 모든 점을 그대로 반환한다")
+    void fewerPointsThanMax_returnsAll() {
+        // Given
+        StreamingLttb lttb = new StreamingLttb(4_000, 100);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            lttb.add(i * 1_000L, i);
+        }
+        lttb.finish();
+
+        // Then
+        assertThat(lttb.timestamps()).containsExactly(0L, 1_000L, 2_000L, 3_000L, 4_000L);
+        assertThat(lttb.values()).containsExactly(0d, 1d, 2d, 3d, 4d);
+    }
+
+    @Test
+    @DisplayName("입력이 없으면 빈 결과를 반환한다")
+    void noInput_returnsEmpty() {
+        // Given
+        StreamingLttb lttb = new StreamingLttb(1_000, 10);
+
+        // When
+        lttb.finish();
+
+        // Then
+        assertThat(lttb.timestamps()).isEmpty();
+        assertThat(lttb.values()).isEmpty();
+    }
+}
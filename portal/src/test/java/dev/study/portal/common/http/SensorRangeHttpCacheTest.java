@@ -0,0 +1,104 @@
+package dev.study.portal.common.http;
+
+import dev.study.portal.config.SensorHttpCacheProperties;
+import dev.study.portal.service.SensorRetentionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SensorRangeHttpCacheTest {
+
+    private static final LocalDateTime CLOSED_END = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private SensorRetentionService retentionService;
+
+    private SensorRangeHttpCache httpCache;
+
+    @BeforeEach
+    void setUp() {
+        httpCache = new SensorRangeHttpCache(new SensorHttpCacheProperties(), retentionService);
+    }
+
+    private ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/machine-sensor-data/1");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    @Test
+    @DisplayName("닫힌 구간은 재검증을 요구하는 no-cache 와 ETag / Last-Modified 를 붙인다")
+    void closedRange_noCacheWithValidators() {
+        // Given
+        given(retentionService.getDataGeneration()).willReturn(0L);
+
+        // When
+        ResponseEntity<String> response = httpCache.validator(CLOSED_END, "list", 1L).ok().body("[]");
+
+        // Then
+        assertThat(response.getHeaders().getCacheControl()).contains("no-cache").contains("public").doesNotContain("immutable");
+        assertThat(response.getHeaders().getETag()).isNotNull();
+        assertThat(response.getHeaders().getLastModified()).isPositive();
+    }
+
+    @Test
+    @DisplayName("열린 구간은 검증자 없이 짧은 max-age 만 붙이고 조건부 요청에도 304 를 보내지 않는다")
+    void openRange_shortMaxAgeWithoutValidators() {
+        // When
+        SensorRangeHttpCache.Validator validator = httpCache.validator(LocalDateTime.now(), "list", 1L);
+        ResponseEntity<String> response = validator.ok().body("[]");
+
+        // Then
+        assertThat(response.getHeaders().getCacheControl()).contains("max-age=5").contains("must-revalidate");
+        assertThat(response.getHeaders().getETag()).isNull();
+        assertThat(validator.isNotModified(request("\"anything\""))).isFalse();
+        then(retentionService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("같은 ETag 로 조건부 요청하면 304 로 응답한다")
+    void matchingEtag_notModified() {
+        // Given
+        given(retentionService.getDataGeneration()).willReturn(0L);
+        String etag = httpCache.validator(CLOSED_END, "list", 1L).ok().build().getHeaders().getETag();
+
+        // When
+        SensorRangeHttpCache.Validator validator = httpCache.validator(CLOSED_END, "list", 1L);
+
+        // Then
+        assertThat(validator.isNotModified(request(etag))).isTrue();
+        assertThat(validator.notModified().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("보존 정책이 데이터를 바꾸면(변경 시각 증가) 같은 구간도 새 ETag 를 받는다")
+    void generationChange_newEtag() {
+        // Given
+        given(retentionService.getDataGeneration()).willReturn(0L, 1_735_689_600_000L);
+        String before = httpCache.validator(CLOSED_END, "list", 1L).ok().build().getHeaders().getETag();
+
+        // When
+        SensorRangeHttpCache.Validator after = httpCache.validator(CLOSED_END, "list", 1L);
+
+        // Then
+        assertThat(after.ok().build().getHeaders().getETag()).isNotEqualTo(before);
+        assertThat(after.isNotModified(request(before))).isFalse();
+    }
+}
@@ -0,0 +1,56 @@
+package dev.study.portal.common.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GroupedJsonArrayWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("finish 를 호출하면 키별 배열을 가진 JSON 객체로 닫힌다")
+    void finish_closesJson() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (GroupedJsonArrayWriter writer = new GroupedJsonArrayWriter(objectMapper, out)) {
+            writer.write(1L, Map.of("v", 1));
+            writer.write(1L, Map.of("v", 2));
+            writer.write(2L, Map.of("v", 3));
+            writer.finish();
+        }
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"1\":[{\"v\":1},{\"v\":2}],\"2\":[{\"v\":3}]}");
+    }
+
+    @Test
+    @DisplayName("조회 도중 실패해 finish 없이 닫히면 JSON 을 닫지 않아 잘린 응답이 유효한 JSON 이 되지 않는다")
+    void closeWithoutFinish_leavesJsonOpen() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        assertThatThrownBy(() -> {
+            try (GroupedJsonArrayWriter writer = new GroupedJsonArrayWriter(objectMapper, out)) {
+                writer.write(1L, Map.of("v", 1));
+                throw new IllegalStateException("DB 연결 끊김");
+            }
+        }).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"1\":[{\"v\":1}");
+        assertThatThrownBy(() -> objectMapper.readTree(out.toByteArray()))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+}
@@ -0,0 +1,131 @@
+package dev.study.portal.controller;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.study.portal.common.exception.GlobalExceptionHandler;
+import dev.study.portal.common.http.SensorRangeHttpCache;
+import dev.study.portal.config.SensorHttpCacheProperties;
+import dev.study.portal.dto.sensor.SensorDownsampleResponseDto;
+import dev.study.portal.service.MachineSensorDataService;
+import dev.study.portal.service.SensorDataAggregationService;
+import dev.study.portal.service.SensorRetentionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class MachineSensorDataControllerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2025, 1, 2, 0, 0);
+
+    @Mock
+    private MachineSensorDataService machineSensorDataService;
+
+    @Mock
+    private SensorDataAggregationService sensorDataAggregationService;
+
+    @Mock
+    private SensorRetentionService retentionService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MachineSensorDataController controller = new MachineSensorDataController(
+                machineSensorDataService,
+                sensorDataAggregationService,
+                JsonMapper.builder().addModule(new JavaTimeModule()).build(),
+                new SensorRangeHttpCache(new SensorHttpCacheProperties(), retentionService));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    private SensorDownsampleResponseDto downsampled(int maxPoints) {
+        return SensorDownsampleResponseDto.builder()
+                .machineId(1L)
+                .origin(START)
+                .maxPoints(maxPoints)
+                .sourceCount(86_400L)
+                .series(Map.of("torque", new SensorDownsampleResponseDto.Series(new long[]{0L, 1_000L}, new double[]{40.0, 41.5})))
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /{machineId} - maxPoints 를 지정하면 원본 행 대신 LTTB 결과를 반환한다")
+    void rangeQuery_withMaxPoints_downsamples() throws Exception {
+        // Given
+        given(machineSensorDataService.downsampleSensorData(1L, START, END, 500)).willReturn(downsampled(500));
+
+        // When & Then
+        mockMvc.perform(get("/api/machine-sensor-data/1")
+                        .param("startDateTime", "2025-01-01T00:00:00")
+                        .param("endDateTime", "2025-01-02T00:00:00")
+                        .param("maxPoints", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.maxPoints").value(500))
+                .andExpect(jsonPath("$.sourceCount").value(86_400))
+                .andExpect(jsonPath("$.series.torque.values[1]").value(41.5));
+
+        then(machineSensorDataService).should(never()).getSensorDataCreatedAtBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /{machineId} - maxPoints 가 없으면 원본 행을 반환한다")
+    void rangeQuery_withoutMaxPoints_returnsRows() throws Exception {
+        // Given
+        given(machineSensorDataService.getSensorDataCreatedAtBetween(1L, START, END)).willReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/machine-sensor-data/1")
+                        .param("startDateTime", "2025-01-01T00:00:00")
+                        .param("endDateTime", "2025-01-02T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+
+        then(machineSensorDataService).should(never()).downsampleSensorData(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /{machineId}/downsample - 기간 조회(maxPoints=2000)와 같은 결과와 ETag 를 반환한다")
+    void downsampleRoute_delegatesToRangeQuery() throws Exception {
+        // Given
+        given(machineSensorDataService.downsampleSensorData(1L, START, END, 2000)).willReturn(downsampled(2000));
+
+        // When
+        String viaRoute = mockMvc.perform(get("/api/machine-sensor-data/1/downsample")
+                        .param("startDateTime", "2025-01-01T00:00:00")
+                        .param("endDateTime", "2025-01-02T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.maxPoints").value(2000))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String viaRange = mockMvc.perform(get("/api/machine-sensor-data/1")
+                        .param("startDateTime", "2025-01-01T00:00:00")
+                        .param("endDateTime", "2025-01-02T00:00:00")
+                        .param("maxPoints", "2000"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Then
+        assertThat(viaRoute).isNotNull().isEqualTo(viaRange);
+        then(machineSensorDataService).should(times(2)).downsampleSensorData(1L, START, END, 2000);
+    }
+}
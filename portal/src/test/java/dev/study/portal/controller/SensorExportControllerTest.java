@@ -0,0 +1,152 @@
+package dev.study.portal.controller;
+
+import dev.study.portal.common.exception.GlobalExceptionHandler;
+import dev.study.portal.common.exception.export.InvalidSensorExportRequestException;
+import dev.study.portal.common.exception.export.SensorExportNotReadyException;
+import dev.study.portal.common.exception.export.SensorExportQueueFullException;
+import dev.study.portal.dto.export.SensorExportFormat;
+import dev.study.portal.dto.export.SensorExportJobDto;
+import dev.study.portal.dto.export.SensorExportRequestDto;
+import dev.study.portal.dto.export.SensorExportStatus;
+import dev.study.portal.service.export.SensorExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class SensorExportControllerTest {
+
+    private static final String REQUEST_BODY = """
+            {"machineIds": [1, 2], "startDateTime": "2025-01-01T00:00:00", "endDateTime": "2025-01-31T23:59:59", "format": "CSV_GZIP"}
+            """;
+
+    @Mock
+    private SensorExportService exportService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new SensorExportController(exportService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("POST /api/sensor-exports - 작업을 등록하고 202 와 jobId 를 반환한다")
+    void submit_returnsAccepted() throws Exception {
+        // Given
+        given(exportService.submit(any(SensorExportRequestDto.class))).willReturn(SensorExportJobDto.builder()
+                .jobId("job-1")
+                .status(SensorExportStatus.QUEUED)
+                .totalChunks(31)
+                .completedChunks(0)
+                .build());
+
+        // When & Then
+        mockMvc.perform(post("/api/sensor-exports").contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.totalChunks").value(31));
+
+        ArgumentCaptor<SensorExportRequestDto> request = ArgumentCaptor.forClass(SensorExportRequestDto.class);
+        then(exportService).should().submit(request.capture());
+        assertThat(request.getValue().getMachineIds()).containsExactly(1L, 2L);
+        assertThat(request.getValue().getStartDateTime()).isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+        assertThat(request.getValue().getFormat()).isEqualTo(SensorExportFormat.CSV_GZIP);
+    }
+
+    @Test
+    @DisplayName("POST /api/sensor-exports - 대기열이 가득 차면 429 를 반환한다")
+    void submit_queueFull_returnsTooManyRequests() throws Exception {
+        // Given
+        given(exportService.submit(any(SensorExportRequestDto.class))).willThrow(new SensorExportQueueFullException());
+
+        // When & Then
+        mockMvc.perform(post("/api/sensor-exports").contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.code").value("ERROR_EXPORT_QUEUE_FULL"));
+    }
+
+    @Test
+    @DisplayName("POST /api/sensor-exports - 롤업된 구간 요청은 400 을 반환한다")
+    void submit_invalidRange_returnsBadRequest() throws Exception {
+        // Given
+        given(exportService.submit(any(SensorExportRequestDto.class)))
+                .willThrow(new InvalidSensorExportRequestException("시작 시간이 원본 데이터 보존 시작 시각 이전입니다."));
+
+        // When & Then
+        mockMvc.perform(post("/api/sensor-exports").contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ERROR_INVALID_EXPORT_REQUEST"));
+    }
+
+    @Test
+    @DisplayName("GET /api/sensor-exports/{jobId} - 진행률을 반환한다")
+    void getJob_returnsProgress() throws Exception {
+        // Given
+        given(exportService.getJob("job-1")).willReturn(SensorExportJobDto.builder()
+                .jobId("job-1")
+                .status(SensorExportStatus.RUNNING)
+                .completedChunks(10)
+                .totalChunks(40)
+                .progressPercent(25.0)
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/sensor-exports/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.progressPercent").value(25.0));
+    }
+
+    @Test
+    @DisplayName("GET /api/sensor-exports/{jobId}/file - 완료된 파일을 형식별 Content-Type 과 첨부 파일 이름으로 내려준다")
+    void download_returnsAttachment(@TempDir Path directory) throws Exception {
+        // Given
+        Path file = Files.write(directory.resolve("sensor-export-job-1.csv.gz"), new byte[]{1, 2, 3});
+        given(exportService.getCompletedFile("job-1")).willReturn(file);
+        given(exportService.getFormat("job-1")).willReturn(SensorExportFormat.CSV_GZIP);
+
+        // When & Then
+        mockMvc.perform(get("/api/sensor-exports/job-1/file"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"sensor-export-job-1.csv.gz\""))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    @DisplayName("GET /api/sensor-exports/{jobId}/file - 완료 전이면 409 를 반환한다")
+    void download_notReady_returnsConflict() throws Exception {
+        // Given
+        given(exportService.getCompletedFile("job-1")).willThrow(new SensorExportNotReadyException());
+
+        // When & Then
+        mockMvc.perform(get("/api/sensor-exports/job-1/file"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("ERROR_EXPORT_NOT_READY"));
+    }
+}
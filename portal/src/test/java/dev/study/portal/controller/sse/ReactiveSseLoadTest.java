@@ -0,0 +1,126 @@
+package dev.study.portal.controller.sse;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.management.UnixOperatingSystemMXBean;
+import dev.study.portal.config.ReactiveSseServerConfig;
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import dev.study.portal.service.machine.MachineMetadataCache;
+import dev.study.portal.service.sse.ReactiveAlertStreamService;
+import dev.study.portal.service.telemetry.SensorTelemetryRelay;
+import dev.study.portal.service.telemetry.SensorTelemetryStreamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import reactor.core.Disposable;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Reactor Netty 알림 스트림에 유휴 구독자 수만 개를 붙였을 때의 연결당 힙 사용량
+ *
+ * <p>클라이언트도 같은 JVM 에서 동작하므로 측정값은 서버 + 클라이언트 양쪽을 합친 상한입니다.
+ * 구독자 수는 -Dsse.load.subscribers 로 바꿀 수 있고, 파일 디스크립터 한도가 부족하면 건너뜁니다.</p>
+ */
+@Tag("benchmark")
+class ReactiveSseLoadTest {
+
+    private static final int SUBSCRIBERS = Integer.getInteger("sse.load.subscribers", 20_000);
+
+    private DisposableServer server;
+    private final List<Disposable> clients = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        clients.forEach(Disposable::dispose);
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Test
+    @DisplayName("유휴 구독자 수만 개를 적은 연결당 메모리로 유지하고 알림을 모두에게 전달한다")
+    void idleSubscribers_areHeldWithLittleMemory(TestReporter reporter) throws Exception {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        Assumptions.assumeTrue(os instanceof UnixOperatingSystemMXBean unix
+                && unix.getMaxFileDescriptorCount() > SUBSCRIBERS * 2L + 1_000);
+
+        // Given
+        SseProperties properties = new SseProperties();
+        properties.getReactive().setPort(0);
+        ReactiveAlertStreamService service = new ReactiveAlertStreamService(properties);
+        properties.getCluster().setEnabled(false);
+        SensorTelemetryStreamService telemetryStreamService = new SensorTelemetryStreamService(properties,
+                mock(MachineMetadataCache.class), new SensorTelemetryRelay(properties, null, null));
+        ReactiveSseHandler handler = new ReactiveSseHandler(service, telemetryStreamService, properties);
+        server = new ReactiveSseServerConfig().reactiveSseServer(properties, handler,
+                JsonMapper.builder().addModule(new JavaTimeModule()).build());
+        HttpClient client = HttpClient.create(ConnectionProvider.newConnection()).port(server.port());
+        AtomicInteger received = new AtomicInteger();
+
+        long before = usedHeap();
+
+        // When
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            clients.add(client.get()
+                    .uri("/api/reactive/sse/subscribe")
+                    .responseContent()
+                    .asString()
+                    .filter(chunk -> chunk.contains("event:anomaly-alert"))
+                    .subscribe(chunk -> received.incrementAndGet()));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(120);
+        while (service.getSubscriberCount() < SUBSCRIBERS && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(service.getSubscriberCount()).isEqualTo(SUBSCRIBERS);
+
+        long after = usedHeap();
+        long perConnection = (after - before) / SUBSCRIBERS;
+
+        service.publish(AnomalySseDto.builder()
+                .machineId(1L)
+                .machineName("Machine 1")
+                .detectedAt(LocalDateTime.now())
+                .severity("CRITICAL")
+                .anomalyProbability(0.99)
+                .build());
+        while (received.get() < SUBSCRIBERS && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        // Then
+        reporter.publishEntry(Map.of(
+                "subscribers", String.valueOf(SUBSCRIBERS),
+                "heapBytes", String.valueOf(after - before),
+                "heapBytesPerConnection", String.valueOf(perConnection)));
+        assertThat(received.get()).isEqualTo(SUBSCRIBERS);
+        assertThat(perConnection).isLessThan(32 * 1024);
+    }
+}
@@ -0,0 +1,160 @@
+package dev.study.portal.dto.sensor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JSON 행 배열 vs CBOR 컬럼 형식 크기/인코딩 시간 비교 (1초 간격 하루치 86,400 행)
+ *
+ * <p>결과는 TestReporter 로 테스트 리포트에 남기며, 크기 비교만 검증합니다. (시간은 환경 의존)</p>
+ */
+class SensorColumnarEncodingTest {
+
+    private static final int ROWS = 86_400;
+    private static final int ROUNDS = 5;
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+
+    private final ObjectMapper jsonMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper cborMapper = CBORMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private List<MachineSensorDataResponseDto> rows() {
+        List<MachineSensorDataResponseDto> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(MachineSensorDataResponseDto.builder()
+                    .id(1_000_000L + i)
+                    .machineId(1L)
+                    .airTemperature(298.1 + Math.sin(i / 600.0))
+                    .processTemperature(308.6 + Math.cos(i / 600.0))
+                    .rotationalSpeed(1500 + i % 100)
+                    .torque(42.8 + (i % 50) / 10.0)
+                    .toolWear(i / 3600)
+                    .createdAt(ORIGIN.plusSeconds(i).plusNanos((i % 7) * 1_000_000L))
+                    .build());
+        }
+        return rows;
+    }
+
+    private SensorColumnarResponseDto columnar(List<MachineSensorDataResponseDto> rows) {
+        SensorColumnarResponseDto.Accumulator accumulator = SensorColumnarResponseDto.accumulator(1L, ORIGIN);
+        rows.forEach(accumulator::add);
+        return accumulator.build();
+    }
+
+    private byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("CBOR 컬럼 형식은 JSON 행 배열보다 작다 (압축 전/후 모두)")
+    void columnarCbor_isSmallerThanJson(TestReporter reporter) throws IOException {
+        // Given
+        List<MachineSensorDataResponseDto> rows = rows();
+
+        // When
+        byte[] json = null;
+        byte[] cbor = null;
+        long jsonNanos = Long.MAX_VALUE;
+        long cborNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            json = jsonMapper.writeValueAsBytes(rows);
+            jsonNanos = Math.min(jsonNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            cbor = cborMapper.writeValueAsBytes(columnar(rows));
+            cborNanos = Math.min(cborNanos, System.nanoTime() - start);
+        }
+        byte[] jsonGzip = gzip(json);
+        byte[] cborGzip = gzip(cbor);
+
+        // Then
+        reporter.publishEntry(Map.of(
+                "rows", String.valueOf(ROWS),
+                "json.bytes", String.valueOf(json.length),
+                "json.gzipBytes", String.valueOf(jsonGzip.length),
+                "json.millis", String.format("%.1f", jsonNanos / 1e6),
+                "cbor.bytes", String.valueOf(cbor.length),
+                "cbor.gzipBytes", String.valueOf(cborGzip.length),
+                "cbor.millis", String.format("%.1f", cborNanos / 1e6)));
+        assertThat(cbor.length).isLessThan(json.length / 2);
+        assertThat(cborGzip.length).isLessThan(jsonGzip.length);
+    }
+
+    @Test
+    @DisplayName("delta 를 누적하면 원래 시각(µs)과 ID 가 복원되고 null 값은 NaN / null 비트맵으로 표현된다")
+    void deltaEncoding_roundTrips() {
+        // Given
+        List<MachineSensorDataResponseDto> rows = List.of(
+                MachineSensorDataResponseDto.builder().id(10L).machineId(1L).airTemperature(1.0)
+                        .rotationalSpeed(1500).toolWear(3).createdAt(ORIGIN.plusSeconds(5)).build(),
+                MachineSensorDataResponseDto.builder().id(11L).machineId(1L).airTemperature(null)
+                        .rotationalSpeed(null).toolWear(4).createdAt(ORIGIN.plusSeconds(6)).build(),
+                MachineSensorDataResponseDto.builder().id(15L).machineId(1L).airTemperature(3.0)
+                        .rotationalSpeed(1600).toolWear(null).createdAt(ORIGIN.plusSeconds(6).plusNanos(500_123_000)).build());
+
+        // When
+        SensorColumnarResponseDto result = columnar(rows);
+
+        // Then
+        assertThat(result.getCount()).isEqualTo(3);
+        assertThat(result.getTimeDeltaMicros()).containsExactly(5_000_000L, 1_000_000L, 500_123L);
+        assertThat(result.getIdDelta()).containsExactly(10L, 1L, 4L);
+        assertThat(result.getAirTemperature()[1]).isNaN();
+        assertThat(result.getRotationalSpeed()).containsExactly(1500, 0, 1600);
+        assertThat(result.getRotationalSpeedNulls()).containsExactly((byte) 0b010);
+        assertThat(result.getToolWear()).containsExactly(3, 4, 0);
+        assertThat(result.getToolWearNulls()).containsExactly((byte) 0b100);
+        assertThat(SensorColumnarResponseDto.isNull(result.getRotationalSpeedNulls(), 1)).isTrue();
+        assertThat(SensorColumnarResponseDto.isNull(result.getRotationalSpeedNulls(), 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("누적기 용량을 넘어도 null 비트맵이 행과 함께 늘어난다")
+    void nullBitmap_growsWithRows() {
+        // Given - 초기 용량(1024) 이상, 3의 배수 행만 null
+        int rows = 3_000;
+        SensorColumnarResponseDto.Accumulator accumulator = SensorColumnarResponseDto.accumulator(1L, ORIGIN);
+        for (int i = 0; i < rows; i++) {
+            accumulator.add(MachineSensorDataResponseDto.builder().id((long) i + 1).machineId(1L)
+                    .rotationalSpeed(i % 3 == 0 ? null : i).createdAt(ORIGIN.plusSeconds(i)).build());
+        }
+
+        // When
+        SensorColumnarResponseDto result = accumulator.build();
+
+        // Then
+        assertThat(result.getRotationalSpeedNulls()).hasSize((rows + 7) / 8);
+        for (int i = 0; i < rows; i++) {
+            assertThat(SensorColumnarResponseDto.isNull(result.getRotationalSpeedNulls(), i)).isEqualTo(i % 3 == 0);
+            assertThat(SensorColumnarResponseDto.isNull(result.getToolWearNulls(), i)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dev.study.portal.dto.sensor;
+
+import dev.study.portal.common.exception.sensordata.InvalidSensorDataCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SensorDataCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 30, 15, 123_456_000);
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("인코딩한 커서를 같은 설비로 복원하면 값이 그대로 돌아온다")
+    void encodeDecode_roundTrip() {
+        // Given
+        SensorDataCursor cursor = new SensorDataCursor(7L, CREATED_AT, 123_456_789L);
+
+        // When
+        String token = cursor.encode();
+        SensorDataCursor decoded = SensorDataCursor.decode(token, 7L);
+
+        // Then - URL 에 그대로 넣을 수 있는 토큰
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(decoded.getMachineId()).isEqualTo(7L);
+        assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(decoded.getId()).isEqualTo(123_456_789L);
+    }
+
+    @Test
+    @DisplayName("다른 설비의 커서는 거부한다")
+    void decode_rejectsForeignMachine() {
+        // Given
+        String token = new SensorDataCursor(7L, CREATED_AT, 1L).encode();
+
+        // When & Then
+        assertThatThrownBy(() -> SensorDataCursor.decode(token, 8L))
+                .isInstanceOf(InvalidSensorDataCursorException.class);
+    }
+
+    @Test
+    @DisplayName("설비 ID 를 바꾸거나 필드를 깨뜨린 커서는 거부한다")
+    void decode_rejectsTamperedToken() {
+        // Given
+        String otherMachine = token("v1|8|" + CREATED_AT + "|1");
+        String badId = token("v1|7|" + CREATED_AT + "|abc");
+        String badTime = token("v1|7|2025-13-01T00:00|1");
+        String extraField = token("v1|7|" + CREATED_AT + "|1|2");
+
+        // When & Then
+        assertThatThrownBy(() -> SensorDataCursor.decode(otherMachine, 7L))
+                .isInstanceOf(InvalidSensorDataCursorException.class);
+        assertThatThrownBy(() -> SensorDataCursor.decode(badId, 7L))
+                .isInstanceOf(InvalidSensorDataCursorException.class);
+        assertThatThrownBy(() -> SensorDataCursor.decode(badTime, 7L))
+                .isInstanceOf(InvalidSensorDataCursorException.class);
+        assertThatThrownBy(() -> SensorDataCursor.decode(extraField, 7L))
+                .isInstanceOf(InvalidSensorDataCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Base64URL 이 아닌 토큰은 거부한다")
+    void decode_rejectsMalformedBase64() {
+        // When & Then
+        assertThatThrownBy(() -> SensorDataCursor.decode("not+base64/==!", 7L))
+                .isInstanceOf(InvalidSensorDataCursorException.class);
+        assertThatThrownBy(() -> SensorDataCursor.decode("a", 7L))
+                .isInstanceOf(InvalidSensorDataCursorException.class);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전의 커서는 거부한다")
+    void decode_rejectsUnknownVersion() {
+        // Given
+        String token = token("v2|7|" + CREATED_AT + "|1");
+
+        // When & Then
+        assertThatThrownBy(() -> SensorDataCursor.decode(token, 7L))
+                .isInstanceOf(InvalidSensorDataCursorException.class);
+    }
+}
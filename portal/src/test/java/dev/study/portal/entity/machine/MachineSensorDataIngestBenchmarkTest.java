@@ -0,0 +1,175 @@
+package dev.study.portal.entity.machine;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 센서 데이터 적재 벤치마크 (IDENTITY vs 시퀀스 + JDBC 배치)
+ *
+ * <p>로컬 PostgreSQL(SPRING_DATASOURCE_URL / USERNAME / PASSWORD, 기본값은 application.yml 과 동일)에
+ * ingest_benchmark 스키마를 만들고 종료 시 삭제합니다. (연결할 수 없으면 건너뜀)<br>
+ * KafkaConsumerService 와 같이 50행씩 한 트랜잭션으로 저장하며, 실제 Hibernate 매핑(MachineSensorData)과
+ * 같은 컬럼의 IDENTITY 엔티티를 비교합니다.</p>
+ */
+@Tag("benchmark")
+class MachineSensorDataIngestBenchmarkTest {
+
+    private static final String SCHEMA = "ingest_benchmark";
+    private static final int BATCH_SIZE = 50;
+    private static final int BATCHES = 200;
+
+    private SessionFactory sessionFactory;
+
+    /**
+     * 기존 방식 비교용 엔티티 (BaseEntity 의 IDENTITY 전략과 동일)
+     */
+    @Entity(name = "IdentitySensorData")
+    @Table(name = "machine_sensor_data_identity")
+    static class IdentitySensorData {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @Column(name = "machine_id")
+        Long machineId;
+        @Column(name = "air_temperature")
+        Double airTemperature;
+        @Column(name = "process_temperature")
+        Double processTemperature;
+        @Column(name = "rotational_speed")
+        Integer rotationalSpeed;
+        @Column(name = "torque")
+        Double torque;
+        @Column(name = "tool_wear")
+        Integer toolWear;
+        @Column(name = "create_at", nullable = false)
+        LocalDateTime createdAt;
+    }
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getenv().getOrDefault("SPRING_DATASOURCE_URL", "jdbc:postgresql://localhost:5432/machine_anomaly");
+        String username = System.getenv().getOrDefault("SPRING_DATASOURCE_USERNAME", "admin");
+        String password = System.getenv().getOrDefault("SPRING_DATASOURCE_PASSWORD", "admin1234");
+        try (Connection ignored = DriverManager.getConnection(url, username, password)) {
+            // 연결 확인
+        } catch (Exception e) {
+            Assumptions.abort("로컬 PostgreSQL 에 연결할 수 없음: " + e.getMessage());
+        }
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, username)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, password)
+                .applySetting(AvailableSettings.DEFAULT_SCHEMA, SCHEMA)
+                .applySetting(AvailableSettings.HBM2DDL_CREATE_SCHEMAS, true)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(MachineSensorData.class)
+                .addAnnotatedClass(IdentitySensorData.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    private MachineSensorData sequenceRow(int i) {
+        return MachineSensorData.builder()
+                .machineId((long) (i % 10))
+                .airTemperature(298.0 + i % 5)
+                .processTemperature(308.0 + i % 5)
+                .rotationalSpeed(1500 + i % 100)
+                .torque(40.0 + i % 10)
+                .toolWear(i % 250)
+                .build();
+    }
+
+    private IdentitySensorData identityRow(int i) {
+        IdentitySensorData row = new IdentitySensorData();
+        row.machineId = (long) (i % 10);
+        row.airTemperature = 298.0 + i % 5;
+        row.processTemperature = 308.0 + i % 5;
+        row.rotationalSpeed = 1500 + i % 100;
+        row.torque = 40.0 + i % 10;
+        row.toolWear = i % 250;
+        row.createdAt = LocalDateTime.now();
+        return row;
+    }
+
+    private record Result(long statements, long nanos) {
+    }
+
+    // 50행씩 BATCHES 회 저장 (배치마다 트랜잭션 1개, saveSensorDataBatch 와 동일)
+    private Result ingest(IntFunction<Object> rows) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int batch = 0; batch < BATCHES; batch++) {
+            int offset = batch * BATCH_SIZE;
+            sessionFactory.inTransaction(session -> {
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    session.persist(rows.apply(offset + i));
+                }
+            });
+        }
+        return new Result(statistics.getPrepareStatementCount(), System.nanoTime() - start);
+    }
+
+    @Test
+    @DisplayName("시퀀스 ID + JDBC 배치는 50행 저장당 문장 수와 적재 시간이 IDENTITY 보다 적다")
+    void sequenceBatching_reducesRoundTripsPerBatch(TestReporter reporter) {
+        // Given - 워밍업 (커넥션, 시퀀스 첫 할당, JIT)
+        ingest(this::identityRow);
+        ingest(this::sequenceRow);
+
+        // When
+        Result identity = ingest(this::identityRow);
+        Result sequence = ingest(this::sequenceRow);
+
+        // Then
+        int rows = BATCH_SIZE * BATCHES;
+        reporter.publishEntry(Map.of(
+                "rows", String.valueOf(rows),
+                "identity.statementsPerBatch", String.format("%.1f", identity.statements() / (double) BATCHES),
+                "identity.rowsPerSecond", String.format("%.0f", rows * 1e9 / identity.nanos()),
+                "sequence.statementsPerBatch", String.format("%.1f", sequence.statements() / (double) BATCHES),
+                "sequence.rowsPerSecond", String.format("%.0f", rows * 1e9 / sequence.nanos())));
+        // IDENTITY: 행마다 INSERT ... RETURNING / 시퀀스: 할당 1회(50행마다) + 배치 INSERT 1회
+        assertThat(identity.statements()).isGreaterThanOrEqualTo((long) rows);
+        assertThat(sequence.statements()).isLessThanOrEqualTo(BATCHES * 2L);
+        assertThat(sequence.nanos()).isLessThan(identity.nanos());
+    }
+}
@@ -0,0 +1,126 @@
+package dev.study.portal.listener.anomoly;
+
+import dev.study.portal.dto.anomalyHistory.AnomalyAlertMessage;
+import dev.study.portal.dto.anomalyHistory.Prediction;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import dev.study.portal.entity.machine.enums.Type;
+import dev.study.portal.service.machine.MachineMetadata;
+import dev.study.portal.service.machine.MachineMetadataCache;
+import dev.study.portal.service.sse.AnomalyAlertCoalescer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnomalyAlertBatchListenerTest {
+
+    @Mock
+    private AnomalyAlertCoalescer anomalyAlertCoalescer;
+
+    @Mock
+    private MachineMetadataCache machineMetadataCache;
+
+    @InjectMocks
+    private AnomalyAlertBatchListener listener;
+
+    @Captor
+    private ArgumentCaptor<Collection<Long>> idsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<AnomalySseDto>> alertsCaptor;
+
+    private AnomalyAlertMessage message(Long machineId, String detectedAt) {
+        return AnomalyAlertMessage.builder()
+                .machineId(machineId)
+                .detectedAt(detectedAt)
+                .prediction(Prediction.builder().isAnomaly(true).anomalyProbability(0.9).severity("CRITICAL").build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("poll 한 번의 알림은 설비 조회 1회로 처리하고 한 번에 전달한다")
+    void handle_singleLookupPerPoll() {
+        // Given
+        given(machineMetadataCache.findAll(anyCollection())).willReturn(Map.of(
+                1L, new MachineMetadata(1L, "Machine 1", Type.LOW),
+                2L, new MachineMetadata(2L, "Machine 2", Type.HIGH)));
+        List<AnomalyAlertMessage> messages = List.of(
+                message(1L, "2025-01-01T00:00:00"),
+                message(2L, "2025-01-01T00:00:01"),
+                message(1L, "2025-01-01T00:00:02"));
+
+        // When
+        listener.handleAnomalyAlerts(messages);
+
+        // Then
+        then(machineMetadataCache).should(times(1)).findAll(idsCaptor.capture());
+        assertThat(idsCaptor.getValue()).containsOnly(1L, 2L);
+        then(anomalyAlertCoalescer).should(times(1)).acceptAll(alertsCaptor.capture());
+        assertThat(alertsCaptor.getValue()).extracting(AnomalySseDto::getMachineName)
+                .containsExactly("Machine 1", "Machine 2", "Machine 1");
+        assertThat(alertsCaptor.getValue()).extracting(AnomalySseDto::getMachineType)
+                .containsExactly(Type.LOW, Type.HIGH, Type.LOW);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 설비의 알림은 이름/유형 없이 전달한다")
+    void handle_unknownMachinePassesThrough() {
+        // Given
+        given(machineMetadataCache.findAll(anyCollection())).willReturn(Map.of());
+
+        // When
+        listener.handleAnomalyAlerts(List.of(message(99L, "2025-01-01T00:00:00")));
+
+        // Then
+        then(anomalyAlertCoalescer).should().acceptAll(alertsCaptor.capture());
+        assertThat(alertsCaptor.getValue()).singleElement().satisfies(alert -> {
+            assertThat(alert.getMachineId()).isEqualTo(99L);
+            assertThat(alert.getMachineName()).isNull();
+            assertThat(alert.getMachineType()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("잘못된 메시지는 건너뛰고 나머지 알림은 전달한다")
+    void handle_skipsMalformedMessages() {
+        // Given - 발생 시간 형식 오류, 예측 결과 누락
+        given(machineMetadataCache.findAll(anyCollection()))
+                .willReturn(Map.of(1L, new MachineMetadata(1L, "Machine 1", Type.MEDIUM)));
+        AnomalyAlertMessage noPrediction = AnomalyAlertMessage.builder().machineId(1L).detectedAt("2025-01-01T00:00:00").build();
+        List<AnomalyAlertMessage> messages = List.of(
+                message(1L, "not-a-date"),
+                noPrediction,
+                message(1L, "2025-01-01T00:00:05"));
+
+        // When
+        listener.handleAnomalyAlerts(messages);
+
+        // Then
+        then(anomalyAlertCoalescer).should().acceptAll(alertsCaptor.capture());
+        assertThat(alertsCaptor.getValue()).singleElement()
+                .extracting(AnomalySseDto::getDetectedAt).hasToString("2025-01-01T00:00:05");
+    }
+
+    @Test
+    @DisplayName("빈 배치는 조회도 전달도 하지 않는다")
+    void handle_emptyBatch() {
+        // When
+        listener.handleAnomalyAlerts(List.of());
+
+        // Then
+        then(machineMetadataCache).shouldHaveNoInteractions();
+        then(anomalyAlertCoalescer).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,194 @@
+package dev.study.portal.listener.anomoly;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.study.portal.config.MachineMetadataCacheProperties;
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.anomalyHistory.AnomalyAlertMessage;
+import dev.study.portal.dto.anomalyHistory.Prediction;
+import dev.study.portal.entity.machine.Machine;
+import dev.study.portal.entity.machine.enums.Type;
+import dev.study.portal.repository.machine.MachineRepository;
+import dev.study.portal.service.machine.MachineMetadataCache;
+import dev.study.portal.service.sse.AnomalyAlertCoalescer;
+import dev.study.portal.service.sse.ReactiveAlertStreamService;
+import dev.study.portal.service.sse.SseClusterBroadcaster;
+import dev.study.portal.service.sse.SseEmitterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 초당 5k 알림 버스트에서 단건 리스너 / 배치 리스너의 지연(lag)과 처리량 비교
+ *
+ * <p>Kafka 대신 큐로 poll(최대 500건)을 흉내 내고, 설비 조회 쿼리는 1회당 1ms 로 가정합니다.
+ * 설비 2,000대 캐시가 비어 있는 상태(재시작 직후)에서 시작하며, 묶음(coalescing)과 Redis 중계는 끄고
+ * 모든 알림을 구독자 100명에게 전달합니다. 결과는 TestReporter 로 테스트 리포트에 남깁니다.</p>
+ */
+@Tag("benchmark")
+class AnomalyAlertBurstBenchmarkTest {
+
+    private static final int RATE_PER_SECOND = 5_000;
+    private static final int DURATION_SECONDS = 2;
+    private static final int MACHINES = 2_000;
+    private static final int MAX_POLL_RECORDS = 500;
+    private static final int SUBSCRIBERS = 100;
+    private static final long QUERY_LATENCY_MS = 1;
+
+    private record Produced(AnomalyAlertMessage message, long producedAt) {
+    }
+
+    private record Result(long maxLagMillis, int maxQueueDepth, double throughput) {
+    }
+
+    private Machine machine(long id) {
+        Machine machine = Machine.builder().name("Machine " + id).type(Type.values()[(int) (id % 3)]).build();
+        try {
+            var idField = machine.getClass().getSuperclass().getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(machine, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return machine;
+    }
+
+    @SuppressWarnings("unchecked")
+    private MachineRepository slowRepository() {
+        MachineRepository repository = mock(MachineRepository.class);
+        willAnswer(invocation -> {
+            Thread.sleep(QUERY_LATENCY_MS);
+            return Optional.of(machine(invocation.getArgument(0)));
+        }).given(repository).findById(anyLong());
+        willAnswer(invocation -> {
+            Thread.sleep(QUERY_LATENCY_MS);
+            List<Machine> machines = new ArrayList<>();
+            ((Collection<Long>) invocation.getArgument(0)).forEach(id -> machines.add(machine(id)));
+            return machines;
+        }).given(repository).findAllById(any());
+        return repository;
+    }
+
+    private AnomalyAlertMessage message(int i) {
+        return AnomalyAlertMessage.builder()
+                .machineId((long) (i % MACHINES) + 1)
+                .prediction(Prediction.builder().isAnomaly(true).anomalyProbability(0.9).severity("ALERT").build())
+                .detectedAt(LocalDateTime.now().toString())
+                .build();
+    }
+
+    private Result run(boolean batch) throws InterruptedException {
+        SseProperties properties = new SseProperties();
+        properties.getCluster().setEnabled(false);
+        properties.getCoalescing().setEnabled(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SseEmitterService sseEmitterService = new SseEmitterService(properties,
+                JsonMapper.builder().addModule(new JavaTimeModule()).build());
+        sseEmitterService.init();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            sseEmitterService.subscribe("client-" + i);
+        }
+        SseClusterBroadcaster broadcaster = new SseClusterBroadcaster(properties, null,
+                JsonMapper.builder().addModule(new JavaTimeModule()).build(),
+                sseEmitterService, new ReactiveAlertStreamService(properties));
+        AnomalyAlertCoalescer coalescer = new AnomalyAlertCoalescer(properties, broadcaster, meterRegistry);
+        MachineMetadataCache cache = new MachineMetadataCache(new MachineMetadataCacheProperties(), slowRepository(), meterRegistry);
+
+        Consumer<List<AnomalyAlertMessage>> consumer;
+        if (batch) {
+            AnomalyAlertBatchListener listener = new AnomalyAlertBatchListener(coalescer, cache);
+            consumer = listener::handleAnomalyAlerts;
+        } else {
+            AnomalyAlertListener listener = new AnomalyAlertListener(coalescer, cache);
+            consumer = messages -> messages.forEach(listener::handleAnomalyAlert);
+        }
+
+        int total = RATE_PER_SECOND * DURATION_SECONDS;
+        LinkedBlockingQueue<Produced> topic = new LinkedBlockingQueue<>();
+        Thread producer = new Thread(() -> {
+            long start = System.nanoTime();
+            for (int i = 0; i < total; i++) {
+                // 1ms 단위로 5건씩 균일하게 발행
+                long due = start + TimeUnit.MICROSECONDS.toNanos(i * 1_000_000L / RATE_PER_SECOND);
+                while (System.nanoTime() < due) {
+                    Thread.onSpinWait();
+                }
+                topic.add(new Produced(message(i), System.nanoTime()));
+            }
+        });
+
+        long maxLag = 0;
+        int maxDepth = 0;
+        int consumed = 0;
+        long start = System.nanoTime();
+        producer.start();
+        List<Produced> poll = new ArrayList<>(MAX_POLL_RECORDS);
+        while (consumed < total) {
+            Produced first = topic.poll(100, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                continue;
+            }
+            poll.add(first);
+            topic.drainTo(poll, MAX_POLL_RECORDS - 1);
+            maxDepth = Math.max(maxDepth, topic.size() + poll.size());
+
+            consumer.accept(poll.stream().map(Produced::message).toList());
+            long now = System.nanoTime();
+            for (Produced produced : poll) {
+                maxLag = Math.max(maxLag, now - produced.producedAt());
+            }
+            consumed += poll.size();
+            poll.clear();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        producer.join();
+        sseEmitterService.shutdown();
+        return new Result(TimeUnit.NANOSECONDS.toMillis(maxLag), maxDepth, total / elapsedSeconds);
+    }
+
+    @Test
+    @DisplayName("초당 5k 알림 버스트에서 배치 리스너는 단건 리스너보다 최대 지연이 짧다")
+    void batchListener_keepsLagLowerUnderBurst(TestReporter reporter) throws InterruptedException {
+        Logger appLogger = (Logger) LoggerFactory.getLogger("dev.study.portal");
+        Level previous = appLogger.getLevel();
+        appLogger.setLevel(Level.WARN);
+        try {
+            // When
+            Result single = run(false);
+            Result batch = run(true);
+
+            // Then
+            reporter.publishEntry(Map.of(
+                    "alertsPerSecond", String.valueOf(RATE_PER_SECOND),
+                    "single.maxLagMillis", String.valueOf(single.maxLagMillis()),
+                    "single.maxQueueDepth", String.valueOf(single.maxQueueDepth()),
+                    "single.throughput", String.format("%.0f", single.throughput()),
+                    "batch.maxLagMillis", String.valueOf(batch.maxLagMillis()),
+                    "batch.maxQueueDepth", String.valueOf(batch.maxQueueDepth()),
+                    "batch.throughput", String.format("%.0f", batch.throughput())));
+            assertThat(batch.maxLagMillis()).isLessThan(single.maxLagMillis());
+        } finally {
+            appLogger.setLevel(previous);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package dev.study.portal.repository.sensor;
+
+import dev.study.portal.dto.sensor.AggregateFunction;
+import dev.study.portal.dto.sensor.SensorAggregateResponseDto;
+import dev.study.portal.entity.machine.MachineSensorData;
+import dev.study.portal.entity.machine.MachineSensorDataRollup;
+import dev.study.portal.entity.machine.enums.SensorChannel;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 원본 + 롤업 UNION 집계 검증
+ *
+ * <p>로컬 PostgreSQL(SPRING_DATASOURCE_URL / USERNAME / PASSWORD, 기본값은 application.yml 과 동일)에
+ * aggregation_test 스키마를 만들고 종료 시 삭제합니다. (연결할 수 없으면 건너뜀)</p>
+ */
+class SensorAggregationRepositoryTest {
+
+    private static final String SCHEMA = "aggregation_test";
+    private static final long MACHINE_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+    private static final Set<SensorChannel> CHANNELS = EnumSet.of(SensorChannel.TORQUE, SensorChannel.AIR_TEMPERATURE);
+    private static final Set<AggregateFunction> FUNCTIONS =
+            EnumSet.of(AggregateFunction.MIN, AggregateFunction.MAX, AggregateFunction.AVG, AggregateFunction.COUNT);
+
+    private SessionFactory sessionFactory;
+    private JdbcTemplate jdbcTemplate;
+    private SensorAggregationRepository aggregationRepository;
+    private SensorRetentionRepository retentionRepository;
+
+    @BeforeEach
+    void setUp() {
+        String url = System.getenv().getOrDefault("SPRING_DATASOURCE_URL", "jdbc:postgresql://localhost:5432/machine_anomaly");
+        String username = System.getenv().getOrDefault("SPRING_DATASOURCE_USERNAME", "admin");
+        String password = System.getenv().getOrDefault("SPRING_DATASOURCE_PASSWORD", "admin1234");
+        try (Connection ignored = DriverManager.getConnection(url, username, password)) {
+            // 연결 확인
+        } catch (Exception e) {
+            Assumptions.abort("로컬 PostgreSQL 에 연결할 수 없음: " + e.getMessage());
+        }
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, username)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, password)
+                .applySetting(AvailableSettings.DEFAULT_SCHEMA, SCHEMA)
+                .applySetting(AvailableSettings.HBM2DDL_CREATE_SCHEMAS, true)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(MachineSensorData.class)
+                .addAnnotatedClass(MachineSensorDataRollup.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        // 저장소 SQL 은 스키마를 붙이지 않으므로 search_path 로 테스트 스키마를 가리킴
+        String schemaUrl = url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA;
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(schemaUrl, username, password));
+        aggregationRepository = new SensorAggregationRepository(new NamedParameterJdbcTemplate(jdbcTemplate));
+        retentionRepository = new SensorRetentionRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    private void insertRaw(LocalDateTime createdAt, Double torque) {
+        jdbcTemplate.update("INSERT INTO machine_sensor_data (id, machine_id, air_temperature, process_temperature, " +
+                        "rotational_speed, torque, tool_wear, create_by, create_at, update_by, update_at) " +
+                        "VALUES (nextval('" + MachineSensorData.ID_SEQUENCE_NAME + "'), ?, 300.0, 310.0, 1500, ?, 10, " +
+                        "'system', ?, 'system', ?)",
+                MACHINE_ID, torque, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+    }
+
+    // 0분: 6건 중 torque 3건만 값이 있음 (10, 20, 30) → 1분 롤업으로 이동
+    // 1분: 원본 2건 (40, NULL) 유지
+    private void givenRolledUpMinuteAndRawMinute() {
+        insertRaw(BASE, 10.0);
+        insertRaw(BASE.plusSeconds(10), 20.0);
+        insertRaw(BASE.plusSeconds(20), 30.0);
+        insertRaw(BASE.plusSeconds(30), null);
+        insertRaw(BASE.plusSeconds(40), null);
+        insertRaw(BASE.plusSeconds(50), null);
+        insertRaw(BASE.plusSeconds(60), 40.0);
+        insertRaw(BASE.plusSeconds(70), null);
+        assertThat(retentionRepository.rollupRawChunk(MACHINE_ID, BASE.plusMinutes(1), 1_000)).isEqualTo(6);
+    }
+
+    private Double series(SensorAggregateResponseDto result, SensorChannel channel, AggregateFunction function, int bucket) {
+        return result.getSeries().get(channel.getFieldName()).get(function.getAlias()).get(bucket);
+    }
+
+    @Test
+    @DisplayName("롤업은 채널별 NULL 이 아닌 값 개수를 저장한다")
+    void rollup_storesPerChannelNonNullCount() {
+        // When
+        givenRolledUpMinuteAndRawMinute();
+
+        // Then
+        var row = jdbcTemplate.queryForMap("SELECT sample_count, torque_sum, torque_count, air_temperature_count " +
+                "FROM machine_sensor_data_rollup WHERE machine_id = ?", MACHINE_ID);
+        assertThat(((Number) row.get("sample_count")).longValue()).isEqualTo(6L);
+        assertThat(((Number) row.get("torque_sum")).doubleValue()).isEqualTo(60.0);
+        assertThat(((Number) row.get("torque_count")).longValue()).isEqualTo(3L);
+        assertThat(((Number) row.get("air_temperature_count")).longValue()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("원본과 롤업은 각각의 시각이 속한 버킷으로 나뉘고, NULL 채널 평균은 값이 있는 샘플로만 나눈다")
+    void aggregate_bucketsRawAndRollupSeparately() {
+        // Given
+        givenRolledUpMinuteAndRawMinute();
+
+        // When - 60초 버킷: 0번 = 롤업, 1번 = 원본
+        SensorAggregateResponseDto result = aggregationRepository.aggregate(
+                MACHINE_ID, BASE, BASE.plusSeconds(119), 60, CHANNELS, FUNCTIONS);
+
+        // Then
+        assertThat(result.getBucketIndex()).containsExactly(0L, 1L);
+        assertThat(result.getCount()).containsExactly(6L, 2L);
+        assertThat(series(result, SensorChannel.TORQUE, AggregateFunction.AVG, 0)).isEqualTo(20.0);
+        assertThat(series(result, SensorChannel.TORQUE, AggregateFunction.MIN, 0)).isEqualTo(10.0);
+        assertThat(series(result, SensorChannel.TORQUE, AggregateFunction.MAX, 0)).isEqualTo(30.0);
+        assertThat(series(result, SensorChannel.TORQUE, AggregateFunction.AVG, 1)).isEqualTo(40.0);
+        assertThat(series(result, SensorChannel.AIR_TEMPERATURE, AggregateFunction.AVG, 0)).isEqualTo(300.0);
+    }
+
+    @Test
+    @DisplayName("한 버킷에 원본과 롤업이 섞이면 합계와 값 개수를 합쳐 가중 평균한다")
+    void aggregate_mergesRawAndRollupInOneBucket() {
+        // Given
+        givenRolledUpMinuteAndRawMinute();
+
+        // When - 120초 버킷 하나
+        SensorAggregateResponseDto result = aggregationRepository.aggregate(
+                MACHINE_ID, BASE, BASE.plusSeconds(119), 120, CHANNELS, FUNCTIONS);
+
+        // Then - (10 + 20 + 30 + 40) / 4, sample_count 8 로 나누지 않음
+        assertThat(result.getBucketIndex()).containsExactly(0L);
+        assertThat(result.getCount()).containsExactly(8L);
+        assertThat(series(result, SensorChannel.TORQUE, AggregateFunction.AVG, 0)).isEqualTo(25.0);
+        assertThat(series(result, SensorChannel.TORQUE, AggregateFunction.MAX, 0)).isEqualTo(40.0);
+        assertThat(series(result, SensorChannel.AIR_TEMPERATURE, AggregateFunction.AVG, 0)).isEqualTo(300.0);
+    }
+
+    @Test
+    @DisplayName("1시간 롤업으로 병합해도 값 개수가 유지되고, count 컬럼이 없던 기존 행은 sample_count 로 간주한다")
+    void aggregate_hourlyRollupKeepsCounts() {
+        // Given - count 컬럼 추가 전에 만들어진 1분 롤업 (5건, 합계 50)
+        givenRolledUpMinuteAndRawMinute();
+        jdbcTemplate.update("INSERT INTO machine_sensor_data_rollup (machine_id, granularity, bucket_start, sample_count, " +
+                        "torque_min, torque_max, torque_sum, air_temperature_min, air_temperature_max, air_temperature_sum, create_at) " +
+                        "VALUES (?, 'MINUTE', ?, 5, 10.0, 10.0, 50.0, 300.0, 300.0, 1500.0, now())",
+                MACHINE_ID, Timestamp.valueOf(BASE.plusMinutes(30)));
+
+        // When - 1분 롤업 2행을 1시간 롤업 1행으로 병합
+        assertThat(retentionRepository.rollupMinuteChunk(MACHINE_ID, BASE.plusHours(1), 1_000)).isEqualTo(2);
+        SensorAggregateResponseDto result = aggregationRepository.aggregate(
+                MACHINE_ID, BASE, BASE.plusMinutes(59), 3600, CHANNELS, FUNCTIONS);
+
+        // Then - 롤업 (60 + 50) / (3 + 5), 원본 40 / 1 → 150 / 9
+        Long torqueCount = jdbcTemplate.queryForObject(
+                "SELECT torque_count FROM machine_sensor_data_rollup WHERE machine_id = ? AND granularity = 'HOUR'",
+                Long.class, MACHINE_ID);
+        assertThat(torqueCount).isEqualTo(8L);
+        assertThat(result.getCount()).containsExactly(13L);
+        assertThat(series(result, SensorChannel.TORQUE, AggregateFunction.AVG, 0)).isCloseTo(150.0 / 9, within(1e-9));
+    }
+}
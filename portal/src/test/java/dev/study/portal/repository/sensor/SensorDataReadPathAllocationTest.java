@@ -0,0 +1,180 @@
+package dev.study.portal.repository.sensor;
+
+import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
+import dev.study.portal.entity.machine.MachineSensorData;
+import org.hibernate.FlushMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 조회 경로별 힙 할당량 벤치마크 (설비 1대, 100k 행)
+ *
+ * <p>로컬 PostgreSQL(SPRING_DATASOURCE_URL / USERNAME / PASSWORD, 기본값은 application.yml 과 동일)에
+ * read_path_benchmark 스키마를 만들고 종료 시 삭제합니다. (연결할 수 없으면 건너뜀)</p>
+ *
+ * <ul>
+ *   <li>엔티티 경로: 기존 MachineSensorDataRepository.findByMachineIdAndCreatedAtBetween 파생 쿼리와 같은 JPQL 을 읽기 전용 세션으로 실행 → MachineSensorDataResponseDto.from</li>
+ *   <li>프로젝션 경로: MachineSensorDataQueryRepository.findByMachineIdAndCreatedAtBetween (ROW_MAPPER)</li>
+ * </ul>
+ *
+ * <p>두 경로 모두 같은 드라이버로 같은 행을 읽으므로 드라이버 할당까지 포함한 호출 스레드 기준 수치입니다.</p>
+ */
+@Tag("benchmark")
+class SensorDataReadPathAllocationTest {
+
+    private static final String SCHEMA = "read_path_benchmark";
+    private static final int ROWS = 100_000;
+    private static final long MACHINE_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+    private static final LocalDateTime END = BASE.plusSeconds(ROWS);
+
+    private SessionFactory sessionFactory;
+    private MachineSensorDataQueryRepository queryRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        String url = System.getenv().getOrDefault("SPRING_DATASOURCE_URL", "jdbc:postgresql://localhost:5432/machine_anomaly");
+        String username = System.getenv().getOrDefault("SPRING_DATASOURCE_USERNAME", "admin");
+        String password = System.getenv().getOrDefault("SPRING_DATASOURCE_PASSWORD", "admin1234");
+        try (Connection ignored = DriverManager.getConnection(url, username, password)) {
+            // 연결 확인
+        } catch (Exception e) {
+            Assumptions.abort("로컬 PostgreSQL 에 연결할 수 없음: " + e.getMessage());
+        }
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, username)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, password)
+                .applySetting(AvailableSettings.DEFAULT_SCHEMA, SCHEMA)
+                .applySetting(AvailableSettings.HBM2DDL_CREATE_SCHEMAS, true)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(MachineSensorData.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        // 프로젝션 경로의 SQL 은 스키마를 붙이지 않으므로 search_path 로 벤치마크 스키마를 가리킴
+        String schemaUrl = url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA;
+        queryRepository = new MachineSensorDataQueryRepository(
+                new JdbcTemplate(new DriverManagerDataSource(schemaUrl, username, password)));
+        insertRows(schemaUrl + "&reWriteBatchedInserts=true", username, password);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    private void insertRows(String url, String username, String password) throws Exception {
+        String sql = "INSERT INTO machine_sensor_data (id, machine_id, air_temperature, process_temperature, " +
+                "rotational_speed, torque, tool_wear, create_by, create_at, update_by, update_at) " +
+                "VALUES (nextval('" + MachineSensorData.ID_SEQUENCE_NAME + "'), ?, ?, ?, ?, ?, ?, 'system', ?, 'system', ?)";
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < ROWS; i++) {
+                Timestamp createdAt = Timestamp.valueOf(BASE.plusSeconds(i));
+                statement.setLong(1, MACHINE_ID);
+                statement.setDouble(2, 298.0 + i % 5);
+                statement.setDouble(3, 308.0 + i % 5);
+                statement.setInt(4, 1500 + i % 100);
+                statement.setDouble(5, 40.0 + i % 10);
+                statement.setInt(6, i % 250);
+                statement.setTimestamp(7, createdAt);
+                statement.setTimestamp(8, createdAt);
+                statement.addBatch();
+                if ((i + 1) % 1_000 == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    // 기존 MachineSensorDataService.getSensorDataCreatedAtBetween (@Transactional(readOnly = true) + 엔티티 조회 + DTO 복사)
+    private List<MachineSensorDataResponseDto> entityPath() {
+        return sessionFactory.fromTransaction(session -> {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            return session.createSelectionQuery(
+                            "from MachineSensorData d where d.machineId = :machineId and d.createdAt between :startAt and :endAt",
+                            MachineSensorData.class)
+                    .setParameter("machineId", MACHINE_ID)
+                    .setParameter("startAt", BASE)
+                    .setParameter("endAt", END)
+                    .getResultList()
+                    .stream()
+                    .map(MachineSensorDataResponseDto::from)
+                    .toList();
+        });
+    }
+
+    private List<MachineSensorDataResponseDto> projectionPath() {
+        return queryRepository.findByMachineIdAndCreatedAtBetween(MACHINE_ID, BASE, END);
+    }
+
+    private record Result(long bytes, long nanos) {
+    }
+
+    private Result measure(Supplier<List<MachineSensorDataResponseDto>> path) {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        // 워밍업 (커넥션, 쿼리 계획, JIT)
+        assertThat(path.get()).hasSize(ROWS);
+
+        long threadId = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        List<MachineSensorDataResponseDto> rows = path.get();
+        long nanos = System.nanoTime() - start;
+        long bytes = bean.getThreadAllocatedBytes(threadId) - before;
+        assertThat(rows).hasSize(ROWS);
+        return new Result(bytes, nanos);
+    }
+
+    @Test
+    @DisplayName("프로젝션 경로는 엔티티 경로보다 100k 행 조회 시 힙 할당량이 적다")
+    void projectionPath_allocatesLessThanEntityPath(TestReporter reporter) {
+        // When
+        Result entity = measure(this::entityPath);
+        Result projection = measure(this::projectionPath);
+
+        // Then
+        reporter.publishEntry(Map.of(
+                "rows", String.valueOf(ROWS),
+                "entity.bytesPerRow", String.valueOf(entity.bytes() / ROWS),
+                "entity.millis", String.valueOf(entity.nanos() / 1_000_000),
+                "projection.bytesPerRow", String.valueOf(projection.bytes() / ROWS),
+                "projection.millis", String.valueOf(projection.nanos() / 1_000_000)));
+        assertThat(projection.bytes()).isLessThan(entity.bytes());
+    }
+}
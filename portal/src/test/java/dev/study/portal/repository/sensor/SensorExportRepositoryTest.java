@@ -0,0 +1,117 @@
+package dev.study.portal.repository.sensor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SensorExportRepositoryTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    private SensorExportRepository exportRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.unwrap(PGConnection.class)).willReturn(pgConnection);
+        given(pgConnection.getCopyAPI()).willReturn(copyManager);
+        exportRepository = new SensorExportRepository(dataSource);
+    }
+
+    private String copy(List<Long> machineIds, LocalDateTime from, LocalDateTime to, boolean lastChunk) throws Exception {
+        OutputStream out = new ByteArrayOutputStream();
+        given(copyManager.copyOut(anyString(), any(OutputStream.class))).willReturn(42L);
+
+        long rows = exportRepository.copyCsv(machineIds, from, to, lastChunk, out);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        then(copyManager).should().copyOut(sql.capture(), eq(out));
+        assertThat(rows).isEqualTo(42L);
+        return sql.getValue();
+    }
+
+    @Test
+    @DisplayName("설비 ID 목록은 bigint 배열 리터럴로, 구간은 반열린 구간 [from, to) 으로 만든다")
+    void copyCsv_buildsHalfOpenRangeWithIdArray() throws Exception {
+        // When
+        String sql = copy(List.of(1L, 20L, 300L),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 2, 0, 0), false);
+
+        // Then
+        assertThat(sql).isEqualTo("COPY (" +
+                "SELECT id, machine_id, air_temperature, process_temperature, rotational_speed, torque, tool_wear, create_at " +
+                "FROM machine_sensor_data " +
+                "WHERE machine_id = ANY('{1,20,300}'::bigint[]) " +
+                "AND create_at >= '2025-01-01T00:00:00'::timestamp " +
+                "AND create_at < '2025-01-02T00:00:00'::timestamp " +
+                "ORDER BY machine_id, create_at, id" +
+                ") TO STDOUT WITH (FORMAT csv)");
+    }
+
+    @Test
+    @DisplayName("마지막 구간은 종료 시각을 포함한다")
+    void copyCsv_lastChunkIncludesEnd() throws Exception {
+        // When
+        String sql = copy(List.of(7L),
+                LocalDateTime.of(2025, 3, 31, 0, 0), LocalDateTime.of(2025, 3, 31, 23, 59, 59), true);
+
+        // Then
+        assertThat(sql)
+                .contains("machine_id = ANY('{7}'::bigint[])")
+                .contains("create_at >= '2025-03-31T00:00:00'::timestamp")
+                .contains("create_at <= '2025-03-31T23:59:59'::timestamp");
+    }
+
+    @Test
+    @DisplayName("초 이하 정밀도와 음수 ID 도 그대로 SQL 리터럴로 옮긴다")
+    void copyCsv_keepsFractionalSecondsAndSignedIds() throws Exception {
+        // When
+        String sql = copy(List.of(-1L, Long.MAX_VALUE),
+                LocalDateTime.of(2025, 1, 1, 10, 15, 30, 123_456_000), LocalDateTime.of(2025, 1, 1, 10, 15, 31), false);
+
+        // Then
+        assertThat(sql)
+                .contains("ANY('{-1," + Long.MAX_VALUE + "}'::bigint[])")
+                .contains("create_at >= '2025-01-01T10:15:30.123456'::timestamp")
+                .contains("create_at < '2025-01-01T10:15:31'::timestamp");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 연결을 사용하고 COPY 후 연결을 반환한다")
+    void copyCsv_usesReadOnlyConnectionAndCloses() throws Exception {
+        // When
+        copy(List.of(1L), LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 1, 0), false);
+
+        // Then
+        then(connection).should().setReadOnly(true);
+        then(connection).should().close();
+    }
+}
@@ -0,0 +1,84 @@
+package dev.study.portal.service;
+
+import dev.study.portal.common.exception.sensordata.InvalidSensorDataQueryException;
+import dev.study.portal.dto.sensor.AggregateFunction;
+import dev.study.portal.entity.machine.enums.SensorChannel;
+import dev.study.portal.repository.sensor.SensorAggregationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SensorDataAggregationServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Mock
+    private SensorAggregationRepository aggregationRepository;
+
+    @InjectMocks
+    private SensorDataAggregationService aggregationService;
+
+    @Test
+    @DisplayName("버킷 수가 MAX_BUCKETS 를 넘으면 DB 를 조회하지 않고 거부한다")
+    void aggregate_rejectsTooManyBuckets() {
+        // Given - 1초 버킷으로 MAX_BUCKETS 초 구간 = MAX_BUCKETS + 1 개 (양 끝 포함)
+        LocalDateTime end = START.plusSeconds(SensorDataAggregationService.MAX_BUCKETS);
+
+        // When & Then
+        assertThatThrownBy(() -> aggregationService.aggregate(1L, START, end, 1, List.of(), List.of()))
+                .isInstanceOf(InvalidSensorDataQueryException.class)
+                .hasMessageContaining("버킷 수가 너무 많습니다")
+                .hasMessageContaining(String.valueOf(SensorDataAggregationService.MAX_BUCKETS + 1));
+        then(aggregationRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("버킷 수가 정확히 MAX_BUCKETS 이면 조회한다")
+    void aggregate_acceptsMaxBuckets() {
+        // Given
+        LocalDateTime end = START.plusSeconds(SensorDataAggregationService.MAX_BUCKETS - 1);
+
+        // When
+        aggregationService.aggregate(1L, START, end, 1, List.of(), List.of());
+
+        // Then
+        then(aggregationRepository).should().aggregate(1L, START, end, 1,
+                EnumSet.allOf(SensorChannel.class), EnumSet.of(AggregateFunction.AVG));
+    }
+
+    @Test
+    @DisplayName("큰 버킷은 같은 구간이라도 버킷 수가 줄어 허용된다")
+    void aggregate_largerBucketReducesCount() {
+        // Given - 하루 / 60초 = 1441 개
+        LocalDateTime end = START.plusDays(1);
+
+        // When
+        aggregationService.aggregate(1L, START, end, 60, List.of("torque"), List.of("avg", "count"));
+
+        // Then
+        then(aggregationRepository).should().aggregate(1L, START, end, 60,
+                EnumSet.of(SensorChannel.TORQUE), EnumSet.of(AggregateFunction.AVG, AggregateFunction.COUNT));
+    }
+
+    @Test
+    @DisplayName("종료가 시작보다 앞서거나 버킷 크기가 1초 미만이면 거부한다")
+    void aggregate_rejectsInvalidRange() {
+        // When & Then
+        assertThatThrownBy(() -> aggregationService.aggregate(1L, START, START.minusSeconds(1), 60, List.of(), List.of()))
+                .isInstanceOf(InvalidSensorDataQueryException.class);
+        assertThatThrownBy(() -> aggregationService.aggregate(1L, START, START.plusHours(1), 0, List.of(), List.of()))
+                .isInstanceOf(InvalidSensorDataQueryException.class);
+        then(aggregationRepository).should(never()).aggregate(any(), any(), any(), anyLong(), any(), any());
+    }
+}
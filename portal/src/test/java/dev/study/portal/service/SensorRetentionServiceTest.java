@@ -0,0 +1,190 @@
+package dev.study.portal.service;
+
+import dev.study.portal.config.SensorRetentionProperties;
+import dev.study.portal.config.UnlimitedDurationConverter;
+import dev.study.portal.dto.sensor.RetentionRunReportDto;
+import dev.study.portal.repository.machine.MachineRepository;
+import dev.study.portal.repository.sensor.SensorRetentionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SensorRetentionServiceTest {
+
+    private static final int CHUNK_SIZE = 10;
+
+    @Mock
+    private SensorRetentionRepository retentionRepository;
+
+    @Mock
+    private MachineRepository machineRepository;
+
+    private SensorRetentionProperties properties;
+    private SensorRetentionService retentionService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SensorRetentionProperties();
+        properties.setEnabled(true);
+        properties.setChunkSize(CHUNK_SIZE);
+        properties.setChunkPause(Duration.ZERO);
+        properties.setMaxChunksPerRun(1);
+        properties.getDefaultPolicy().setRaw(Duration.ofDays(7));
+        retentionService = new SensorRetentionService(properties, retentionRepository, machineRepository);
+
+        lenient().when(retentionRepository.runExclusively(any())).thenAnswer(invocation ->
+                Optional.ofNullable(invocation.<Supplier<?>>getArgument(0).get()));
+    }
+
+    @Test
+    @DisplayName("설비 테이블에 없는(삭제된) 설비의 원본 데이터도 기본 정책으로 롤업한다")
+    void runOnce_includesDeletedMachines() {
+        // Given - 99번 설비는 삭제되어 findAllById 결과에 없음
+        given(retentionRepository.findMachineIdsWithData()).willReturn(List.of(99L));
+        given(retentionRepository.rollupRawChunk(eq(99L), any(), anyInt())).willReturn(3);
+
+        // When
+        RetentionRunReportDto report = retentionService.runOnce();
+
+        // Then
+        assertThat(report.getMachineCount()).isEqualTo(1);
+        assertThat(report.getRawRowsRolledUp()).isEqualTo(3);
+        assertThat(report.getTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("청크 상한에 정확히 맞춰 끝나면 남은 작업이 없으므로 truncated 가 false 이다")
+    void runOnce_budgetExactlyConsumed_notTruncated() {
+        // Given - 상한 1 청크, 첫 청크가 가득 찼지만 남은 행 없음
+        given(retentionRepository.findMachineIdsWithData()).willReturn(List.of(1L, 2L));
+        given(retentionRepository.rollupRawChunk(eq(1L), any(), anyInt())).willReturn(CHUNK_SIZE);
+        given(retentionRepository.hasRawBefore(any(), any())).willReturn(false);
+
+        // When
+        RetentionRunReportDto report = retentionService.runOnce();
+
+        // Then
+        assertThat(report.getChunkCount()).isEqualTo(1);
+        assertThat(report.getTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("청크 상한에 걸린 뒤 남은 행이 있으면 truncated 가 true 이다")
+    void runOnce_remainingWork_truncated() {
+        // Given
+        given(retentionRepository.findMachineIdsWithData()).willReturn(List.of(1L, 2L));
+        given(retentionRepository.rollupRawChunk(eq(1L), any(), anyInt())).willReturn(CHUNK_SIZE);
+        given(retentionRepository.hasRawBefore(eq(1L), any())).willReturn(true);
+
+        // When
+        RetentionRunReportDto report = retentionService.runOnce();
+
+        // Then
+        assertThat(report.getTruncated()).isTrue();
+        then(retentionRepository).should(never()).hasRawBefore(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잠금을 가지고 있으면 실행하지 않는다")
+    void runOnce_lockedByAnotherInstance_skips() {
+        // Given
+        given(retentionRepository.runExclusively(any())).willReturn(Optional.empty());
+
+        // When
+        RetentionRunReportDto report = retentionService.runOnce();
+
+        // Then
+        assertThat(report).isNull();
+        then(retentionRepository).should(never()).findMachineIdsWithData();
+    }
+
+    @Test
+    @DisplayName("데이터 변경 시각은 DB 에 기록된 값으로 정해져 재시작/다른 인스턴스에서도 같다")
+    void getDataGeneration_readsPersistedChangeTime() {
+        // Given
+        LocalDateTime changedAt = LocalDateTime.of(2025, 1, 1, 3, 0);
+        given(retentionRepository.findDataChangedAt()).willReturn(Optional.of(changedAt));
+
+        // When
+        long generation = retentionService.getDataGeneration();
+
+        // Then
+        assertThat(generation).isEqualTo(changedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        // 재조회 주기 안에서는 DB 를 다시 읽지 않음
+        assertThat(retentionService.getDataGeneration()).isEqualTo(generation);
+        then(retentionRepository).should(times(1)).findDataChangedAt();
+    }
+
+    @Test
+    @DisplayName("롤업/삭제가 있었던 실행은 변경 시각을 DB 에 기록하고, 변경이 없으면 기록하지 않는다")
+    void runOnce_recordsDataChangeOnlyWhenRowsChanged() {
+        // Given
+        LocalDateTime changedAt = LocalDateTime.of(2025, 1, 1, 4, 0);
+        given(retentionRepository.findMachineIdsWithData()).willReturn(List.of(1L));
+        given(retentionRepository.rollupRawChunk(eq(1L), any(), anyInt())).willReturn(3, 0);
+        given(retentionRepository.markDataChanged()).willReturn(changedAt);
+
+        // When
+        retentionService.runOnce();
+        retentionService.runOnce();
+
+        // Then
+        then(retentionRepository).should(times(1)).markDataChanged();
+    }
+
+    @Test
+    @DisplayName("원본 보존 시작 시각은 설비 중 가장 늦은 원본 보존 경계이다")
+    void findRawRetainedSince_returnsLatestCutoff() {
+        // Given - 기본 원본 7일, 2번 설비만 원본 1일
+        SensorRetentionProperties.Policy shortRaw = new SensorRetentionProperties.Policy();
+        shortRaw.setMachineId(2L);
+        shortRaw.setRaw(Duration.ofDays(1));
+        properties.getPolicies().add(shortRaw);
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        Optional<LocalDateTime> retainedSince = retentionService.findRawRetainedSince(List.of(1L, 2L));
+
+        // Then
+        assertThat(retainedSince).hasValueSatisfying(since -> assertThat(since)
+                .isAfterOrEqualTo(before.minusDays(1))
+                .isBefore(before.minusDays(1).plusMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("설비 정책의 unlimited 는 기본 정책을 따르지 않고 해당 단계를 영구 보관한다")
+    void resolvePolicy_unlimitedOverridesDefault() {
+        // Given - 1번 설비는 원본 영구 보관, 1분 롤업 기간은 비워 두어 기본 정책을 따름
+        SensorRetentionProperties.Policy keepRaw = new SensorRetentionProperties.Policy();
+        keepRaw.setMachineId(1L);
+        keepRaw.setRaw(new UnlimitedDurationConverter().convert("unlimited"));
+        properties.getPolicies().add(keepRaw);
+        properties.getDefaultPolicy().setMinuteRollup(Duration.ofDays(90));
+
+        // When
+        SensorRetentionService.ResolvedPolicy policy = retentionService.resolvePolicy(1L, null);
+
+        // Then
+        assertThat(policy.raw()).isNull();
+        assertThat(policy.minuteRollup()).isEqualTo(Duration.ofDays(90));
+        assertThat(retentionService.findRawRetainedSince(List.of(1L))).isEmpty();
+        assertThat(retentionService.resolvePolicy(2L, null).raw()).isEqualTo(Duration.ofDays(7));
+    }
+}
@@ -0,0 +1,103 @@
+package dev.study.portal.service.export;
+
+import dev.study.portal.dto.export.SensorExportFormat;
+import dev.study.portal.dto.export.SensorExportJobDto;
+import dev.study.portal.dto.export.SensorExportStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SensorExportJobTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private SensorExportJob job(int totalChunks) {
+        return new SensorExportJob("job-1", List.of(1L), START, START.plusDays(totalChunks),
+                SensorExportFormat.CSV, Path.of("sensor-export-job-1.csv"), totalChunks);
+    }
+
+    @Test
+    @DisplayName("실행 전에는 진행률 0 이고 처리량을 계산하지 않는다")
+    void queued_hasNoThroughput() {
+        // When
+        SensorExportJobDto dto = job(4).toDto();
+
+        // Then
+        assertThat(dto.getStatus()).isEqualTo(SensorExportStatus.QUEUED);
+        assertThat(dto.getProgressPercent()).isZero();
+        assertThat(dto.getRowsPerSecond()).isNull();
+        assertThat(dto.getMegabytesPerSecond()).isNull();
+    }
+
+    @Test
+    @DisplayName("구간 완료마다 진행률과 행 수가 누적되고, 실행 중 바이트 수는 출력 스트림에서 읽는다")
+    void chunkCompleted_accumulatesProgress() {
+        // Given
+        SensorExportJob job = job(4);
+        AtomicLong streamBytes = new AtomicLong();
+        job.markRunning(streamBytes::get);
+
+        // When
+        job.chunkCompleted(100);
+        streamBytes.set(4096);
+        SensorExportJobDto first = job.toDto();
+        job.chunkCompleted(50);
+        streamBytes.set(8192);
+        SensorExportJobDto second = job.toDto();
+
+        // Then
+        assertThat(first.getProgressPercent()).isEqualTo(25.0);
+        assertThat(first.getRowCount()).isEqualTo(100L);
+        assertThat(first.getBytesWritten()).isEqualTo(4096L);
+        assertThat(second.getProgressPercent()).isEqualTo(50.0);
+        assertThat(second.getRowCount()).isEqualTo(150L);
+        assertThat(second.getBytesWritten()).isEqualTo(8192L);
+        assertThat(second.getStatus()).isEqualTo(SensorExportStatus.RUNNING);
+        assertThat(second.getRowsPerSecond()).isPositive();
+    }
+
+    @Test
+    @DisplayName("완료 후에는 스트림 대신 최종 파일 크기를 보고한다")
+    void markCompleted_reportsFinalFileSize() {
+        // Given
+        SensorExportJob job = job(1);
+        AtomicLong streamBytes = new AtomicLong(10);
+        job.markRunning(streamBytes::get);
+        job.chunkCompleted(1);
+
+        // When
+        job.markCompleted(3);
+        streamBytes.set(999);
+
+        // Then
+        SensorExportJobDto dto = job.toDto();
+        assertThat(dto.getStatus()).isEqualTo(SensorExportStatus.COMPLETED);
+        assertThat(dto.getBytesWritten()).isEqualTo(3L);
+        assertThat(dto.getProgressPercent()).isEqualTo(100.0);
+        assertThat(dto.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("실패하면 사유와 종료 시각을 남긴다")
+    void markFailed_keepsReason() {
+        // Given
+        SensorExportJob job = job(2);
+        job.markRunning(() -> 0L);
+
+        // When
+        job.markFailed("disk full", 0L);
+
+        // Then
+        SensorExportJobDto dto = job.toDto();
+        assertThat(dto.getStatus()).isEqualTo(SensorExportStatus.FAILED);
+        assertThat(dto.getErrorMessage()).isEqualTo("disk full");
+        assertThat(dto.getFinishedAt()).isNotNull();
+        assertThat(dto.getCompletedChunks()).isZero();
+    }
+}
@@ -0,0 +1,287 @@
+package dev.study.portal.service.export;
+
+import dev.study.portal.common.exception.export.InvalidSensorExportRequestException;
+import dev.study.portal.common.exception.export.SensorExportNotReadyException;
+import dev.study.portal.common.exception.export.SensorExportQueueFullException;
+import dev.study.portal.config.SensorExportProperties;
+import dev.study.portal.dto.export.SensorExportFormat;
+import dev.study.portal.dto.export.SensorExportJobDto;
+import dev.study.portal.dto.export.SensorExportRequestDto;
+import dev.study.portal.dto.export.SensorExportStatus;
+import dev.study.portal.entity.export.SensorExportJobState;
+import dev.study.portal.repository.sensor.SensorExportJobRepository;
+import dev.study.portal.repository.sensor.SensorExportRepository;
+import dev.study.portal.service.SensorRetentionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SensorExportServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final List<Long> MACHINE_IDS = List.of(1L, 3L);
+
+    @Mock
+    private SensorExportRepository exportRepository;
+
+    @Mock
+    private SensorExportJobRepository jobRepository;
+
+    @Mock
+    private SensorRetentionService retentionService;
+
+    @TempDir
+    Path directory;
+
+    private SensorExportProperties properties;
+    private SensorExportService exportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new SensorExportProperties();
+        properties.setDirectory(directory.toString());
+        properties.setChunkWindow(Duration.ofHours(1));
+        properties.setConcurrency(1);
+        properties.setMaxQueuedJobs(1);
+        exportService = new SensorExportService(properties, exportRepository, jobRepository, retentionService);
+        exportService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportService.shutdown();
+    }
+
+    private SensorExportRequestDto request(LocalDateTime start, LocalDateTime end) {
+        return SensorExportRequestDto.builder()
+                .machineIds(Arrays.asList(3L, 1L, null, 3L))
+                .startDateTime(start)
+                .endDateTime(end)
+                .build();
+    }
+
+    private List<SensorExportJobState> savedStates() {
+        ArgumentCaptor<SensorExportJobState> captor = ArgumentCaptor.forClass(SensorExportJobState.class);
+        then(jobRepository).should(atLeastOnce()).save(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private void awaitStatus(SensorExportStatus status) {
+        then(jobRepository).should(timeout(5_000)).save(argThat((SensorExportJobState state) -> state.getStatus() == status));
+    }
+
+    @Test
+    @DisplayName("기간을 chunk-window 단위로 나눠 COPY 를 호출하고 마지막 구간만 종료 시각을 포함한다")
+    void submit_splitsRangeIntoChunkWindows() throws Exception {
+        // Given - 2시간 30분 / 1시간 구간 = 3개
+        given(retentionService.findRawRetainedSince(MACHINE_IDS)).willReturn(Optional.empty());
+        given(jobRepository.save(any(SensorExportJobState.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(exportRepository.copyCsv(eq(MACHINE_IDS), any(), any(), anyBoolean(), any())).willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(4);
+            out.write("row\n".getBytes(StandardCharsets.UTF_8));
+            return 10L;
+        });
+
+        // When
+        SensorExportJobDto submitted = exportService.submit(request(START, START.plusMinutes(150)));
+        awaitStatus(SensorExportStatus.COMPLETED);
+
+        // Then
+        assertThat(submitted.getTotalChunks()).isEqualTo(3);
+        assertThat(submitted.getMachineIds()).containsExactly(1L, 3L);
+        InOrder inOrder = inOrder(exportRepository);
+        inOrder.verify(exportRepository).copyCsv(eq(MACHINE_IDS), eq(START), eq(START.plusHours(1)), eq(false), any());
+        inOrder.verify(exportRepository).copyCsv(eq(MACHINE_IDS), eq(START.plusHours(1)), eq(START.plusHours(2)), eq(false), any());
+        inOrder.verify(exportRepository).copyCsv(eq(MACHINE_IDS), eq(START.plusHours(2)), eq(START.plusMinutes(150)), eq(true), any());
+        inOrder.verifyNoMoreInteractions();
+
+        Path file = directory.resolve("sensor-export-" + submitted.getJobId() + ".csv");
+        assertThat(Files.readString(file)).isEqualTo(SensorExportRepository.CSV_HEADER + "row\nrow\nrow\n");
+    }
+
+    @Test
+    @DisplayName("시작과 종료가 같으면 종료 시각을 포함한 구간 하나로 처리한다")
+    void submit_singleInstantIsOneInclusiveChunk() throws Exception {
+        // Given
+        given(retentionService.findRawRetainedSince(MACHINE_IDS)).willReturn(Optional.empty());
+        given(jobRepository.save(any(SensorExportJobState.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(exportRepository.copyCsv(any(), any(), any(), anyBoolean(), any())).willReturn(1L);
+
+        // When
+        SensorExportJobDto submitted = exportService.submit(request(START, START));
+        awaitStatus(SensorExportStatus.COMPLETED);
+
+        // Then
+        assertThat(submitted.getTotalChunks()).isEqualTo(1);
+        then(exportRepository).should().copyCsv(eq(MACHINE_IDS), eq(START), eq(START), eq(true), any());
+    }
+
+    @Test
+    @DisplayName("상태 변경과 구간 완료마다 진행률을 DB 에 기록한다")
+    void submit_persistsStateOnEveryTransitionAndChunk() throws Exception {
+        // Given
+        given(retentionService.findRawRetainedSince(MACHINE_IDS)).willReturn(Optional.empty());
+        given(jobRepository.save(any(SensorExportJobState.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(exportRepository.copyCsv(any(), any(), any(), anyBoolean(), any())).willReturn(10L);
+
+        // When
+        SensorExportJobDto submitted = exportService.submit(request(START, START.plusMinutes(150)));
+        awaitStatus(SensorExportStatus.COMPLETED);
+
+        // Then - 등록(QUEUED) → 실행(RUNNING) → 구간 3개 → 완료
+        List<SensorExportJobState> states = savedStates();
+        assertThat(states).extracting(SensorExportJobState::getStatus).containsExactly(
+                SensorExportStatus.QUEUED, SensorExportStatus.RUNNING,
+                SensorExportStatus.RUNNING, SensorExportStatus.RUNNING, SensorExportStatus.RUNNING,
+                SensorExportStatus.COMPLETED);
+        assertThat(states).extracting(SensorExportJobState::getCompletedChunks).containsExactly(0, 0, 1, 2, 3, 3);
+        assertThat(states).extracting(SensorExportJobState::getRowCount).containsExactly(0L, 0L, 10L, 20L, 30L, 30L);
+        assertThat(states).allSatisfy(state -> {
+            assertThat(state.getJobId()).isEqualTo(submitted.getJobId());
+            assertThat(state.getTotalChunks()).isEqualTo(3);
+            assertThat(state.getFileName()).isEqualTo("sensor-export-" + submitted.getJobId() + ".csv");
+        });
+
+        SensorExportJobState completed = states.get(states.size() - 1);
+        assertThat(completed.getFinishedAt()).isNotNull();
+        assertThat(completed.getBytesWritten()).isEqualTo(SensorExportRepository.CSV_HEADER.length());
+    }
+
+    @Test
+    @DisplayName("COPY 가 실패하면 FAILED 와 사유를 기록하고 파일을 지운다")
+    void submit_failureIsPersistedAndFileRemoved() throws Exception {
+        // Given
+        given(retentionService.findRawRetainedSince(MACHINE_IDS)).willReturn(Optional.empty());
+        given(jobRepository.save(any(SensorExportJobState.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(exportRepository.copyCsv(any(), any(), any(), anyBoolean(), any())).willThrow(new SQLException("connection reset"));
+
+        // When
+        SensorExportJobDto submitted = exportService.submit(request(START, START.plusHours(2)));
+        awaitStatus(SensorExportStatus.FAILED);
+
+        // Then
+        SensorExportJobState failed = savedStates().stream()
+                .filter(state -> state.getStatus() == SensorExportStatus.FAILED)
+                .findFirst().orElseThrow();
+        assertThat(failed.getErrorMessage()).isEqualTo("connection reset");
+        assertThat(failed.getCompletedChunks()).isZero();
+        assertThat(directory.resolve("sensor-export-" + submitted.getJobId() + ".csv")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("실행 중 작업과 대기열이 가득 차면 등록을 거부하고 기록한 상태를 지운다")
+    void submit_rejectsWhenQueueIsFull() throws Exception {
+        // Given - 동시 실행 1, 대기열 1
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(retentionService.findRawRetainedSince(MACHINE_IDS)).willReturn(Optional.empty());
+        given(jobRepository.save(any(SensorExportJobState.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(exportRepository.copyCsv(any(), any(), any(), anyBoolean(), any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0L;
+        });
+
+        try {
+            exportService.submit(request(START, START.plusHours(1)));
+            exportService.submit(request(START, START.plusHours(1)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When & Then
+            assertThatThrownBy(() -> exportService.submit(request(START, START.plusHours(1))))
+                    .isInstanceOf(SensorExportQueueFullException.class);
+            ArgumentCaptor<String> deleted = ArgumentCaptor.forClass(String.class);
+            then(jobRepository).should().deleteById(deleted.capture());
+            assertThat(savedStates()).extracting(SensorExportJobState::getJobId).contains(deleted.getValue());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("시작 시간이 원본 보존 시작 시각 이전이면 롤업된 구간이므로 거부한다")
+    void submit_rejectsRangeBeforeRawRetainedCutoff() {
+        // Given
+        given(retentionService.findRawRetainedSince(MACHINE_IDS)).willReturn(Optional.of(START.plusDays(1)));
+
+        // When & Then
+        assertThatThrownBy(() -> exportService.submit(request(START, START.plusDays(2))))
+                .isInstanceOf(InvalidSensorExportRequestException.class)
+                .hasMessageContaining("원본 데이터 보존 시작 시각");
+        then(jobRepository).shouldHaveNoInteractions();
+        then(exportRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("보존 시작 시각 이후 구간은 등록된다")
+    void submit_acceptsRangeAfterRawRetainedCutoff() throws Exception {
+        // Given
+        given(retentionService.findRawRetainedSince(MACHINE_IDS)).willReturn(Optional.of(START.minusDays(1)));
+        given(jobRepository.save(any(SensorExportJobState.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(exportRepository.copyCsv(any(), any(), any(), anyBoolean(), any())).willReturn(0L);
+
+        // When
+        SensorExportJobDto submitted = exportService.submit(request(START, START.plusHours(1)));
+
+        // Then
+        assertThat(submitted.getJobId()).isNotNull();
+        awaitStatus(SensorExportStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 실행한 작업은 DB 에 기록된 상태로 조회하고, 완료 전이면 다운로드를 거부한다")
+    void getJob_fallsBackToPersistedState() throws Exception {
+        // Given
+        SensorExportJobState state = SensorExportJobState.builder()
+                .jobId("remote-job")
+                .machineIds(MACHINE_IDS)
+                .startAt(START)
+                .endAt(START.plusHours(4))
+                .format(SensorExportFormat.CSV)
+                .fileName("sensor-export-remote-job.csv")
+                .status(SensorExportStatus.RUNNING)
+                .totalChunks(4)
+                .completedChunks(1)
+                .rowCount(100L)
+                .bytesWritten(2048L)
+                .submittedAt(START)
+                .startedAt(START)
+                .build();
+        given(jobRepository.findById("remote-job")).willReturn(Optional.of(state));
+
+        // When
+        SensorExportJobDto job = exportService.getJob("remote-job");
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(SensorExportStatus.RUNNING);
+        assertThat(job.getProgressPercent()).isEqualTo(25.0);
+        assertThat(job.getRowCount()).isEqualTo(100L);
+        assertThatThrownBy(() -> exportService.getCompletedFile("remote-job"))
+                .isInstanceOf(SensorExportNotReadyException.class);
+    }
+}
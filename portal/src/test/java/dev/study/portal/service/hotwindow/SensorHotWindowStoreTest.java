@@ -0,0 +1,66 @@
+package dev.study.portal.service.hotwindow;
+
+import dev.study.portal.config.SensorHotWindowProperties;
+import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SensorHotWindowStoreTest {
+
+    private static final long MACHINE_ID = 1L;
+
+    private SensorHotWindowProperties properties;
+    private SensorHotWindowStore store;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SensorHotWindowProperties();
+        store = new SensorHotWindowStore(properties);
+        now = LocalDateTime.now();
+        store.appendAll(List.of(row(1, now.minusSeconds(20)), row(2, now.minusSeconds(10))));
+    }
+
+    private MachineSensorDataResponseDto row(long id, LocalDateTime createdAt) {
+        return MachineSensorDataResponseDto.builder()
+                .id(id)
+                .machineId(MACHINE_ID)
+                .airTemperature(298.0)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("파티션 회수로 무효화되면 남은 버퍼로 응답하지 않고 DB 조회로 대체한다")
+    void invalidateAll_fallsBackToDb() {
+        // Given
+        assertThat(store.find(MACHINE_ID, now.minusSeconds(20), now)).isPresent();
+
+        // When
+        store.invalidateAll();
+
+        // Then
+        assertThat(store.find(MACHINE_ID, now.minusSeconds(20), now)).isEmpty();
+        assertThat(store.machineCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("stale-after 동안 새 행이 없으면 구간을 보장하지 않는 것으로 보고 DB 조회로 대체한다")
+    void find_staleBuffer_fallsBackToDb() throws InterruptedException {
+        // Given
+        properties.setStaleAfter(Duration.ofMillis(1));
+
+        // When
+        Thread.sleep(5);
+
+        // Then
+        assertThat(store.find(MACHINE_ID, now.minusSeconds(20), now)).isEmpty();
+    }
+}
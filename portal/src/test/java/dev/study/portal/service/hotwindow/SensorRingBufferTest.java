@@ -0,0 +1,104 @@
+package dev.study.portal.service.hotwindow;
+
+import dev.study.portal.dto.machine.MachineSensorDataResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SensorRingBufferTest {
+
+    private static final long MACHINE_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+
+    private MachineSensorDataResponseDto row(long id, int secondsFromBase) {
+        return MachineSensorDataResponseDto.builder()
+                .id(id)
+                .machineId(MACHINE_ID)
+                .airTemperature(298.0 + id)
+                .processTemperature(308.0)
+                .rotationalSpeed(1500)
+                .torque(null)
+                .toolWear((int) id)
+                .createdAt(BASE.plusSeconds(secondsFromBase))
+                .build();
+    }
+
+    @Test
+    @DisplayName("구간 내 행을 시각 순으로 반환하고 null 채널 값을 유지한다")
+    void query_returnsRowsInRange() {
+        // Given
+        SensorRingBuffer buffer = new SensorRingBuffer(MACHINE_ID, 10);
+        for (int i = 0; i < 5; i++) {
+            buffer.append(row(i + 1, i * 10));
+        }
+
+        // When
+        List<MachineSensorDataResponseDto> result = buffer.query(BASE.plusSeconds(10), BASE.plusSeconds(30));
+
+        // Then
+        assertThat(result).extracting(MachineSensorDataResponseDto::getId).containsExactly(2L, 3L, 4L);
+        assertThat(result.get(0).getAirTemperature()).isEqualTo(300.0);
+        assertThat(result.get(0).getTorque()).isNull();
+        assertThat(result.get(0).getCreatedAt()).isEqualTo(BASE.plusSeconds(10));
+        assertThat(buffer.covers(BASE)).isTrue();
+        assertThat(buffer.covers(BASE.minusSeconds(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 행을 덮어쓰고 보장 구간이 앞으로 이동한다")
+    void overflow_overwritesOldest() {
+        // Given
+        SensorRingBuffer buffer = new SensorRingBuffer(MACHINE_ID, 3);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            buffer.append(row(i + 1, i));
+        }
+
+        // Then
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.query(BASE, BASE.plusSeconds(10)))
+                .extracting(MachineSensorDataResponseDto::getId).containsExactly(3L, 4L, 5L);
+        assertThat(buffer.covers(BASE.plusSeconds(1))).isFalse();
+        assertThat(buffer.covers(BASE.plusSeconds(2))).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료 기준 이전의 행을 제거한다")
+    void evictBefore_removesExpiredRows() {
+        // Given
+        SensorRingBuffer buffer = new SensorRingBuffer(MACHINE_ID, 10);
+        for (int i = 0; i < 5; i++) {
+            buffer.append(row(i + 1, i * 60));
+        }
+
+        // When
+        buffer.evictBefore(BASE.plusSeconds(120));
+
+        // Then
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.covers(BASE.plusSeconds(60))).isFalse();
+        assertThat(buffer.covers(BASE.plusSeconds(120))).isTrue();
+    }
+
+    @Test
+    @DisplayName("시각 역전이 발생하면 버퍼를 비우고 마지막 시각 이후만 보장한다")
+    void outOfOrder_resetsBuffer() {
+        // Given
+        SensorRingBuffer buffer = new SensorRingBuffer(MACHINE_ID, 10);
+        buffer.append(row(1, 10));
+        buffer.append(row(2, 20));
+
+        // When
+        buffer.append(row(3, 15));
+
+        // Then
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.covers(BASE.plusSeconds(20))).isFalse();
+        assertThat(buffer.covers(BASE.plusSeconds(21))).isTrue();
+    }
+}
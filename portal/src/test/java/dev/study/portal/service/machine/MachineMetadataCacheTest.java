@@ -0,0 +1,148 @@
+package dev.study.portal.service.machine;
+
+import dev.study.portal.config.MachineMetadataCacheProperties;
+import dev.study.portal.entity.machine.Machine;
+import dev.study.portal.entity.machine.enums.Type;
+import dev.study.portal.event.machine.MachineDeletedEvent;
+import dev.study.portal.event.machine.MachineModifyEvent;
+import dev.study.portal.repository.machine.MachineRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+class MachineMetadataCacheTest {
+
+    private MachineMetadataCacheProperties properties;
+    private MachineRepository machineRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private MachineMetadataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MachineMetadataCacheProperties();
+        properties.setMaxSize(2);
+        machineRepository = mock(MachineRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MachineMetadataCache(properties, machineRepository, meterRegistry);
+    }
+
+    private Machine machine(Long id, String name, Type type) {
+        Machine machine = Machine.builder().name(name).type(type).build();
+        try {
+            var idField = machine.getClass().getSuperclass().getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(machine, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return machine;
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("시작 시 적재된 설비는 DB 조회 없이 반환하고 히트로 집계한다")
+    void warmUp_thenHit() {
+        // Given
+        given(machineRepository.findAll(any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(machine(1L, "Machine 1", Type.HIGH))));
+        cache.warmUp();
+
+        // When
+        Optional<MachineMetadata> found = cache.find(1L);
+
+        // Then
+        assertThat(found).contains(new MachineMetadata(1L, "Machine 1", Type.HIGH));
+        verify(machineRepository, never()).findById(any());
+        assertThat(gets("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 설비는 예외 없이 empty 를 반환하고 부정 캐시로 DB 재조회를 막는다")
+    void unknownMachine_isNegativeCached() {
+        // Given
+        given(machineRepository.findById(99L)).willReturn(Optional.empty());
+
+        // When
+        Optional<MachineMetadata> first = cache.find(99L);
+        Optional<MachineMetadata> second = cache.find(99L);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(machineRepository, times(1)).findById(99L);
+        assertThat(gets("miss")).isEqualTo(1);
+        assertThat(meterRegistry.counter("machine.metadata.cache.negative.hits").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("설비 수정/삭제 이벤트로 캐시를 갱신하고 크기 상한을 넘으면 LRU 로 제거한다")
+    void events_updateCache_andSizeIsBounded() {
+        // Given
+        given(machineRepository.findById(1L)).willReturn(Optional.of(machine(1L, "Machine 1", Type.LOW)));
+        cache.find(1L);
+
+        // When
+        cache.handleModified(new MachineModifyEvent(this, 1L, "Renamed", Type.HIGH));
+        cache.handleModified(new MachineModifyEvent(this, 2L, "Machine 2", Type.LOW));
+        cache.handleDeleted(new MachineDeletedEvent(this, 2L, "Machine 2"));
+        cache.handleModified(new MachineModifyEvent(this, 3L, "Machine 3", Type.LOW));
+        cache.handleModified(new MachineModifyEvent(this, 4L, "Machine 4", Type.LOW));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.find(2L)).isEmpty(); // 삭제된 설비는 부정 캐시
+        verify(machineRepository, never()).findById(2L);
+        assertThat(meterRegistry.get("cache.evictions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 조회 중 삭제 이벤트가 반영되면 조회 결과로 다시 적재하지 않는다")
+    void deletedDuringLoad_isNotResurrected() {
+        // Given - 조회가 끝나기 전에 삭제 트랜잭션이 커밋됨
+        given(machineRepository.findById(5L)).willAnswer(invocation -> {
+            cache.handleDeleted(new MachineDeletedEvent(this, 5L, "Machine 5"));
+            return Optional.of(machine(5L, "Machine 5", Type.LOW));
+        });
+
+        // When
+        Optional<MachineMetadata> first = cache.find(5L);
+        Optional<MachineMetadata> second = cache.find(5L);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(machineRepository, times(1)).findById(5L);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 항목은 DB 에서 다시 읽어 다른 인스턴스의 변경을 반영한다")
+    void expiredEntry_isReloaded() {
+        // Given
+        properties.setTtl(Duration.ZERO);
+        given(machineRepository.findById(1L))
+                .willReturn(Optional.of(machine(1L, "Machine 1", Type.LOW)))
+                .willReturn(Optional.of(machine(1L, "Renamed", Type.LOW)));
+
+        // When
+        cache.find(1L);
+        Optional<MachineMetadata> reloaded = cache.find(1L);
+
+        // Then
+        assertThat(reloaded).contains(new MachineMetadata(1L, "Renamed", Type.LOW));
+        verify(machineRepository, times(2)).findById(1L);
+    }
+}
@@ -0,0 +1,335 @@
+package dev.study.portal.service.machine;
+
+import dev.study.portal.config.MachineRegistryProperties;
+import dev.study.portal.entity.machine.enums.Type;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static dev.study.portal.service.machine.MachineRegistryService.MACHINE_ID_PREFIX;
+import static dev.study.portal.service.machine.MachineRegistryService.MACHINE_NAME_PREFIX;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로컬 Redis(localhost:6379, REDIS_HOST / REDIS_PORT 로 변경 가능)의 15번 DB 를 비우고 사용
+ * (Redis 에 연결할 수 없으면 건너뜀)
+ */
+class MachineRegistryServiceRedisTest {
+
+    private static final int TEST_DATABASE = 15;
+    private static final int MACHINES = 10_000;
+    private static final int BUCKETS = new MachineRegistryProperties().getBuckets();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private MachineRegistryService registry;
+    private ReactiveMachineRegistryService writer;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        configuration.setDatabase(TEST_DATABASE);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        try {
+            connectionFactory.getConnection().serverCommands().flushDb();
+        } catch (Exception e) {
+            connectionFactory.destroy();
+            Assumptions.abort("로컬 Redis 에 연결할 수 없음: " + e.getMessage());
+        }
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        registry = registry(MachineRegistryProperties.Layout.STRINGS);
+        writer = writer(MachineRegistryProperties.Layout.STRINGS);
+    }
+
+    private MachineRegistryService registry(MachineRegistryProperties.Layout layout) {
+        MachineRegistryProperties properties = new MachineRegistryProperties();
+        properties.setLayout(layout);
+        return new MachineRegistryService(redisTemplate, properties);
+    }
+
+    // 단건 변경은 이벤트 핸들러와 같은 리액티브 레지스트리로 기록 (같은 Lua 스크립트)
+    private ReactiveMachineRegistryService writer(MachineRegistryProperties.Layout layout) {
+        MachineRegistryProperties properties = new MachineRegistryProperties();
+        properties.setLayout(layout);
+        return new ReactiveMachineRegistryService(
+                new ReactiveStringRedisTemplate(connectionFactory), properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    private String get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    private String nameField(String name) {
+        return (String) redisTemplate.opsForHash().get(MachineRegistryBuckets.namesKey(name, BUCKETS), name);
+    }
+
+    private String idField(long machineId) {
+        return (String) redisTemplate.opsForHash().get(MachineRegistryBuckets.idsKey(machineId, BUCKETS), String.valueOf(machineId));
+    }
+
+    private String version() {
+        return get(MachineRegistryBuckets.VERSION_KEY);
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private String encodingOf(String key) {
+        byte[] encoding = redisTemplate.execute((RedisCallback<byte[]>) connection -> (byte[]) connection.execute(
+                "OBJECT", "ENCODING".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)));
+        return new String(encoding, StandardCharsets.UTF_8);
+    }
+
+    private List<MachineMetadata> machines(int count) {
+        List<MachineMetadata> machines = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            machines.add(new MachineMetadata(id, "Machine " + id, Type.LOW));
+        }
+        return machines;
+    }
+
+    @Test
+    @DisplayName("이름 변경은 이전 이름 키를 지우고 새 이름/역방향 키를 한 번에 기록한다")
+    void upsert_renamesAtomically() {
+        // Given
+        writer.upsert(1L, "Press A").block();
+
+        // When
+        boolean changed = writer.upsert(1L, "Press B").block();
+        boolean unchanged = writer.upsert(1L, "Press B").block();
+
+        // Then
+        assertThat(changed).isTrue();
+        assertThat(unchanged).isFalse();
+        assertThat(get(MACHINE_NAME_PREFIX + "Press A")).isNull();
+        assertThat(get(MACHINE_NAME_PREFIX + "Press B")).isEqualTo("1");
+        assertThat(get(MACHINE_ID_PREFIX + 1)).isEqualTo("Press B");
+    }
+
+    @Test
+    @DisplayName("삭제는 다른 설비가 가져간 이름 키는 건드리지 않는다")
+    void delete_keepsNameOwnedByAnotherMachine() {
+        // Given - 설비 1 의 이름을 설비 2 가 이어받음
+        writer.upsert(1L, "Lathe").block();
+        writer.upsert(2L, "Lathe").block();
+
+        // When
+        writer.delete(1L, "Lathe").block();
+
+        // Then
+        assertThat(get(MACHINE_NAME_PREFIX + "Lathe")).isEqualTo("2");
+        assertThat(get(MACHINE_ID_PREFIX + 1)).isNull();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("10k 설비 재구성은 청크 파이프라인으로 왕복 수를 줄이고 DB 에 없는 키를 정리한다")
+    void rebuild_pipelinesAndRemovesStaleKeys(TestReporter reporter) {
+        // Given
+        List<MachineMetadata> machines = machines(MACHINES);
+
+        // 기존 방식: 설비마다 SET 2회 (왕복 2회)
+        long naiveStart = System.nanoTime();
+        for (MachineMetadata machine : machines) {
+            redisTemplate.opsForValue().set(MACHINE_NAME_PREFIX + machine.name(), String.valueOf(machine.id()));
+            redisTemplate.opsForValue().set(MACHINE_ID_PREFIX + machine.id(), machine.name());
+        }
+        long naiveMillis = (System.nanoTime() - naiveStart) / 1_000_000;
+
+        // 포털이 내려가 있던 동안 삭제/이름 변경된 설비
+        redisTemplate.opsForValue().set(MACHINE_NAME_PREFIX + "Removed", "20001");
+        redisTemplate.opsForValue().set(MACHINE_ID_PREFIX + 20001, "Removed");
+        redisTemplate.opsForValue().set(MACHINE_NAME_PREFIX + "Old Name", "5");
+
+        // When
+        MachineRegistryService.RebuildReport report = registry.rebuild(machines);
+
+        // Then
+        reporter.publishEntry(Map.of(
+                "machines", String.valueOf(MACHINES),
+                "sequential.roundTrips", String.valueOf(MACHINES * 2),
+                "sequential.millis", String.valueOf(naiveMillis),
+                "pipelined.roundTrips", String.valueOf(report.roundTrips()),
+                "pipelined.millis", String.valueOf(report.elapsedMillis())));
+        assertThat(report.staleKeysRemoved()).isEqualTo(3);
+        assertThat(report.roundTrips()).isLessThan(MACHINES / 100);
+        assertThat(get(MACHINE_NAME_PREFIX + "Machine 5")).isEqualTo("5");
+        assertThat(get(MACHINE_NAME_PREFIX + "Old Name")).isNull();
+        assertThat(get(MACHINE_ID_PREFIX + 20001)).isNull();
+    }
+
+    @Test
+    @DisplayName("재구성은 시작 목록 이후 이벤트로 기록된 키를 DB 에서 다시 확인해 남기고, 여전히 없는 설비 키만 지운다")
+    void rebuild_keepsKeysWrittenAfterSnapshot() {
+        // Given - 목록을 읽은 뒤 설비 11 이 생성되고 설비 3 이 이름을 바꿈 (이벤트 핸들러가 기록)
+        List<MachineMetadata> snapshot = machines(10);
+        writer.upsert(11L, "Created Later").block();
+        writer.upsert(3L, "Renamed Later").block();
+        redisTemplate.opsForValue().set(MACHINE_ID_PREFIX + 20001, "Removed");
+        List<MachineMetadata> database = new ArrayList<>(snapshot);
+        database.set(2, new MachineMetadata(3L, "Renamed Later", Type.LOW));
+        database.add(new MachineMetadata(11L, "Created Later", Type.LOW));
+
+        // When
+        MachineRegistryService.RebuildReport report = registry.rebuild(snapshot,
+                ids -> database.stream().filter(machine -> ids.contains(machine.id())).toList());
+
+        // Then
+        assertThat(get(MACHINE_ID_PREFIX + 11)).isEqualTo("Created Later");
+        assertThat(get(MACHINE_NAME_PREFIX + "Created Later")).isEqualTo("11");
+        assertThat(get(MACHINE_NAME_PREFIX + "Renamed Later")).isEqualTo("3");
+        assertThat(get(MACHINE_ID_PREFIX + 20001)).isNull();
+        assertThat(report.staleKeysRemoved()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("해시 레이아웃 이름 변경은 Lua 에서 계산한 이전 이름 버킷의 필드를 지우고 버전을 올린다")
+    void hashUpsert_renamesAcrossBucketsAndBumpsVersion() {
+        // Given - 다른 버킷에 들어가는 비 ASCII 이름 (Java/Lua 버킷 계산 일치 확인)
+        ReactiveMachineRegistryService hashWriter = writer(MachineRegistryProperties.Layout.HASH);
+        hashWriter.upsert(1L, "프레스 A").block();
+        String versionAfterCreate = version();
+
+        // When
+        boolean changed = hashWriter.upsert(1L, "Press B").block();
+        boolean unchanged = hashWriter.upsert(1L, "Press B").block();
+
+        // Then
+        assertThat(changed).isTrue();
+        assertThat(unchanged).isFalse();
+        assertThat(nameField("프레스 A")).isNull();
+        assertThat(nameField("Press B")).isEqualTo("1");
+        assertThat(idField(1L)).isEqualTo("Press B");
+        assertThat(Long.parseLong(version())).isEqualTo(Long.parseLong(versionAfterCreate) + 1);
+        assertThat(get(MACHINE_NAME_PREFIX + "Press B")).isNull();
+    }
+
+    @Test
+    @DisplayName("DUAL 레이아웃은 두 형식에 모두 기록하고, 해시 삭제는 다른 설비가 가져간 이름을 남긴다")
+    void dualWrite_writesBothLayouts() {
+        // Given
+        ReactiveMachineRegistryService dualWriter = writer(MachineRegistryProperties.Layout.DUAL);
+        dualWriter.upsert(1L, "Lathe").block();
+        dualWriter.upsert(2L, "Lathe").block();
+
+        // When
+        dualWriter.delete(1L, "Lathe").block();
+
+        // Then
+        assertThat(get(MACHINE_NAME_PREFIX + "Lathe")).isEqualTo("2");
+        assertThat(nameField("Lathe")).isEqualTo("2");
+        assertThat(get(MACHINE_ID_PREFIX + 1)).isNull();
+        assertThat(idField(1L)).isNull();
+        assertThat(idField(2L)).isEqualTo("Lathe");
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("10k 설비 기준 해시 레이아웃은 listpack 으로 인코딩되고 설비당 메모리가 문자열 키보다 적다")
+    void hashLayout_usesLessMemoryPerMachine(TestReporter reporter) {
+        // Given
+        List<MachineMetadata> machines = machines(MACHINES);
+        long empty = usedMemory();
+
+        // When - 문자열 키
+        registry(MachineRegistryProperties.Layout.STRINGS).rebuild(machines);
+        long stringsBytes = usedMemory() - empty;
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+
+        // When - 버킷 해시
+        long emptyAgain = usedMemory();
+        MachineRegistryService.RebuildReport report = registry(MachineRegistryProperties.Layout.HASH).rebuild(machines);
+        long hashBytes = usedMemory() - emptyAgain;
+
+        // Then
+        reporter.publishEntry(Map.of(
+                "machines", String.valueOf(MACHINES),
+                "strings.bytesPerMachine", String.format("%.1f", stringsBytes / (double) MACHINES),
+                "strings.keys", String.valueOf(MACHINES * 2),
+                "hash.bytesPerMachine", String.format("%.1f", hashBytes / (double) MACHINES),
+                "hash.keys", String.valueOf(BUCKETS * 2 + 1),
+                "hash.roundTrips", String.valueOf(report.roundTrips())));
+        assertThat(hashBytes).isLessThan(stringsBytes);
+        assertThat(nameField("Machine 5")).isEqualTo("5");
+        assertThat(idField(MACHINES)).isEqualTo("Machine " + MACHINES);
+        assertThat(encodingOf(MachineRegistryBuckets.namesKey("Machine 5", BUCKETS))).isIn("listpack", "ziplist");
+        assertThat(encodingOf(MachineRegistryBuckets.idsKey(5L, BUCKETS))).isIn("listpack", "ziplist");
+    }
+
+    @Test
+    @DisplayName("해시 재구성은 DB 에 없는 설비 필드만 HDEL 로 정리하고 버전을 올린다")
+    void hashRebuild_removesStaleFields() {
+        // Given
+        MachineRegistryService hashRegistry = registry(MachineRegistryProperties.Layout.HASH);
+        ReactiveMachineRegistryService hashWriter = writer(MachineRegistryProperties.Layout.HASH);
+        hashWriter.upsert(20_001L, "Removed").block();
+        hashWriter.upsert(5L, "Old Name").block();
+        String versionBefore = version();
+
+        // When
+        MachineRegistryService.RebuildReport report = hashRegistry.rebuild(machines(10));
+
+        // Then
+        assertThat(nameField("Removed")).isNull();
+        assertThat(idField(20_001L)).isNull();
+        assertThat(nameField("Old Name")).isNull();
+        assertThat(nameField("Machine 5")).isEqualTo("5");
+        assertThat(report.staleKeysRemoved()).isEqualTo(3);
+        assertThat(Long.parseLong(version())).isGreaterThan(Long.parseLong(versionBefore));
+    }
+
+    @Test
+    @DisplayName("해시 재구성은 시작 목록 이후 이벤트로 기록된 필드를 지우지 않는다")
+    void hashRebuild_keepsFieldsWrittenAfterSnapshot() {
+        // Given - 목록을 읽은 뒤 설비 11 이 생성됨 (이벤트 핸들러가 기록)
+        MachineRegistryService hashRegistry = registry(MachineRegistryProperties.Layout.HASH);
+        ReactiveMachineRegistryService hashWriter = writer(MachineRegistryProperties.Layout.HASH);
+        List<MachineMetadata> snapshot = machines(10);
+        hashWriter.upsert(11L, "Created Later").block();
+        List<MachineMetadata> database = new ArrayList<>(snapshot);
+        database.add(new MachineMetadata(11L, "Created Later", Type.LOW));
+
+        // When
+        MachineRegistryService.RebuildReport report = hashRegistry.rebuild(snapshot,
+                ids -> database.stream().filter(machine -> ids.contains(machine.id())).toList());
+
+        // Then
+        assertThat(idField(11L)).isEqualTo("Created Later");
+        assertThat(nameField("Created Later")).isEqualTo("11");
+        assertThat(nameField("Machine 5")).isEqualTo("5");
+        assertThat(report.staleKeysRemoved()).isZero();
+    }
+}
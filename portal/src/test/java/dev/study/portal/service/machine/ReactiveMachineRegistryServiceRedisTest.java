@@ -0,0 +1,160 @@
+package dev.study.portal.service.machine;
+
+import dev.study.portal.config.MachineRegistryProperties;
+import dev.study.portal.entity.machine.enums.Type;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import reactor.test.StepVerifier;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static dev.study.portal.service.machine.MachineRegistryService.MACHINE_NAME_PREFIX;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로컬 Redis(localhost:6379, REDIS_HOST / REDIS_PORT 로 변경 가능)의 15번 DB 를 비우고 사용
+ * (Redis 에 연결할 수 없으면 건너뜀)
+ */
+class ReactiveMachineRegistryServiceRedisTest {
+
+    private static final int TEST_DATABASE = 15;
+    private static final int MACHINES = 10_000;
+    private static final int CONCURRENCY = 16;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private ReactiveMachineRegistryService registry;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        configuration.setDatabase(TEST_DATABASE);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        try {
+            connectionFactory.getConnection().serverCommands().flushDb();
+        } catch (Exception e) {
+            connectionFactory.destroy();
+            Assumptions.abort("로컬 Redis 에 연결할 수 없음: " + e.getMessage());
+        }
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        registry = registry(MachineRegistryProperties.Layout.DUAL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (registry != null) {
+            registry.stop();
+        }
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    private ReactiveMachineRegistryService registry(MachineRegistryProperties.Layout layout) {
+        MachineRegistryProperties properties = new MachineRegistryProperties();
+        properties.setLayout(layout);
+        properties.setConcurrency(CONCURRENCY);
+        ReactiveMachineRegistryService service = new ReactiveMachineRegistryService(
+                new ReactiveStringRedisTemplate(connectionFactory), properties, new SimpleMeterRegistry());
+        service.start();
+        return service;
+    }
+
+    private List<MachineMetadata> machines(int count) {
+        List<MachineMetadata> machines = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            machines.add(new MachineMetadata(id, "Machine " + id, Type.LOW));
+        }
+        return machines;
+    }
+
+    @Test
+    @DisplayName("등록/이름 변경/조회를 블로킹 없이 조합할 수 있다")
+    void upsertAndFind_compose() {
+        // When & Then
+        StepVerifier.create(registry.upsert(1L, "Press A")
+                        .then(registry.upsert(1L, "Press B"))
+                        .then(registry.findMachineId("Press B")))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(registry.findMachineId("Press A"))
+                .verifyComplete();
+        StepVerifier.create(registry.delete(1L, "Press B").then(registry.findMachineName(1L)))
+                .verifyComplete();
+        assertThat(redisTemplate.opsForValue().get(MACHINE_NAME_PREFIX + "Press B")).isNull();
+    }
+
+    @Test
+    @DisplayName("이벤트 핸들러용 submit 은 바로 반환하고 큐의 명령을 제한된 동시성으로 실행한다")
+    void submit_runsQueuedCommandsWithBoundedConcurrency(TestReporter reporter) {
+        // Given
+        List<MachineMetadata> machines = machines(1_000);
+
+        // When
+        long start = System.nanoTime();
+        machines.forEach(machine -> registry.submit(machine.id(), registry.upsert(machine.id(), machine.name())));
+        long submitMicros = (System.nanoTime() - start) / 1_000;
+
+        // Then
+        StepVerifier.create(registry.findMachineId("Machine 1000")
+                        .repeatWhenEmpty(100, attempts -> attempts.delayElements(Duration.ofMillis(50))))
+                .expectNext(1_000L)
+                .verifyComplete();
+        reporter.publishEntry(Map.of(
+                "commands", String.valueOf(machines.size()),
+                "submitMicros", String.valueOf(submitMicros),
+                "maxInFlight", String.valueOf(registry.getMaxInFlight())));
+        // DUAL 은 작업당 스크립트 2개
+        assertThat(registry.getMaxInFlight()).isLessThanOrEqualTo(CONCURRENCY * 2);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("10k 설비 일괄 갱신은 진행 중인 명령마다 스레드를 만들지 않는다")
+    void upsertAll_doesNotTieUpThreadPerCommand(TestReporter reporter) {
+        // Given
+        List<MachineMetadata> machines = machines(MACHINES);
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        int threadsBefore = threads.getThreadCount();
+
+        // When
+        long start = System.nanoTime();
+        Long changed = registry.upsertAll(machines).block(Duration.ofMinutes(1));
+        long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+
+        // Then
+        int extraThreads = threads.getPeakThreadCount() - threadsBefore;
+        reporter.publishEntry(Map.of(
+                "machines", String.valueOf(MACHINES),
+                "millis", String.valueOf(elapsedMillis),
+                "maxInFlight", String.valueOf(registry.getMaxInFlight()),
+                "extraThreads", String.valueOf(extraThreads)));
+        assertThat(changed).isEqualTo((long) MACHINES);
+        assertThat(registry.getMaxInFlight()).isLessThanOrEqualTo(CONCURRENCY * 2);
+        assertThat(registry.getInFlight()).isZero();
+        assertThat(extraThreads).isLessThan(CONCURRENCY);
+
+        Map<Long, String> names = registry.findMachineNames(List.of(1L, 5L, 5L, 99_999L)).block(Duration.ofSeconds(10));
+        assertThat(names).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "Machine 1", 5L, "Machine 5"));
+    }
+}
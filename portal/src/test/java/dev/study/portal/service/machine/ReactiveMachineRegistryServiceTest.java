@@ -0,0 +1,124 @@
+package dev.study.portal.service.machine;
+
+import dev.study.portal.config.MachineRegistryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReactiveMachineRegistryServiceTest {
+
+    private MachineRegistryProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ReactiveMachineRegistryService registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MachineRegistryProperties();
+        properties.setConcurrency(4);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (registry != null) {
+            registry.stop();
+        }
+    }
+
+    private ReactiveMachineRegistryService registry() {
+        return new ReactiveMachineRegistryService(mock(ReactiveStringRedisTemplate.class), properties, meterRegistry);
+    }
+
+    private double rejected() {
+        return meterRegistry.get("machine.registry.commands.rejected").counter().count();
+    }
+
+    @Test
+    @DisplayName("같은 설비의 명령은 실행 시간이 달라도 등록 순서대로 실행된다")
+    void submit_keepsPerMachineOrder() throws InterruptedException {
+        // Given
+        registry = registry();
+        registry.start();
+        int machines = 10;
+        int commandsPerMachine = 20;
+        Map<Long, List<Integer>> executed = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(machines * commandsPerMachine);
+
+        // When - 먼저 등록한 명령일수록 늦게 끝나도록 지연을 섞음
+        for (int seq = 0; seq < commandsPerMachine; seq++) {
+            for (long machineId = 1; machineId <= machines; machineId++) {
+                long id = machineId;
+                int order = seq;
+                Mono<Object> command = Mono.delay(Duration.ofMillis(ThreadLocalRandom.current().nextInt(5)))
+                        .then(Mono.fromRunnable(() -> {
+                            executed.computeIfAbsent(id, key -> Collections.synchronizedList(new ArrayList<>())).add(order);
+                            done.countDown();
+                        }));
+                assertThat(registry.submit(id, command)).isTrue();
+            }
+        }
+
+        // Then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        List<Integer> expected = new ArrayList<>();
+        for (int seq = 0; seq < commandsPerMachine; seq++) {
+            expected.add(seq);
+        }
+        assertThat(executed).hasSize(machines);
+        executed.values().forEach(orders -> assertThat(orders).containsExactlyElementsOf(expected));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 명령을 버리고 rejected 지표를 올린다")
+    void submit_rejectsWhenQueueFull() {
+        // Given - 구독 전이라 대기열에서 빠지지 않음
+        properties.setQueueCapacity(2);
+        registry = registry();
+
+        // When
+        boolean first = registry.submit(1L, Mono.empty());
+        boolean second = registry.submit(2L, Mono.empty());
+        boolean third = registry.submit(3L, Mono.empty());
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(rejected()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("machine.registry.commands.queued").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("실패한 명령은 같은 레인의 다음 명령을 막지 않는다")
+    void submit_failureDoesNotBlockLane() throws InterruptedException {
+        // Given
+        registry = registry();
+        registry.start();
+        CountDownLatch next = new CountDownLatch(1);
+
+        // When
+        registry.submit(1L, Mono.error(new IllegalStateException("redis down")));
+        registry.submit(1L, Mono.fromRunnable(next::countDown));
+
+        // Then
+        assertThat(next.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("machine.registry.commands.failed").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,115 @@
+package dev.study.portal.service.sse;
+
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnomalyAlertCoalescerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+    private static final long WINDOW_MS = 10_000;
+
+    private SseClusterBroadcaster broadcaster;
+    private SimpleMeterRegistry meterRegistry;
+    private AnomalyAlertCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        SseProperties properties = new SseProperties();
+        properties.getCoalescing().setWindow(Duration.ofMillis(WINDOW_MS));
+        broadcaster = mock(SseClusterBroadcaster.class);
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new AnomalyAlertCoalescer(properties, broadcaster, meterRegistry);
+    }
+
+    private AnomalySseDto alert(long machineId, int second, String severity, double probability) {
+        LocalDateTime detectedAt = BASE.plusSeconds(second);
+        return AnomalySseDto.builder()
+                .machineId(machineId)
+                .machineName("Machine " + machineId)
+                .detectedAt(detectedAt)
+                .severity(severity)
+                .anomalyProbability(probability)
+                .count(1)
+                .firstDetectedAt(detectedAt)
+                .lastDetectedAt(detectedAt)
+                .build();
+    }
+
+    private List<AnomalySseDto> published() {
+        ArgumentCaptor<AnomalySseDto> captor = ArgumentCaptor.forClass(AnomalySseDto.class);
+        verify(broadcaster, atLeast(0)).publish(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    @DisplayName("구간 첫 알림은 즉시, 나머지는 구간 종료 시 건수/최대 확률/최초·마지막 시간을 담은 한 건으로 전달한다")
+    void window_emitsFirstThenAggregate() {
+        // Given & When - 1초 간격 알림 10건
+        for (int i = 0; i < 10; i++) {
+            coalescer.accept(alert(1L, i, "WARNING", 0.5 + i * 0.01), i * 1_000L);
+        }
+        coalescer.sweep(WINDOW_MS - 1);
+        assertThat(published()).hasSize(1);
+        coalescer.sweep(WINDOW_MS);
+
+        // Then
+        List<AnomalySseDto> events = published();
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getCount()).isEqualTo(1);
+        AnomalySseDto aggregated = events.get(1);
+        assertThat(aggregated.getCount()).isEqualTo(9);
+        assertThat(aggregated.getAnomalyProbability()).isCloseTo(0.59, within(1e-9));
+        assertThat(aggregated.getFirstDetectedAt()).isEqualTo(BASE.plusSeconds(1));
+        assertThat(aggregated.getLastDetectedAt()).isEqualTo(BASE.plusSeconds(9));
+        assertThat(meterRegistry.counter("sse.alerts.suppressed").count()).isEqualTo(9);
+        assertThat(meterRegistry.counter("sse.alerts.emitted", "reason", "window").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("심각도가 오르면 구간과 관계없이 보류분과 묶어 즉시 전달한다")
+    void escalation_bypassesWindow() {
+        // Given
+        coalescer.accept(alert(1L, 0, "WARNING", 0.6), 0);
+        coalescer.accept(alert(1L, 1, "WARNING", 0.7), 1_000);
+
+        // When
+        coalescer.accept(alert(1L, 2, "CRITICAL", 0.95), 2_000);
+        coalescer.accept(alert(1L, 3, "ALERT", 0.8), 3_000);
+
+        // Then - ALERT 는 CRITICAL 보다 낮아 보류
+        List<AnomalySseDto> events = published();
+        assertThat(events).hasSize(2);
+        assertThat(events.get(1).getSeverity()).isEqualTo("CRITICAL");
+        assertThat(events.get(1).getCount()).isEqualTo(2);
+        assertThat(events.get(1).getFirstDetectedAt()).isEqualTo(BASE.plusSeconds(1));
+        assertThat(meterRegistry.counter("sse.alerts.emitted", "reason", "escalation").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보류분 없이 구간이 끝나면 구간을 닫고 다음 알림은 다시 즉시 전달한다")
+    void idleWindow_closesAndReopens() {
+        // Given
+        coalescer.accept(alert(1L, 0, "ALERT", 0.8), 0);
+        coalescer.accept(alert(2L, 0, "ALERT", 0.8), 0);
+
+        // When
+        coalescer.sweep(WINDOW_MS);
+        coalescer.accept(alert(1L, 20, "ALERT", 0.8), 20_000);
+
+        // Then - 설비별로 독립된 구간
+        assertThat(published()).hasSize(3);
+        assertThat(meterRegistry.counter("sse.alerts.suppressed").count()).isZero();
+    }
+}
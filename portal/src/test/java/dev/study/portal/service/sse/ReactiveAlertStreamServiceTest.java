@@ -0,0 +1,59 @@
+package dev.study.portal.service.sse;
+
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import dev.study.portal.entity.machine.enums.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReactiveAlertStreamServiceTest {
+
+    private ReactiveAlertStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        SseProperties properties = new SseProperties();
+        properties.getReactive().setHeartbeat(Duration.ofHours(1));
+        service = new ReactiveAlertStreamService(properties);
+    }
+
+    private AnomalySseDto alert(Long machineId, Type type, String severity) {
+        return AnomalySseDto.builder()
+                .machineId(machineId)
+                .machineType(type)
+                .detectedAt(LocalDateTime.now())
+                .severity(severity)
+                .anomalyProbability(0.9)
+                .build();
+    }
+
+    @Test
+    @DisplayName("구독 필터에 맞는 알림만 전달하고, 구독을 끊으면 색인에서 제거된다")
+    void stream_deliversOnlyMatchingAlertsAndUnregistersOnCancel() {
+        // Given
+        SseSubscriptionFilter highOnly = SseSubscriptionFilter.of(List.of(1L), List.of(Type.HIGH), null);
+
+        // When & Then
+        StepVerifier.create(service.stream(highOnly).map(ServerSentEvent::data))
+                .then(() -> {
+                    assertThat(service.getSubscriberCount()).isEqualTo(1);
+                    service.publish(alert(1L, Type.LOW, "CRITICAL"));   // 유형 불일치
+                    service.publish(alert(2L, Type.HIGH, "CRITICAL"));  // 설비 불일치
+                    service.publish(alert(1L, null, "CRITICAL"));       // 유형 모름
+                    service.publish(alert(1L, Type.HIGH, "CRITICAL"));
+                })
+                .assertNext(data -> assertThat(data.getMachineType()).isEqualTo(Type.HIGH))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+        assertThat(service.getSubscriberCount()).isZero();
+    }
+}
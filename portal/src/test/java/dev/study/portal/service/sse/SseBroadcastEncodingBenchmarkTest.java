@@ -0,0 +1,194 @@
+package dev.study.portal.service.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import dev.study.portal.entity.machine.enums.Type;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * broadcast 1회당 인코딩 CPU 시간 비교 (구독자 1k / 10k)
+ *
+ * <p>기존 경로: 구독자마다 SseEventBuilder 생성 → 메시지 컨버터가 DTO 를 Jackson 으로 직렬화<br>
+ * 프레임 경로: 실제 SseEmitterService.broadcastAll → 이벤트당 한 번 직렬화 + 프레임 인코딩 → 전송 스레드가 같은 프레임 참조만 전송</p>
+ *
+ * <p>두 경로 모두 받은 바이트 수만 세는 같은 에미터로 받으며(소켓 쓰기 비용 제외), 메시지 컨버터 역할도 에미터가 합니다.
+ * 프레임 경로는 전송 스레드에서도 일하므로 호출 스레드가 아닌 프로세스 CPU 시간으로 비교합니다.
+ * 결과는 TestReporter 로 테스트 리포트에 남깁니다.</p>
+ */
+class SseBroadcastEncodingBenchmarkTest {
+
+    private static final int EVENTS = 20;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+
+    // 받은 바이트 수만 세는 클라이언트 (문자열/바이트가 아닌 데이터는 메시지 컨버터처럼 Jackson 으로 직렬화)
+    class ByteCountingEmitter extends SseEmitter {
+        final AtomicLong bytes = new AtomicLong();
+        final AtomicInteger received = new AtomicInteger();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            long size = 0;
+            for (DataWithMediaType item : items) {
+                Object data = item.getData();
+                if (data instanceof byte[] frame) {
+                    size += frame.length;
+                } else if (data instanceof String text) {
+                    size += text.getBytes(StandardCharsets.UTF_8).length;
+                } else {
+                    size += objectMapper.writeValueAsBytes(data).length;
+                }
+            }
+            bytes.addAndGet(size);
+            received.incrementAndGet();
+        }
+    }
+
+    private AnomalySseDto alert(int i) {
+        return AnomalySseDto.builder()
+                .machineId((long) i)
+                .machineName("Machine " + i)
+                .machineType(Type.HIGH)
+                .detectedAt(LocalDateTime.now())
+                .severity("CRITICAL")
+                .anomalyProbability(0.97)
+                .build();
+    }
+
+    private List<AnomalySseDto> alerts() {
+        List<AnomalySseDto> alerts = new ArrayList<>(EVENTS);
+        for (int e = 0; e < EVENTS; e++) {
+            alerts.add(alert(e));
+        }
+        return alerts;
+    }
+
+    private List<ByteCountingEmitter> emitters(int clients) {
+        List<ByteCountingEmitter> emitters = new ArrayList<>(clients);
+        for (int c = 0; c < clients; c++) {
+            emitters.add(new ByteCountingEmitter());
+        }
+        return emitters;
+    }
+
+    private static long totalBytes(List<ByteCountingEmitter> emitters) {
+        return emitters.stream().mapToLong(e -> e.bytes.get()).sum();
+    }
+
+    private static long processCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+    }
+
+    private record Measured(long cpuNanos, long bytes) {
+    }
+
+    private Measured perClientPath(int clients) throws IOException {
+        List<ByteCountingEmitter> emitters = emitters(clients);
+        List<AnomalySseDto> alerts = alerts();
+
+        long before = processCpuNanos();
+        for (int e = 0; e < EVENTS; e++) {
+            AnomalySseDto dto = alerts.get(e);
+            for (ByteCountingEmitter emitter : emitters) {
+                emitter.send(SseEmitter.event().id(Long.toString(e)).name("anomaly-alert").data(dto));
+            }
+        }
+        long after = processCpuNanos();
+        return new Measured(after - before, totalBytes(emitters));
+    }
+
+    private Measured sharedFramePath(int clients) throws InterruptedException {
+        SseEmitterService service = new SseEmitterService(new SseProperties(), objectMapper);
+        service.init();
+        try {
+            List<ByteCountingEmitter> emitters = emitters(clients);
+            for (int c = 0; c < clients; c++) {
+                service.register("client-" + c, emitters.get(c));
+            }
+            List<AnomalySseDto> alerts = alerts();
+
+            long before = processCpuNanos();
+            service.broadcastAll(alerts);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (emitters.stream().anyMatch(e -> e.received.get() < EVENTS) && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            long after = processCpuNanos();
+            assertThat(emitters).allSatisfy(e -> assertThat(e.received.get()).isEqualTo(EVENTS));
+            return new Measured(after - before, totalBytes(emitters));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private interface Path {
+        Measured run(int clients) throws Exception;
+    }
+
+    private Measured measure(Path path, int clients) throws Exception {
+        // JIT 워밍업
+        path.run(clients);
+        Measured measured = path.run(clients);
+        assertThat(measured.bytes()).isPositive();
+        return measured;
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("공유 프레임 경로는 구독자 1k / 10k 모두 구독자별 직렬화보다 broadcast CPU 시간이 적다")
+    void sharedFrame_usesLessCpuThanPerClientSerialization(TestReporter reporter) throws Exception {
+        Assumptions.assumeTrue(ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean);
+
+        for (int clients : new int[]{1_000, 10_000}) {
+            // When
+            Measured perClient = measure(this::perClientPath, clients);
+            Measured shared = measure(this::sharedFramePath, clients);
+
+            // Then - 같은 내용을 보냈는지 (id 자릿수 차이만 허용)
+            reporter.publishEntry(Map.of(
+                    "clients", String.valueOf(clients),
+                    "perClient.msPerBroadcast", String.format("%.2f", perClient.cpuNanos() / 1e6 / EVENTS),
+                    "sharedFrame.msPerBroadcast", String.format("%.3f", shared.cpuNanos() / 1e6 / EVENTS),
+                    "perClient.bytes", String.valueOf(perClient.bytes()),
+                    "sharedFrame.bytes", String.valueOf(shared.bytes())));
+            assertThat(shared.bytes()).isCloseTo(perClient.bytes(), withinPercentage(10));
+            assertThat(shared.cpuNanos()).isLessThan(perClient.cpuNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("프레임은 id / event / data 줄과 빈 줄로 구성되고 id 가 없으면 id 줄을 생략한다")
+    void encode_writesSseWireFormat() {
+        // When
+        byte[] withId = (byte[]) SseFrameEncoder.encode(42L, "anomaly-alert", "{\"a\":1}".getBytes(StandardCharsets.UTF_8))
+                .iterator().next().getData();
+        byte[] withoutId = (byte[]) SseFrameEncoder.encode(null, "replay-truncated", "\"알림\"".getBytes(StandardCharsets.UTF_8))
+                .iterator().next().getData();
+
+        // Then
+        assertThat(new String(withId, StandardCharsets.UTF_8)).isEqualTo("id:42\nevent:anomaly-alert\ndata:{\"a\":1}\n\n");
+        assertThat(new String(withoutId, StandardCharsets.UTF_8)).isEqualTo("event:replay-truncated\ndata:\"알림\"\n\n");
+    }
+}
@@ -0,0 +1,123 @@
+package dev.study.portal.service.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.study.portal.config.SseClusterConfig;
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import dev.study.portal.entity.machine.enums.Type;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로컬 Redis(localhost:6379, REDIS_HOST / REDIS_PORT 로 변경 가능)로 두 인스턴스 간 중계를 검증
+ * (Redis 에 연결할 수 없으면 건너뜀)
+ */
+class SseClusterBroadcasterRedisTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+    private final List<Runnable> cleanups = new ArrayList<>();
+    private LettuceConnectionFactory connectionFactory;
+    private SseProperties properties;
+
+    // 한 portal 인스턴스 (SSE 서비스 + 중계기 + 채널 구독)
+    private record Instance(SseClusterBroadcaster broadcaster, SseEmitterServiceTest.RecordingEmitter emitter) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+        connectionFactory = new LettuceConnectionFactory(host, port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        try {
+            connectionFactory.getConnection().ping();
+        } catch (Exception e) {
+            connectionFactory.destroy();
+            Assumptions.abort("로컬 Redis 에 연결할 수 없음: " + e.getMessage());
+        }
+
+        properties = new SseProperties();
+        // 다른 테스트 실행과 섞이지 않도록 채널 / id 카운터 분리
+        String suffix = ":test:" + UUID.randomUUID();
+        properties.getCluster().setChannel("sse:anomaly-alerts" + suffix);
+        properties.getCluster().setEventIdKey("sse:anomaly-alerts:event-id" + suffix);
+        cleanups.add(() -> new StringRedisTemplate(connectionFactory).delete(properties.getCluster().getEventIdKey()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanups.forEach(Runnable::run);
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    private Instance startInstance() throws Exception {
+        SseEmitterService sseEmitterService = new SseEmitterService(properties, objectMapper);
+        sseEmitterService.init();
+        SseClusterBroadcaster broadcaster = new SseClusterBroadcaster(properties, new StringRedisTemplate(connectionFactory),
+                objectMapper, sseEmitterService, new ReactiveAlertStreamService(properties));
+
+        RedisMessageListenerContainer container =
+                new SseClusterConfig().sseClusterListenerContainer(connectionFactory, broadcaster, properties);
+        container.afterPropertiesSet();
+        container.start();
+
+        SseEmitterServiceTest.RecordingEmitter emitter = new SseEmitterServiceTest.RecordingEmitter();
+        sseEmitterService.register("client", emitter);
+        cleanups.add(() -> {
+            try {
+                container.destroy();
+            } catch (Exception ignored) {
+            }
+            sseEmitterService.shutdown();
+        });
+        return new Instance(broadcaster, emitter);
+    }
+
+    @Test
+    @DisplayName("한 인스턴스가 받은 알림은 모든 인스턴스의 구독자에게 한 번씩 전달된다")
+    void publish_fansOutToAllInstancesOnce() throws Exception {
+        // Given
+        Instance consumer = startInstance();
+        Instance other = startInstance();
+        AnomalySseDto alert = AnomalySseDto.builder()
+                .machineId(3L)
+                .machineName("Machine 3")
+                .machineType(Type.MEDIUM)
+                .detectedAt(LocalDateTime.now())
+                .severity("ALERT")
+                .anomalyProbability(0.91)
+                .build();
+
+        // When - Kafka 재전달로 같은 알림이 다른 인스턴스에도 들어온 상황 포함
+        consumer.broadcaster().publish(alert);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (other.emitter().ids.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        other.broadcaster().publish(alert);
+        Thread.sleep(300);
+
+        // Then - 자기 메시지 수신 / 재전달 모두 중복 제거, 두 인스턴스가 같은 이벤트 id 사용
+        assertThat(consumer.emitter().ids).hasSize(1);
+        assertThat(other.emitter().ids).isEqualTo(consumer.emitter().ids);
+    }
+}
@@ -0,0 +1,65 @@
+package dev.study.portal.service.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import dev.study.portal.entity.machine.enums.Type;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SseClusterEnvelopeTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+
+    private AnomalySseDto alert() {
+        return AnomalySseDto.builder()
+                .machineId(7L)
+                .machineName("Machine 7")
+                .machineType(Type.HIGH)
+                .detectedAt(LocalDateTime.of(2025, 1, 1, 9, 30, 15, 123_456_000))
+                .severity("CRITICAL")
+                .anomalyProbability(0.97)
+                .build();
+    }
+
+    @Test
+    @DisplayName("중계 메시지는 한 글자 키로 인코딩되고 디코딩하면 원래 알림과 같다")
+    void encodeDecode_roundTrip() throws Exception {
+        // Given
+        AnomalySseDto original = alert();
+
+        // When
+        String payload = SseClusterEnvelope.of(original, 42L).encode(objectMapper);
+        SseClusterEnvelope envelope = SseClusterEnvelope.decode(objectMapper, payload);
+        AnomalySseDto decoded = envelope.toDto();
+
+        // Then
+        assertThat(payload).doesNotContain("machineName", "anomalyProbability");
+        assertThat(envelope.sequence()).isEqualTo(42L);
+        assertThat(payload.length()).isLessThan(objectMapper.writeValueAsString(original).length());
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("같은 알림은 같은 이벤트 id 를 가지며 중복 제거기는 한 번만 통과시킨다")
+    void deduplicator_passesEachEventIdOnce() {
+        // Given
+        SseEventDeduplicator deduplicator = new SseEventDeduplicator(2);
+        String eventId = SseClusterEnvelope.of(alert()).eventId();
+
+        // When & Then
+        assertThat(SseClusterEnvelope.of(alert()).eventId()).isEqualTo(eventId);
+        assertThat(deduplicator.firstSeen(eventId)).isTrue();
+        assertThat(deduplicator.firstSeen(eventId)).isFalse();
+
+        // 용량(2) 초과 시 가장 오래된 id 부터 잊음
+        deduplicator.firstSeen("b");
+        deduplicator.firstSeen("c");
+        assertThat(deduplicator.firstSeen(eventId)).isTrue();
+    }
+}
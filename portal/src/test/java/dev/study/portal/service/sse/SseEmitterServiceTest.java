@@ -0,0 +1,392 @@
+package dev.study.portal.service.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sse.AnomalySeverity;
+import dev.study.portal.dto.sse.AnomalySseDto;
+import dev.study.portal.entity.machine.enums.Type;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SseEmitterServiceTest {
+
+    private static final int SUBSCRIBERS = 10_000;
+    private static final int STALLED = 4;
+    private static final int EVENTS = 100;
+
+    private final ObjectMapper objectMapper = spy(JsonMapper.builder().addModule(new JavaTimeModule()).build());
+    private SseEmitterService sseEmitterService;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // 전송 횟수만 세는 정상 클라이언트
+    static class CountingEmitter extends SseEmitter {
+        final AtomicInteger received = new AtomicInteger();
+
+        final Set<byte[]> frames = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            synchronized (frames) {
+                frames.add((byte[]) items.iterator().next().getData());
+            }
+            received.incrementAndGet();
+        }
+    }
+
+    // 수신한 이벤트의 id / 이름을 기록하는 클라이언트
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> ids = new CopyOnWriteArrayList<>();
+        final List<String> names = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            String frame = new String((byte[]) items.iterator().next().getData(), StandardCharsets.UTF_8);
+            String id = null;
+            String name = null;
+            for (String line : frame.split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                }
+            }
+            ids.add(id);
+            names.add(name);
+        }
+    }
+
+    // 소켓 쓰기가 막힌 클라이언트 (release 전까지 블로킹)
+    class StalledEmitter extends SseEmitter {
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        SseProperties properties = new SseProperties();
+        properties.setQueueCapacity(64);
+        properties.setSenderThreads(8);
+        properties.setSlowConsumerTimeout(Duration.ofMillis(200));
+        sseEmitterService = new SseEmitterService(properties, objectMapper);
+        sseEmitterService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        sseEmitterService.shutdown();
+    }
+
+    private AnomalySseDto alert(int i) {
+        return AnomalySseDto.builder()
+                .machineId((long) (i % 10))
+                .machineName("Machine " + i % 10)
+                .detectedAt(LocalDateTime.now())
+                .severity("ALERT")
+                .anomalyProbability(0.9)
+                .build();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("구독자 10k + 막힌 클라이언트가 있어도 broadcast 는 전송을 기다리지 않고 반환한다")
+    void broadcast_doesNotBlockOnSlowClients(TestReporter reporter) throws InterruptedException {
+        // Given
+        List<CountingEmitter> healthy = new ArrayList<>(SUBSCRIBERS);
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            CountingEmitter emitter = new CountingEmitter();
+            healthy.add(emitter);
+            sseEmitterService.register("client-" + i, emitter);
+        }
+        for (int i = 0; i < STALLED; i++) {
+            sseEmitterService.register("stalled-" + i, new StalledEmitter());
+        }
+
+        // When
+        long[] latencies = new long[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            long start = System.nanoTime();
+            sseEmitterService.broadcast(alert(i));
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        // Then - 호출 지연은 이벤트가 쌓여도 늘어나지 않음 (전반/후반 비교)
+        long firstHalfMax = 0;
+        long secondHalfMax = 0;
+        for (int i = 0; i < EVENTS; i++) {
+            if (i < EVENTS / 2) {
+                firstHalfMax = Math.max(firstHalfMax, latencies[i]);
+            } else {
+                secondHalfMax = Math.max(secondHalfMax, latencies[i]);
+            }
+        }
+        reporter.publishEntry(Map.of(
+                "subscribers", String.valueOf(SUBSCRIBERS),
+                "firstHalf.maxLatencyMillis", String.format("%.2f", firstHalfMax / 1e6),
+                "secondHalf.maxLatencyMillis", String.format("%.2f", secondHalfMax / 1e6)));
+        assertThat(secondHalfMax).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // 막힌 클라이언트는 대기열 포화가 slow-consumer-timeout 이상 지속된 뒤 다음 broadcast 에서 구독 해제
+        Thread.sleep(300);
+        sseEmitterService.broadcast(alert(EVENTS));
+        assertThat(sseEmitterService.getSubscriberCount()).isEqualTo(SUBSCRIBERS);
+
+        // 정상 클라이언트는 모든 이벤트를 수신
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (healthy.stream().anyMatch(e -> e.received.get() < EVENTS + 1) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(healthy).allSatisfy(e -> assertThat(e.received.get()).isEqualTo(EVENTS + 1));
+    }
+
+    @Test
+    @DisplayName("이벤트는 구독자 수와 무관하게 한 번만 직렬화되고 모든 구독자가 같은 프레임을 받는다")
+    void broadcast_serializesOncePerEvent() throws Exception {
+        // Given
+        List<CountingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            CountingEmitter emitter = new CountingEmitter();
+            emitters.add(emitter);
+            sseEmitterService.register("client-" + i, emitter);
+        }
+        clearInvocations(objectMapper);
+
+        // When
+        sseEmitterService.broadcast(alert(1));
+        sseEmitterService.broadcast(alert(2));
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitters.stream().anyMatch(e -> e.received.get() < 2) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        verify(objectMapper, times(2)).writeValueAsBytes(any(AnomalySseDto.class));
+        Set<byte[]> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        emitters.forEach(e -> distinct.addAll(e.frames));
+        assertThat(distinct).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("같은 clientId 로 다시 구독하면 이전 연결을 대체한다")
+    void register_sameClientId_replacesPrevious() throws InterruptedException {
+        // Given
+        CountingEmitter first = new CountingEmitter();
+        CountingEmitter second = new CountingEmitter();
+        sseEmitterService.register("client", first);
+
+        // When
+        sseEmitterService.register("client", second);
+        sseEmitterService.broadcast(alert(1));
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (second.received.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(sseEmitterService.getSubscriberCount()).isEqualTo(1);
+        assertThat(second.received.get()).isEqualTo(1);
+        assertThat(first.received.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("구독 필터(설비 ID, 설비 유형, 최소 심각도)에 맞는 구독자에게만 전달한다")
+    void broadcast_deliversOnlyToMatchingFilters() throws InterruptedException {
+        // Given
+        CountingEmitter all = new CountingEmitter();
+        CountingEmitter machine1 = new CountingEmitter();
+        CountingEmitter highOnly = new CountingEmitter();
+        CountingEmitter machine1High = new CountingEmitter();
+        CountingEmitter criticalOnly = new CountingEmitter();
+        sseEmitterService.register("all", all);
+        sseEmitterService.register("machine1", machine1, SseSubscriptionFilter.of(List.of(1L), null, null));
+        sseEmitterService.register("highOnly", highOnly, SseSubscriptionFilter.of(null, List.of(Type.HIGH), null));
+        sseEmitterService.register("machine1High", machine1High,
+                SseSubscriptionFilter.of(List.of(1L), List.of(Type.HIGH), null));
+        sseEmitterService.register("criticalOnly", criticalOnly,
+                SseSubscriptionFilter.of(null, null, AnomalySeverity.CRITICAL));
+
+        // When
+        sseEmitterService.broadcast(typedAlert(1L, Type.LOW, "ALERT"));       // all, machine1
+        sseEmitterService.broadcast(typedAlert(2L, Type.HIGH, "WARNING"));    // all, highOnly
+        sseEmitterService.broadcast(typedAlert(1L, Type.HIGH, "CRITICAL"));   // 전체
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (all.received.get() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+        assertThat(all.received.get()).isEqualTo(3);
+        assertThat(machine1.received.get()).isEqualTo(2);
+        assertThat(highOnly.received.get()).isEqualTo(2);
+        assertThat(machine1High.received.get()).isEqualTo(1);
+        assertThat(criticalOnly.received.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("설비 유형을 알 수 없는(null) 알림은 유형 필터 구독자에게 전달하지 않고 브로드캐스트/재전송이 실패하지 않는다")
+    void broadcast_unknownMachineType_skipsTypeFilters() throws InterruptedException {
+        // Given
+        RecordingEmitter all = new RecordingEmitter();
+        RecordingEmitter highOnly = new RecordingEmitter();
+        RecordingEmitter machine1High = new RecordingEmitter();
+        sseEmitterService.register("all", all);
+        sseEmitterService.register("highOnly", highOnly, SseSubscriptionFilter.of(null, List.of(Type.HIGH), null));
+        sseEmitterService.register("machine1High", machine1High,
+                SseSubscriptionFilter.of(List.of(1L), List.of(Type.HIGH), null));
+
+        // When - 삭제/미등록 설비 (MachineMetadataCache 에 없음)
+        sseEmitterService.broadcast(typedAlert(1L, null, "CRITICAL"));
+        sseEmitterService.broadcast(typedAlert(1L, Type.HIGH, "CRITICAL"));
+
+        // Then
+        awaitSize(all.ids, 2);
+        awaitSize(machine1High.ids, 1);
+        Thread.sleep(50);
+        assertThat(highOnly.ids).containsExactly(all.ids.get(1));
+        assertThat(machine1High.ids).containsExactly(all.ids.get(1));
+
+        // 재전송 경로(SseSubscriptionFilter.matches)도 같은 규칙
+        RecordingEmitter replayed = new RecordingEmitter();
+        sseEmitterService.register("highOnly", replayed, SseSubscriptionFilter.of(null, List.of(Type.HIGH), null),
+                Long.parseLong(all.ids.get(0)) - 1);
+        awaitSize(replayed.ids, 1);
+        Thread.sleep(50);
+        assertThat(replayed.ids).containsExactly(all.ids.get(1));
+    }
+
+    private AnomalySseDto typedAlert(Long machineId, Type type, String severity) {
+        return AnomalySseDto.builder()
+                .machineId(machineId)
+                .machineType(type)
+                .detectedAt(LocalDateTime.now())
+                .severity(severity)
+                .anomalyProbability(0.9)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 로 재연결하면 놓친 이벤트만 순서대로 재전송한다")
+    void reconnect_withLastEventId_replaysMissedEvents() throws InterruptedException {
+        // Given
+        RecordingEmitter first = new RecordingEmitter();
+        sseEmitterService.register("client", first);
+        for (int i = 0; i < 5; i++) {
+            sseEmitterService.broadcast(alert(i));
+        }
+        awaitSize(first.ids, 5);
+        long lastSeen = Long.parseLong(first.ids.get(1));
+
+        // When - 두 번째 이벤트까지 받고 끊겼다가 재연결
+        RecordingEmitter reconnected = new RecordingEmitter();
+        sseEmitterService.register("client", reconnected, SseSubscriptionFilter.all(), lastSeen);
+        sseEmitterService.broadcast(alert(5));
+
+        // Then
+        awaitSize(reconnected.ids, 4);
+        assertThat(reconnected.ids).containsExactly(
+                first.ids.get(2), first.ids.get(3), first.ids.get(4), String.valueOf(Long.parseLong(first.ids.get(4)) + 1));
+        assertThat(first.ids).isSorted();
+    }
+
+    @Test
+    @DisplayName("재전송 버퍼에서 밀려난 이벤트가 있으면 replay-truncated 이벤트를 먼저 보낸다")
+    void reconnect_beyondBuffer_sendsTruncatedMarker() throws InterruptedException {
+        // Given - 버퍼 크기 3
+        SseProperties properties = new SseProperties();
+        properties.setReplayBufferSize(3);
+        SseEmitterService service = new SseEmitterService(properties, objectMapper);
+        service.init();
+        RecordingEmitter first = new RecordingEmitter();
+        service.register("client", first);
+        for (int i = 0; i < 6; i++) {
+            service.broadcast(alert(i));
+        }
+        awaitSize(first.ids, 6);
+
+        // When - 첫 이벤트 이후부터 요청 (2~3번째는 이미 버퍼에서 밀려남)
+        RecordingEmitter reconnected = new RecordingEmitter();
+        service.register("client", reconnected, SseSubscriptionFilter.all(), Long.parseLong(first.ids.get(0)));
+
+        // Then
+        awaitSize(reconnected.ids, 4);
+        assertThat(reconnected.names.get(0)).isEqualTo("replay-truncated");
+        assertThat(reconnected.ids.get(0)).isNull();
+        assertThat(reconnected.ids.subList(1, 4)).containsExactlyElementsOf(first.ids.subList(3, 6));
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열이 자주 가득 차도 전송이 계속 진행되는 클라이언트는 끊지 않고, 막힌 클라이언트만 끊는다")
+    void broadcast_keepsSlowButProgressingClient() throws InterruptedException {
+        // Given - 대기열 4, 이벤트당 5ms 걸리는 클라이언트 (생산 속도보다 느려 대기열은 계속 포화)
+        SseProperties properties = new SseProperties();
+        properties.setQueueCapacity(4);
+        properties.setSlowConsumerTimeout(Duration.ofMillis(100));
+        SseEmitterService service = new SseEmitterService(properties, objectMapper);
+        service.init();
+        AtomicInteger sent = new AtomicInteger();
+        service.register("lagging", new SseEmitter() {
+            @Override
+            public void send(Set<DataWithMediaType> items) {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                sent.incrementAndGet();
+            }
+        });
+        service.register("stalled", new StalledEmitter());
+
+        // When - 1ms 간격으로 timeout 의 3배 동안 전송
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+        int i = 0;
+        while (System.nanoTime() < end) {
+            service.broadcast(alert(i++));
+            Thread.sleep(1);
+        }
+
+        // Then - 대기열이 한 번도 완전히 비지 않았지만 진행 중이므로 유지
+        assertThat(sent.get()).isPositive().isLessThan(i);
+        assertThat(service.getSubscriberCount()).isEqualTo(1);
+        service.shutdown();
+    }
+
+    private void awaitSize(List<?> list, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (list.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package dev.study.portal.service.sse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SseReplayBufferTest {
+
+    private static SseOutboundEvent event(long id) {
+        return new SseOutboundEvent(id, null, null);
+    }
+
+    private static SseReplayBuffer bufferOf(int capacity, long... ids) {
+        SseReplayBuffer buffer = new SseReplayBuffer(capacity);
+        for (long id : ids) {
+            buffer.append(event(id));
+        }
+        return buffer;
+    }
+
+    @Test
+    @DisplayName("id 가 순서대로 도착하면 lastEventId 보다 큰 이벤트만 재전송한다")
+    void since_inOrder() {
+        // Given
+        SseReplayBuffer buffer = bufferOf(10, 1, 2, 3, 4);
+
+        // When
+        SseReplayBuffer.Replay replay = buffer.since(2, e -> true, 10);
+
+        // Then
+        assertThat(replay.events()).extracting(SseOutboundEvent::id).containsExactly(3L, 4L);
+        assertThat(replay.truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("lastEventId 이후에 늦게 도착한 더 작은 id 도 재전송한다")
+    void since_includesLateLowerIds() {
+        // Given - 100 을 받은 뒤 99 가 늦게 도착
+        SseReplayBuffer buffer = bufferOf(10, 98, 100, 99, 101);
+
+        // When
+        SseReplayBuffer.Replay replay = buffer.since(100, e -> true, 10);
+
+        // Then
+        assertThat(replay.events()).extracting(SseOutboundEvent::id).containsExactly(99L, 101L);
+    }
+
+    @Test
+    @DisplayName("lastEventId 보다 먼저 도착했어도 id 가 더 크면 재전송한다 (다른 인스턴스에서 재연결)")
+    void since_includesEarlierHigherIds() {
+        // Given - 이 인스턴스에서는 101 이 100 보다 먼저 도착
+        SseReplayBuffer buffer = bufferOf(10, 99, 101, 100, 102);
+
+        // When
+        SseReplayBuffer.Replay replay = buffer.since(100, e -> true, 10);
+
+        // Then
+        assertThat(replay.events()).extracting(SseOutboundEvent::id).containsExactly(101L, 102L);
+    }
+
+    @Test
+    @DisplayName("버퍼에서 밀려난 id 이전부터 요청하면 truncated 로 표시하고 한도를 넘으면 최근 것만 남긴다")
+    void since_truncated() {
+        // Given - 용량 3, 1~2 는 밀려남
+        SseReplayBuffer buffer = bufferOf(3, 1, 2, 3, 4, 5);
+
+        // When
+        SseReplayBuffer.Replay evicted = buffer.since(1, e -> true, 10);
+        SseReplayBuffer.Replay limited = buffer.since(2, e -> true, 2);
+
+        // Then
+        assertThat(evicted.truncated()).isTrue();
+        assertThat(evicted.events()).extracting(SseOutboundEvent::id).containsExactly(3L, 4L, 5L);
+        assertThat(limited.truncated()).isTrue();
+        assertThat(limited.events()).extracting(SseOutboundEvent::id).containsExactly(4L, 5L);
+    }
+}
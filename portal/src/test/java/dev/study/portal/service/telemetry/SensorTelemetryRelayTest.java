@@ -0,0 +1,69 @@
+package dev.study.portal.service.telemetry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sensor.SensorDataDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+class SensorTelemetryRelayTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+    private ReactiveStringRedisTemplate redisTemplate;
+    private SseProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(ReactiveStringRedisTemplate.class);
+        properties = new SseProperties();
+        properties.getReactive().setEnabled(true);
+        properties.getTelemetry().setRelayIdleRecheck(Duration.ofHours(1));
+    }
+
+    private SensorDataDto sample(Long machineId) {
+        return SensorDataDto.builder().machineId(machineId).torque(40.0).build();
+    }
+
+    @Test
+    @DisplayName("스트림 서버가 꺼져 있으면 샘플을 Redis 로 중계하지 않는다")
+    void publish_reactiveDisabled_skipsRedis() {
+        // Given
+        properties.getReactive().setEnabled(false);
+        SensorTelemetryRelay relay = new SensorTelemetryRelay(properties, redisTemplate, objectMapper);
+
+        // When
+        relay.publish(sample(1L));
+
+        // Then
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("수신자가 없던 설비는 재확인 시간 동안 발행을 멈추고, 다른 설비는 계속 발행한다")
+    void publish_noReceivers_suppressesUntilRecheck() {
+        // Given
+        given(redisTemplate.convertAndSend(eq("sse:telemetry:1"), anyString())).willReturn(Mono.just(0L));
+        given(redisTemplate.convertAndSend(eq("sse:telemetry:2"), anyString())).willReturn(Mono.just(1L));
+        SensorTelemetryRelay relay = new SensorTelemetryRelay(properties, redisTemplate, objectMapper);
+
+        // When
+        relay.publish(sample(1L));
+        relay.publish(sample(1L));
+        relay.publish(sample(2L));
+        relay.publish(sample(2L));
+
+        // Then
+        then(redisTemplate).should(times(1)).convertAndSend(eq("sse:telemetry:1"), anyString());
+        then(redisTemplate).should(times(2)).convertAndSend(eq("sse:telemetry:2"), anyString());
+    }
+}
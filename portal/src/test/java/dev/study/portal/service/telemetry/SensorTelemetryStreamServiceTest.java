@@ -0,0 +1,124 @@
+package dev.study.portal.service.telemetry;
+
+import dev.study.portal.config.SseProperties;
+import dev.study.portal.dto.sensor.SensorDataDto;
+import dev.study.portal.dto.sensor.SensorTelemetryFrameDto;
+import dev.study.portal.dto.sensor.TelemetryDecimation;
+import dev.study.portal.entity.machine.enums.Type;
+import dev.study.portal.service.machine.MachineMetadata;
+import dev.study.portal.service.machine.MachineMetadataCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SensorTelemetryStreamServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+
+    private final MachineMetadataCache machineMetadataCache = mock(MachineMetadataCache.class);
+    private SensorTelemetryStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        // 단일 인스턴스 (Redis 중계 없음)
+        SseProperties properties = new SseProperties();
+        properties.getCluster().setEnabled(false);
+        service = new SensorTelemetryStreamService(properties, machineMetadataCache, new SensorTelemetryRelay(properties, null, null));
+    }
+
+    private SensorDataDto sample(int second, double torque) {
+        return SensorDataDto.builder()
+                .machineId(1L)
+                .airTemperature(298.1)
+                .processTemperature(308.6)
+                .rotationalSpeed(1551)
+                .torque(torque)
+                .toolWear(10)
+                .collectedAt(BASE.plusSeconds(second))
+                .build();
+    }
+
+    @Test
+    @DisplayName("틱마다 마지막 값으로 축약하고 첫 프레임 이후에는 바뀐 채널만 보낸다")
+    void stream_decimatesToLatestAndSendsDeltas() {
+        StepVerifier.withVirtualTime(() -> service.stream(1L, Duration.ofSeconds(1), TelemetryDecimation.LATEST))
+                .expectSubscription()
+                .then(() -> {
+                    service.publish(sample(0, 40.0));
+                    service.publish(sample(0, 41.0));
+                    service.publish(sample(0, 42.0));
+                })
+                .thenAwait(Duration.ofSeconds(1))
+                .assertNext(event -> {
+                    SensorTelemetryFrameDto frame = event.data();
+                    assertThat(event.event()).isEqualTo("key");
+                    assertThat(frame.getSamples()).isEqualTo(3);
+                    assertThat(frame.getValues()).hasSize(5).containsEntry("torque", 42.0);
+                })
+                .then(() -> service.publish(sample(1, 45.5)))
+                .thenAwait(Duration.ofSeconds(1))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo("delta");
+                    assertThat(event.data().getValues()).containsOnlyKeys("torque").containsEntry("torque", 45.5);
+                })
+                // 샘플이 없는 틱은 프레임을 보내지 않음
+                .expectNoEvent(Duration.ofSeconds(3))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("설비 스트림은 구독자가 있는 동안만 유지되고 마지막 구독자가 끊기면 제거된다")
+    void stream_removesSinkWhenLastSubscriberLeaves() {
+        StepVerifier.create(service.stream(1L, Duration.ofSeconds(1), TelemetryDecimation.LATEST))
+                .then(() -> assertThat(service.getActiveMachineCount()).isEqualTo(1))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(service.getActiveMachineCount()).isZero();
+        // 구독자가 없는 설비 샘플은 싱크를 만들지 않음
+        service.publish(sample(0, 40.0));
+        assertThat(service.getActiveMachineCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 설비는 구독 전에 걸러낸다")
+    void isKnownMachine_unknownMachine_false() {
+        // Given
+        given(machineMetadataCache.find(1L)).willReturn(Optional.of(new MachineMetadata(1L, "Machine 1", Type.HIGH)));
+        given(machineMetadataCache.find(99L)).willReturn(Optional.empty());
+
+        // When & Then
+        StepVerifier.create(service.isKnownMachine(1L)).expectNext(true).verifyComplete();
+        StepVerifier.create(service.isKnownMachine(99L)).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("MIN_MAX 는 채널별 [최솟값, 최댓값] 을 보내고 키 프레임 주기마다 전체 값을 다시 보낸다")
+    void encoder_minMaxWithPeriodicKeyFrames() {
+        // Given
+        TelemetryDeltaEncoder encoder = new TelemetryDeltaEncoder(1L, TelemetryDecimation.MIN_MAX, 2);
+
+        // When
+        SensorTelemetryFrameDto first = encoder.encode(new TelemetryTick().add(sample(0, 40.0)).add(sample(0, 60.0)));
+        SensorTelemetryFrameDto second = encoder.encode(new TelemetryTick().add(sample(1, 40.0)).add(sample(1, 60.0)));
+        SensorTelemetryFrameDto third = encoder.encode(new TelemetryTick().add(sample(2, 40.0)).add(sample(2, 60.0)));
+
+        // Then
+        assertThat(first.getKeyFrame()).isTrue();
+        assertThat((double[]) first.getValues().get("torque")).containsExactly(40.0, 60.0);
+        assertThat(second.getKeyFrame()).isFalse();
+        assertThat(second.getValues()).isEmpty();
+        assertThat(third.getKeyFrame()).isTrue();
+        assertThat(third.getValues()).hasSize(5);
+    }
+}